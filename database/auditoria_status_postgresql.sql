@@ -0,0 +1,20 @@
+-- Tabela auditoria_status particionada para PostgreSQL
+-- Uma partição auditoria_status_pYYYYMM por mês, criadas com antecedência e descartadas após a
+-- retenção pelo ParticionamentoAuditoriaService (inclusive as do mês corrente, na subida da aplicação).
+-- Não há partição padrão: inserções fora das partições existentes falham em vez de acumular.
+-- A chave primária inclui data_mudanca, exigência do particionamento.
+
+CREATE TABLE auditoria_status (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    tabela VARCHAR(20) NOT NULL CHECK (tabela IN ('PROJETO', 'TAREFA')),
+    id_registro BIGINT NOT NULL,
+    status_anterior VARCHAR(50),
+    status_novo VARCHAR(50) NOT NULL,
+    data_mudanca TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    usuario VARCHAR(100),
+    observacao TEXT,
+    
+    PRIMARY KEY (id, data_mudanca)
+) PARTITION BY RANGE (data_mudanca);
+
+CREATE INDEX idx_auditoria_historico ON auditoria_status (tabela, id_registro, data_mudanca, id);
@@ -30,7 +30,8 @@ CREATE TABLE projeto (
     INDEX idx_projeto_nome (nome),
     INDEX idx_projeto_status (status),
     INDEX idx_projeto_data_criacao (data_criacao),
-    INDEX idx_projeto_responsavel (responsavel)
+    INDEX idx_projeto_responsavel (responsavel),
+    INDEX idx_projeto_data_atualizacao (data_atualizacao)
 );
 
 -- Tabela TAREFA (Melhorada)
@@ -53,6 +54,7 @@ CREATE TABLE tarefa (
     usuario_criacao VARCHAR(100),
     usuario_atualizacao VARCHAR(100),
     ativo BOOLEAN DEFAULT TRUE,
+    versao BIGINT NOT NULL DEFAULT 0,
     
     -- Chave estrangeira
     id_projeto BIGINT NOT NULL,
@@ -69,22 +71,47 @@ CREATE TABLE tarefa (
     INDEX idx_tarefa_responsavel (responsavel),
     INDEX idx_tarefa_data_criacao (data_criacao),
     INDEX idx_tarefa_prioridade (prioridade),
-    INDEX idx_tarefa_data_fim_prevista (data_fim_prevista)
+    INDEX idx_tarefa_data_fim_prevista (data_fim_prevista),
+    INDEX idx_tarefa_data_atualizacao (data_atualizacao)
 );
 
 -- Tabela de auditoria para mudanças de status
+-- Particionada por mês (uma partição pYYYYMM por mês e pmax no fim): as partições dos próximos
+-- meses são criadas e as anteriores à retenção são descartadas pelo ParticionamentoAuditoriaService.
+-- A chave primária inclui data_mudanca, exigência do particionamento.
 CREATE TABLE auditoria_status (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT AUTO_INCREMENT,
     tabela ENUM('PROJETO', 'TAREFA') NOT NULL,
     id_registro BIGINT NOT NULL,
     status_anterior VARCHAR(50),
     status_novo VARCHAR(50) NOT NULL,
-    data_mudanca TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    data_mudanca DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     usuario VARCHAR(100),
     observacao TEXT,
     
-    INDEX idx_auditoria_tabela_registro (tabela, id_registro),
+    PRIMARY KEY (id, data_mudanca),
+    INDEX idx_auditoria_historico (tabela, id_registro, data_mudanca, id),
     INDEX idx_auditoria_data (data_mudanca)
+)
+PARTITION BY RANGE COLUMNS (data_mudanca) (
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- Estatísticas por projeto (mantidas incrementalmente pela aplicação)
+CREATE TABLE projeto_estatisticas (
+    id_projeto BIGINT PRIMARY KEY,
+    total_tarefas BIGINT NOT NULL DEFAULT 0,
+    tarefas_abertas BIGINT NOT NULL DEFAULT 0,
+    tarefas_em_andamento BIGINT NOT NULL DEFAULT 0,
+    tarefas_em_revisao BIGINT NOT NULL DEFAULT 0,
+    tarefas_concluidas BIGINT NOT NULL DEFAULT 0,
+    tarefas_canceladas BIGINT NOT NULL DEFAULT 0,
+    total_horas_estimadas DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    total_horas_trabalhadas DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    data_atualizacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    CONSTRAINT fk_estatisticas_projeto FOREIGN KEY (id_projeto) REFERENCES projeto(id) ON DELETE CASCADE
 );
 
 -- Tabela para comentários/histórico
@@ -100,6 +127,65 @@ CREATE TABLE comentario (
     INDEX idx_comentario_data (data_comentario)
 );
 
+-- Tabelas de arquivo (dados frios): tarefas e projetos excluídos ou encerrados há mais que o período
+-- de retenção são movidos para cá pela rotina de arquivamento da aplicação, em lotes.
+-- Mesmas colunas das tabelas de origem, sem chaves estrangeiras.
+CREATE TABLE tarefa_arquivo (
+    id BIGINT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    status ENUM('ABERTA', 'EM_ANDAMENTO', 'EM_REVISAO', 'CONCLUIDA', 'CANCELADA'),
+    prioridade ENUM('BAIXA', 'MEDIA', 'ALTA', 'CRITICA'),
+    data_criacao TIMESTAMP NULL,
+    data_inicio DATE,
+    data_fim_prevista DATE,
+    data_fim_real DATE,
+    estimativa_horas DECIMAL(8,2),
+    horas_trabalhadas DECIMAL(8,2),
+    percentual_conclusao TINYINT,
+    responsavel VARCHAR(255),
+    observacoes TEXT,
+    data_atualizacao TIMESTAMP NULL,
+    usuario_criacao VARCHAR(100),
+    usuario_atualizacao VARCHAR(100),
+    ativo BOOLEAN,
+    versao BIGINT NOT NULL,
+    id_projeto BIGINT NOT NULL,
+    data_arquivamento TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_tarefa_arquivo_projeto (id_projeto),
+    INDEX idx_tarefa_arquivo_data (data_arquivamento)
+);
+
+CREATE TABLE projeto_arquivo (
+    id BIGINT PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    data_inicio DATE,
+    data_fim_prevista DATE,
+    data_fim_real DATE,
+    status ENUM('PLANEJAMENTO', 'EM_ANDAMENTO', 'PAUSADO', 'CONCLUIDO', 'CANCELADO'),
+    prioridade ENUM('BAIXA', 'MEDIA', 'ALTA', 'CRITICA'),
+    orcamento DECIMAL(15,2),
+    responsavel VARCHAR(255),
+    data_criacao TIMESTAMP NULL,
+    data_atualizacao TIMESTAMP NULL,
+    usuario_criacao VARCHAR(100),
+    usuario_atualizacao VARCHAR(100),
+    ativo BOOLEAN,
+    data_arquivamento TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_projeto_arquivo_data (data_arquivamento)
+);
+
+-- Viradas do dia do índice de prazos: a chave primária garante que só uma réplica
+-- publique os eventos TarefaAtrasada de cada dia
+CREATE TABLE virada_prazo (
+    dia DATE PRIMARY KEY,
+    instancia VARCHAR(100) NOT NULL,
+    data_execucao TIMESTAMP NOT NULL
+);
+
 -- Views úteis para relatórios
 CREATE VIEW vw_projetos_resumo AS
 SELECT 
@@ -110,15 +196,14 @@ SELECT
     p.data_inicio,
     p.data_fim_prevista,
     p.responsavel,
-    COUNT(t.id) as total_tarefas,
-    COUNT(CASE WHEN t.status = 'CONCLUIDA' THEN 1 END) as tarefas_concluidas,
-    ROUND(COUNT(CASE WHEN t.status = 'CONCLUIDA' THEN 1 END) * 100.0 / COUNT(t.id), 2) as percentual_conclusao,
-    SUM(COALESCE(t.estimativa_horas, 0)) as total_horas_estimadas,
-    SUM(COALESCE(t.horas_trabalhadas, 0)) as total_horas_trabalhadas
+    COALESCE(e.total_tarefas, 0) as total_tarefas,
+    COALESCE(e.tarefas_concluidas, 0) as tarefas_concluidas,
+    ROUND(e.tarefas_concluidas * 100.0 / NULLIF(e.total_tarefas, 0), 2) as percentual_conclusao,
+    COALESCE(e.total_horas_estimadas, 0) as total_horas_estimadas,
+    COALESCE(e.total_horas_trabalhadas, 0) as total_horas_trabalhadas
 FROM projeto p
-LEFT JOIN tarefa t ON p.id = t.id_projeto AND t.ativo = TRUE
-WHERE p.ativo = TRUE
-GROUP BY p.id, p.nome, p.status, p.prioridade, p.data_inicio, p.data_fim_prevista, p.responsavel;
+LEFT JOIN projeto_estatisticas e ON e.id_projeto = p.id
+WHERE p.ativo = TRUE;
 
 CREATE VIEW vw_tarefas_atrasadas AS
 SELECT 
@@ -149,30 +234,36 @@ INSERT INTO tarefa (titulo, descricao, status, prioridade, data_inicio, data_fim
 ('Testes Automatizados', 'Criação da suite de testes', 'ABERTA', 'MEDIA', '2025-11-01', '2025-12-15', 60.00, 'Teste QA', 1, 'admin'),
 ('Análise Base de Dados', 'Mapeamento da estrutura atual', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 'DBA Team', 2, 'admin');
 
--- Triggers para auditoria automática
-DELIMITER //
-
-CREATE TRIGGER tr_projeto_status_audit
-AFTER UPDATE ON projeto
-FOR EACH ROW
-BEGIN
-    IF OLD.status != NEW.status THEN
-        INSERT INTO auditoria_status (tabela, id_registro, status_anterior, status_novo, usuario)
-        VALUES ('PROJETO', NEW.id, OLD.status, NEW.status, NEW.usuario_atualizacao);
-    END IF;
-END//
+-- Gerador de ids de tarefa (emulação de sequência do Hibernate, otimizador pooled em blocos de 50)
+-- Inicia acima dos ids já existentes
+CREATE TABLE tarefa_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO tarefa_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM tarefa;
 
-CREATE TRIGGER tr_tarefa_status_audit
-AFTER UPDATE ON tarefa
-FOR EACH ROW
-BEGIN
-    IF OLD.status != NEW.status THEN
-        INSERT INTO auditoria_status (tabela, id_registro, status_anterior, status_novo, usuario)
-        VALUES ('TAREFA', NEW.id, OLD.status, NEW.status, NEW.usuario_atualizacao);
-    END IF;
-END//
+-- Carga inicial das estatísticas (depois mantidas pela aplicação)
+INSERT INTO projeto_estatisticas (id_projeto, total_tarefas, tarefas_abertas, tarefas_em_andamento,
+    tarefas_em_revisao, tarefas_concluidas, tarefas_canceladas, total_horas_estimadas, total_horas_trabalhadas)
+SELECT 
+    p.id,
+    COUNT(t.id),
+    COUNT(CASE WHEN t.status = 'ABERTA' THEN 1 END),
+    COUNT(CASE WHEN t.status = 'EM_ANDAMENTO' THEN 1 END),
+    COUNT(CASE WHEN t.status = 'EM_REVISAO' THEN 1 END),
+    COUNT(CASE WHEN t.status = 'CONCLUIDA' THEN 1 END),
+    COUNT(CASE WHEN t.status = 'CANCELADA' THEN 1 END),
+    COALESCE(SUM(t.estimativa_horas), 0),
+    COALESCE(SUM(t.horas_trabalhadas), 0)
+FROM projeto p
+LEFT JOIN tarefa t ON p.id = t.id_projeto AND t.ativo = TRUE
+WHERE p.ativo = TRUE
+GROUP BY p.id;
 
-DELIMITER ;
+-- Auditoria de status
+-- Gravada pela aplicação (AuditoriaStatusService) em lotes, após o commit das alterações;
+-- os triggers antigos são removidos para não duplicar os registros
+DROP TRIGGER IF EXISTS tr_projeto_status_audit;
+DROP TRIGGER IF EXISTS tr_tarefa_status_audit;
 
 -- Stored Procedures úteis
 DELIMITER //
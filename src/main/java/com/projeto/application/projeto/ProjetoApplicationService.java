@@ -8,6 +8,7 @@ import com.projeto.domain.projeto.ProjetoRepository;
 import com.projeto.domain.projeto.valueobjects.StatusProjeto;
 import com.projeto.infrastructure.events.EventPublisher;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.Valid;
@@ -24,11 +25,14 @@ public class ProjetoApplicationService {
     
     private final ProjetoRepository projetoRepository;
     private final EventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
     public ProjetoApplicationService(ProjetoRepository projetoRepository, 
-                                   EventPublisher eventPublisher) {
+                                   EventPublisher eventPublisher,
+                                   ApplicationEventPublisher applicationEventPublisher) {
         this.projetoRepository = projetoRepository;
         this.eventPublisher = eventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
     
     /**
@@ -57,8 +61,7 @@ public class ProjetoApplicationService {
         var projetoSalvo = projetoRepository.save(projeto);
         
         // Publicação de eventos de domínio
-        projeto.getEventos().forEach(eventPublisher::publish);
-        projeto.limparEventos();
+        publicarEventos(projeto);
         
         return projetoSalvo.getId();
     }
@@ -78,8 +81,7 @@ public class ProjetoApplicationService {
         );
         
         projetoRepository.save(projeto);
-        projeto.getEventos().forEach(eventPublisher::publish);
-        projeto.limparEventos();
+        publicarEventos(projeto);
     }
     
     /**
@@ -99,8 +101,7 @@ public class ProjetoApplicationService {
         }
         
         projetoRepository.save(projeto);
-        projeto.getEventos().forEach(eventPublisher::publish);
-        projeto.limparEventos();
+        publicarEventos(projeto);
     }
     
     /**
@@ -122,6 +123,17 @@ public class ProjetoApplicationService {
         projetoRepository.delete(projeto);
     }
     
+    /**
+     * Publica os eventos do projeto no contexto da aplicação (auditoria de status, após o commit)
+     * e no EventPublisher externo
+     */
+    private void publicarEventos(Projeto projeto) {
+        var eventos = projeto.getEventos();
+        eventos.forEach(applicationEventPublisher::publishEvent);
+        eventPublisher.publishAll(eventos);
+        projeto.limparEventos();
+    }
+    
     /**
      * Método auxiliar para buscar projeto com tratamento de erro
      * Aplica o princípio DRY (Don't Repeat Yourself)
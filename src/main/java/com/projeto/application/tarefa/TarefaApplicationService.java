@@ -9,8 +9,10 @@ import com.projeto.domain.tarefa.TarefaRepository;
 import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
 import com.projeto.domain.tarefa.valueobjects.PrioridadeTarefa;
 import com.projeto.domain.projeto.ProjetoRepository;
+import com.projeto.infrastructure.events.CoalescenciaEventos;
 import com.projeto.infrastructure.events.EventPublisher;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.Valid;
@@ -28,13 +30,16 @@ public class TarefaApplicationService {
     private final TarefaRepository tarefaRepository;
     private final ProjetoRepository projetoRepository;
     private final EventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
     public TarefaApplicationService(TarefaRepository tarefaRepository,
                                   ProjetoRepository projetoRepository,
-                                  EventPublisher eventPublisher) {
+                                  EventPublisher eventPublisher,
+                                  ApplicationEventPublisher applicationEventPublisher) {
         this.tarefaRepository = tarefaRepository;
         this.projetoRepository = projetoRepository;
         this.eventPublisher = eventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
     
     /**
@@ -71,8 +76,7 @@ public class TarefaApplicationService {
         var tarefaSalva = tarefaRepository.save(tarefa);
         
         // Publicação de eventos de domínio
-        tarefa.getEventos().forEach(eventPublisher::publish);
-        tarefa.limparEventos();
+        publicarEventos(tarefa);
         
         return tarefaSalva.getId();
     }
@@ -94,8 +98,7 @@ public class TarefaApplicationService {
         );
         
         tarefaRepository.save(tarefa);
-        tarefa.getEventos().forEach(eventPublisher::publish);
-        tarefa.limparEventos();
+        publicarEventos(tarefa);
     }
     
     /**
@@ -121,8 +124,7 @@ public class TarefaApplicationService {
         }
         
         tarefaRepository.save(tarefa);
-        tarefa.getEventos().forEach(eventPublisher::publish);
-        tarefa.limparEventos();
+        publicarEventos(tarefa);
     }
     
     /**
@@ -134,8 +136,7 @@ public class TarefaApplicationService {
         tarefa.atualizarPercentual(command.percentual(), command.usuario());
         
         tarefaRepository.save(tarefa);
-        tarefa.getEventos().forEach(eventPublisher::publish);
-        tarefa.limparEventos();
+        publicarEventos(tarefa);
     }
     
     /**
@@ -150,6 +151,17 @@ public class TarefaApplicationService {
         tarefaRepository.delete(tarefa);
     }
     
+    /**
+     * Publica os eventos da tarefa no contexto da aplicação (auditoria de status, após o commit)
+     * e no EventPublisher externo, com a coalescência de percentual
+     */
+    private void publicarEventos(Tarefa tarefa) {
+        var eventos = tarefa.getEventos();
+        eventos.forEach(applicationEventPublisher::publishEvent);
+        eventPublisher.publishAll(eventos, CoalescenciaEventos.PERCENTUAL_POR_TAREFA);
+        tarefa.limparEventos();
+    }
+    
     /**
      * Método auxiliar para buscar tarefa com tratamento de erro
      * Aplica o princípio DRY (Don't Repeat Yourself)
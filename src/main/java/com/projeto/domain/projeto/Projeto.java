@@ -40,6 +40,17 @@ public class Projeto extends Entity<Long> {
         validate();
     }
     
+    /**
+     * Reconstitui um projeto já persistido, sem validações de transição nem eventos
+     * Utilizado pelos adaptadores de persistência
+     */
+    public static Projeto reconstituir(Long id, String nome, String descricao, StatusProjeto status,
+                                       LocalDate dataInicio, LocalDate dataFim, String responsavel,
+                                       AuditInfo auditInfo) {
+        return new Projeto(Objects.requireNonNull(id, "ID do projeto persistido é obrigatório"), nome, descricao,
+                           status, dataInicio, dataFim, responsavel, auditInfo);
+    }
+    
     /**
      * Factory method para criar novo projeto
      * Segue o princípio de criação controlada
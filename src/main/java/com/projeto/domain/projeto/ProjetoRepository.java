@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import com.projeto.domain.projeto.valueobjects.StatusProjeto;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,13 @@ public interface ProjetoRepository {
      */
     Projeto save(Projeto projeto);
     
+    /**
+     * Salva vários projetos em lote (inserções e atualizações agrupadas)
+     * @param projetos os projetos a serem salvos
+     * @return os projetos salvos, na mesma ordem, com os IDs gerados
+     */
+    List<Projeto> saveAll(Collection<Projeto> projetos);
+    
     /**
      * Busca projeto por ID
      * @param id o ID do projeto
@@ -1,21 +1,44 @@
 package com.projeto.domain.projeto.valueobjects;
 
+import com.projeto.domain.shared.TabelaTransicoes;
 import com.projeto.domain.shared.ValueObject;
+
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Value Object para representar o status de um projeto
  * Garante que apenas valores válidos sejam utilizados
  * Segue o princípio SRP e encapsulamento
+ * 
+ * As regras estão na tabela TRANSICOES; of() devolve sempre as instâncias da tabela, e as
+ * verificações de transição e de grupo são testes de bits, sem alocação.
  */
 public record StatusProjeto(String valor) implements ValueObject {
     
+    private static final Set<String> VALORES = Set.of("PLANEJAMENTO", "EM_ANDAMENTO", "CONCLUIDO", "CANCELADO", "PAUSADO");
+    
     public static final StatusProjeto PLANEJAMENTO = new StatusProjeto("PLANEJAMENTO");
     public static final StatusProjeto EM_ANDAMENTO = new StatusProjeto("EM_ANDAMENTO");
     public static final StatusProjeto CONCLUIDO = new StatusProjeto("CONCLUIDO");
     public static final StatusProjeto CANCELADO = new StatusProjeto("CANCELADO");
     public static final StatusProjeto PAUSADO = new StatusProjeto("PAUSADO");
     
+    /**
+     * Transições permitidas: só um projeto em andamento pode ser concluído, e concluído e
+     * cancelado são estados finais
+     */
+    private static final TabelaTransicoes<StatusProjeto> TRANSICOES = TabelaTransicoes
+        .com(StatusProjeto::valor, PLANEJAMENTO, EM_ANDAMENTO, CONCLUIDO, CANCELADO, PAUSADO)
+        .permitirExceto(PLANEJAMENTO, CONCLUIDO)
+        .permitirExceto(EM_ANDAMENTO)
+        .permitirExceto(PAUSADO, CONCLUIDO)
+        .construir();
+    
+    private static final long ATIVOS = TRANSICOES.mascara(PLANEJAMENTO, EM_ANDAMENTO);
+    private static final long FINALIZADOS = TRANSICOES.mascara(CONCLUIDO, CANCELADO);
+    
     public StatusProjeto {
         Objects.requireNonNull(valor, "Status do projeto não pode ser nulo");
         if (valor.trim().isEmpty()) {
@@ -24,37 +47,34 @@ public record StatusProjeto(String valor) implements ValueObject {
         validarStatus(valor);
     }
     
-    private void validarStatus(String status) {
-        var statusValidos = java.util.Set.of(
-            "PLANEJAMENTO", "EM_ANDAMENTO", "CONCLUIDO", "CANCELADO", "PAUSADO"
-        );
-        
-        if (!statusValidos.contains(status.toUpperCase())) {
+    private static void validarStatus(String status) {
+        if (!VALORES.contains(status) && !VALORES.contains(status.toUpperCase(Locale.ROOT))) {
             throw new IllegalArgumentException(
-                "Status inválido: " + status + ". Status válidos: " + statusValidos
+                "Status inválido: " + status + ". Status válidos: " + VALORES
             );
         }
     }
     
+    /**
+     * Instância única do status; só converte para maiúsculas quando o valor não é canônico
+     */
     public static StatusProjeto of(String valor) {
-        return new StatusProjeto(valor.toUpperCase());
+        StatusProjeto status = TRANSICOES.porNome(valor);
+        if (status == null) {
+            status = TRANSICOES.porNome(valor.toUpperCase(Locale.ROOT));
+        }
+        return status != null ? status : new StatusProjeto(valor);
     }
     
     public boolean podeSerAlteradoPara(StatusProjeto novoStatus) {
-        return switch (this.valor) {
-            case "PLANEJAMENTO" -> !novoStatus.valor.equals("CONCLUIDO");
-            case "EM_ANDAMENTO" -> true;
-            case "PAUSADO" -> !novoStatus.valor.equals("CONCLUIDO");
-            case "CONCLUIDO", "CANCELADO" -> false;
-            default -> false;
-        };
+        return TRANSICOES.permite(this, novoStatus);
     }
     
     public boolean estaAtivo() {
-        return "EM_ANDAMENTO".equals(valor) || "PLANEJAMENTO".equals(valor);
+        return TRANSICOES.pertence(this, ATIVOS);
     }
     
     public boolean estaFinalizado() {
-        return "CONCLUIDO".equals(valor) || "CANCELADO".equals(valor);
+        return TRANSICOES.pertence(this, FINALIZADOS);
     }
 }
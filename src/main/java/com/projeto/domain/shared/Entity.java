@@ -11,26 +11,40 @@ public abstract class Entity<ID> {
     
     protected final ID id;
     
+    /**
+     * @param id identificador, nulo enquanto a entidade não foi persistida
+     * (a infraestrutura gera o ID e devolve uma nova instância já identificada)
+     */
     protected Entity(ID id) {
-        this.id = Objects.requireNonNull(id, "ID não pode ser nulo");
+        this.id = id;
     }
     
     public ID getId() {
         return id;
     }
     
+    /**
+     * Indica se a entidade ainda não foi persistida (sem ID)
+     */
+    public boolean isNova() {
+        return id == null;
+    }
+    
+    /**
+     * Entidades sem ID só são iguais a si mesmas
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         
         Entity<?> entity = (Entity<?>) obj;
-        return Objects.equals(id, entity.id);
+        return id != null && Objects.equals(id, entity.id);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return id == null ? System.identityHashCode(this) : Objects.hash(id);
     }
     
     /**
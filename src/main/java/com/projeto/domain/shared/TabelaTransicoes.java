@@ -0,0 +1,167 @@
+package com.projeto.domain.shared;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tabela de transições de estado compilada
+ * 
+ * Declarada uma vez por tipo de status (estados e transições permitidas), é compilada em instâncias
+ * únicas por nome (flyweights) e em uma matriz de bits: cada estado tem um long com um bit por
+ * destino permitido. As consultas não alocam: localizam o índice do estado e testam um bit.
+ * Grupos de estados (ativos, finalizados...) usam a mesma representação em máscara.
+ * 
+ * Estados desconhecidos pela tabela (instâncias fora dos flyweights com valor não canônico)
+ * não pertencem a nenhum grupo nem permitem transições.
+ * 
+ * @param <S> tipo do status: enum ou value object com igualdade por valor
+ */
+public final class TabelaTransicoes<S> {
+    
+    private static final int MAXIMO_ESTADOS = Long.SIZE;
+    
+    private final Object[] estados;
+    private final Map<String, S> porNome;
+    private final Map<S, Integer> indices;
+    private final long[] destinos;
+    
+    private TabelaTransicoes(List<S> estados, Function<S, String> nome, long[] destinos) {
+        this.estados = estados.toArray();
+        this.porNome = new HashMap<>();
+        this.indices = new HashMap<>();
+        for (int i = 0; i < estados.size(); i++) {
+            porNome.put(nome.apply(estados.get(i)), estados.get(i));
+            indices.put(estados.get(i), i);
+        }
+        this.destinos = destinos.clone();
+    }
+    
+    /**
+     * Inicia a declaração da tabela com os estados na ordem dos bits
+     * @param nome nome canônico de cada estado, usado por {@link #porNome(String)}
+     */
+    @SafeVarargs
+    public static <S> Construtor<S> com(Function<S, String> nome, S... estados) {
+        // Só lê os elementos: o array de varargs não é repassado adiante
+        List<S> lista = new ArrayList<>(estados.length);
+        for (S estado : estados) {
+            lista.add(estado);
+        }
+        return new Construtor<>(nome, List.copyOf(lista));
+    }
+    
+    /**
+     * Instância única do estado com o nome canônico informado
+     * @return o flyweight, ou null se o nome não pertence à tabela
+     */
+    public S porNome(String nome) {
+        return porNome.get(nome);
+    }
+    
+    /**
+     * Posição do estado na tabela, ou -1 se desconhecido
+     * O caminho comum (flyweights) é uma comparação por identidade entre poucos estados
+     */
+    public int indice(S estado) {
+        for (int i = 0; i < estados.length; i++) {
+            if (estados[i] == estado) {
+                return i;
+            }
+        }
+        Integer indice = estado == null ? null : indices.get(estado);
+        return indice == null ? -1 : indice;
+    }
+    
+    public boolean permite(S de, S para) {
+        int origem = indice(de);
+        int destino = indice(para);
+        return origem >= 0 && destino >= 0 && (destinos[origem] & (1L << destino)) != 0;
+    }
+    
+    /**
+     * Máscara de um grupo de estados, para testes com {@link #pertence(Object, long)}
+     * Calculada uma vez, na declaração do grupo
+     */
+    @SafeVarargs
+    public final long mascara(S... grupo) {
+        long mascara = 0;
+        for (S estado : grupo) {
+            int indice = indice(estado);
+            if (indice < 0) {
+                throw new IllegalArgumentException("Estado fora da tabela: " + estado);
+            }
+            mascara |= 1L << indice;
+        }
+        return mascara;
+    }
+    
+    public boolean pertence(S estado, long mascara) {
+        int indice = indice(estado);
+        return indice >= 0 && (mascara & (1L << indice)) != 0;
+    }
+    
+    /**
+     * Declaração das transições permitidas; ao fim, {@link #construir()} compila a tabela
+     */
+    public static final class Construtor<S> {
+        
+        private final Function<S, String> nome;
+        private final List<S> estados;
+        private final long[] destinos;
+        
+        private Construtor(Function<S, String> nome, List<S> estados) {
+            if (estados.isEmpty() || estados.size() > MAXIMO_ESTADOS) {
+                throw new IllegalArgumentException("A tabela aceita de 1 a " + MAXIMO_ESTADOS + " estados");
+            }
+            if (estados.stream().map(nome).distinct().count() != estados.size()) {
+                throw new IllegalArgumentException("Estados repetidos na tabela: " + estados);
+            }
+            this.nome = nome;
+            this.estados = estados;
+            this.destinos = new long[estados.size()];
+        }
+        
+        /**
+         * Permite as transições de um estado para os destinos informados
+         */
+        @SafeVarargs
+        public final Construtor<S> permitir(S de, S... para) {
+            int origem = posicao(de);
+            for (S destino : para) {
+                destinos[origem] |= 1L << posicao(destino);
+            }
+            return this;
+        }
+        
+        /**
+         * Permite as transições de um estado para todos os estados, exceto os informados
+         */
+        @SafeVarargs
+        public final Construtor<S> permitirExceto(S de, S... exceto) {
+            int origem = posicao(de);
+            long todos = estados.size() == MAXIMO_ESTADOS ? -1L : (1L << estados.size()) - 1;
+            destinos[origem] |= todos;
+            for (S excluido : exceto) {
+                destinos[origem] &= ~(1L << posicao(excluido));
+            }
+            return this;
+        }
+        
+        public TabelaTransicoes<S> construir() {
+            return new TabelaTransicoes<>(estados, nome, destinos);
+        }
+        
+        private int posicao(S estado) {
+            int posicao = estados.indexOf(estado);
+            if (posicao < 0) {
+                throw new IllegalArgumentException("Estado fora da tabela: " + estado + ". Estados: "
+                    + Arrays.toString(estados.toArray()));
+            }
+            return posicao;
+        }
+    }
+}
@@ -28,12 +28,13 @@ public class Tarefa extends Entity<Long> {
     private Long projetoId;
     private String responsavel;
     private AuditInfo auditInfo;
+    private final Long versao;
     private final List<TarefaEvent> eventos = new ArrayList<>();
     
     // Construtor para persistência (package-private)
     Tarefa(Long id, String titulo, String descricao, StatusTarefa status,
            PrioridadeTarefa prioridade, LocalDate dataVencimento, Integer percentualConclusao,
-           Long projetoId, String responsavel, AuditInfo auditInfo) {
+           Long projetoId, String responsavel, AuditInfo auditInfo, Long versao) {
         super(id);
         this.titulo = titulo;
         this.descricao = descricao;
@@ -44,9 +45,24 @@ public class Tarefa extends Entity<Long> {
         this.projetoId = projetoId;
         this.responsavel = responsavel;
         this.auditInfo = auditInfo;
+        this.versao = versao;
         validate();
     }
     
+    /**
+     * Reconstitui uma tarefa já persistida, sem validações de transição nem eventos
+     * Utilizado pelos adaptadores de persistência
+     * @param versao versão lida, conferida pela persistência na gravação (controle otimista)
+     */
+    public static Tarefa reconstituir(Long id, String titulo, String descricao, StatusTarefa status,
+                                      PrioridadeTarefa prioridade, LocalDate dataVencimento,
+                                      Integer percentualConclusao, Long projetoId, String responsavel,
+                                      AuditInfo auditInfo, Long versao) {
+        return new Tarefa(Objects.requireNonNull(id, "ID da tarefa persistida é obrigatório"), titulo, descricao,
+                          status, prioridade, dataVencimento, percentualConclusao, projetoId, responsavel, auditInfo,
+                          versao);
+    }
+    
     /**
      * Factory method para criar nova tarefa
      * Segue o princípio de criação controlada
@@ -63,7 +79,8 @@ public class Tarefa extends Entity<Long> {
             0, // Percentual inicial
             projetoId,
             responsavel,
-            AuditInfo.criar(criador)
+            AuditInfo.criar(criador),
+            null // Versão atribuída na primeira gravação
         );
         
         tarefa.adicionarEvento(new TarefaEvent.TarefaCriada(tarefa.getId(), titulo, projetoId));
@@ -251,4 +268,5 @@ public class Tarefa extends Entity<Long> {
     public Long getProjetoId() { return projetoId; }
     public String getResponsavel() { return responsavel; }
     public AuditInfo getAuditInfo() { return auditInfo; }
+    public Long getVersao() { return versao; }
 }
@@ -6,6 +6,7 @@ import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
 import com.projeto.domain.tarefa.valueobjects.PrioridadeTarefa;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,13 @@ public interface TarefaRepository {
      */
     Tarefa save(Tarefa tarefa);
     
+    /**
+     * Salva várias tarefas em lote (inserções e atualizações agrupadas)
+     * @param tarefas as tarefas a serem salvas
+     * @return as tarefas salvas, na mesma ordem, com os IDs gerados
+     */
+    List<Tarefa> saveAll(Collection<Tarefa> tarefas);
+    
     /**
      * Busca tarefa por ID
      * @param id o ID da tarefa
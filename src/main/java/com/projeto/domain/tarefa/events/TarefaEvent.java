@@ -1,5 +1,6 @@
 package com.projeto.domain.tarefa.events;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -76,6 +77,16 @@ public sealed interface TarefaEvent {
         }
     }
     
+    record TarefaAtrasada(
+        Long tarefaId,
+        LocalDate dataFimPrevista,
+        LocalDateTime ocorridoEm
+    ) implements TarefaEvent {
+        public TarefaAtrasada(Long tarefaId, LocalDate dataFimPrevista) {
+            this(tarefaId, dataFimPrevista, LocalDateTime.now());
+        }
+    }
+    
     record PercentualAtualizado(
         Long tarefaId,
         String titulo,
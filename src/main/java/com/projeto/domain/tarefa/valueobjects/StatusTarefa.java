@@ -1,21 +1,45 @@
 package com.projeto.domain.tarefa.valueobjects;
 
+import com.projeto.domain.shared.TabelaTransicoes;
 import com.projeto.domain.shared.ValueObject;
+
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Value Object para representar o status de uma tarefa
  * Implementa regras de negócio para transições de status
  * Segue princípios DDD e encapsulamento
+ * 
+ * As regras estão na tabela TRANSICOES; of() devolve sempre as instâncias da tabela, e as
+ * verificações de transição e de grupo são testes de bits, sem alocação.
  */
 public record StatusTarefa(String valor) implements ValueObject {
     
+    private static final Set<String> VALORES = Set.of("ABERTA", "EM_ANDAMENTO", "CONCLUIDA", "CANCELADA", "BLOQUEADA");
+    
     public static final StatusTarefa ABERTA = new StatusTarefa("ABERTA");
     public static final StatusTarefa EM_ANDAMENTO = new StatusTarefa("EM_ANDAMENTO");
     public static final StatusTarefa CONCLUIDA = new StatusTarefa("CONCLUIDA");
     public static final StatusTarefa CANCELADA = new StatusTarefa("CANCELADA");
     public static final StatusTarefa BLOQUEADA = new StatusTarefa("BLOQUEADA");
     
+    /**
+     * Transições permitidas: aberta vai para qualquer status, em andamento não volta a aberta,
+     * bloqueada não conclui sem ser desbloqueada, e concluída e cancelada são estados finais
+     */
+    private static final TabelaTransicoes<StatusTarefa> TRANSICOES = TabelaTransicoes
+        .com(StatusTarefa::valor, ABERTA, EM_ANDAMENTO, CONCLUIDA, CANCELADA, BLOQUEADA)
+        .permitirExceto(ABERTA)
+        .permitirExceto(EM_ANDAMENTO, ABERTA)
+        .permitirExceto(BLOQUEADA, CONCLUIDA)
+        .construir();
+    
+    private static final long ATIVAS = TRANSICOES.mascara(ABERTA, EM_ANDAMENTO);
+    private static final long FINALIZADAS = TRANSICOES.mascara(CONCLUIDA, CANCELADA);
+    private static final long BLOQUEADAS = TRANSICOES.mascara(BLOQUEADA);
+    
     public StatusTarefa {
         Objects.requireNonNull(valor, "Status da tarefa não pode ser nulo");
         if (valor.trim().isEmpty()) {
@@ -24,20 +48,23 @@ public record StatusTarefa(String valor) implements ValueObject {
         validarStatus(valor);
     }
     
-    private void validarStatus(String status) {
-        var statusValidos = java.util.Set.of(
-            "ABERTA", "EM_ANDAMENTO", "CONCLUIDA", "CANCELADA", "BLOQUEADA"
-        );
-        
-        if (!statusValidos.contains(status.toUpperCase())) {
+    private static void validarStatus(String status) {
+        if (!VALORES.contains(status) && !VALORES.contains(status.toUpperCase(Locale.ROOT))) {
             throw new IllegalArgumentException(
-                "Status inválido: " + status + ". Status válidos: " + statusValidos
+                "Status inválido: " + status + ". Status válidos: " + VALORES
             );
         }
     }
     
+    /**
+     * Instância única do status; só converte para maiúsculas quando o valor não é canônico
+     */
     public static StatusTarefa of(String valor) {
-        return new StatusTarefa(valor.toUpperCase());
+        StatusTarefa status = TRANSICOES.porNome(valor);
+        if (status == null) {
+            status = TRANSICOES.porNome(valor.toUpperCase(Locale.ROOT));
+        }
+        return status != null ? status : new StatusTarefa(valor);
     }
     
     /**
@@ -45,24 +72,18 @@ public record StatusTarefa(String valor) implements ValueObject {
      * Implementa regras de negócio para transições
      */
     public boolean podeSerAlteradoPara(StatusTarefa novoStatus) {
-        return switch (this.valor) {
-            case "ABERTA" -> true; // Pode ir para qualquer status
-            case "EM_ANDAMENTO" -> !novoStatus.valor.equals("ABERTA");
-            case "BLOQUEADA" -> !novoStatus.valor.equals("CONCLUIDA");
-            case "CONCLUIDA", "CANCELADA" -> false; // Estados finais
-            default -> false;
-        };
+        return TRANSICOES.permite(this, novoStatus);
     }
     
     public boolean estaAtiva() {
-        return "ABERTA".equals(valor) || "EM_ANDAMENTO".equals(valor);
+        return TRANSICOES.pertence(this, ATIVAS);
     }
     
     public boolean estaFinalizada() {
-        return "CONCLUIDA".equals(valor) || "CANCELADA".equals(valor);
+        return TRANSICOES.pertence(this, FINALIZADAS);
     }
     
     public boolean estaBloqueada() {
-        return "BLOQUEADA".equals(valor);
+        return TRANSICOES.pertence(this, BLOQUEADAS);
     }
 }
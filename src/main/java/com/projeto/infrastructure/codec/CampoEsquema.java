@@ -0,0 +1,7 @@
+package com.projeto.infrastructure.codec;
+
+/**
+ * Campo de um esquema de evento: nome do componente do record e tipo binário
+ */
+public record CampoEsquema(String nome, TipoCampo tipo) {
+}
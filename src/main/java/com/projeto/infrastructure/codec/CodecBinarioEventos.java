@@ -0,0 +1,190 @@
+package com.projeto.infrastructure.codec;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Codec binário dos eventos de domínio, gerado a partir dos componentes dos records
+ * 
+ * Cada record das hierarquias seladas tem o esquema registrado na criação do codec. O corpo é um
+ * mapa de bits dos campos nulos seguido dos valores não nulos na ordem do esquema, sem nomes de
+ * campo. A leitura usa o esquema de quem escreveu (pelo ID) e casa os campos por nome com o record
+ * atual, então versões compatíveis convivem. Records que não puderem ser registrados (tipo de
+ * campo sem representação ou esquema incompatível) ficam de fora e seguem em JSON.
+ */
+public class CodecBinarioEventos {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CodecBinarioEventos.class);
+    
+    public static final String HEADER_ESQUEMA_ID = "esquema-id";
+    
+    private final RegistroEsquemasArquivo registro;
+    private final Map<Class<?>, Escritor> escritores = new HashMap<>();
+    private final Map<String, Escritor> escritoresPorTipo = new HashMap<>();
+    private final Map<Integer, Leitor> leitores = new ConcurrentHashMap<>();
+    
+    public CodecBinarioEventos(RegistroEsquemasArquivo registro, Class<?>... hierarquias) {
+        this.registro = registro;
+        tiposPorNome(hierarquias).values().forEach(this::registrar);
+        logger.info("Codec binário de eventos: {} tipo(s) registrados", escritores.size());
+    }
+    
+    /**
+     * Codec para TarefaEvent e ProjetoEvent
+     */
+    public static CodecBinarioEventos paraEventosDeDominio(RegistroEsquemasArquivo registro) {
+        return new CodecBinarioEventos(registro, TarefaEvent.class, ProjetoEvent.class);
+    }
+    
+    /**
+     * Records das hierarquias seladas, pelo nome simples (o mesmo do cabeçalho evento-tipo)
+     */
+    public static Map<String, Class<? extends Record>> tiposPorNome(Class<?>... hierarquias) {
+        Map<String, Class<? extends Record>> tipos = new LinkedHashMap<>();
+        for (Class<?> hierarquia : hierarquias) {
+            if (!hierarquia.isSealed()) {
+                throw new IllegalArgumentException("Hierarquia de eventos não selada: " + hierarquia.getName());
+            }
+            for (Class<?> permitida : hierarquia.getPermittedSubclasses()) {
+                if (permitida.isRecord()) {
+                    tipos.put(permitida.getSimpleName(), permitida.asSubclass(Record.class));
+                }
+            }
+        }
+        return tipos;
+    }
+    
+    public boolean suporta(Object evento) {
+        return evento != null && escritores.containsKey(evento.getClass());
+    }
+    
+    /**
+     * Classe do evento com o nome simples informado, se tiver formato binário
+     */
+    public Optional<Class<? extends Record>> classe(String tipo) {
+        return Optional.ofNullable(escritoresPorTipo.get(tipo)).map(Escritor::classe);
+    }
+    
+    /**
+     * Escreve o evento no buffer (reiniciado antes) e devolve uma cópia dos bytes
+     * @throws IllegalArgumentException se o tipo do evento não tem formato binário
+     */
+    public EventoCodificado codificar(Object evento, SaidaBinaria saida) {
+        Escritor escritor = escritores.get(evento.getClass());
+        if (escritor == null) {
+            throw new IllegalArgumentException("Evento sem formato binário: " + evento.getClass().getName());
+        }
+        
+        List<CampoEsquema> campos = escritor.esquema().campos();
+        saida.reiniciar();
+        int mapaNulos = saida.reservar((campos.size() + 7) / 8);
+        for (int i = 0; i < campos.size(); i++) {
+            Object valor = invocar(escritor.acessores()[i], evento);
+            if (valor == null) {
+                saida.marcarBit(mapaNulos, i);
+            } else {
+                campos.get(i).tipo().escrever(saida, valor);
+            }
+        }
+        return new EventoCodificado(escritor.esquemaId(), saida.toByteArray());
+    }
+    
+    /**
+     * Lê um evento escrito com o esquema informado
+     * @throws IllegalArgumentException se o esquema é desconhecido ou os dados estão malformados
+     */
+    public Object decodificar(int esquemaId, byte[] dados) {
+        Leitor leitor = leitores.computeIfAbsent(esquemaId, this::criarLeitor);
+        List<CampoEsquema> campos = leitor.esquemaEscrita().campos();
+        
+        EntradaBinaria entrada = new EntradaBinaria(dados);
+        int mapaNulos = entrada.pular((campos.size() + 7) / 8);
+        Object[] argumentos = new Object[leitor.destino().acessores().length];
+        for (int i = 0; i < campos.size(); i++) {
+            if (entrada.bitMarcado(mapaNulos, i)) {
+                continue;
+            }
+            Object valor = campos.get(i).tipo().ler(entrada);
+            if (leitor.posicoes()[i] >= 0) {
+                argumentos[leitor.posicoes()[i]] = valor;
+            }
+        }
+        if (!entrada.terminou()) {
+            throw new IllegalArgumentException("Evento binário inválido: bytes além do esquema " + esquemaId);
+        }
+        
+        try {
+            return leitor.destino().construtor().newInstance(argumentos);
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException("Evento binário inválido para " + leitor.destino().classe().getSimpleName(),
+                                               e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao instanciar " + leitor.destino().classe().getName(), e);
+        }
+    }
+    
+    // Métodos privados de apoio
+    
+    private void registrar(Class<? extends Record> classe) {
+        try {
+            EsquemaEvento esquema = EsquemaEvento.de(classe);
+            RecordComponent[] componentes = classe.getRecordComponents();
+            Constructor<? extends Record> construtor = classe.getDeclaredConstructor(
+                Arrays.stream(componentes).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            Escritor escritor = new Escritor(classe, registro.registrar(esquema), esquema,
+                Arrays.stream(componentes).map(RecordComponent::getAccessor).toArray(Method[]::new), construtor);
+            escritores.put(classe, escritor);
+            escritoresPorTipo.put(esquema.tipo(), escritor);
+        } catch (IllegalArgumentException | IllegalStateException | NoSuchMethodException e) {
+            logger.warn("Evento {} seguirá em JSON: {}", classe.getSimpleName(), e.getMessage());
+        }
+    }
+    
+    private Leitor criarLeitor(int esquemaId) {
+        EsquemaEvento esquema = registro.buscar(esquemaId)
+            .orElseThrow(() -> new IllegalArgumentException("Esquema de evento desconhecido: " + esquemaId));
+        Escritor destino = escritoresPorTipo.get(esquema.tipo());
+        if (destino == null) {
+            throw new IllegalArgumentException("Evento sem formato binário neste serviço: " + esquema.tipo());
+        }
+        
+        List<CampoEsquema> atuais = destino.esquema().campos();
+        int[] posicoes = esquema.campos().stream()
+            .mapToInt(campo -> atuais.indexOf(campo))
+            .toArray();
+        return new Leitor(esquema, destino, posicoes);
+    }
+    
+    private static Object invocar(Method acessor, Object evento) {
+        try {
+            return acessor.invoke(evento);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao ler " + acessor.getName() + " de " + evento.getClass().getName(), e);
+        }
+    }
+    
+    private record Escritor(Class<? extends Record> classe, int esquemaId, EsquemaEvento esquema,
+                            Method[] acessores, Constructor<? extends Record> construtor) {
+    }
+    
+    /**
+     * Plano de leitura de um esquema de escrita: posição de cada campo no construtor atual (-1 se descartado)
+     */
+    private record Leitor(EsquemaEvento esquemaEscrita, Escritor destino, int[] posicoes) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.projeto.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Leitura sequencial do formato binário
+ * Dados truncados ou malformados resultam em IllegalArgumentException
+ */
+final class EntradaBinaria {
+    
+    private final byte[] bytes;
+    private int posicao;
+    
+    EntradaBinaria(byte[] bytes) {
+        this.bytes = bytes;
+    }
+    
+    boolean bitMarcado(int inicio, int bit) {
+        return (bytes[inicio + (bit >>> 3)] & (1 << (bit & 7))) != 0;
+    }
+    
+    int pular(int quantidade) {
+        exigir(quantidade);
+        int inicio = posicao;
+        posicao += quantidade;
+        return inicio;
+    }
+    
+    long lerVarint() {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+            exigir(1);
+            byte atual = bytes[posicao++];
+            valor |= (long) (atual & 0x7F) << deslocamento;
+            if (atual >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Evento binário inválido: varint longo demais");
+    }
+    
+    long lerZigZag() {
+        long valor = lerVarint();
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+    
+    String lerTexto() {
+        long tamanho = lerVarint();
+        if (tamanho > bytes.length - posicao) {
+            throw new IllegalArgumentException("Evento binário inválido: texto além do fim dos dados");
+        }
+        String texto = new String(bytes, posicao, (int) tamanho, StandardCharsets.UTF_8);
+        posicao += (int) tamanho;
+        return texto;
+    }
+    
+    boolean terminou() {
+        return posicao == bytes.length;
+    }
+    
+    private void exigir(int quantidade) {
+        if (quantidade > bytes.length - posicao) {
+            throw new IllegalArgumentException("Evento binário inválido: dados truncados");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.projeto.infrastructure.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Esquema de um evento, gerado a partir dos componentes do record
+ * 
+ * A forma canônica (ex.: "ProjetoCriado(projetoId:LONGO,nome:TEXTO,ocorridoEm:DATA_HORA)") é o que o
+ * registro guarda e compara. Os campos são escritos na ordem do esquema, então quem lê precisa do
+ * esquema de quem escreveu, identificado pelo cabeçalho esquema-id.
+ */
+public record EsquemaEvento(String tipo, List<CampoEsquema> campos) {
+    
+    public EsquemaEvento {
+        campos = List.copyOf(campos);
+    }
+    
+    /**
+     * Gera o esquema de um record
+     * @throws IllegalArgumentException se algum componente não tem representação binária
+     */
+    public static EsquemaEvento de(Class<? extends Record> classe) {
+        return new EsquemaEvento(classe.getSimpleName(), Arrays.stream(classe.getRecordComponents())
+            .map(componente -> new CampoEsquema(componente.getName(), TipoCampo.de(componente.getType())))
+            .toList());
+    }
+    
+    /**
+     * Interpreta a forma canônica gravada no registro
+     * @throws IllegalArgumentException se o texto não é um esquema válido
+     */
+    public static EsquemaEvento interpretar(String canonico) {
+        int abre = canonico.indexOf('(');
+        if (abre <= 0 || !canonico.endsWith(")")) {
+            throw new IllegalArgumentException("Esquema inválido: " + canonico);
+        }
+        String corpo = canonico.substring(abre + 1, canonico.length() - 1);
+        List<CampoEsquema> campos = new ArrayList<>();
+        if (!corpo.isEmpty()) {
+            for (String campo : corpo.split(",")) {
+                int separador = campo.indexOf(':');
+                if (separador <= 0) {
+                    throw new IllegalArgumentException("Esquema inválido: " + canonico);
+                }
+                campos.add(new CampoEsquema(campo.substring(0, separador), TipoCampo.valueOf(campo.substring(separador + 1))));
+            }
+        }
+        return new EsquemaEvento(canonico.substring(0, abre), campos);
+    }
+    
+    public String canonico() {
+        return campos.stream()
+            .map(campo -> campo.nome() + ":" + campo.tipo())
+            .collect(Collectors.joining(",", tipo + "(", ")"));
+    }
+    
+    public Optional<CampoEsquema> campo(String nome) {
+        return campos.stream().filter(campo -> campo.nome().equals(nome)).findFirst();
+    }
+    
+    /**
+     * Compatível nos dois sentidos com uma versão anterior do mesmo evento: campos podem ser incluídos
+     * ou removidos (quem lê recebe null nos que faltam e ignora os que não conhece), mas um campo
+     * com o mesmo nome não pode mudar de tipo
+     */
+    public boolean compativelCom(EsquemaEvento anterior) {
+        Map<String, TipoCampo> tiposAnteriores = anterior.campos().stream()
+            .collect(Collectors.toMap(CampoEsquema::nome, CampoEsquema::tipo));
+        return tipo.equals(anterior.tipo()) && campos.stream()
+            .allMatch(campo -> tiposAnteriores.getOrDefault(campo.nome(), campo.tipo()) == campo.tipo());
+    }
+}
@@ -0,0 +1,7 @@
+package com.projeto.infrastructure.codec;
+
+/**
+ * Evento no formato binário e o ID do esquema com que foi escrito
+ */
+public record EventoCodificado(int esquemaId, byte[] dados) {
+}
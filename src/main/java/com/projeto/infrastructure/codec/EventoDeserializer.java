@@ -0,0 +1,74 @@
+package com.projeto.infrastructure.codec;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.infrastructure.events.kafka.KafkaEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Deserializer Kafka dos eventos de domínio para consumidores
+ * 
+ * Escolhe o formato pelo cabeçalho content-type: binário pelo esquema do cabeçalho esquema-id,
+ * ou JSON pela classe do cabeçalho evento-tipo (sem ele, devolve a árvore JSON). Sem codec
+ * configurado, o consumidor aceita só JSON.
+ */
+public class EventoDeserializer implements Deserializer<Object> {
+    
+    private final CodecBinarioEventos codec;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Class<? extends Record>> tipos =
+        CodecBinarioEventos.tiposPorNome(TarefaEvent.class, ProjetoEvent.class);
+    
+    /**
+     * @param codec codec binário; null para aceitar só JSON
+     */
+    public EventoDeserializer(CodecBinarioEventos codec, ObjectMapper objectMapper) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, new RecordHeaders(), data);
+    }
+    
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        
+        if (FormatoEvento.doContentType(texto(headers, FormatoEvento.HEADER_CONTENT_TYPE)) == FormatoEvento.BINARIO) {
+            if (codec == null) {
+                throw new SerializationException("Evento binário recebido em " + topic + " sem codec configurado");
+            }
+            try {
+                return codec.decodificar(Integer.parseInt(texto(headers, CodecBinarioEventos.HEADER_ESQUEMA_ID)), data);
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Evento binário inválido em " + topic, e);
+            }
+        }
+        
+        Class<? extends Record> classe = tipos.get(texto(headers, KafkaEventPublisher.HEADER_EVENT_TYPE));
+        try {
+            return classe != null ? objectMapper.readValue(data, classe) : objectMapper.readTree(data);
+        } catch (IOException e) {
+            throw new SerializationException("Evento JSON inválido em " + topic, e);
+        }
+    }
+    
+    private static String texto(Headers headers, String nome) {
+        Header header = headers.lastHeader(nome);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
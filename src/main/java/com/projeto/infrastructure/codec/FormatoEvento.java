@@ -0,0 +1,26 @@
+package com.projeto.infrastructure.codec;
+
+/**
+ * Formato do corpo das mensagens de evento, anunciado no cabeçalho content-type
+ * Mensagens sem o cabeçalho (anteriores ao formato binário) são JSON
+ */
+public enum FormatoEvento {
+    JSON("application/json"),
+    BINARIO("application/vnd.projeto.evento+binario");
+    
+    public static final String HEADER_CONTENT_TYPE = "content-type";
+    
+    private final String contentType;
+    
+    FormatoEvento(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String contentType() {
+        return contentType;
+    }
+    
+    public static FormatoEvento doContentType(String contentType) {
+        return BINARIO.contentType.equals(contentType) ? BINARIO : JSON;
+    }
+}
@@ -0,0 +1,98 @@
+package com.projeto.infrastructure.codec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registro local de esquemas de eventos, guardado em arquivo
+ * 
+ * Faz o papel de um schema registry: atribui IDs sequenciais às formas canônicas e recusa versões
+ * incompatíveis com as já registradas do mesmo evento. Cada linha do arquivo é "id=canônico", só
+ * acrescentada; o arquivo pode ir para o controle de versão e ser compartilhado com os consumidores.
+ * A sincronização é por processo: réplicas não devem gravar no mesmo arquivo.
+ */
+public class RegistroEsquemasArquivo {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RegistroEsquemasArquivo.class);
+    
+    private final Path arquivo;
+    private final Map<Integer, EsquemaEvento> porId = new HashMap<>();
+    private final Map<String, Integer> porCanonico = new HashMap<>();
+    
+    public RegistroEsquemasArquivo(Path arquivo) {
+        this.arquivo = arquivo;
+        carregar();
+    }
+    
+    /**
+     * Registra o esquema, ou devolve o ID já atribuído à mesma forma canônica
+     * @throws IllegalStateException se o esquema é incompatível com uma versão registrada do evento
+     */
+    public synchronized int registrar(EsquemaEvento esquema) {
+        String canonico = esquema.canonico();
+        Integer existente = porCanonico.get(canonico);
+        if (existente != null) {
+            return existente;
+        }
+        
+        porId.values().stream()
+            .filter(anterior -> anterior.tipo().equals(esquema.tipo()) && !esquema.compativelCom(anterior))
+            .findFirst()
+            .ifPresent(anterior -> {
+                throw new IllegalStateException("Esquema incompatível com a versão registrada: "
+                    + canonico + " x " + anterior.canonico());
+            });
+        
+        int id = porId.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            Files.writeString(arquivo, id + "=" + canonico + System.lineSeparator(), StandardCharsets.UTF_8,
+                              StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o registro de esquemas " + arquivo, e);
+        }
+        adicionar(id, esquema);
+        logger.info("Esquema de evento registrado: {} -> {}", id, canonico);
+        return id;
+    }
+    
+    public synchronized Optional<EsquemaEvento> buscar(int id) {
+        return Optional.ofNullable(porId.get(id));
+    }
+    
+    private void carregar() {
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        try {
+            for (String linha : Files.readAllLines(arquivo, StandardCharsets.UTF_8)) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                int separador = linha.indexOf('=');
+                adicionar(Integer.parseInt(linha.substring(0, separador).trim()),
+                          EsquemaEvento.interpretar(linha.substring(separador + 1).trim()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o registro de esquemas " + arquivo, e);
+        }
+        logger.info("Registro de esquemas carregado de {}: {} esquema(s)", arquivo, porId.size());
+    }
+    
+    private void adicionar(int id, EsquemaEvento esquema) {
+        porId.put(id, esquema);
+        porCanonico.put(esquema.canonico(), id);
+    }
+}
@@ -0,0 +1,79 @@
+package com.projeto.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffer de escrita do formato binário, reaproveitável entre eventos de um mesmo lote
+ * Não é thread-safe: cada envio usa o seu
+ */
+public final class SaidaBinaria {
+    
+    private byte[] bytes;
+    private int posicao;
+    
+    public SaidaBinaria() {
+        this(128);
+    }
+    
+    public SaidaBinaria(int capacidadeInicial) {
+        this.bytes = new byte[Math.max(capacidadeInicial, 16)];
+    }
+    
+    /**
+     * Descarta o conteúdo mantendo a capacidade já alocada
+     */
+    public void reiniciar() {
+        posicao = 0;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, posicao);
+    }
+    
+    int posicao() {
+        return posicao;
+    }
+    
+    /**
+     * Reserva bytes zerados para preenchimento posterior (mapa de nulos)
+     */
+    int reservar(int quantidade) {
+        garantir(quantidade);
+        int inicio = posicao;
+        Arrays.fill(bytes, inicio, inicio + quantidade, (byte) 0);
+        posicao += quantidade;
+        return inicio;
+    }
+    
+    void marcarBit(int inicio, int bit) {
+        bytes[inicio + (bit >>> 3)] |= (byte) (1 << (bit & 7));
+    }
+    
+    void escreverVarint(long valor) {
+        garantir(10);
+        while ((valor & ~0x7FL) != 0) {
+            bytes[posicao++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        bytes[posicao++] = (byte) valor;
+    }
+    
+    void escreverZigZag(long valor) {
+        escreverVarint((valor << 1) ^ (valor >> 63));
+    }
+    
+    void escreverTexto(String valor) {
+        byte[] utf8 = valor.getBytes(StandardCharsets.UTF_8);
+        escreverVarint(utf8.length);
+        garantir(utf8.length);
+        System.arraycopy(utf8, 0, bytes, posicao, utf8.length);
+        posicao += utf8.length;
+    }
+    
+    private void garantir(int adicionais) {
+        if (posicao + adicionais > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, posicao + adicionais));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.projeto.infrastructure.codec;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Tipos de campo suportados pelo formato binário dos eventos
+ * 
+ * Inteiros vão em varint zigzag; datas em dias desde a época; data/hora em segundos desde a época
+ * (sem fuso, como o LocalDateTime) mais os nanossegundos; textos com o tamanho em varint e UTF-8.
+ */
+public enum TipoCampo {
+    LONGO,
+    INTEIRO,
+    TEXTO,
+    DATA,
+    DATA_HORA;
+    
+    /**
+     * Tipo do campo para o tipo de um componente de record
+     * @throws IllegalArgumentException se o tipo não tem representação binária
+     */
+    public static TipoCampo de(Class<?> tipo) {
+        if (tipo == Long.class || tipo == long.class) {
+            return LONGO;
+        }
+        if (tipo == Integer.class || tipo == int.class) {
+            return INTEIRO;
+        }
+        if (tipo == String.class) {
+            return TEXTO;
+        }
+        if (tipo == LocalDate.class) {
+            return DATA;
+        }
+        if (tipo == LocalDateTime.class) {
+            return DATA_HORA;
+        }
+        throw new IllegalArgumentException("Tipo sem representação binária: " + tipo.getName());
+    }
+    
+    void escrever(SaidaBinaria saida, Object valor) {
+        switch (this) {
+            case LONGO -> saida.escreverZigZag((Long) valor);
+            case INTEIRO -> saida.escreverZigZag((Integer) valor);
+            case TEXTO -> saida.escreverTexto((String) valor);
+            case DATA -> saida.escreverZigZag(((LocalDate) valor).toEpochDay());
+            case DATA_HORA -> {
+                LocalDateTime dataHora = (LocalDateTime) valor;
+                saida.escreverZigZag(dataHora.toEpochSecond(ZoneOffset.UTC));
+                saida.escreverVarint(dataHora.getNano());
+            }
+        }
+    }
+    
+    Object ler(EntradaBinaria entrada) {
+        return switch (this) {
+            case LONGO -> entrada.lerZigZag();
+            case INTEIRO -> Math.toIntExact(entrada.lerZigZag());
+            case TEXTO -> entrada.lerTexto();
+            case DATA -> LocalDate.ofEpochDay(entrada.lerZigZag());
+            case DATA_HORA -> LocalDateTime.ofEpochSecond(entrada.lerZigZag(), Math.toIntExact(entrada.lerVarint()),
+                                                          ZoneOffset.UTC);
+        };
+    }
+}
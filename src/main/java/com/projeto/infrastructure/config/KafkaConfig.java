@@ -1,10 +1,16 @@
 package com.projeto.infrastructure.config;
 
+import com.projeto.infrastructure.codec.CodecBinarioEventos;
+import com.projeto.infrastructure.codec.RegistroEsquemasArquivo;
+
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,12 +19,15 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Configuração do Apache Kafka
  * Segue o princípio de Separação de Responsabilidades
+ * 
+ * O produtor envia bytes: o KafkaEventPublisher escolhe entre JSON e o formato binário por mensagem.
  */
 @Configuration
 @EnableKafka
@@ -30,7 +39,7 @@ public class KafkaConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
         
         // Configurações de confiabilidade
         props.put(ProducerConfig.ACKS_CONFIG, "all"); // Aguarda confirmação de todos os brokers
@@ -62,15 +71,26 @@ public class KafkaConfig {
     }
     
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, byte[]> producerFactory() {
         return new DefaultKafkaProducerFactory<>(producerConfigs());
     }
     
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, byte[]> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
     
+    /**
+     * Formato binário dos eventos de domínio (eventos.formato=binario); sem ele, tudo segue em JSON
+     * Habilitar só depois que os consumidores usarem o EventoDeserializer com o mesmo registro de esquemas
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "eventos", name = "formato", havingValue = "binario")
+    public CodecBinarioEventos codecBinarioEventos(
+            @Value("${eventos.esquemas.arquivo:esquemas-eventos.registro}") String arquivoEsquemas) {
+        return CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(Path.of(arquivoEsquemas)));
+    }
+    
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
@@ -0,0 +1,45 @@
+package com.projeto.infrastructure.config;
+
+import com.projeto.infrastructure.events.kafka.KafkaEventPublisher;
+import com.projeto.infrastructure.outbox.OutboxEventPublisher;
+import com.projeto.infrastructure.outbox.OutboxProperties;
+import com.projeto.infrastructure.outbox.OutboxRelay;
+import com.projeto.infrastructure.outbox.OutboxStore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuração do outbox de eventos de domínio
+ * Com o outbox habilitado (padrão) os casos de uso publicam no outbox, e só o relay usa o Kafka
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventos.outbox", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+    
+    @Bean
+    public OutboxStore outboxStore(NamedParameterJdbcTemplate jdbc) {
+        return new OutboxStore(jdbc);
+    }
+    
+    @Bean
+    public OutboxRelay outboxRelay(OutboxStore outboxStore, KafkaEventPublisher kafkaEventPublisher,
+                                   PlatformTransactionManager transactionManager, OutboxProperties properties) {
+        return new OutboxRelay(outboxStore, kafkaEventPublisher, new TransactionTemplate(transactionManager), properties);
+    }
+    
+    @Bean
+    @Primary
+    public OutboxEventPublisher outboxEventPublisher(OutboxStore outboxStore, OutboxRelay outboxRelay,
+                                                     ObjectMapper objectMapper) {
+        return new OutboxEventPublisher(outboxStore, outboxRelay, objectMapper);
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.infrastructure.events;
+
+import com.projeto.domain.tarefa.events.TarefaEvent.PercentualAtualizado;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Política de coalescência dos eventos publicados por um caso de uso
+ * Reduz os eventos do lote antes da publicação, preservando a ordem dos que restam
+ */
+@FunctionalInterface
+public interface CoalescenciaEventos {
+    
+    /**
+     * Publica todos os eventos, sem alteração
+     */
+    CoalescenciaEventos NENHUMA = List::copyOf;
+    
+    /**
+     * Funde PercentualAtualizado consecutivos da mesma tarefa em um só, do primeiro
+     * percentual anterior ao último novo percentual
+     */
+    CoalescenciaEventos PERCENTUAL_POR_TAREFA = CoalescenciaEventos::percentualPorTarefa;
+    
+    /**
+     * @param eventos eventos do caso de uso, na ordem em que ocorreram
+     * @return eventos a publicar, na mesma ordem
+     */
+    List<Object> aplicar(Collection<?> eventos);
+    
+    private static List<Object> percentualPorTarefa(Collection<?> eventos) {
+        List<Object> resultado = new ArrayList<>(eventos.size());
+        for (Object evento : eventos) {
+            int ultimo = resultado.size() - 1;
+            if (evento instanceof PercentualAtualizado atual && ultimo >= 0
+                && resultado.get(ultimo) instanceof PercentualAtualizado anterior
+                && Objects.equals(anterior.tarefaId(), atual.tarefaId())) {
+                resultado.set(ultimo, new PercentualAtualizado(atual.tarefaId(), atual.titulo(),
+                    anterior.percentualAnterior(), atual.novoPercentual(), atual.ocorridoEm()));
+            } else {
+                resultado.add(evento);
+            }
+        }
+        return resultado;
+    }
+}
@@ -1,5 +1,8 @@
 package com.projeto.infrastructure.events;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface para publicação de eventos de domínio
  * Segue o Dependency Inversion Principle (DIP)
@@ -19,4 +22,25 @@ public interface EventPublisher {
      * @param event o evento a ser publicado
      */
     void publish(String topic, Object event);
+    
+    /**
+     * Publica de uma vez os eventos de um caso de uso, na ordem informada
+     * A implementação padrão publica um a um; as implementações enviam o lote inteiro
+     * @param events os eventos a serem publicados
+     * @return futuro único, concluído quando todos os eventos foram aceitos
+     */
+    default CompletableFuture<Void> publishAll(Collection<?> events) {
+        events.forEach(this::publish);
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    /**
+     * Publica de uma vez os eventos de um caso de uso após aplicar a política de coalescência
+     * @param events os eventos a serem publicados
+     * @param coalescencia política que reduz eventos redundantes do lote
+     * @return futuro único, concluído quando todos os eventos foram aceitos
+     */
+    default CompletableFuture<Void> publishAll(Collection<?> events, CoalescenciaEventos coalescencia) {
+        return publishAll(coalescencia.aplicar(events));
+    }
 }
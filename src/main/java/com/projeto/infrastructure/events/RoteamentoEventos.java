@@ -0,0 +1,40 @@
+package com.projeto.infrastructure.events;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+
+/**
+ * Tópico e chave de particionamento dos eventos de domínio
+ * Compartilhado pela publicação direta e pelo outbox
+ */
+public interface RoteamentoEventos {
+    
+    String PROJETO_EVENTS_TOPIC = "projeto-events";
+    String TAREFA_EVENTS_TOPIC = "tarefa-events";
+    
+    /**
+     * Determina o tópico baseado no tipo do evento
+     * Aplica o princípio Open/Closed (OCP)
+     */
+    static String topico(Object event) {
+        return switch (event) {
+            case ProjetoEvent projetoEvent -> PROJETO_EVENTS_TOPIC;
+            case TarefaEvent tarefaEvent -> TAREFA_EVENTS_TOPIC;
+            default -> throw new IllegalArgumentException(
+                "Tipo de evento não suportado: " + event.getClass().getName()
+            );
+        };
+    }
+    
+    /**
+     * Gera chave para particionamento no Kafka
+     * Garante que eventos da mesma entidade sejam processados em ordem
+     */
+    static String chave(Object event) {
+        return switch (event) {
+            case ProjetoEvent projetoEvent -> "projeto-" + projetoEvent.projetoId();
+            case TarefaEvent tarefaEvent -> "tarefa-" + tarefaEvent.tarefaId();
+            default -> "unknown";
+        };
+    }
+}
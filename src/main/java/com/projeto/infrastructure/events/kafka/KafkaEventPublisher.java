@@ -1,109 +1,223 @@
 package com.projeto.infrastructure.events.kafka;
 
+import com.projeto.infrastructure.codec.CodecBinarioEventos;
+import com.projeto.infrastructure.codec.EventoCodificado;
+import com.projeto.infrastructure.codec.FormatoEvento;
+import com.projeto.infrastructure.codec.SaidaBinaria;
 import com.projeto.infrastructure.events.EventPublisher;
-import com.projeto.domain.projeto.events.ProjetoEvent;
-import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.infrastructure.events.RoteamentoEventos;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementação do EventPublisher usando Apache Kafka
  * Segue o princípio de Substituição de Liskov (LSP)
+ * 
+ * Cada envio é contado (eventos.kafka.publicados, por resultado); no log entram só amostras:
+ * um resumo a cada AMOSTRA_LOG eventos publicados e a primeira de cada AMOSTRA_LOG_FALHAS falhas.
+ * 
+ * Com o codec binário configurado (eventos.formato=binario) os eventos de domínio seguem no formato
+ * binário, com o ID do esquema no cabeçalho; os demais, e tudo sem o codec, seguem em JSON. O
+ * cabeçalho content-type informa o formato de cada mensagem aos consumidores (ver EventoDeserializer).
  */
 @Component
-public class KafkaEventPublisher implements EventPublisher {
+public class KafkaEventPublisher implements EventPublisher, MeterBinder {
     
     private static final Logger logger = LoggerFactory.getLogger(KafkaEventPublisher.class);
     
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    /**
+     * Cabeçalhos dos eventos: o ID só nos enviados pelo outbox, o tipo em todos
+     */
+    public static final String HEADER_EVENT_ID = "evento-id";
+    public static final String HEADER_EVENT_TYPE = "evento-tipo";
+    
+    static final long AMOSTRA_LOG = 1000;
+    static final long AMOSTRA_LOG_FALHAS = 100;
+    
+    private static final int TAMANHO_INICIAL_BUFFER = 512;
+    
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final CodecBinarioEventos codec;
     
-    // Tópicos Kafka
-    private static final String PROJETO_EVENTS_TOPIC = "projeto-events";
-    private static final String TAREFA_EVENTS_TOPIC = "tarefa-events";
+    private final AtomicLong publicados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
     
-    public KafkaEventPublisher(KafkaTemplate<String, String> kafkaTemplate,
-                              ObjectMapper objectMapper) {
+    public KafkaEventPublisher(KafkaTemplate<String, byte[]> kafkaTemplate,
+                              ObjectMapper objectMapper,
+                              ObjectProvider<CodecBinarioEventos> codec) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer();
+        this.codec = codec.getIfAvailable();
     }
     
     @Override
     public void publish(Object event) {
-        try {
-            String topic = determinarTopico(event);
-            String eventJson = objectMapper.writeValueAsString(event);
-            String key = gerarChave(event);
-            
-            kafkaTemplate.send(topic, key, eventJson)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        logger.info("Evento publicado com sucesso: {} para tópico: {}", 
-                                  event.getClass().getSimpleName(), topic);
-                    } else {
-                        logger.error("Erro ao publicar evento: {} para tópico: {}", 
-                                   event.getClass().getSimpleName(), topic, ex);
-                    }
-                });
-                
-        } catch (JsonProcessingException e) {
-            logger.error("Erro ao serializar evento: {}", event.getClass().getSimpleName(), e);
-            throw new RuntimeException("Falha na serialização do evento", e);
-        }
+        publish(RoteamentoEventos.topico(event), event);
     }
     
     @Override
     public void publish(String topic, Object event) {
-        try {
-            String eventJson = objectMapper.writeValueAsString(event);
-            String key = gerarChave(event);
-            
-            kafkaTemplate.send(topic, key, eventJson)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        logger.info("Evento publicado com sucesso: {} para tópico: {}", 
-                                  event.getClass().getSimpleName(), topic);
-                    } else {
-                        logger.error("Erro ao publicar evento: {} para tópico: {}", 
-                                   event.getClass().getSimpleName(), topic, ex);
-                    }
-                });
-                
-        } catch (JsonProcessingException e) {
-            logger.error("Erro ao serializar evento: {}", event.getClass().getSimpleName(), e);
-            throw new RuntimeException("Falha na serialização do evento", e);
-        }
+        enviar(criarRegistro(topic, event, new ByteArrayOutputStream(TAMANHO_INICIAL_BUFFER), new SaidaBinaria()),
+               event.getClass().getSimpleName());
     }
     
     /**
-     * Determina o tópico baseado no tipo do evento
-     * Aplica o princípio Open/Closed (OCP)
+     * Serializa o lote inteiro em buffers reaproveitados e só então envia os registros
+     * em sequência, para que o producer os agrupe nos mesmos lotes por partição. Uma falha de
+     * serialização não deixa o lote enviado pela metade.
      */
-    private String determinarTopico(Object event) {
-        return switch (event) {
-            case ProjetoEvent projetoEvent -> PROJETO_EVENTS_TOPIC;
-            case TarefaEvent tarefaEvent -> TAREFA_EVENTS_TOPIC;
-            default -> throw new IllegalArgumentException(
-                "Tipo de evento não suportado: " + event.getClass().getName()
-            );
-        };
+    @Override
+    public CompletableFuture<Void> publishAll(Collection<?> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        List<ProducerRecord<String, byte[]>> records = new ArrayList<>(events.size());
+        List<String> tipos = new ArrayList<>(events.size());
+        ByteArrayOutputStream json = new ByteArrayOutputStream(TAMANHO_INICIAL_BUFFER);
+        SaidaBinaria binario = new SaidaBinaria();
+        for (Object event : events) {
+            records.add(criarRegistro(RoteamentoEventos.topico(event), event, json, binario));
+            tipos.add(event.getClass().getSimpleName());
+        }
+        
+        CompletableFuture<?>[] envios = new CompletableFuture<?>[records.size()];
+        for (int i = 0; i < envios.length; i++) {
+            envios[i] = enviar(records.get(i), tipos.get(i));
+        }
+        return CompletableFuture.allOf(envios);
     }
     
     /**
-     * Gera chave para particionamento no Kafka
-     * Garante que eventos da mesma entidade sejam processados em ordem
+     * Envia um evento já serializado em JSON, como os lidos do outbox
+     * Com o codec binário o evento é convertido para o formato binário antes do envio.
+     * O ID do evento segue no cabeçalho para que consumidores descartem reenvios
+     * @return futuro concluído com a confirmação do broker
      */
-    private String gerarChave(Object event) {
-        return switch (event) {
-            case ProjetoEvent projetoEvent -> "projeto-" + projetoEvent.projetoId();
-            case TarefaEvent tarefaEvent -> "tarefa-" + tarefaEvent.tarefaId();
-            default -> "unknown";
-        };
+    public CompletableFuture<SendResult<String, byte[]>> publishSerialized(String topic, String key, String eventJson,
+                                                                           String eventType, long eventId) {
+        ProducerRecord<String, byte[]> record = converterParaBinario(topic, key, eventJson, eventType)
+            .orElseGet(() -> registroJson(topic, key, eventJson.getBytes(StandardCharsets.UTF_8)));
+        record.headers()
+            .add(HEADER_EVENT_ID, Long.toString(eventId).getBytes(StandardCharsets.UTF_8))
+            .add(HEADER_EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        return enviar(record, eventType);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("eventos.kafka.publicados", publicados, AtomicLong::get)
+            .description("Eventos confirmados pelo Kafka")
+            .tag("resultado", "sucesso")
+            .register(registry);
+        FunctionCounter.builder("eventos.kafka.publicados", falhas, AtomicLong::get)
+            .description("Eventos recusados pelo Kafka ou sem confirmação")
+            .tag("resultado", "falha")
+            .register(registry);
+    }
+    
+    // Métodos privados de apoio
+    
+    private ProducerRecord<String, byte[]> criarRegistro(String topic, Object event, ByteArrayOutputStream json,
+                                                         SaidaBinaria binario) {
+        String key = RoteamentoEventos.chave(event);
+        ProducerRecord<String, byte[]> record = codec != null && codec.suporta(event)
+            ? registroBinario(topic, key, codec.codificar(event, binario))
+            : registroJson(topic, key, serializar(event, json));
+        record.headers().add(HEADER_EVENT_TYPE, event.getClass().getSimpleName().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+    
+    private Optional<ProducerRecord<String, byte[]>> converterParaBinario(String topic, String key, String eventJson,
+                                                                        String eventType) {
+        if (codec == null) {
+            return Optional.empty();
+        }
+        return codec.classe(eventType).flatMap(classe -> {
+            try {
+                Object event = objectMapper.readValue(eventJson, classe);
+                return Optional.of(registroBinario(topic, key, codec.codificar(event, new SaidaBinaria())));
+            } catch (IOException e) {
+                logger.warn("Evento {} do outbox não convertido para o formato binário; enviado em JSON", eventType, e);
+                return Optional.empty();
+            }
+        });
+    }
+    
+    private static ProducerRecord<String, byte[]> registroBinario(String topic, String key, EventoCodificado codificado) {
+        var record = new ProducerRecord<>(topic, key, codificado.dados());
+        record.headers()
+            .add(FormatoEvento.HEADER_CONTENT_TYPE, FormatoEvento.BINARIO.contentType().getBytes(StandardCharsets.UTF_8))
+            .add(CodecBinarioEventos.HEADER_ESQUEMA_ID,
+                 Integer.toString(codificado.esquemaId()).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+    
+    private static ProducerRecord<String, byte[]> registroJson(String topic, String key, byte[] eventJson) {
+        var record = new ProducerRecord<>(topic, key, eventJson);
+        record.headers()
+            .add(FormatoEvento.HEADER_CONTENT_TYPE, FormatoEvento.JSON.contentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+    
+    private byte[] serializar(Object event, ByteArrayOutputStream buffer) {
+        buffer.reset();
+        try {
+            objectWriter.writeValue(buffer, event);
+        } catch (IOException e) {
+            logger.error("Erro ao serializar evento: {}", event.getClass().getSimpleName(), e);
+            throw new RuntimeException("Falha na serialização do evento", e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private CompletableFuture<SendResult<String, byte[]>> enviar(ProducerRecord<String, byte[]> record, String tipo) {
+        return kafkaTemplate.send(record)
+            .whenComplete((result, ex) -> registrarEnvio(tipo, record.topic(), ex));
+    }
+    
+    private void registrarEnvio(String tipo, String topico, Throwable ex) {
+        if (ex == null) {
+            long total = publicados.incrementAndGet();
+            if (total % AMOSTRA_LOG == 0) {
+                logger.info("{} eventos publicados no Kafka ({} falhas); último: {} para tópico: {}",
+                            total, falhas.get(), tipo, topico);
+            } else {
+                logger.debug("Evento publicado com sucesso: {} para tópico: {}", tipo, topico);
+            }
+            return;
+        }
+        long total = falhas.incrementAndGet();
+        if (total % AMOSTRA_LOG_FALHAS == 1) {
+            logger.error("Erro ao publicar evento: {} para tópico: {} ({} falhas desde a inicialização)",
+                         tipo, topico, total, ex);
+        } else {
+            logger.debug("Erro ao publicar evento: {} para tópico: {}", tipo, topico, ex);
+        }
     }
 }
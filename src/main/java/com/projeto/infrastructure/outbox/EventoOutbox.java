@@ -0,0 +1,16 @@
+package com.projeto.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pendente no outbox, já serializado
+ */
+public record EventoOutbox(
+    long id,
+    String topico,
+    String chave,
+    String tipo,
+    String payload,
+    LocalDateTime criadoEm
+) {
+}
@@ -0,0 +1,95 @@
+package com.projeto.infrastructure.outbox;
+
+import com.projeto.infrastructure.events.EventPublisher;
+import com.projeto.infrastructure.events.RoteamentoEventos;
+import com.projeto.infrastructure.outbox.OutboxStore.NovoEvento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementação do EventPublisher que grava os eventos no outbox
+ * 
+ * A gravação acontece na transação do caso de uso: o evento só existe se o agregado foi
+ * persistido, e a transação não espera pelo Kafka. O envio fica com o OutboxRelay, acordado
+ * após o commit.
+ */
+public class OutboxEventPublisher implements EventPublisher {
+    
+    private static final int TAMANHO_INICIAL_BUFFER = 512;
+    
+    private final OutboxStore store;
+    private final OutboxRelay relay;
+    private final ObjectWriter objectWriter;
+    
+    public OutboxEventPublisher(OutboxStore store, OutboxRelay relay, ObjectMapper objectMapper) {
+        this.store = store;
+        this.relay = relay;
+        this.objectWriter = objectMapper.writer();
+    }
+    
+    @Override
+    public void publish(Object event) {
+        publish(RoteamentoEventos.topico(event), event);
+    }
+    
+    @Override
+    public void publish(String topic, Object event) {
+        store.inserir(topic, RoteamentoEventos.chave(event), event.getClass().getSimpleName(),
+                      serializar(event, new StringWriter(TAMANHO_INICIAL_BUFFER)));
+        acordarRelay();
+    }
+    
+    /**
+     * Serializa o lote em um único buffer reaproveitado e grava tudo em um batch JDBC
+     * O futuro já vem concluído: o envio ao Kafka acontece depois do commit, pelo relay
+     */
+    @Override
+    public CompletableFuture<Void> publishAll(Collection<?> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        List<NovoEvento> novos = new ArrayList<>(events.size());
+        StringWriter buffer = new StringWriter(TAMANHO_INICIAL_BUFFER);
+        for (Object event : events) {
+            novos.add(new NovoEvento(RoteamentoEventos.topico(event), RoteamentoEventos.chave(event),
+                                     event.getClass().getSimpleName(), serializar(event, buffer)));
+        }
+        store.inserirTodos(novos);
+        acordarRelay();
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    private String serializar(Object event, StringWriter buffer) {
+        buffer.getBuffer().setLength(0);
+        try {
+            objectWriter.writeValue(buffer, event);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha na serialização do evento", e);
+        }
+        return buffer.toString();
+    }
+    
+    private void acordarRelay() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.sinalizar();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.sinalizar();
+            }
+        });
+    }
+}
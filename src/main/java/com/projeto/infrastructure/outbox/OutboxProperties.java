@@ -0,0 +1,25 @@
+package com.projeto.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do outbox de eventos de domínio (prefixo eventos.outbox)
+ * 
+ * @param habilitado grava os eventos no outbox em vez de publicá-los direto no Kafka
+ * @param tamanhoLote eventos lidos e enviados por ciclo do relay
+ * @param intervaloMs espera entre consultas quando não há eventos pendentes (commits acordam o relay antes)
+ * @param esperaEnvioMs prazo para as confirmações do Kafka de um lote; o que não confirmar é reenviado
+ * @param retencaoDias por quanto tempo os eventos enviados são mantidos antes da limpeza
+ * @param tamanhoLoteLimpeza eventos enviados removidos por comando DELETE
+ */
+@ConfigurationProperties(prefix = "eventos.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean habilitado,
+    @DefaultValue("500") int tamanhoLote,
+    @DefaultValue("500") long intervaloMs,
+    @DefaultValue("30000") long esperaEnvioMs,
+    @DefaultValue("7") int retencaoDias,
+    @DefaultValue("1000") int tamanhoLoteLimpeza
+) {
+}
@@ -0,0 +1,246 @@
+package com.projeto.infrastructure.outbox;
+
+import com.projeto.infrastructure.events.kafka.KafkaEventPublisher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay do outbox: envia ao Kafka os eventos gravados pelos casos de uso
+ * 
+ * Uma thread lê lotes de pendentes em ordem de ID, envia todos pelo KafkaEventPublisher e marca
+ * os confirmados com um único UPDATE. Lotes cheios são seguidos de imediato; sem pendentes, a
+ * thread espera o intervalo ou o sinal de um commit com eventos novos.
+ * 
+ * A ordem por chave (agregado) é preservada: se um evento falha, os seguintes da mesma chave
+ * no lote não são marcados e voltam no próximo ciclo depois dele. A entrega é pelo menos uma
+ * vez; o cabeçalho evento-id permite aos consumidores descartar reenvios.
+ */
+public class OutboxRelay implements SmartLifecycle, MeterBinder {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    static final int FASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+    
+    private final OutboxStore store;
+    private final KafkaEventPublisher kafkaEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    
+    /**
+     * Sinal de eventos novos; capacidade 1 porque vários commits seguidos pedem um único ciclo
+     */
+    private final BlockingQueue<Boolean> sinal = new ArrayBlockingQueue<>(1);
+    
+    private final AtomicLong enviados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong removidos = new AtomicLong();
+    
+    private volatile LocalDateTime pendenteMaisAntigo;
+    private volatile boolean executando;
+    private Thread relay;
+    
+    public OutboxRelay(OutboxStore store, KafkaEventPublisher kafkaEventPublisher,
+                       TransactionTemplate transactionTemplate, OutboxProperties properties) {
+        this.store = store;
+        this.kafkaEventPublisher = kafkaEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+    
+    /**
+     * Acorda o relay (chamado após o commit de eventos novos)
+     */
+    public void sinalizar() {
+        sinal.offer(Boolean.TRUE);
+    }
+    
+    /**
+     * Executa um ciclo: lê, envia e marca um lote
+     * @return eventos confirmados pelo Kafka
+     */
+    public int retransmitir() {
+        Integer confirmados = transactionTemplate.execute(status -> {
+            List<EventoOutbox> pendentes = store.bloquearPendentes(properties.tamanhoLote());
+            if (pendentes.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = enviar(pendentes);
+            store.marcarEnviados(ids, LocalDateTime.now());
+            return ids.size();
+        });
+        pendenteMaisAntigo = store.criacaoPendenteMaisAntigo().orElse(null);
+        return confirmados == null ? 0 : confirmados;
+    }
+    
+    /**
+     * Remove os eventos enviados há mais que a retenção
+     */
+    @Scheduled(cron = "${eventos.outbox.limpeza.cron:0 15 * * * *}")
+    public void limpar() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(properties.retencaoDias());
+        int quantidade = store.removerEnviadosAntes(limite, properties.tamanhoLoteLimpeza());
+        removidos.addAndGet(quantidade);
+        if (quantidade > 0) {
+            logger.info("Limpeza do outbox: {} eventos enviados antes de {} removidos", quantidade, limite);
+        }
+    }
+    
+    // Ciclo de vida
+    
+    @Override
+    public synchronized void start() {
+        if (executando) {
+            return;
+        }
+        executando = true;
+        relay = new Thread(this::executar, "outbox-relay");
+        relay.start();
+        logger.info("Relay do outbox iniciado - lote: {}, intervalo: {} ms", properties.tamanhoLote(),
+                    properties.intervaloMs());
+    }
+    
+    /**
+     * Termina o ciclo em andamento; pendentes ficam no outbox para a próxima inicialização
+     */
+    @Override
+    public synchronized void stop() {
+        if (!executando) {
+            return;
+        }
+        executando = false;
+        sinalizar();
+        try {
+            relay.join(properties.esperaEnvioMs());
+            if (relay.isAlive()) {
+                logger.warn("Relay do outbox não terminou em {} ms; interrompendo", properties.esperaEnvioMs());
+                relay.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Relay do outbox encerrado: {} eventos enviados", enviados.get());
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+    
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("eventos.outbox.atraso", this, TimeUnit.MILLISECONDS, OutboxRelay::getAtrasoMs)
+            .description("Idade do evento mais antigo ainda não enviado")
+            .register(registry);
+        FunctionCounter.builder("eventos.outbox.enviados", enviados, AtomicLong::get)
+            .description("Eventos do outbox confirmados pelo Kafka")
+            .register(registry);
+        FunctionCounter.builder("eventos.outbox.falhas", falhas, AtomicLong::get)
+            .description("Eventos do outbox não marcados no ciclo (sem confirmação ou atrás de uma falha da mesma chave)")
+            .register(registry);
+        FunctionCounter.builder("eventos.outbox.removidos", removidos, AtomicLong::get)
+            .description("Eventos enviados removidos pela limpeza do outbox")
+            .register(registry);
+    }
+    
+    /**
+     * Zero sem pendentes; cresce enquanto o relay não consegue enviar
+     */
+    public long getAtrasoMs() {
+        LocalDateTime maisAntigo = pendenteMaisAntigo;
+        return maisAntigo == null ? 0 : Math.max(0, Duration.between(maisAntigo, LocalDateTime.now()).toMillis());
+    }
+    
+    // Métodos privados de apoio
+    
+    private void executar() {
+        while (executando) {
+            int confirmados = 0;
+            try {
+                confirmados = retransmitir();
+            } catch (RuntimeException e) {
+                logger.warn("Falha no ciclo do relay do outbox; nova tentativa em {} ms", properties.intervaloMs(), e);
+            }
+            if (confirmados < properties.tamanhoLote()) {
+                aguardar();
+            }
+        }
+    }
+    
+    private void aguardar() {
+        try {
+            sinal.poll(properties.intervaloMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executando = false;
+        }
+    }
+    
+    /**
+     * Envia o lote inteiro antes de esperar as confirmações, para que o produtor agrupe os envios
+     * @return IDs a marcar como enviados
+     */
+    private List<Long> enviar(List<EventoOutbox> pendentes) {
+        List<CompletableFuture<?>> envios = new ArrayList<>(pendentes.size());
+        for (EventoOutbox evento : pendentes) {
+            envios.add(kafkaEventPublisher.publishSerialized(evento.topico(), evento.chave(), evento.payload(),
+                                                             evento.tipo(), evento.id()));
+        }
+        
+        try {
+            CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new))
+                .get(properties.esperaEnvioMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Os envios confirmados são separados abaixo
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        List<Long> confirmados = new ArrayList<>(pendentes.size());
+        Set<String> chavesComFalha = new HashSet<>();
+        for (int i = 0; i < pendentes.size(); i++) {
+            EventoOutbox evento = pendentes.get(i);
+            CompletableFuture<?> envio = envios.get(i);
+            if (envio.isDone() && !envio.isCompletedExceptionally() && !chavesComFalha.contains(evento.chave())) {
+                confirmados.add(evento.id());
+            } else {
+                chavesComFalha.add(evento.chave());
+            }
+        }
+        
+        enviados.addAndGet(confirmados.size());
+        int semConfirmacao = pendentes.size() - confirmados.size();
+        if (semConfirmacao > 0) {
+            falhas.addAndGet(semConfirmacao);
+            logger.warn("Outbox: {} de {} eventos sem confirmação do Kafka ({} chaves); serão reenviados",
+                        semConfirmacao, pendentes.size(), chavesComFalha.size());
+        }
+        return confirmados;
+    }
+}
@@ -0,0 +1,153 @@
+package com.projeto.infrastructure.outbox;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso JDBC à tabela evento_outbox
+ * 
+ * A tabela é criada na inicialização se não existir (o schema das entidades legadas vem do
+ * Hibernate, que não conhece o outbox). Os pendentes são lidos em ordem de ID com FOR UPDATE:
+ * em várias réplicas os relays se revezam sobre o mesmo lote, o que preserva a ordem por chave.
+ */
+public class OutboxStore implements InitializingBean {
+    
+    static final String TABELA = "evento_outbox";
+    
+    private static final String COLUNAS_DDL = "topico VARCHAR(100) NOT NULL, chave VARCHAR(100) NOT NULL, "
+        + "tipo VARCHAR(100) NOT NULL, payload TEXT NOT NULL, ";
+    
+    private static final String INSERIR = "INSERT INTO " + TABELA + " (topico, chave, tipo, payload, criado_em) "
+        + "VALUES (:topico, :chave, :tipo, :payload, :criadoEm)";
+    
+    private static final String PENDENTES = "SELECT id, topico, chave, tipo, payload, criado_em FROM " + TABELA
+        + " WHERE enviado_em IS NULL ORDER BY id LIMIT :limite FOR UPDATE";
+    
+    private static final RowMapper<EventoOutbox> MAPEADOR = (rs, linha) -> new EventoOutbox(
+        rs.getLong("id"),
+        rs.getString("topico"),
+        rs.getString("chave"),
+        rs.getString("tipo"),
+        rs.getString("payload"),
+        rs.getObject("criado_em", LocalDateTime.class)
+    );
+    
+    private final NamedParameterJdbcTemplate jdbc;
+    
+    public OutboxStore(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+    
+    @Override
+    public void afterPropertiesSet() {
+        criarTabela();
+    }
+    
+    /**
+     * Grava um evento; na transação corrente, se houver
+     */
+    public void inserir(String topico, String chave, String tipo, String payload) {
+        jdbc.update(INSERIR, new MapSqlParameterSource()
+            .addValue("topico", topico)
+            .addValue("chave", chave)
+            .addValue("tipo", tipo)
+            .addValue("payload", payload)
+            .addValue("criadoEm", LocalDateTime.now()));
+    }
+    
+    /**
+     * Grava os eventos de um caso de uso em um único lote JDBC; na transação corrente, se houver
+     */
+    public void inserirTodos(List<NovoEvento> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        LocalDateTime criadoEm = LocalDateTime.now();
+        jdbc.batchUpdate(INSERIR, eventos.stream()
+            .map(evento -> new MapSqlParameterSource()
+                .addValue("topico", evento.topico())
+                .addValue("chave", evento.chave())
+                .addValue("tipo", evento.tipo())
+                .addValue("payload", evento.payload())
+                .addValue("criadoEm", criadoEm))
+            .toArray(SqlParameterSource[]::new));
+    }
+    
+    /**
+     * Lê e bloqueia os eventos pendentes mais antigos (exige transação)
+     */
+    public List<EventoOutbox> bloquearPendentes(int limite) {
+        return jdbc.query(PENDENTES, new MapSqlParameterSource("limite", limite), MAPEADOR);
+    }
+    
+    public int marcarEnviados(Collection<Long> ids, LocalDateTime enviadoEm) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbc.update("UPDATE " + TABELA + " SET enviado_em = :enviadoEm WHERE id IN (:ids)",
+                           new MapSqlParameterSource("ids", ids).addValue("enviadoEm", enviadoEm));
+    }
+    
+    /**
+     * Criação do evento pendente mais antigo, base do atraso do relay
+     */
+    public Optional<LocalDateTime> criacaoPendenteMaisAntigo() {
+        return jdbc.queryForList("SELECT criado_em FROM " + TABELA + " WHERE enviado_em IS NULL ORDER BY id LIMIT 1",
+                                 new MapSqlParameterSource(), LocalDateTime.class)
+            .stream()
+            .findFirst();
+    }
+    
+    /**
+     * Remove em lotes os eventos enviados antes do limite
+     * @return eventos removidos
+     */
+    public int removerEnviadosAntes(LocalDateTime limite, int tamanhoLote) {
+        var parametros = new MapSqlParameterSource("limite", limite).addValue("tamanhoLote", tamanhoLote);
+        int removidos = 0;
+        while (true) {
+            List<Long> ids = jdbc.queryForList("SELECT id FROM " + TABELA
+                + " WHERE enviado_em < :limite ORDER BY id LIMIT :tamanhoLote", parametros, Long.class);
+            if (ids.isEmpty()) {
+                return removidos;
+            }
+            removidos += jdbc.update("DELETE FROM " + TABELA + " WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+            if (ids.size() < tamanhoLote) {
+                return removidos;
+            }
+        }
+    }
+    
+    /**
+     * Evento serializado ainda sem ID
+     */
+    public record NovoEvento(String topico, String chave, String tipo, String payload) {
+    }
+    
+    private void criarTabela() {
+        String banco = jdbc.getJdbcTemplate().execute(
+            (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        
+        if ("MySQL".equalsIgnoreCase(banco)) {
+            jdbc.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS " + TABELA
+                + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + COLUNAS_DDL
+                + "criado_em DATETIME(6) NOT NULL, enviado_em DATETIME(6) NULL, "
+                + "INDEX idx_evento_outbox_pendentes (enviado_em, id))");
+            return;
+        }
+        jdbc.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS " + TABELA
+            + " (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + COLUNAS_DDL
+            + "criado_em TIMESTAMP NOT NULL, enviado_em TIMESTAMP)");
+        jdbc.getJdbcTemplate().execute("CREATE INDEX IF NOT EXISTS idx_evento_outbox_pendentes ON " + TABELA
+            + " (enviado_em, id)");
+    }
+}
@@ -0,0 +1,230 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import com.projeto.domain.projeto.Projeto;
+import com.projeto.domain.projeto.ProjetoRepository;
+import com.projeto.domain.projeto.valueobjects.StatusProjeto;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementação JDBC do repositório de projetos
+ * Mapeia o agregado diretamente para a tabela projeto, sem entidades gerenciadas nem proxies
+ * 
+ * A tabela é lida também pelo modelo legado, que mantém projetos no cache de segundo nível
+ * do Hibernate: toda gravação remove do cache os projetos alterados e as consultas em cache,
+ * na hora e de novo ao fim da transação (uma leitura concorrente pode ter recarregado o estado antigo).
+ */
+@Repository
+public class JdbcProjetoRepository implements ProjetoRepository {
+    
+    /**
+     * Entidade e região de consultas do modelo legado em cache (Projeto e ProjetoRepository.REGIAO_CONSULTAS)
+     */
+    static final String ENTIDADE_CACHE = "com.projeto.management.model.entity.Projeto";
+    static final String REGIAO_CONSULTAS_CACHE = "projeto-consultas";
+    
+    private static final String ATIVOS = "projeto WHERE ativo = true";
+    
+    /**
+     * A prioridade (só do modelo legado) recebe o mesmo padrão da entidade legada
+     */
+    private static final String INSERIR = "INSERT INTO projeto (nome, descricao, status, data_inicio, "
+        + "data_fim_prevista, responsavel, data_criacao, usuario_criacao, data_atualizacao, usuario_atualizacao, "
+        + "prioridade, ativo) VALUES (:nome, :descricao, :status, :dataInicio, :dataFimPrevista, :responsavel, "
+        + ":dataCriacao, :usuarioCriacao, :dataAtualizacao, :usuarioAtualizacao, 'MEDIA', true)";
+    
+    private static final String ATUALIZAR = "UPDATE projeto SET nome = :nome, descricao = :descricao, "
+        + "status = :status, data_inicio = :dataInicio, data_fim_prevista = :dataFimPrevista, "
+        + "responsavel = :responsavel, data_atualizacao = :dataAtualizacao, usuario_atualizacao = :usuarioAtualizacao "
+        + "WHERE id = :id AND ativo = true";
+    
+    private static final String NAO_FINALIZADOS = " AND status NOT IN ('CONCLUIDO', 'CANCELADO')";
+    
+    private static final Map<String, String> ORDENAVEIS = Map.of(
+        "id", "id",
+        "nome", "nome",
+        "status", "status",
+        "dataInicio", "data_inicio",
+        "dataFim", "data_fim_prevista",
+        "responsavel", "responsavel"
+    );
+    
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    
+    public JdbcProjetoRepository(NamedParameterJdbcTemplate jdbc,
+                                 ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.jdbc = jdbc;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+    
+    @Override
+    public Projeto save(Projeto projeto) {
+        return saveAll(List.of(projeto)).get(0);
+    }
+    
+    /**
+     * Um lote JDBC para as inserções (IDs pelas chaves geradas) e outro para as atualizações
+     */
+    @Override
+    public List<Projeto> saveAll(Collection<Projeto> projetos) {
+        List<ProjetoLinha> linhas = new ArrayList<>(projetos.size());
+        List<Integer> posicoesNovas = new ArrayList<>();
+        List<SqlParameterSource> insercoes = new ArrayList<>();
+        List<SqlParameterSource> atualizacoes = new ArrayList<>();
+        List<Long> alterados = new ArrayList<>();
+        for (Projeto projeto : projetos) {
+            var linha = ProjetoLinha.de(projeto, projeto.getId());
+            if (projeto.isNova()) {
+                posicoesNovas.add(linhas.size());
+                insercoes.add(linha.parametros());
+            } else {
+                atualizacoes.add(linha.parametros());
+                alterados.add(projeto.getId());
+            }
+            linhas.add(linha);
+        }
+        
+        if (!insercoes.isEmpty()) {
+            var chaves = new GeneratedKeyHolder();
+            jdbc.batchUpdate(INSERIR, insercoes.toArray(SqlParameterSource[]::new), chaves, new String[] {"id"});
+            List<Map<String, Object>> geradas = chaves.getKeyList();
+            for (int i = 0; i < posicoesNovas.size(); i++) {
+                int posicao = posicoesNovas.get(i);
+                Number id = (Number) geradas.get(i).values().iterator().next();
+                linhas.set(posicao, linhas.get(posicao).comId(id.longValue()));
+            }
+        }
+        if (!atualizacoes.isEmpty()) {
+            verificarAtualizados(jdbc.batchUpdate(ATUALIZAR, atualizacoes.toArray(SqlParameterSource[]::new)));
+        }
+        invalidarCache(alterados);
+        return linhas.stream().map(ProjetoLinha::paraDominio).toList();
+    }
+    
+    @Override
+    public Optional<Projeto> findById(Long id) {
+        return jdbc.query("SELECT " + ProjetoLinha.COLUNAS + " FROM " + ATIVOS + " AND id = :id",
+                          new MapSqlParameterSource("id", id), ProjetoLinha.MAPEADOR)
+            .stream()
+            .findFirst();
+    }
+    
+    @Override
+    public Page<Projeto> findAll(Pageable pageable) {
+        return buscar(ATIVOS, new MapSqlParameterSource(), pageable);
+    }
+    
+    @Override
+    public Page<Projeto> findByStatus(StatusProjeto status, Pageable pageable) {
+        return buscar(ATIVOS + " AND status = :status", new MapSqlParameterSource("status", status.valor()), pageable);
+    }
+    
+    @Override
+    public Page<Projeto> findByResponsavel(String responsavel, Pageable pageable) {
+        return buscar(ATIVOS + " AND responsavel = :responsavel",
+                      new MapSqlParameterSource("responsavel", responsavel), pageable);
+    }
+    
+    @Override
+    public List<Projeto> findProjetosAtrasados() {
+        return jdbc.query("SELECT " + ProjetoLinha.COLUNAS + " FROM " + ATIVOS + " AND data_fim_prevista < :hoje"
+                          + NAO_FINALIZADOS + " ORDER BY data_fim_prevista, id",
+                          new MapSqlParameterSource("hoje", LocalDate.now()), ProjetoLinha.MAPEADOR);
+    }
+    
+    @Override
+    public List<Projeto> findProjetosVencendoAte(LocalDate dataLimite) {
+        return jdbc.query("SELECT " + ProjetoLinha.COLUNAS + " FROM " + ATIVOS
+                          + " AND data_fim_prevista BETWEEN :hoje AND :dataLimite"
+                          + NAO_FINALIZADOS + " ORDER BY data_fim_prevista, id",
+                          new MapSqlParameterSource("hoje", LocalDate.now()).addValue("dataLimite", dataLimite),
+                          ProjetoLinha.MAPEADOR);
+    }
+    
+    @Override
+    public long countByStatus(StatusProjeto status) {
+        Long total = jdbc.queryForObject("SELECT COUNT(*) FROM " + ATIVOS + " AND status = :status",
+                                         new MapSqlParameterSource("status", status.valor()), Long.class);
+        return total == null ? 0 : total;
+    }
+    
+    @Override
+    public boolean existsByNome(String nome) {
+        return !jdbc.queryForList("SELECT 1 FROM " + ATIVOS + " AND nome = :nome LIMIT 1",
+                                  new MapSqlParameterSource("nome", nome), Integer.class).isEmpty();
+    }
+    
+    @Override
+    public void delete(Projeto projeto) {
+        if (projeto.isNova()) {
+            return;
+        }
+        jdbc.update("UPDATE projeto SET ativo = false, data_atualizacao = :agora WHERE id = :id",
+                    new MapSqlParameterSource("id", projeto.getId()).addValue("agora", LocalDateTime.now()));
+        invalidarCache(List.of(projeto.getId()));
+    }
+    
+    // Métodos privados de apoio
+    
+    private Page<Projeto> buscar(String origem, MapSqlParameterSource parametros, Pageable pageable) {
+        return PaginacaoSql.buscar(jdbc, ProjetoLinha.COLUNAS, origem, parametros, pageable, ORDENAVEIS,
+                                   ProjetoLinha.MAPEADOR);
+    }
+    
+    /**
+     * Sem JPA no contexto não há cache a invalidar; inserções só afetam as consultas em cache
+     */
+    private void invalidarCache(List<Long> alterados) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+        Cache cache = factory.unwrap(SessionFactory.class).getCache();
+        Runnable invalidar = () -> {
+            alterados.forEach(id -> cache.evictEntityData(ENTIDADE_CACHE, id));
+            cache.evictQueryRegion(REGIAO_CONSULTAS_CACHE);
+        };
+        
+        invalidar.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidar.run();
+                }
+            });
+        }
+    }
+    
+    private static void verificarAtualizados(int[] atualizados) {
+        for (int linhas : atualizados) {
+            // SUCCESS_NO_INFO: o driver executou o comando sem informar a contagem
+            if (linhas != 1 && linhas != Statement.SUCCESS_NO_INFO) {
+                throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(ATUALIZAR, 1, linhas);
+            }
+        }
+    }
+}
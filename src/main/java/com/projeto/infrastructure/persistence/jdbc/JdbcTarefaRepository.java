@@ -0,0 +1,287 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import com.projeto.domain.tarefa.Tarefa;
+import com.projeto.domain.tarefa.TarefaRepository;
+import com.projeto.domain.tarefa.valueobjects.PrioridadeTarefa;
+import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementação JDBC do repositório de tarefas
+ * Mapeia o agregado diretamente para a tabela tarefa, sem entidades gerenciadas nem proxies
+ * 
+ * IDs vêm da sequência tarefa_seq em blocos, como o otimizador pooled do Hibernate: cada valor
+ * lido reserva os ALOCACAO_IDS anteriores a ele, e os dois lados nunca recebem o mesmo bloco.
+ * No MySQL, sem sequências, tarefa_seq é a tabela que o Hibernate usa para emulá-la.
+ * Exclusão é lógica (ativo = false), como no modelo legado.
+ * 
+ * As atualizações conferem a versão lida (a mesma coluna do @Version do modelo legado), então
+ * uma escrita concorrente de qualquer um dos lados resulta em conflito em vez de ser sobrescrita.
+ */
+@Repository
+public class JdbcTarefaRepository implements TarefaRepository {
+    
+    static final String SEQUENCIA = "tarefa_seq";
+    
+    /**
+     * Incremento da sequência tarefa_seq (o mesmo da alocação do Hibernate)
+     */
+    static final int ALOCACAO_IDS = 50;
+    
+    private static final String ATIVAS = "tarefa WHERE ativo = true";
+    
+    private static final String INSERIR = "INSERT INTO tarefa (" + TarefaLinha.COLUNAS
+        + ", horas_trabalhadas, ativo) VALUES (:id, :titulo, :descricao, :status, :prioridade, "
+        + ":dataFimPrevista, :percentualConclusao, :idProjeto, :responsavel, :dataCriacao, :usuarioCriacao, "
+        + ":dataAtualizacao, :usuarioAtualizacao, :versao, 0, true)";
+    
+    /**
+     * EM_REVISAO é preservado enquanto o domínio mantiver a tarefa em andamento
+     * A versão lida é conferida e incrementada para que o modelo legado detecte a alteração concorrente
+     */
+    private static final String ATUALIZAR = "UPDATE tarefa SET titulo = :titulo, descricao = :descricao, "
+        + "status = CASE WHEN status = 'EM_REVISAO' AND :status = 'EM_ANDAMENTO' THEN status ELSE :status END, "
+        + "prioridade = :prioridade, data_fim_prevista = :dataFimPrevista, "
+        + "percentual_conclusao = :percentualConclusao, responsavel = :responsavel, "
+        + "data_atualizacao = :dataAtualizacao, usuario_atualizacao = :usuarioAtualizacao, versao = versao + 1 "
+        + "WHERE id = :id AND versao = :versao AND ativo = true";
+    
+    private static final String NAO_FINALIZADAS = " AND status NOT IN ('CONCLUIDA', 'CANCELADA')";
+    
+    private static final Map<String, String> ORDENAVEIS = Map.of(
+        "id", "id",
+        "titulo", "titulo",
+        "status", "status",
+        "prioridade", "prioridade",
+        "dataVencimento", "data_fim_prevista",
+        "percentualConclusao", "percentual_conclusao",
+        "projetoId", "id_projeto",
+        "responsavel", "responsavel"
+    );
+    
+    private final NamedParameterJdbcTemplate jdbc;
+    
+    private DataFieldMaxValueIncrementer sequencia;
+    private long proximoId = 1;
+    private long ultimoIdReservado = 0;
+    
+    public JdbcTarefaRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+    
+    @Override
+    public Tarefa save(Tarefa tarefa) {
+        return saveAll(List.of(tarefa)).get(0);
+    }
+    
+    /**
+     * Um lote JDBC para as inserções e outro para as atualizações
+     */
+    @Override
+    public List<Tarefa> saveAll(Collection<Tarefa> tarefas) {
+        long[] ids = reservarIds((int) tarefas.stream().filter(Tarefa::isNova).count());
+        
+        List<TarefaLinha> gravadas = new ArrayList<>(tarefas.size());
+        List<SqlParameterSource> insercoes = new ArrayList<>();
+        List<TarefaLinha> atualizacoes = new ArrayList<>();
+        int novas = 0;
+        for (Tarefa tarefa : tarefas) {
+            if (tarefa.isNova()) {
+                var linha = TarefaLinha.de(tarefa, ids[novas++]);
+                insercoes.add(linha.parametros());
+                gravadas.add(linha);
+            } else {
+                var linha = TarefaLinha.de(tarefa, tarefa.getId());
+                atualizacoes.add(linha);
+                gravadas.add(linha.atualizada());
+            }
+        }
+        
+        if (!insercoes.isEmpty()) {
+            jdbc.batchUpdate(INSERIR, insercoes.toArray(SqlParameterSource[]::new));
+        }
+        if (!atualizacoes.isEmpty()) {
+            verificarAtualizadas(atualizacoes, jdbc.batchUpdate(ATUALIZAR,
+                atualizacoes.stream().map(TarefaLinha::parametros).toArray(SqlParameterSource[]::new)));
+        }
+        return gravadas.stream().map(TarefaLinha::paraDominio).toList();
+    }
+    
+    @Override
+    public Optional<Tarefa> findById(Long id) {
+        return jdbc.query("SELECT " + TarefaLinha.COLUNAS + " FROM " + ATIVAS + " AND id = :id",
+                          new MapSqlParameterSource("id", id), TarefaLinha.MAPEADOR)
+            .stream()
+            .findFirst();
+    }
+    
+    @Override
+    public Page<Tarefa> findAll(Pageable pageable) {
+        return buscar(ATIVAS, new MapSqlParameterSource(), pageable);
+    }
+    
+    @Override
+    public Page<Tarefa> findByProjetoId(Long projetoId, Pageable pageable) {
+        return buscar(ATIVAS + " AND id_projeto = :projetoId", new MapSqlParameterSource("projetoId", projetoId), pageable);
+    }
+    
+    @Override
+    public Page<Tarefa> findByStatus(StatusTarefa status, Pageable pageable) {
+        List<String> colunas = TarefaLinha.statusColunas(status);
+        if (colunas.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return buscar(ATIVAS + " AND status IN (:status)", new MapSqlParameterSource("status", colunas), pageable);
+    }
+    
+    @Override
+    public Page<Tarefa> findByResponsavel(String responsavel, Pageable pageable) {
+        return buscar(ATIVAS + " AND responsavel = :responsavel",
+                      new MapSqlParameterSource("responsavel", responsavel), pageable);
+    }
+    
+    @Override
+    public Page<Tarefa> findByPrioridade(PrioridadeTarefa prioridade, Pageable pageable) {
+        return buscar(ATIVAS + " AND prioridade = :prioridade",
+                      new MapSqlParameterSource("prioridade", prioridade.valor()), pageable);
+    }
+    
+    @Override
+    public List<Tarefa> findTarefasAtrasadas() {
+        return jdbc.query("SELECT " + TarefaLinha.COLUNAS + " FROM " + ATIVAS + " AND data_fim_prevista < :hoje"
+                          + NAO_FINALIZADAS + " ORDER BY data_fim_prevista, id",
+                          new MapSqlParameterSource("hoje", LocalDate.now()), TarefaLinha.MAPEADOR);
+    }
+    
+    @Override
+    public List<Tarefa> findTarefasVencendoAte(LocalDate dataLimite) {
+        return jdbc.query("SELECT " + TarefaLinha.COLUNAS + " FROM " + ATIVAS
+                          + " AND data_fim_prevista BETWEEN :hoje AND :dataLimite"
+                          + NAO_FINALIZADAS + " ORDER BY data_fim_prevista, id",
+                          new MapSqlParameterSource("hoje", LocalDate.now()).addValue("dataLimite", dataLimite),
+                          TarefaLinha.MAPEADOR);
+    }
+    
+    @Override
+    public Page<Tarefa> findTarefasAltaPrioridade(Pageable pageable) {
+        return buscar(ATIVAS + " AND prioridade IN ('ALTA', 'CRITICA')", new MapSqlParameterSource(), pageable);
+    }
+    
+    @Override
+    public long countByStatus(StatusTarefa status) {
+        List<String> colunas = TarefaLinha.statusColunas(status);
+        if (colunas.isEmpty()) {
+            return 0;
+        }
+        return contar(ATIVAS + " AND status IN (:status)", new MapSqlParameterSource("status", colunas));
+    }
+    
+    @Override
+    public long countByProjetoId(Long projetoId) {
+        return contar(ATIVAS + " AND id_projeto = :projetoId", new MapSqlParameterSource("projetoId", projetoId));
+    }
+    
+    @Override
+    public void delete(Tarefa tarefa) {
+        if (tarefa.isNova()) {
+            return;
+        }
+        jdbc.update("UPDATE tarefa SET ativo = false, data_atualizacao = :agora, versao = versao + 1 WHERE id = :id",
+                    new MapSqlParameterSource("id", tarefa.getId()).addValue("agora", LocalDateTime.now()));
+    }
+    
+    // Métodos privados de apoio
+    
+    private Page<Tarefa> buscar(String origem, MapSqlParameterSource parametros, Pageable pageable) {
+        return PaginacaoSql.buscar(jdbc, TarefaLinha.COLUNAS, origem, parametros, pageable, ORDENAVEIS,
+                                   TarefaLinha.MAPEADOR);
+    }
+    
+    private long contar(String origem, MapSqlParameterSource parametros) {
+        Long total = jdbc.queryForObject("SELECT COUNT(*) FROM " + origem, parametros, Long.class);
+        return total == null ? 0 : total;
+    }
+    
+    /**
+     * Uma atualização sem linha afetada indica versão alterada por outra escrita, ou tarefa excluída
+     * Quando o driver não informa a contagem (SUCCESS_NO_INFO), a versão gravada é relida:
+     * o UPDATE bloqueou as linhas, então só a própria escrita pode tê-la incrementado
+     */
+    private void verificarAtualizadas(List<TarefaLinha> linhas, int[] atualizadas) {
+        List<TarefaLinha> semContagem = new ArrayList<>();
+        for (int i = 0; i < atualizadas.length; i++) {
+            if (atualizadas[i] == Statement.SUCCESS_NO_INFO) {
+                semContagem.add(linhas.get(i));
+            } else if (atualizadas[i] != 1) {
+                throw new ObjectOptimisticLockingFailureException(Tarefa.class, linhas.get(i).id());
+            }
+        }
+        if (semContagem.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, Long> versoes = new HashMap<>();
+        jdbc.query("SELECT id, versao FROM " + ATIVAS + " AND id IN (:ids)",
+                   new MapSqlParameterSource("ids", semContagem.stream().map(TarefaLinha::id).toList()),
+                   (RowCallbackHandler) rs -> versoes.put(rs.getLong("id"), rs.getLong("versao")));
+        for (TarefaLinha linha : semContagem) {
+            if (!Long.valueOf(linha.versao() + 1).equals(versoes.get(linha.id()))) {
+                throw new ObjectOptimisticLockingFailureException(Tarefa.class, linha.id());
+            }
+        }
+    }
+    
+    /**
+     * Reserva IDs consumindo a sequência uma vez a cada ALOCACAO_IDS tarefas
+     */
+    private synchronized long[] reservarIds(int quantidade) {
+        long[] ids = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            if (proximoId > ultimoIdReservado) {
+                ultimoIdReservado = sequencia().nextLongValue();
+                // O primeiro valor da sequência (1) reserva apenas a si mesmo
+                proximoId = Math.max(1, ultimoIdReservado - ALOCACAO_IDS + 1);
+            }
+            ids[i] = proximoId++;
+        }
+        return ids;
+    }
+    
+    private DataFieldMaxValueIncrementer sequencia() {
+        if (sequencia == null) {
+            DataSource dataSource = jdbc.getJdbcTemplate().getDataSource();
+            String banco = jdbc.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            sequencia = switch (String.valueOf(banco)) {
+                case "PostgreSQL" -> new PostgresSequenceMaxValueIncrementer(dataSource, SEQUENCIA);
+                case "H2" -> new H2SequenceMaxValueIncrementer(dataSource, SEQUENCIA);
+                case "MySQL" -> new TabelaSequenciaMySql(dataSource, SEQUENCIA, ALOCACAO_IDS);
+                default -> throw new IllegalStateException("Sequência " + SEQUENCIA + " não suportada no banco " + banco);
+            };
+        }
+        return sequencia;
+    }
+}
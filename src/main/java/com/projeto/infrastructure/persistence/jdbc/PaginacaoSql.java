@@ -0,0 +1,70 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Paginação e ordenação resolvidas no SQL (LIMIT/OFFSET e ORDER BY)
+ * A contagem só é executada quando a página não basta para deduzir o total
+ */
+final class PaginacaoSql {
+    
+    private PaginacaoSql() {
+    }
+    
+    /**
+     * Executa a consulta paginada
+     * @param colunas colunas do SELECT
+     * @param origem tabela e condição (FROM ... WHERE ...), compartilhada com a contagem
+     * @param ordenaveis propriedades do domínio aceitas na ordenação e suas colunas
+     */
+    static <T> Page<T> buscar(NamedParameterJdbcTemplate jdbc, String colunas, String origem,
+                              MapSqlParameterSource parametros, Pageable pageable,
+                              Map<String, String> ordenaveis, RowMapper<T> mapeador) {
+        String sql = "SELECT " + colunas + " FROM " + origem
+            + ordenacao(pageable.getSort(), ordenaveis) + limite(pageable, parametros);
+        List<T> conteudo = jdbc.query(sql, parametros, mapeador);
+        
+        return PageableExecutionUtils.getPage(conteudo, pageable,
+            () -> jdbc.queryForObject("SELECT COUNT(*) FROM " + origem, parametros, Long.class));
+    }
+    
+    /**
+     * ORDER BY a partir do Sort, restrito às propriedades mapeadas; o id desempata para
+     * que as páginas sejam estáveis
+     */
+    static String ordenacao(Sort sort, Map<String, String> ordenaveis) {
+        StringJoiner ordem = new StringJoiner(", ", " ORDER BY ", "");
+        boolean porId = false;
+        for (Sort.Order order : sort) {
+            String coluna = ordenaveis.get(order.getProperty());
+            if (coluna == null) {
+                throw new IllegalArgumentException("Ordenação não suportada: " + order.getProperty());
+            }
+            ordem.add(coluna + (order.isDescending() ? " DESC" : " ASC"));
+            porId |= "id".equals(coluna);
+        }
+        if (!porId) {
+            ordem.add("id");
+        }
+        return ordem.toString();
+    }
+    
+    private static String limite(Pageable pageable, MapSqlParameterSource parametros) {
+        if (pageable.isUnpaged()) {
+            return "";
+        }
+        parametros.addValue("limite", pageable.getPageSize());
+        parametros.addValue("deslocamento", pageable.getOffset());
+        return " LIMIT :limite OFFSET :deslocamento";
+    }
+}
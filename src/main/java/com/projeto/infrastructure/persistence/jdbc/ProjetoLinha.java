@@ -0,0 +1,99 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import com.projeto.domain.projeto.Projeto;
+import com.projeto.domain.projeto.valueobjects.StatusProjeto;
+import com.projeto.domain.shared.AuditInfo;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Linha da tabela projeto, compartilhada com o modelo legado
+ * Colunas só do modelo legado (prioridade, orçamento, data de fim real) não são lidas nem alteradas
+ */
+record ProjetoLinha(
+    Long id,
+    String nome,
+    String descricao,
+    String status,
+    LocalDate dataInicio,
+    LocalDate dataFimPrevista,
+    String responsavel,
+    LocalDateTime dataCriacao,
+    String usuarioCriacao,
+    LocalDateTime dataAtualizacao,
+    String usuarioAtualizacao
+) {
+    
+    static final String COLUNAS = "id, nome, descricao, status, data_inicio, data_fim_prevista, responsavel, "
+        + "data_criacao, usuario_criacao, data_atualizacao, usuario_atualizacao";
+    
+    static final RowMapper<Projeto> MAPEADOR = (rs, numeroLinha) -> new ProjetoLinha(
+        rs.getLong("id"),
+        rs.getString("nome"),
+        rs.getString("descricao"),
+        rs.getString("status"),
+        rs.getObject("data_inicio", LocalDate.class),
+        rs.getObject("data_fim_prevista", LocalDate.class),
+        rs.getString("responsavel"),
+        rs.getObject("data_criacao", LocalDateTime.class),
+        rs.getString("usuario_criacao"),
+        rs.getObject("data_atualizacao", LocalDateTime.class),
+        rs.getString("usuario_atualizacao")
+    ).paraDominio();
+    
+    static ProjetoLinha de(Projeto projeto, Long id) {
+        var auditInfo = projeto.getAuditInfo();
+        return new ProjetoLinha(
+            id,
+            projeto.getNome(),
+            projeto.getDescricao(),
+            projeto.getStatus().valor(),
+            projeto.getDataInicio(),
+            projeto.getDataFim(),
+            projeto.getResponsavel(),
+            auditInfo.criadoEm(),
+            auditInfo.criadoPor(),
+            auditInfo.atualizadoEm(),
+            auditInfo.atualizadoPor()
+        );
+    }
+    
+    Projeto paraDominio() {
+        return Projeto.reconstituir(
+            id,
+            nome,
+            descricao,
+            StatusProjeto.of(status),
+            dataInicio,
+            dataFimPrevista,
+            responsavel,
+            new AuditInfo(dataCriacao, Objects.requireNonNullElse(usuarioCriacao, TarefaLinha.USUARIO_DESCONHECIDO),
+                          dataAtualizacao, usuarioAtualizacao)
+        );
+    }
+    
+    ProjetoLinha comId(Long novoId) {
+        return new ProjetoLinha(novoId, nome, descricao, status, dataInicio, dataFimPrevista, responsavel,
+                                dataCriacao, usuarioCriacao, dataAtualizacao, usuarioAtualizacao);
+    }
+    
+    MapSqlParameterSource parametros() {
+        return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("nome", nome)
+            .addValue("descricao", descricao)
+            .addValue("status", status)
+            .addValue("dataInicio", dataInicio)
+            .addValue("dataFimPrevista", dataFimPrevista)
+            .addValue("responsavel", responsavel)
+            .addValue("dataCriacao", dataCriacao)
+            .addValue("usuarioCriacao", usuarioCriacao)
+            .addValue("dataAtualizacao", dataAtualizacao)
+            .addValue("usuarioAtualizacao", usuarioAtualizacao);
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.support.incrementer.AbstractDataFieldMaxValueIncrementer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Incrementador sobre a tabela que emula uma sequência no MySQL (uma linha, coluna next_val)
+ * 
+ * Mesma semântica da emulação do Hibernate: cada chamada devolve o next_val atual e o avança em
+ * um bloco, então o valor devolvido é o limite do bloco reservado (otimizador pooled).
+ * Roda em uma conexão própria com auto-commit, para que o bloco continue reservado mesmo que a
+ * transação do chamador seja desfeita, como em uma sequência.
+ */
+final class TabelaSequenciaMySql extends AbstractDataFieldMaxValueIncrementer {
+    
+    private final int incremento;
+    
+    TabelaSequenciaMySql(DataSource dataSource, String tabela, int incremento) {
+        super(dataSource, tabela);
+        this.incremento = incremento;
+    }
+    
+    @Override
+    protected long getNextKey() {
+        try (Connection conexao = getDataSource().getConnection();
+             Statement statement = conexao.createStatement()) {
+            conexao.setAutoCommit(true);
+            // LAST_INSERT_ID(expr) guarda na sessão o valor anterior ao incremento, lido sem reler a linha
+            int atualizadas = statement.executeUpdate("UPDATE " + getIncrementerName()
+                + " SET next_val = LAST_INSERT_ID(next_val) + " + incremento);
+            if (atualizadas != 1) {
+                throw new DataAccessResourceFailureException(
+                    "Tabela " + getIncrementerName() + " deve ter exatamente uma linha, encontradas " + atualizadas);
+            }
+            try (ResultSet resultado = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                resultado.next();
+                return resultado.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha ao obter o próximo valor de " + getIncrementerName(), e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import com.projeto.domain.shared.AuditInfo;
+import com.projeto.domain.tarefa.Tarefa;
+import com.projeto.domain.tarefa.valueobjects.PrioridadeTarefa;
+import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Linha da tabela tarefa, compartilhada com o modelo legado
+ * 
+ * O status EM_REVISAO existe só no modelo legado e é lido como EM_ANDAMENTO; BLOQUEADA
+ * não tem representação na coluna e não pode ser gravada. A versão é a mesma coluna do
+ * controle otimista do modelo legado.
+ */
+record TarefaLinha(
+    Long id,
+    String titulo,
+    String descricao,
+    String status,
+    String prioridade,
+    LocalDate dataFimPrevista,
+    Integer percentualConclusao,
+    Long idProjeto,
+    String responsavel,
+    LocalDateTime dataCriacao,
+    String usuarioCriacao,
+    LocalDateTime dataAtualizacao,
+    String usuarioAtualizacao,
+    Long versao
+) {
+    
+    static final String COLUNAS = "id, titulo, descricao, status, prioridade, data_fim_prevista, "
+        + "percentual_conclusao, id_projeto, responsavel, data_criacao, usuario_criacao, "
+        + "data_atualizacao, usuario_atualizacao, versao";
+    
+    static final RowMapper<Tarefa> MAPEADOR = (rs, numeroLinha) -> new TarefaLinha(
+        rs.getLong("id"),
+        rs.getString("titulo"),
+        rs.getString("descricao"),
+        rs.getString("status"),
+        rs.getString("prioridade"),
+        rs.getObject("data_fim_prevista", LocalDate.class),
+        rs.getObject("percentual_conclusao", Integer.class),
+        rs.getLong("id_projeto"),
+        rs.getString("responsavel"),
+        rs.getObject("data_criacao", LocalDateTime.class),
+        rs.getString("usuario_criacao"),
+        rs.getObject("data_atualizacao", LocalDateTime.class),
+        rs.getString("usuario_atualizacao"),
+        rs.getLong("versao")
+    ).paraDominio();
+    
+    /**
+     * Registros legados podem não ter o usuário de criação, obrigatório no domínio
+     */
+    static final String USUARIO_DESCONHECIDO = "sistema";
+    
+    private static final String EM_REVISAO = "EM_REVISAO";
+    
+    static TarefaLinha de(Tarefa tarefa, Long id) {
+        var auditInfo = tarefa.getAuditInfo();
+        return new TarefaLinha(
+            id,
+            tarefa.getTitulo(),
+            tarefa.getDescricao(),
+            statusColuna(tarefa.getStatus()),
+            tarefa.getPrioridade().valor(),
+            tarefa.getDataVencimento(),
+            tarefa.getPercentualConclusao(),
+            tarefa.getProjetoId(),
+            tarefa.getResponsavel(),
+            auditInfo.criadoEm(),
+            auditInfo.criadoPor(),
+            auditInfo.atualizadoEm(),
+            auditInfo.atualizadoPor(),
+            tarefa.isNova() ? 0L : tarefa.getVersao()
+        );
+    }
+    
+    /**
+     * Mesma linha com a versão gravada pelo UPDATE (versao + 1)
+     */
+    TarefaLinha atualizada() {
+        return new TarefaLinha(id, titulo, descricao, status, prioridade, dataFimPrevista, percentualConclusao,
+                               idProjeto, responsavel, dataCriacao, usuarioCriacao, dataAtualizacao,
+                               usuarioAtualizacao, versao + 1);
+    }
+    
+    Tarefa paraDominio() {
+        return Tarefa.reconstituir(
+            id,
+            titulo,
+            descricao,
+            EM_REVISAO.equals(status) ? StatusTarefa.EM_ANDAMENTO : StatusTarefa.of(status),
+            PrioridadeTarefa.of(prioridade),
+            dataFimPrevista,
+            percentualConclusao,
+            idProjeto,
+            responsavel,
+            new AuditInfo(dataCriacao, Objects.requireNonNullElse(usuarioCriacao, USUARIO_DESCONHECIDO),
+                          dataAtualizacao, usuarioAtualizacao),
+            versao
+        );
+    }
+    
+    MapSqlParameterSource parametros() {
+        return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("titulo", titulo)
+            .addValue("descricao", descricao)
+            .addValue("status", status)
+            .addValue("prioridade", prioridade)
+            .addValue("dataFimPrevista", dataFimPrevista)
+            .addValue("percentualConclusao", percentualConclusao)
+            .addValue("idProjeto", idProjeto)
+            .addValue("responsavel", responsavel)
+            .addValue("dataCriacao", dataCriacao)
+            .addValue("usuarioCriacao", usuarioCriacao)
+            .addValue("dataAtualizacao", dataAtualizacao)
+            .addValue("usuarioAtualizacao", usuarioAtualizacao)
+            .addValue("versao", versao);
+    }
+    
+    static String statusColuna(StatusTarefa status) {
+        if (status.estaBloqueada()) {
+            throw new IllegalStateException("Status " + status.valor() + " não tem representação na tabela tarefa");
+        }
+        return status.valor();
+    }
+    
+    /**
+     * Valores da coluna correspondentes ao status do domínio (vazio para BLOQUEADA)
+     */
+    static List<String> statusColunas(StatusTarefa status) {
+        if (status.estaBloqueada()) {
+            return List.of();
+        }
+        if (StatusTarefa.EM_ANDAMENTO.equals(status)) {
+            return List.of(status.valor(), EM_REVISAO);
+        }
+        return List.of(status.valor());
+    }
+}
@@ -0,0 +1,94 @@
+package com.projeto.management.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.projeto.management.config.cache.CacheSegundoNivelProperties;
+import com.projeto.management.config.cache.MetricasCacheSegundoNivel;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.repository.ProjetoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configuração do cache de segundo nível do Hibernate (entidade Projeto e consultas frequentes de projetos)
+ * Ativa por padrão; com cache.segundo-nivel.habilitado=false vale o hibernate.properties, que o desliga.
+ * Todas as regiões são criadas aqui com tamanho e TTL explícitos: uma região não prevista faz a inicialização falhar
+ * em vez de virar um cache sem limites.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.segundo-nivel", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(CacheSegundoNivelProperties.class)
+@Slf4j
+public class CacheSegundoNivelConfig {
+    
+    private static final long MAXIMO_TIMESTAMPS = 1_000;
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerSegundoNivel(CacheSegundoNivelProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // URI exclusiva: o gerenciador padrão do provedor é compartilhado por todos os contextos da JVM
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("urn:projeto-management:segundo-nivel:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        
+        criarRegiao(cacheManager, Projeto.REGIAO_CACHE, properties.getMaximoProjetos(), properties.getTtl());
+        criarRegiao(cacheManager, ProjetoRepository.REGIAO_CONSULTAS, properties.getMaximoConsultas(), properties.getTtl());
+        criarRegiao(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            properties.getMaximoConsultas(), properties.getTtl());
+        // Os timestamps de atualização das tabelas não podem expirar antes dos resultados que invalidam
+        criarRegiao(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, MAXIMO_TIMESTAMPS, null);
+        
+        log.info("Cache de segundo nível habilitado - TTL: {}, máximo de projetos: {}, máximo por região de consultas: {}",
+            properties.getTtl(), properties.getMaximoProjetos(), properties.getMaximoConsultas());
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelCustomizer(CacheManager cacheManagerSegundoNivel) {
+        return propriedades -> {
+            propriedades.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            propriedades.put(AvailableSettings.USE_QUERY_CACHE, true);
+            propriedades.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            propriedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerSegundoNivel);
+            propriedades.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Estatísticas alimentam as métricas de acerto; o log de métricas por sessão fica desligado
+            propriedades.put(AvailableSettings.GENERATE_STATISTICS, true);
+            propriedades.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+    
+    @Bean
+    public MetricasCacheSegundoNivel metricasCacheSegundoNivel(EntityManagerFactory entityManagerFactory) {
+        return new MetricasCacheSegundoNivel(
+            entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+            List.of(Projeto.REGIAO_CACHE, ProjetoRepository.REGIAO_CONSULTAS));
+    }
+    
+    private static void criarRegiao(CacheManager cacheManager, String nome, long maximo, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setMaximumSize(OptionalLong.of(maximo));
+        if (ttl != null) {
+            configuracao.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        // O Hibernate já guarda entradas desmontadas e imutáveis; copiar por serialização seria custo sem ganho
+        configuracao.setStoreByValue(false);
+        cacheManager.createCache(nome, configuracao);
+    }
+}
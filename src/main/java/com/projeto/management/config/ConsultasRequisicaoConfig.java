@@ -0,0 +1,41 @@
+package com.projeto.management.config;
+
+import com.projeto.management.config.consultas.ConsultasRequisicaoProperties;
+import com.projeto.management.config.consultas.FiltroConsultasRequisicao;
+import com.projeto.management.config.consultas.InstrumentacaoDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração da contagem de comandos JDBC por requisição
+ * Ativa por padrão; com consultas.requisicao.habilitado=false nem o DataSource nem as requisições são instrumentados.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "consultas.requisicao", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConsultasRequisicaoProperties.class)
+public class ConsultasRequisicaoConfig {
+    
+    /**
+     * Envolve o DataSource da aplicação (o padrão do Spring Boot ou o de roteamento)
+     * Estático para não antecipar a criação desta configuração junto com os BeanPostProcessors.
+     */
+    @Bean
+    public static InstrumentacaoDataSource instrumentacaoDataSource() {
+        return new InstrumentacaoDataSource();
+    }
+    
+    @Bean
+    public FilterRegistrationBean<FiltroConsultasRequisicao> filtroConsultasRequisicao(
+            ConsultasRequisicaoProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FiltroConsultasRequisicao> registro =
+            new FilterRegistrationBean<>(new FiltroConsultasRequisicao(properties, meterRegistry));
+        // Logo depois do contexto de roteamento, para o header ser incluído antes de qualquer escrita no corpo
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registro;
+    }
+}
@@ -0,0 +1,96 @@
+package com.projeto.management.config;
+
+import com.projeto.management.config.datasource.FiltroContextoRoteamento;
+import com.projeto.management.config.datasource.MonitorReplicas;
+import com.projeto.management.config.datasource.PoolsRoteamento;
+import com.projeto.management.config.datasource.RoteamentoDataSource;
+import com.projeto.management.config.datasource.RoteamentoProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuração do roteamento leitura/escrita entre primário e réplicas
+ * Ativa apenas com datasource.roteamento.habilitado=true; caso contrário vale o DataSource padrão do Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.roteamento", name = "habilitado", havingValue = "true")
+@EnableConfigurationProperties(RoteamentoProperties.class)
+@Slf4j
+public class RoteamentoDataSourceConfig {
+    
+    @Bean(destroyMethod = "close")
+    public PoolsRoteamento poolsRoteamento(DataSourceProperties dataSourceProperties,
+                                           RoteamentoProperties roteamentoProperties,
+                                           MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metricas = new MicrometerMetricsTrackerFactory(meterRegistry);
+        
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primario.setPoolName(RoteamentoDataSource.PRIMARIO);
+        primario.setMetricsTrackerFactory(metricas);
+        
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        int indice = 1;
+        for (RoteamentoProperties.Replica configuracao : roteamentoProperties.getReplicas()) {
+            String nome = StringUtils.hasText(configuracao.getNome()) ? configuracao.getNome() : "replica-" + indice;
+            indice++;
+            
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(nome);
+            replica.setJdbcUrl(configuracao.getUrl());
+            replica.setUsername(StringUtils.hasText(configuracao.getUsername())
+                ? configuracao.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(configuracao.getPassword() != null
+                ? configuracao.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(configuracao.getMaximoConexoes());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metricas);
+            replicas.put(nome, replica);
+        }
+        
+        log.info("Roteamento de leituras habilitado com {} réplica(s): {}", replicas.size(), replicas.keySet());
+        return new PoolsRoteamento(primario, replicas);
+    }
+    
+    @Bean
+    public MonitorReplicas monitorReplicas(PoolsRoteamento pools, RoteamentoProperties roteamentoProperties,
+                                           MeterRegistry meterRegistry) {
+        MonitorReplicas monitor = new MonitorReplicas(pools.getReplicas(),
+            roteamentoProperties.getConsultaLag(), roteamentoProperties.getLagMaximo(), meterRegistry);
+        monitor.verificar();
+        return monitor;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(PoolsRoteamento pools, MonitorReplicas monitorReplicas,
+                                 RoteamentoProperties roteamentoProperties, MeterRegistry meterRegistry) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(pools.getPrimario(), pools.getReplicas(),
+            monitorReplicas, roteamentoProperties.getAderencia(), meterRegistry);
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<FiltroContextoRoteamento> filtroContextoRoteamento() {
+        FilterRegistrationBean<FiltroContextoRoteamento> registro = new FilterRegistrationBean<>(new FiltroContextoRoteamento());
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
@@ -0,0 +1,26 @@
+package com.projeto.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Habilita as rotinas agendadas (verificação de estatísticas, etc.)
+ * 
+ * O agendador padrão tem uma única thread: uma rotina longa (arquivamento, reconstrução dos
+ * índices) atrasaria as verificações de alta frequência, como o lag das réplicas a cada 5 s.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${agendamento.threads:4}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("agendamento-");
+        return scheduler;
+    }
+}
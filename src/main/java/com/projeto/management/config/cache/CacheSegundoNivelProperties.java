@@ -0,0 +1,37 @@
+package com.projeto.management.config.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limites do cache de segundo nível do Hibernate (prefixo cache.segundo-nivel)
+ * O cache é local a cada instância: escritas feitas em outra réplica da aplicação não o invalidam,
+ * então o TTL é o atraso máximo com que uma instância enxerga alterações feitas pelas demais
+ * (somado ao lag da réplica de banco quando o roteamento de leituras está habilitado).
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.segundo-nivel")
+public class CacheSegundoNivelProperties {
+    
+    /**
+     * Habilita o cache; desabilitado, todas as leituras de projetos vão ao banco
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Tempo máximo de permanência de projetos e resultados de consultas, contado da carga
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+    
+    /**
+     * Máximo de projetos mantidos na região da entidade
+     */
+    private long maximoProjetos = 10_000;
+    
+    /**
+     * Máximo de resultados mantidos em cada região de consultas
+     */
+    private long maximoConsultas = 2_000;
+}
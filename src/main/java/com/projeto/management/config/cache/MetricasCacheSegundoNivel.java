@@ -0,0 +1,67 @@
+package com.projeto.management.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Expõe acertos, falhas e taxa de acerto das regiões do cache de segundo nível
+ * A partir das estatísticas do Hibernate (hibernate.generate_statistics)
+ */
+public class MetricasCacheSegundoNivel implements MeterBinder {
+    
+    private final Statistics estatisticas;
+    private final List<String> regioes;
+    
+    public MetricasCacheSegundoNivel(Statistics estatisticas, List<String> regioes) {
+        this.estatisticas = estatisticas;
+        this.regioes = List.copyOf(regioes);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String regiao : regioes) {
+            FunctionCounter.builder("cache.segundo.nivel.requisicoes", this,
+                    m -> m.contar(regiao, CacheRegionStatistics::getHitCount))
+                .description("Leituras atendidas pelo cache de segundo nível")
+                .tag("regiao", regiao)
+                .tag("resultado", "acerto")
+                .register(registry);
+            FunctionCounter.builder("cache.segundo.nivel.requisicoes", this,
+                    m -> m.contar(regiao, CacheRegionStatistics::getMissCount))
+                .description("Leituras que precisaram ir ao banco")
+                .tag("regiao", regiao)
+                .tag("resultado", "falha")
+                .register(registry);
+            Gauge.builder("cache.segundo.nivel.taxa.acerto", this, m -> m.taxaAcerto(regiao))
+                .description("Fração das leituras atendidas pelo cache desde o início")
+                .tag("regiao", regiao)
+                .register(registry);
+        }
+    }
+    
+    /**
+     * Acertos / (acertos + falhas) da região, ou NaN antes da primeira leitura
+     */
+    public double taxaAcerto(String regiao) {
+        long acertos = contar(regiao, CacheRegionStatistics::getHitCount);
+        long total = acertos + contar(regiao, CacheRegionStatistics::getMissCount);
+        return total == 0 ? Double.NaN : (double) acertos / total;
+    }
+    
+    private long contar(String regiao, ToLongFunction<CacheRegionStatistics> contador) {
+        try {
+            CacheRegionStatistics estatisticasRegiao = estatisticas.getCacheRegionStatistics(regiao);
+            return estatisticasRegiao == null ? 0 : contador.applyAsLong(estatisticasRegiao);
+        } catch (IllegalArgumentException e) {
+            // Regiões de consultas só existem depois da primeira consulta que as usa
+            return 0;
+        }
+    }
+}
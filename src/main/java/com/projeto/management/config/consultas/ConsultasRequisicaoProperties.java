@@ -0,0 +1,33 @@
+package com.projeto.management.config.consultas;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limites da instrumentação de consultas por requisição (prefixo consultas.requisicao)
+ */
+@Data
+@ConfigurationProperties(prefix = "consultas.requisicao")
+public class ConsultasRequisicaoProperties {
+    
+    /**
+     * Habilita a contagem de comandos JDBC por requisição, o header Server-Timing e as métricas
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Máximo de comandos por requisição; acima dele a requisição é registrada em log de aviso
+     */
+    private int orcamento = 50;
+    
+    /**
+     * Repetições do mesmo formato de comando a partir das quais a requisição é registrada
+     * em log de aviso como provável N+1
+     */
+    private int repeticoesSuspeitas = 10;
+    
+    /**
+     * Máximo de formatos distintos acompanhados por requisição (os demais só entram na contagem)
+     */
+    private int maximoFormatos = 256;
+}
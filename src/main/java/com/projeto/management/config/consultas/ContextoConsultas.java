@@ -0,0 +1,141 @@
+package com.projeto.management.config.consultas;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Comandos JDBC executados pela requisição corrente: quantidade (total e por tipo), tempo somado e repetições
+ * por formato (o SQL sem valores literais e com listas IN reduzidas a um único parâmetro)
+ */
+public final class ContextoConsultas {
+    
+    private static final ThreadLocal<ContextoConsultas> ATUAL = new ThreadLocal<>();
+    
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern COMENTARIO_INICIAL = Pattern.compile("^(?:\\s*/\\*.*?\\*/)*\\s*", Pattern.DOTALL);
+    
+    private final int maximoFormatos;
+    private final Map<String, Integer> repeticoes = new HashMap<>();
+    private final Map<Tipo, Integer> porTipo = new EnumMap<>(Tipo.class);
+    private int consultas;
+    private long nanos;
+    private int maiorRepeticao;
+    private String formatoMaisRepetido;
+    
+    private ContextoConsultas(int maximoFormatos) {
+        this.maximoFormatos = maximoFormatos;
+    }
+    
+    public static ContextoConsultas iniciar(int maximoFormatos) {
+        ContextoConsultas contexto = new ContextoConsultas(maximoFormatos);
+        ATUAL.set(contexto);
+        return contexto;
+    }
+    
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+    
+    static ContextoConsultas atual() {
+        return ATUAL.get();
+    }
+    
+    /**
+     * Registra a execução de um comando
+     * @param sql texto do comando (null quando desconhecido, como em lotes de Statement)
+     */
+    synchronized void registrar(String sql, long duracaoNanos) {
+        consultas++;
+        nanos += duracaoNanos;
+        porTipo.merge(Tipo.de(sql), 1, Integer::sum);
+        if (sql == null) {
+            return;
+        }
+        
+        String formato = formato(sql);
+        Integer anteriores = repeticoes.get(formato);
+        if (anteriores == null && repeticoes.size() >= maximoFormatos) {
+            return;
+        }
+        int vezes = anteriores == null ? 1 : anteriores + 1;
+        repeticoes.put(formato, vezes);
+        if (vezes > maiorRepeticao) {
+            maiorRepeticao = vezes;
+            formatoMaisRepetido = formato;
+        }
+    }
+    
+    public synchronized int getConsultas() {
+        return consultas;
+    }
+    
+    public synchronized int getConsultas(Tipo tipo) {
+        return porTipo.getOrDefault(tipo, 0);
+    }
+    
+    public synchronized long getNanos() {
+        return nanos;
+    }
+    
+    public synchronized int getMaiorRepeticao() {
+        return maiorRepeticao;
+    }
+    
+    public synchronized String getFormatoMaisRepetido() {
+        return formatoMaisRepetido;
+    }
+    
+    /**
+     * Execuções por formato de comando (limitado a maximoFormatos formatos distintos)
+     */
+    public synchronized Map<String, Integer> getRepeticoes() {
+        return Map.copyOf(repeticoes);
+    }
+    
+    /**
+     * Valor do header Server-Timing (somente ASCII, duração em milissegundos)
+     */
+    public synchronized String serverTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"consultas=%d repetidas=%d\"",
+            nanos / (double) TimeUnit.MILLISECONDS.toNanos(1), consultas, maiorRepeticao);
+    }
+    
+    static String formato(String sql) {
+        String formato = TEXTO.matcher(sql).replaceAll("?");
+        formato = NUMERO.matcher(formato).replaceAll("?");
+        formato = LISTA_PARAMETROS.matcher(formato).replaceAll("(?)");
+        return ESPACOS.matcher(formato).replaceAll(" ").trim();
+    }
+    
+    /**
+     * Tipo do comando pela primeira palavra do SQL (consultas com WITH contam como SELECT)
+     */
+    public enum Tipo {
+        SELECT, INSERT, UPDATE, DELETE, OUTRO;
+        
+        static Tipo de(String sql) {
+            if (sql == null) {
+                return OUTRO;
+            }
+            String texto = COMENTARIO_INICIAL.matcher(sql).replaceFirst("");
+            int fim = 0;
+            while (fim < texto.length() && Character.isLetter(texto.charAt(fim))) {
+                fim++;
+            }
+            return switch (texto.substring(0, fim).toUpperCase(Locale.ROOT)) {
+                case "SELECT", "WITH" -> SELECT;
+                case "INSERT" -> INSERT;
+                case "UPDATE" -> UPDATE;
+                case "DELETE" -> DELETE;
+                default -> OUTRO;
+            };
+        }
+    }
+}
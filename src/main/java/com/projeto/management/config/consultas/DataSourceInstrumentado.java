@@ -0,0 +1,135 @@
+package com.projeto.management.config.consultas;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mede os comandos JDBC das requisições em andamento
+ * 
+ * As conexões são envolvidas por um proxy que cronometra cada execute* dos Statements criados por
+ * elas (Hibernate, JdbcTemplate ou outros) e registra o SQL no ContextoConsultas ativo na thread que
+ * executa o comando. O contexto é consultado na execução, e não ao obter a conexão: uma conexão aberta
+ * antes do contexto (transação iniciada antes da requisição ou do trecho medido em um teste) também é
+ * medida. Sem contexto ativo o custo é o do proxy e de uma leitura do ThreadLocal.
+ * O tempo medido é o da execução: a leitura das linhas do ResultSet não entra na soma.
+ * 
+ * Fecha o DataSource alvo no close(), já que o bean envolvido perde o método de destruição inferido.
+ */
+public class DataSourceInstrumentado extends DelegatingDataSource implements AutoCloseable {
+    
+    public DataSourceInstrumentado(DataSource alvo) {
+        super(alvo);
+    }
+    
+    /**
+     * Fecha o alvo sem declarar Exception: falhas verificadas do alvo saem como IllegalStateException
+     */
+    @Override
+    public void close() {
+        if (getTargetDataSource() instanceof AutoCloseable alvo) {
+            try {
+                alvo.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido ao fechar o DataSource alvo", e);
+            } catch (Exception e) {
+                throw new IllegalStateException("Falha ao fechar o DataSource alvo", e);
+            }
+        }
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrumentar(obterDataSourceAlvo().getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrumentar(obterDataSourceAlvo().getConnection(username, password));
+    }
+    
+    private DataSource obterDataSourceAlvo() {
+        DataSource alvo = getTargetDataSource();
+        if (alvo == null) {
+            throw new IllegalStateException("DataSource alvo não configurado");
+        }
+        return alvo;
+    }
+    
+    private static Connection instrumentar(Connection conexao) {
+        return proxy(Connection.class, new ConexaoMedida(conexao));
+    }
+    
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return tipo.cast(Proxy.newProxyInstance(DataSourceInstrumentado.class.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+    
+    /**
+     * equals e hashCode pela identidade do proxy; o restante é repassado ao objeto JDBC original
+     */
+    private static Object invocar(Object proxy, Object alvo, Method metodo, Object[] args) throws Throwable {
+        if ("equals".equals(metodo.getName()) && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(metodo.getName()) && args == null) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * Envolve os Statements criados pela conexão, guardando o SQL dos PreparedStatements
+     */
+    private record ConexaoMedida(Connection conexao) implements InvocationHandler {
+        
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = invocar(proxy, conexao, metodo, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+            
+            return switch (metodo.getName()) {
+                case "createStatement" -> proxy(Statement.class, new ComandoMedido(resultado, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new ComandoMedido(resultado, sql));
+                case "prepareCall" -> proxy(CallableStatement.class, new ComandoMedido(resultado, sql));
+                default -> resultado;
+            };
+        }
+    }
+    
+    /**
+     * Cronometra as execuções; em Statements simples o SQL vem do argumento do execute*
+     */
+    private record ComandoMedido(Object comando, String sql) implements InvocationHandler {
+        
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            ContextoConsultas contexto = ContextoConsultas.atual();
+            if (contexto == null || !metodo.getName().startsWith("execute")) {
+                return invocar(proxy, comando, metodo, args);
+            }
+            
+            String executado = sql != null ? sql
+                : args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+            long inicio = System.nanoTime();
+            try {
+                return invocar(proxy, comando, metodo, args);
+            } finally {
+                contexto.registrar(executado, System.nanoTime() - inicio);
+            }
+        }
+    }
+}
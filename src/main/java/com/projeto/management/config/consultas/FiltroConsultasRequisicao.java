@@ -0,0 +1,164 @@
+package com.projeto.management.config.consultas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede os comandos JDBC de cada requisição
+ * 
+ * Devolve os totais no header Server-Timing (escrito antes do primeiro byte do corpo, então reflete
+ * os comandos executados até ali) e registra, ao fim, histogramas por método de controller:
+ * comandos por requisição, tempo de banco e maior repetição de um mesmo formato de comando.
+ * Requisições acima do orçamento ou com muitas repetições (provável N+1) geram log de aviso.
+ */
+@Slf4j
+public class FiltroConsultasRequisicao extends OncePerRequestFilter {
+    
+    static final String HEADER_SERVER_TIMING = "Server-Timing";
+    static final String TAG_METODO = "metodo";
+    
+    private final ConsultasRequisicaoProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    public FiltroConsultasRequisicao(ConsultasRequisicaoProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContextoConsultas contexto = ContextoConsultas.iniciar(properties.getMaximoFormatos());
+        RespostaComServerTiming resposta = new RespostaComServerTiming(response, contexto);
+        try {
+            filterChain.doFilter(request, resposta);
+        } finally {
+            ContextoConsultas.encerrar();
+            resposta.escreverServerTiming();
+            // Em processamento assíncrono os comandos seguintes rodam em outra thread e não são medidos
+            if (!isAsyncStarted(request)) {
+                registrar(request, contexto);
+            }
+        }
+    }
+    
+    private void registrar(HttpServletRequest request, ContextoConsultas contexto) {
+        String metodo = metodoController(request);
+        if (metodo == null) {
+            return;
+        }
+        
+        DistributionSummary.builder("http.requisicao.consultas")
+            .description("Comandos JDBC por requisição")
+            .tag(TAG_METODO, metodo)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(contexto.getConsultas());
+        DistributionSummary.builder("http.requisicao.consultas.repetidas")
+            .description("Maior número de execuções de um mesmo formato de comando por requisição")
+            .tag(TAG_METODO, metodo)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(contexto.getMaiorRepeticao());
+        Timer.builder("http.requisicao.tempo.banco")
+            .description("Tempo somado dos comandos JDBC por requisição")
+            .tag(TAG_METODO, metodo)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(contexto.getNanos(), TimeUnit.NANOSECONDS);
+        
+        if (contexto.getConsultas() > properties.getOrcamento()
+                || contexto.getMaiorRepeticao() >= properties.getRepeticoesSuspeitas()) {
+            log.warn("{} {} ({}) executou {} comandos (orçamento {}) em {} ms; formato mais repetido ({}x): {}",
+                request.getMethod(), request.getRequestURI(), metodo, contexto.getConsultas(), properties.getOrcamento(),
+                TimeUnit.NANOSECONDS.toMillis(contexto.getNanos()), contexto.getMaiorRepeticao(),
+                contexto.getFormatoMaisRepetido());
+        }
+    }
+    
+    /**
+     * Controller.metodo que atendeu a requisição, ou null fora dos controllers da aplicação
+     * (recursos estáticos, endpoints do actuator, 404)
+     */
+    static String metodoController(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                && AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), Controller.class)) {
+            return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        }
+        return null;
+    }
+    
+    /**
+     * Acrescenta o header Server-Timing no primeiro acesso ao corpo, antes que a resposta seja enviada
+     */
+    private static final class RespostaComServerTiming extends HttpServletResponseWrapper {
+        
+        private final ContextoConsultas contexto;
+        private boolean escrito;
+        
+        private RespostaComServerTiming(HttpServletResponse response, ContextoConsultas contexto) {
+            super(response);
+            this.contexto = contexto;
+        }
+        
+        void escreverServerTiming() {
+            if (!escrito && !isCommitted()) {
+                setHeader(HEADER_SERVER_TIMING, contexto.serverTiming());
+            }
+            escrito = true;
+        }
+        
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            escreverServerTiming();
+            return super.getOutputStream();
+        }
+        
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            escreverServerTiming();
+            return super.getWriter();
+        }
+        
+        @Override
+        public void flushBuffer() throws IOException {
+            escreverServerTiming();
+            super.flushBuffer();
+        }
+        
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            escreverServerTiming();
+            super.sendError(sc, msg);
+        }
+        
+        @Override
+        public void sendError(int sc) throws IOException {
+            escreverServerTiming();
+            super.sendError(sc);
+        }
+        
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            escreverServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
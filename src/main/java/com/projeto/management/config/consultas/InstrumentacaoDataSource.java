@@ -0,0 +1,23 @@
+package com.projeto.management.config.consultas;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve os DataSources do contexto (o padrão do Spring Boot, o de roteamento ou o embutido dos testes)
+ * em um DataSourceInstrumentado
+ */
+@Slf4j
+public class InstrumentacaoDataSource implements BeanPostProcessor {
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceInstrumentado)) {
+            log.info("Contagem de comandos JDBC habilitada no DataSource '{}'", beanName);
+            return new DataSourceInstrumentado(dataSource);
+        }
+        return bean;
+    }
+}
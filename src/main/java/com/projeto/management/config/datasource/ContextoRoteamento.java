@@ -0,0 +1,40 @@
+package com.projeto.management.config.datasource;
+
+/**
+ * Estado de roteamento da requisição corrente (usuário e ocorrência de escrita)
+ */
+public final class ContextoRoteamento {
+    
+    private static final ThreadLocal<ContextoRoteamento> ATUAL = new ThreadLocal<>();
+    
+    private final String usuario;
+    private boolean houveEscrita;
+    
+    private ContextoRoteamento(String usuario) {
+        this.usuario = usuario;
+    }
+    
+    public static void iniciar(String usuario) {
+        ATUAL.set(new ContextoRoteamento(usuario));
+    }
+    
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+    
+    static ContextoRoteamento atual() {
+        return ATUAL.get();
+    }
+    
+    String getUsuario() {
+        return usuario;
+    }
+    
+    boolean isHouveEscrita() {
+        return houveEscrita;
+    }
+    
+    void registrarEscrita() {
+        houveEscrita = true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.projeto.management.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Abre o contexto de roteamento de cada requisição, identificando o usuário pelo header X-Usuario
+ */
+public class FiltroContextoRoteamento extends OncePerRequestFilter {
+    
+    static final String HEADER_USUARIO = "X-Usuario";
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContextoRoteamento.iniciar(request.getHeader(HEADER_USUARIO));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContextoRoteamento.encerrar();
+        }
+    }
+}
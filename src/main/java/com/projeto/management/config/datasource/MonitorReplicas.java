@@ -0,0 +1,106 @@
+package com.projeto.management.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Acompanha o atraso (lag) de cada réplica e escolhe, em rodízio, uma réplica apta a receber leituras
+ * Réplicas com atraso acima do limite ou que falham na verificação ficam fora do rodízio
+ */
+@Slf4j
+public class MonitorReplicas {
+    
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String consultaLag;
+    private final Duration lagMaximo;
+    private final AtomicInteger proxima = new AtomicInteger();
+    
+    public MonitorReplicas(Map<String, DataSource> replicas, String consultaLag, Duration lagMaximo,
+                           MeterRegistry meterRegistry) {
+        this.consultaLag = consultaLag;
+        this.lagMaximo = lagMaximo;
+        
+        replicas.forEach((nome, dataSource) -> {
+            Replica replica = new Replica(nome, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.roteamento.replica.lag", replica, r -> r.lagSegundos)
+                .description("Atraso da réplica em segundos (última verificação)")
+                .baseUnit("seconds")
+                .tag("replica", nome)
+                .register(meterRegistry);
+            Gauge.builder("datasource.roteamento.replica.apta", replica, r -> r.apta ? 1 : 0)
+                .description("1 quando a réplica está recebendo leituras")
+                .tag("replica", nome)
+                .register(meterRegistry);
+        });
+    }
+    
+    /**
+     * Próxima réplica apta em rodízio, ou null se nenhuma estiver apta
+     */
+    public String escolherReplica() {
+        int total = replicas.size();
+        for (int tentativa = 0; tentativa < total; tentativa++) {
+            Replica replica = replicas.get(Math.floorMod(proxima.getAndIncrement(), total));
+            if (replica.apta) {
+                return replica.nome;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Atualiza o atraso de todas as réplicas
+     */
+    @Scheduled(fixedDelayString = "${datasource.roteamento.intervalo-verificacao-lag:PT5S}")
+    public void verificar() {
+        for (Replica replica : replicas) {
+            if (consultaLag == null || consultaLag.isBlank()) {
+                replica.lagSegundos = 0;
+                replica.apta = true;
+                continue;
+            }
+            try (Connection conexao = replica.dataSource.getConnection();
+                 Statement statement = conexao.createStatement();
+                 ResultSet resultado = statement.executeQuery(consultaLag)) {
+                double lag = resultado.next() ? resultado.getDouble(1) : Double.MAX_VALUE;
+                boolean apta = lag <= lagMaximo.toMillis() / 1000.0;
+                if (apta != replica.apta) {
+                    log.info("Réplica {} {} (lag {} s)", replica.nome, apta ? "voltou ao rodízio" : "retirada do rodízio", lag);
+                }
+                replica.lagSegundos = lag;
+                replica.apta = apta;
+            } catch (Exception e) {
+                if (replica.apta) {
+                    log.warn("Réplica {} retirada do rodízio: falha ao verificar lag", replica.nome, e);
+                }
+                replica.apta = false;
+            }
+        }
+    }
+    
+    private static final class Replica {
+        
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile double lagSegundos;
+        private volatile boolean apta;
+        
+        private Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+    }
+}
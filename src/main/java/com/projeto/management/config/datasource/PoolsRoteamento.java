@@ -0,0 +1,36 @@
+package com.projeto.management.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pools de conexão do primário e das réplicas, fechados junto com o contexto
+ */
+public class PoolsRoteamento implements AutoCloseable {
+    
+    private final HikariDataSource primario;
+    private final Map<String, DataSource> replicas;
+    
+    public PoolsRoteamento(HikariDataSource primario, Map<String, HikariDataSource> replicas) {
+        this.primario = primario;
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+    }
+    
+    public DataSource getPrimario() {
+        return primario;
+    }
+    
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+    
+    @Override
+    public void close() {
+        replicas.values().forEach(replica -> ((HikariDataSource) replica).close());
+        primario.close();
+    }
+}
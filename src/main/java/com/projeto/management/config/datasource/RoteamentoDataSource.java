@@ -0,0 +1,115 @@
+package com.projeto.management.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encaminha transações somente leitura para as réplicas e o restante para o primário
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: o flag de somente leitura só é
+ * publicado depois que o gerenciador de transações solicita a conexão.
+ */
+public final class RoteamentoDataSource extends AbstractRoutingDataSource {
+    
+    public static final String PRIMARIO = "primario";
+    
+    private static final int LIMITE_USUARIOS_ADERENTES = 10_000;
+    
+    private final MonitorReplicas monitor;
+    private final RoteamentoProperties.Aderencia aderencia;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> ultimaEscritaPorUsuario = new ConcurrentHashMap<>();
+    private final Map<String, Counter> contadores = new ConcurrentHashMap<>();
+    
+    public RoteamentoDataSource(DataSource primario, Map<String, DataSource> replicas, MonitorReplicas monitor,
+                                RoteamentoProperties.Aderencia aderencia, MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+        this.aderencia = aderencia;
+        this.meterRegistry = meterRegistry;
+        
+        Map<Object, Object> destinos = new HashMap<>(replicas);
+        destinos.put(PRIMARIO, primario);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                registrarEscrita();
+                return contar(PRIMARIO, "escrita");
+            }
+            return contar(PRIMARIO, "sem-transacao");
+        }
+        if (aderente()) {
+            return contar(PRIMARIO, "aderencia");
+        }
+        String replica = monitor.escolherReplica();
+        return replica != null ? contar(replica, "leitura") : contar(PRIMARIO, "sem-replica");
+    }
+    
+    private void registrarEscrita() {
+        ContextoRoteamento contexto = ContextoRoteamento.atual();
+        if (contexto == null) {
+            return;
+        }
+        contexto.registrarEscrita();
+        if (janelaAtiva() && contexto.getUsuario() != null) {
+            if (ultimaEscritaPorUsuario.size() >= LIMITE_USUARIOS_ADERENTES) {
+                removerExpirados();
+            }
+            ultimaEscritaPorUsuario.put(contexto.getUsuario(), System.nanoTime());
+        }
+    }
+    
+    private boolean aderente() {
+        ContextoRoteamento contexto = ContextoRoteamento.atual();
+        if (contexto == null) {
+            return false;
+        }
+        if (aderencia.isRequisicao() && contexto.isHouveEscrita()) {
+            return true;
+        }
+        if (!janelaAtiva() || contexto.getUsuario() == null) {
+            return false;
+        }
+        Long ultimaEscrita = ultimaEscritaPorUsuario.get(contexto.getUsuario());
+        if (ultimaEscrita == null) {
+            return false;
+        }
+        if (System.nanoTime() - ultimaEscrita < aderencia.getJanelaPorUsuario().toNanos()) {
+            return true;
+        }
+        ultimaEscritaPorUsuario.remove(contexto.getUsuario(), ultimaEscrita);
+        return false;
+    }
+    
+    private boolean janelaAtiva() {
+        Duration janela = aderencia.getJanelaPorUsuario();
+        return janela != null && !janela.isZero() && !janela.isNegative();
+    }
+    
+    private void removerExpirados() {
+        long limite = System.nanoTime() - aderencia.getJanelaPorUsuario().toNanos();
+        ultimaEscritaPorUsuario.values().removeIf(instante -> instante - limite < 0);
+    }
+    
+    private String contar(String rota, String motivo) {
+        contadores.computeIfAbsent(rota + '|' + motivo, chave -> Counter.builder("datasource.roteamento.conexoes")
+                .description("Conexões obtidas por rota e motivo do roteamento")
+                .tag("rota", rota)
+                .tag("motivo", motivo)
+                .register(meterRegistry))
+            .increment();
+        return rota;
+    }
+}
@@ -0,0 +1,61 @@
+package com.projeto.management.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração do roteamento de leituras para réplicas (prefixo datasource.roteamento)
+ * O primário continua configurado em spring.datasource
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.roteamento")
+public class RoteamentoProperties {
+    
+    /**
+     * Habilita o roteamento; desabilitado, a aplicação usa apenas spring.datasource
+     */
+    private boolean habilitado;
+    
+    private List<Replica> replicas = new ArrayList<>();
+    
+    /**
+     * Atraso máximo aceito; réplicas acima dele deixam de receber leituras
+     */
+    private Duration lagMaximo = Duration.ofSeconds(5);
+    
+    /**
+     * Consulta executada em cada réplica que retorna o atraso em segundos
+     * (ex.: tabela de heartbeat). Sem consulta, o atraso é considerado zero.
+     */
+    private String consultaLag;
+    
+    private Duration intervaloVerificacaoLag = Duration.ofSeconds(5);
+    
+    private Aderencia aderencia = new Aderencia();
+    
+    @Data
+    public static class Replica {
+        private String nome;
+        private String url;
+        /** Usa o usuário do primário quando não informado */
+        private String username;
+        /** Usa a senha do primário quando não informada */
+        private String password;
+        private int maximoConexoes = 10;
+    }
+    
+    /**
+     * Leitura das próprias escritas: após uma escrita as leituras voltam ao primário
+     */
+    @Data
+    public static class Aderencia {
+        /** Leituras seguintes da mesma requisição usam o primário */
+        private boolean requisicao = true;
+        /** Janela em que as leituras do mesmo usuário (X-Usuario) usam o primário; zero desativa */
+        private Duration janelaPorUsuario = Duration.ZERO;
+    }
+}
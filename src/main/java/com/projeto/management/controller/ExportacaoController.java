@@ -0,0 +1,76 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.ExportacaoService;
+import com.projeto.management.service.exportacao.FormatoExportacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller para exportação de tarefas e projetos
+ * A resposta é escrita à medida que os lotes são lidos, sem montar a lista completa em memória
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exportação", description = "API para exportação de tarefas e projetos")
+public class ExportacaoController {
+    
+    private final ExportacaoService exportacaoService;
+    
+    @Operation(summary = "Exportar tarefas", description = "Exporta tarefas em NDJSON ou CSV com os mesmos filtros da listagem")
+    @GetMapping("/tarefas/export")
+    public ResponseEntity<StreamingResponseBody> exportarTarefas(
+            @Parameter(description = "Filtro por projeto") @RequestParam(required = false) Long projetoId,
+            @Parameter(description = "Filtro por título (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String titulo,
+            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusTarefa status,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Filtro por prioridade") @RequestParam(required = false) Prioridade prioridade,
+            @Parameter(description = "Formato de saída (NDJSON ou CSV)") @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato) {
+        
+        log.info("GET /api/tarefas/export - Exportando tarefas em {}", formato);
+        
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarTarefas(
+            projetoId, titulo, status, responsavel, prioridade, formato, saida);
+        
+        return resposta("tarefas", formato, corpo);
+    }
+    
+    @Operation(summary = "Exportar projetos", description = "Exporta projetos em NDJSON ou CSV com os mesmos filtros da listagem")
+    @GetMapping("/projetos/export")
+    public ResponseEntity<StreamingResponseBody> exportarProjetos(
+            @Parameter(description = "Filtro por nome do projeto (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String nome,
+            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusProjeto status,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Formato de saída (NDJSON ou CSV)") @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato) {
+        
+        log.info("GET /api/projetos/export - Exportando projetos em {}", formato);
+        
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarProjetos(
+            nome, status, responsavel, formato, saida);
+        
+        return resposta("projetos", formato, corpo);
+    }
+    
+    private ResponseEntity<StreamingResponseBody> resposta(String nome, FormatoExportacao formato,
+                                                          StreamingResponseBody corpo) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(formato.getMediaType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nome + "." + formato.getExtensao() + "\"")
+            .body(corpo);
+    }
+}
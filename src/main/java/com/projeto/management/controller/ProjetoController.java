@@ -1,8 +1,13 @@
 package com.projeto.management.controller;
 
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.HistoricoStatusResponseDTO;
+import com.projeto.management.dto.response.ProjetoEstatisticasResponseDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
 import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.service.HistoricoStatusService;
 import com.projeto.management.service.ProjetoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +17,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -30,6 +39,7 @@ import java.util.List;
 public class ProjetoController {
     
     private final ProjetoService projetoService;
+    private final HistoricoStatusService historicoStatusService;
     
     @Operation(summary = "Criar novo projeto", description = "Cria um novo projeto no sistema")
     @PostMapping
@@ -47,11 +57,12 @@ public class ProjetoController {
     @Operation(summary = "Buscar projeto por ID", description = "Retorna um projeto específico pelo ID")
     @GetMapping("/{id}")
     public ResponseEntity<ProjetoResponseDTO> buscarPorId(
-            @Parameter(description = "ID do projeto") @PathVariable Long id) {
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Procurar também nos projetos e tarefas arquivados") @RequestParam(defaultValue = "false") boolean incluirArquivados) {
         
         log.info("GET /api/projetos/{} - Buscando projeto", id);
         
-        ProjetoResponseDTO response = projetoService.buscarPorId(id);
+        ProjetoResponseDTO response = projetoService.buscarPorId(id, incluirArquivados);
         
         return ResponseEntity.ok(response);
     }
@@ -59,9 +70,9 @@ public class ProjetoController {
     @Operation(summary = "Listar projetos", description = "Lista projetos com paginação e filtros opcionais")
     @GetMapping
     public ResponseEntity<Page<ProjetoResponseDTO>> listarProjetos(
-            @Parameter(description = "Filtro por nome do projeto") @RequestParam(required = false) String nome,
+            @Parameter(description = "Filtro por nome do projeto (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String nome,
             @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusProjeto status,
-            @Parameter(description = "Filtro por responsável") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
             @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("GET /api/projetos - Listando projetos com filtros");
@@ -71,6 +82,24 @@ public class ProjetoController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Listar projetos por cursor", description = "Lista projetos com paginação por cursor (sem contagem total)")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDTO<ProjetoResponseDTO>> listarProjetosPorCursor(
+            @Parameter(description = "Filtro por nome do projeto (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String nome,
+            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusProjeto status,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1-1000)") @RequestParam(defaultValue = "100") int size,
+            @SortDefault(sort = "id") Sort sort) {
+        
+        log.info("GET /api/projetos/cursor - Listando projetos por cursor");
+        
+        CursorPageResponseDTO<ProjetoResponseDTO> response = projetoService.listarProjetosPorCursor(
+            nome, status, responsavel, sort, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Atualizar projeto", description = "Atualiza um projeto existente")
     @PutMapping("/{id}")
     public ResponseEntity<ProjetoResponseDTO> atualizarProjeto(
@@ -123,6 +152,18 @@ public class ProjetoController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Buscar projetos por nome", description = "Retorna projetos cujo nome contém o termo informado")
+    @GetMapping("/nome/{termo}")
+    public ResponseEntity<List<ProjetoResponseDTO>> buscarPorNome(
+            @Parameter(description = "Trecho do nome do projeto") @PathVariable String termo) {
+        
+        log.info("GET /api/projetos/nome/{} - Buscando projetos", termo);
+        
+        List<ProjetoResponseDTO> response = projetoService.buscarPorNome(termo);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Buscar projetos por responsável", description = "Retorna projetos de um responsável específico")
     @GetMapping("/responsavel/{responsavel}")
     public ResponseEntity<List<ProjetoResponseDTO>> buscarPorResponsavel(
@@ -145,4 +186,33 @@ public class ProjetoController {
         
         return ResponseEntity.ok(response);
     }
+    
+    @Operation(summary = "Estatísticas das tarefas do projeto", description = "Retorna contadores por status e somas de horas das tarefas de um projeto")
+    @GetMapping("/{id}/estatisticas")
+    public ResponseEntity<ProjetoEstatisticasResponseDTO> getEstatisticasTarefas(
+            @Parameter(description = "ID do projeto") @PathVariable Long id) {
+        
+        log.info("GET /api/projetos/{}/estatisticas - Buscando estatísticas", id);
+        
+        ProjetoEstatisticasResponseDTO response = projetoService.getEstatisticasTarefas(id);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Histórico de status do projeto", description = "Lista as mudanças de status do projeto, das mais recentes para as mais antigas, com paginação por cursor")
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<CursorPageResponseDTO<HistoricoStatusResponseDTO>> listarHistorico(
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Primeiro dia do período (limitado à retenção)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Último dia do período") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1-1000)") @RequestParam(defaultValue = "100") int size) {
+        
+        log.info("GET /api/projetos/{}/historico - Listando histórico de status", id);
+        
+        CursorPageResponseDTO<HistoricoStatusResponseDTO> response = historicoStatusService.listar(
+            TabelaAuditoria.PROJETO, id, desde, ate, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,23 +1,42 @@
 package com.projeto.management.controller;
 
+import com.projeto.management.dto.request.AtualizacaoTarefasLoteRequestDTO;
 import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.AtualizacaoTarefasLoteResponseDTO;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.HistoricoStatusResponseDTO;
+import com.projeto.management.dto.response.ImportacaoTarefasResponseDTO;
 import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.BusinessException;
 import com.projeto.management.model.enums.StatusTarefa;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.service.AgrupamentoProgressoService;
+import com.projeto.management.service.AtualizacaoLoteTarefaService;
+import com.projeto.management.service.HistoricoStatusService;
+import com.projeto.management.service.ImportacaoTarefaService;
 import com.projeto.management.service.TarefaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -31,6 +50,10 @@ import java.util.List;
 public class TarefaController {
     
     private final TarefaService tarefaService;
+    private final ImportacaoTarefaService importacaoTarefaService;
+    private final AtualizacaoLoteTarefaService atualizacaoLoteTarefaService;
+    private final HistoricoStatusService historicoStatusService;
+    private final AgrupamentoProgressoService agrupamentoProgressoService;
     
     @Operation(summary = "Criar nova tarefa", description = "Cria uma nova tarefa no sistema")
     @PostMapping
@@ -45,25 +68,65 @@ public class TarefaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @Operation(summary = "Importar tarefas em lote", description = "Cria tarefas a partir de um array JSON; itens inválidos são reportados sem interromper a carga")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportacaoTarefasResponseDTO> importarTarefas(
+            @RequestBody List<TarefaRequestDTO> tarefas,
+            @RequestHeader(value = "X-Usuario", defaultValue = "sistema") String usuario) {
+        
+        log.info("POST /api/tarefas/bulk - Importando {} tarefas", tarefas.size());
+        
+        ImportacaoTarefasResponseDTO response = importacaoTarefaService.importar(tarefas, usuario);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Importar tarefas em lote (NDJSON)", description = "Cria tarefas a partir de uma tarefa JSON por linha, lidas à medida que são gravadas")
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportacaoTarefasResponseDTO> importarTarefasNdjson(
+            HttpServletRequest request,
+            @RequestHeader(value = "X-Usuario", defaultValue = "sistema") String usuario) throws IOException {
+        
+        log.info("POST /api/tarefas/bulk - Importando tarefas em NDJSON");
+        
+        ImportacaoTarefasResponseDTO response = importacaoTarefaService.importarNdjson(request.getInputStream(), usuario);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Atualizar tarefas em lote", description = "Altera status, prioridade e/ou responsável das tarefas selecionadas por ids ou filtros")
+    @PatchMapping("/bulk")
+    public ResponseEntity<AtualizacaoTarefasLoteResponseDTO> atualizarTarefasEmLote(
+            @Valid @RequestBody AtualizacaoTarefasLoteRequestDTO requestDTO,
+            @RequestHeader(value = "X-Usuario", defaultValue = "sistema") String usuario) {
+        
+        log.info("PATCH /api/tarefas/bulk - Atualizando tarefas em lote");
+        
+        AtualizacaoTarefasLoteResponseDTO response = atualizacaoLoteTarefaService.atualizar(requestDTO, usuario);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica pelo ID")
     @GetMapping("/{id}")
     public ResponseEntity<TarefaResponseDTO> buscarPorId(
-            @Parameter(description = "ID da tarefa") @PathVariable Long id) {
+            @Parameter(description = "ID da tarefa") @PathVariable Long id,
+            @Parameter(description = "Procurar também nas tarefas arquivadas") @RequestParam(defaultValue = "false") boolean incluirArquivados) {
         
         log.info("GET /api/tarefas/{} - Buscando tarefa", id);
         
-        TarefaResponseDTO response = tarefaService.buscarPorId(id);
+        TarefaResponseDTO response = tarefaService.buscarPorId(id, incluirArquivados);
         
-        return ResponseEntity.ok(response);
+        return comETag(response);
     }
     
     @Operation(summary = "Listar tarefas", description = "Lista tarefas com paginação e filtros opcionais")
     @GetMapping
     public ResponseEntity<Page<TarefaResponseDTO>> listarTarefas(
             @Parameter(description = "Filtro por projeto") @RequestParam(required = false) Long projetoId,
-            @Parameter(description = "Filtro por título") @RequestParam(required = false) String titulo,
+            @Parameter(description = "Filtro por título (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String titulo,
             @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusTarefa status,
-            @Parameter(description = "Filtro por responsável") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
             @Parameter(description = "Filtro por prioridade") @RequestParam(required = false) Prioridade prioridade,
             @PageableDefault(size = 20) Pageable pageable) {
         
@@ -75,14 +138,55 @@ public class TarefaController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Listar tarefas por cursor", description = "Lista tarefas com paginação por cursor (sem contagem total), indicada para percorrer grandes volumes")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDTO<TarefaResponseDTO>> listarTarefasPorCursor(
+            @Parameter(description = "Filtro por projeto") @RequestParam(required = false) Long projetoId,
+            @Parameter(description = "Filtro por título (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String titulo,
+            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusTarefa status,
+            @Parameter(description = "Filtro por responsável (contém, sem distinção de maiúsculas)") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Filtro por prioridade") @RequestParam(required = false) Prioridade prioridade,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1-1000)") @RequestParam(defaultValue = "100") int size,
+            @SortDefault.SortDefaults({
+                @SortDefault(sort = "prioridade", direction = Sort.Direction.DESC),
+                @SortDefault(sort = "dataFimPrevista", direction = Sort.Direction.ASC)
+            }) Sort sort) {
+        
+        log.info("GET /api/tarefas/cursor - Listando tarefas por cursor");
+        
+        CursorPageResponseDTO<TarefaResponseDTO> response = tarefaService.listarTarefasPorCursor(
+            projetoId, titulo, status, responsavel, prioridade, sort, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Listar tarefas por projeto", description = "Lista todas as tarefas de um projeto específico")
     @GetMapping("/projeto/{projetoId}")
     public ResponseEntity<List<TarefaResponseDTO>> listarTarefasPorProjeto(
-            @Parameter(description = "ID do projeto") @PathVariable Long projetoId) {
+            @Parameter(description = "ID do projeto") @PathVariable Long projetoId,
+            @Parameter(description = "Incluir as tarefas arquivadas") @RequestParam(defaultValue = "false") boolean incluirArquivados) {
         
         log.info("GET /api/tarefas/projeto/{} - Listando tarefas", projetoId);
         
-        List<TarefaResponseDTO> response = tarefaService.listarTarefasPorProjeto(projetoId);
+        List<TarefaResponseDTO> response = tarefaService.listarTarefasPorProjeto(projetoId, incluirArquivados);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Histórico de status da tarefa", description = "Lista as mudanças de status da tarefa, das mais recentes para as mais antigas, com paginação por cursor")
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<CursorPageResponseDTO<HistoricoStatusResponseDTO>> listarHistorico(
+            @Parameter(description = "ID da tarefa") @PathVariable Long id,
+            @Parameter(description = "Primeiro dia do período (limitado à retenção)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Último dia do período") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (1-1000)") @RequestParam(defaultValue = "100") int size) {
+        
+        log.info("GET /api/tarefas/{}/historico - Listando histórico de status", id);
+        
+        CursorPageResponseDTO<HistoricoStatusResponseDTO> response = historicoStatusService.listar(
+            TabelaAuditoria.TAREFA, id, desde, ate, cursor, size);
         
         return ResponseEntity.ok(response);
     }
@@ -114,32 +218,34 @@ public class TarefaController {
         return ResponseEntity.noContent().build();
     }
     
-    @Operation(summary = "Alterar status da tarefa", description = "Altera o status de uma tarefa")
+    @Operation(summary = "Alterar status da tarefa", description = "Altera o status de uma tarefa; com If-Match, apenas se a versão (ETag) ainda for a informada")
     @PatchMapping("/{id}/status")
     public ResponseEntity<TarefaResponseDTO> alterarStatus(
             @Parameter(description = "ID da tarefa") @PathVariable Long id,
             @Parameter(description = "Novo status") @RequestParam StatusTarefa status,
+            @Parameter(description = "ETag da versão esperada") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestHeader(value = "X-Usuario", defaultValue = "sistema") String usuario) {
         
         log.info("PATCH /api/tarefas/{}/status - Alterando status para: {}", id, status);
         
-        TarefaResponseDTO response = tarefaService.alterarStatus(id, status, usuario);
+        TarefaResponseDTO response = agrupamentoProgressoService.alterarStatus(id, status, usuario, versaoDoIfMatch(ifMatch));
         
-        return ResponseEntity.ok(response);
+        return comETag(response);
     }
     
-    @Operation(summary = "Atualizar percentual de conclusão", description = "Atualiza o percentual de conclusão de uma tarefa")
+    @Operation(summary = "Atualizar percentual de conclusão", description = "Atualiza o percentual de conclusão de uma tarefa; com If-Match, apenas se a versão (ETag) ainda for a informada")
     @PatchMapping("/{id}/percentual")
     public ResponseEntity<TarefaResponseDTO> atualizarPercentual(
             @Parameter(description = "ID da tarefa") @PathVariable Long id,
             @Parameter(description = "Percentual de conclusão (0-100)") @RequestParam Integer percentual,
+            @Parameter(description = "ETag da versão esperada") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestHeader(value = "X-Usuario", defaultValue = "sistema") String usuario) {
         
         log.info("PATCH /api/tarefas/{}/percentual - Atualizando para: {}%", id, percentual);
         
-        TarefaResponseDTO response = tarefaService.atualizarPercentual(id, percentual, usuario);
+        TarefaResponseDTO response = agrupamentoProgressoService.atualizarPercentual(id, percentual, usuario, versaoDoIfMatch(ifMatch));
         
-        return ResponseEntity.ok(response);
+        return comETag(response);
     }
     
     @Operation(summary = "Buscar tarefas atrasadas", description = "Retorna lista de tarefas com data fim prevista vencida")
@@ -176,6 +282,18 @@ public class TarefaController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Buscar tarefas por título", description = "Retorna tarefas cujo título contém o termo informado")
+    @GetMapping("/titulo/{termo}")
+    public ResponseEntity<List<TarefaResponseDTO>> buscarPorTitulo(
+            @Parameter(description = "Trecho do título da tarefa") @PathVariable String termo) {
+        
+        log.info("GET /api/tarefas/titulo/{} - Buscando tarefas", termo);
+        
+        List<TarefaResponseDTO> response = tarefaService.buscarPorTitulo(termo);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Buscar tarefas por responsável", description = "Retorna tarefas de um responsável específico")
     @GetMapping("/responsavel/{responsavel}")
     public ResponseEntity<List<TarefaResponseDTO>> buscarPorResponsavel(
@@ -187,4 +305,32 @@ public class TarefaController {
         
         return ResponseEntity.ok(response);
     }
+    
+    private static ResponseEntity<TarefaResponseDTO> comETag(TarefaResponseDTO response) {
+        if (response.getVersao() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(response.getVersao())).body(response);
+    }
+    
+    /**
+     * Extrai a versão do header If-Match ("3", W/"3" ou *); null quando ausente ou *
+     */
+    private static Long versaoDoIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("If-Match inválido: " + ifMatch);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.projeto.management.dto.request;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para atualização de tarefas em lote
+ * As tarefas são selecionadas por ids ou pelos mesmos filtros da listagem (um dos dois);
+ * apenas os campos informados da alteração são aplicados.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtualizacaoTarefasLoteRequestDTO {
+    
+    private List<Long> ids;
+    
+    private Filtro filtro;
+    
+    private StatusTarefa status;
+    
+    private Prioridade prioridade;
+    
+    @Size(max = 255, message = "Nome do responsável deve ter no máximo 255 caracteres")
+    private String responsavel;
+    
+    /**
+     * Filtros de seleção (mesma semântica da listagem de tarefas)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filtro {
+        private Long projetoId;
+        private String titulo;
+        private StatusTarefa status;
+        private String responsavel;
+        private Prioridade prioridade;
+    }
+}
@@ -0,0 +1,23 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da atualização de tarefas em lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtualizacaoTarefasLoteResponseDTO {
+    
+    /** Tarefas selecionadas pelos ids (distintos) ou pelos filtros */
+    private int selecionadas;
+    /** Tarefas ativas efetivamente atualizadas */
+    private int atualizadas;
+    /** Quantidade de UPDATEs executados */
+    private int lotes;
+}
@@ -0,0 +1,25 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta para uma mudança de status do histórico de um projeto ou tarefa
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoStatusResponseDTO {
+    
+    private Long id;
+    private String statusAnterior;
+    private String statusNovo;
+    private LocalDateTime dataMudanca;
+    private String usuario;
+    private String observacao;
+}
@@ -0,0 +1,35 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da importação de tarefas em lote
+ * Itens rejeitados não interrompem a carga: cada um é listado com sua posição na entrada
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoTarefasResponseDTO {
+    
+    private int recebidas;
+    private int importadas;
+    private int rejeitadas;
+    private List<ErroItem> erros;
+    
+    /**
+     * Erro de um item da entrada (indice a partir de 0)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErroItem {
+        private int indice;
+        private String mensagem;
+    }
+}
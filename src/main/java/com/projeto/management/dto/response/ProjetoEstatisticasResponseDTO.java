@@ -0,0 +1,31 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta para estatísticas de tarefas de um Projeto
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoEstatisticasResponseDTO {
+    
+    private Long idProjeto;
+    private Long totalTarefas;
+    private Long tarefasAbertas;
+    private Long tarefasEmAndamento;
+    private Long tarefasEmRevisao;
+    private Long tarefasConcluidas;
+    private Long tarefasCanceladas;
+    private BigDecimal totalHorasEstimadas;
+    private BigDecimal totalHorasTrabalhadas;
+    private Double percentualConclusao;
+    private LocalDateTime dataAtualizacao;
+}
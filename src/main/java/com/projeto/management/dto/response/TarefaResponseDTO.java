@@ -36,6 +36,7 @@ public class TarefaResponseDTO {
     private String observacoes;
     private LocalDateTime dataAtualizacao;
     private Boolean ativo;
+    private Long versao;
     
     // Informações do projeto
     private Long idProjeto;
@@ -0,0 +1,21 @@
+package com.projeto.management.exception;
+
+/**
+ * Exceção para escritas rejeitadas porque o registro mudou de versão
+ */
+public class ConflitoVersaoException extends RuntimeException {
+    
+    private final boolean precondicao;
+    
+    /**
+     * @param precondicao true quando a versão esperada foi informada pelo cliente (If-Match)
+     */
+    public ConflitoVersaoException(String message, boolean precondicao) {
+        super(message);
+        this.precondicao = precondicao;
+    }
+    
+    public boolean isPrecondicao() {
+        return precondicao;
+    }
+}
@@ -0,0 +1,159 @@
+package com.projeto.management.mapper;
+
+import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoArquivo;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.projection.ResumoTarefasView;
+import com.projeto.management.repository.projection.TarefaView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversões entre Projeto e seus DTOs, sem reflexão
+ * 
+ * Mantém a semântica do mapeamento anterior (ModelMapper STRICT): todos os campos do
+ * request são copiados, inclusive nulos, e a resposta inclui as tarefas do projeto.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjetoMapper {
+    
+    private final TarefaMapper tarefaMapper;
+    
+    /**
+     * Cria um novo projeto a partir do request
+     */
+    public Projeto paraEntidade(ProjetoRequestDTO dto) {
+        Projeto projeto = new Projeto();
+        copiar(dto, projeto);
+        return projeto;
+    }
+    
+    /**
+     * Copia os campos do request para o projeto (nulos sobrescrevem o valor atual)
+     */
+    public void copiar(ProjetoRequestDTO dto, Projeto projeto) {
+        projeto.setNome(dto.getNome());
+        projeto.setDescricao(dto.getDescricao());
+        projeto.setDataInicio(dto.getDataInicio());
+        projeto.setDataFimPrevista(dto.getDataFimPrevista());
+        projeto.setStatus(dto.getStatus());
+        projeto.setPrioridade(dto.getPrioridade());
+        projeto.setOrcamento(dto.getOrcamento());
+        projeto.setResponsavel(dto.getResponsavel());
+    }
+    
+    /**
+     * Converte o projeto para o DTO de resposta, incluindo as tarefas carregadas e seus totais
+     */
+    public ProjetoResponseDTO paraResponseDTO(Projeto projeto) {
+        ProjetoResponseDTO dto = dadosProjeto(projeto)
+            .percentualConclusao(projeto.getPercentualConclusao())
+            .build();
+        
+        if (projeto.getTarefas() != null) {
+            preencherTarefas(dto, projeto.getTarefas().stream()
+                .map(tarefaMapper::paraResponseDTO)
+                .toList());
+        }
+        return dto;
+    }
+    
+    /**
+     * Converte para o DTO de listagem com os totais agregados, sem acessar a coleção lazy de tarefas
+     */
+    public ProjetoResponseDTO paraResumoDTO(Projeto projeto, ResumoTarefasView resumo) {
+        return dadosProjeto(projeto)
+            .percentualConclusao(resumo.getPercentualConclusao())
+            .totalTarefas(resumo.totalTarefas().intValue())
+            .tarefasConcluidas(resumo.tarefasConcluidas().intValue())
+            .totalHorasEstimadas(resumo.totalHorasEstimadas())
+            .totalHorasTrabalhadas(resumo.totalHorasTrabalhadas())
+            .build();
+    }
+    
+    /**
+     * Converte um projeto arquivado; as tarefas são acrescentadas por incluirTarefasArquivadas
+     */
+    public ProjetoResponseDTO paraResponseDTOArquivado(ProjetoArquivo projeto) {
+        return ProjetoResponseDTO.builder()
+            .id(projeto.getId())
+            .nome(projeto.getNome())
+            .descricao(projeto.getDescricao())
+            .dataInicio(projeto.getDataInicio())
+            .dataFimPrevista(projeto.getDataFimPrevista())
+            .dataFimReal(projeto.getDataFimReal())
+            .status(projeto.getStatus())
+            .prioridade(projeto.getPrioridade())
+            .orcamento(projeto.getOrcamento())
+            .responsavel(projeto.getResponsavel())
+            .dataCriacao(projeto.getDataCriacao())
+            .dataAtualizacao(projeto.getDataAtualizacao())
+            .usuarioCriacao(projeto.getUsuarioCriacao())
+            .ativo(projeto.getAtivo())
+            .atrasado(projeto.isAtrasado())
+            .tarefas(new ArrayList<>())
+            .build();
+    }
+    
+    /**
+     * Acrescenta as tarefas arquivadas à resposta e recalcula os totais sobre a lista completa,
+     * com as mesmas regras usadas para as tarefas da entidade
+     */
+    public void incluirTarefasArquivadas(ProjetoResponseDTO dto, List<TarefaView> arquivadas) {
+        LocalDate hoje = LocalDate.now();
+        List<TarefaResponseDTO> tarefas = new ArrayList<>(dto.getTarefas() == null ? List.of() : dto.getTarefas());
+        arquivadas.forEach(view -> tarefas.add(tarefaMapper.paraResponseDTO(view, hoje)));
+        preencherTarefas(dto, tarefas);
+    }
+    
+    private ProjetoResponseDTO.ProjetoResponseDTOBuilder dadosProjeto(Projeto projeto) {
+        return ProjetoResponseDTO.builder()
+            .id(projeto.getId())
+            .nome(projeto.getNome())
+            .descricao(projeto.getDescricao())
+            .dataInicio(projeto.getDataInicio())
+            .dataFimPrevista(projeto.getDataFimPrevista())
+            .dataFimReal(projeto.getDataFimReal())
+            .status(projeto.getStatus())
+            .prioridade(projeto.getPrioridade())
+            .orcamento(projeto.getOrcamento())
+            .responsavel(projeto.getResponsavel())
+            .dataCriacao(projeto.getDataCriacao())
+            .dataAtualizacao(projeto.getDataAtualizacao())
+            .usuarioCriacao(projeto.getUsuarioCriacao())
+            .ativo(projeto.getAtivo())
+            .atrasado(projeto.isAtrasado());
+    }
+    
+    /**
+     * Define as tarefas da resposta e calcula os totais sobre elas: o percentual considera todas
+     * as tarefas, enquanto concluídas e horas somam apenas as ativas
+     */
+    private void preencherTarefas(ProjetoResponseDTO dto, List<TarefaResponseDTO> tarefas) {
+        long tarefasConcluidas = tarefas.stream()
+            .filter(t -> Boolean.TRUE.equals(t.getAtivo()) && t.getStatus() == StatusTarefa.CONCLUIDA)
+            .count();
+        
+        dto.setTarefas(tarefas);
+        dto.setTotalTarefas(tarefas.size());
+        dto.setTarefasConcluidas((int) tarefasConcluidas);
+        dto.setPercentualConclusao(tarefas.isEmpty() ? 0.0 : (double) tarefasConcluidas / tarefas.size() * 100.0);
+        dto.setTotalHorasEstimadas(tarefas.stream()
+            .filter(t -> Boolean.TRUE.equals(t.getAtivo()) && t.getEstimativaHoras() != null)
+            .map(TarefaResponseDTO::getEstimativaHoras)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+        dto.setTotalHorasTrabalhadas(tarefas.stream()
+            .filter(t -> Boolean.TRUE.equals(t.getAtivo()) && t.getHorasTrabalhadas() != null)
+            .map(TarefaResponseDTO::getHorasTrabalhadas)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+}
@@ -0,0 +1,107 @@
+package com.projeto.management.mapper;
+
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.repository.projection.TarefaView;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Conversões entre Tarefa e seus DTOs, sem reflexão
+ * 
+ * Mantém a semântica do mapeamento anterior (ModelMapper STRICT): todos os campos do
+ * request são copiados, inclusive nulos; o projeto é tratado pelo service (idProjeto).
+ */
+@Component
+public class TarefaMapper {
+    
+    /**
+     * Cria uma nova tarefa a partir do request
+     */
+    public Tarefa paraEntidade(TarefaRequestDTO dto) {
+        Tarefa tarefa = new Tarefa();
+        copiar(dto, tarefa);
+        return tarefa;
+    }
+    
+    /**
+     * Copia os campos do request para a tarefa (nulos sobrescrevem o valor atual)
+     */
+    public void copiar(TarefaRequestDTO dto, Tarefa tarefa) {
+        tarefa.setTitulo(dto.getTitulo());
+        tarefa.setDescricao(dto.getDescricao());
+        tarefa.setStatus(dto.getStatus());
+        tarefa.setPrioridade(dto.getPrioridade());
+        tarefa.setDataInicio(dto.getDataInicio());
+        tarefa.setDataFimPrevista(dto.getDataFimPrevista());
+        tarefa.setEstimativaHoras(dto.getEstimativaHoras());
+        tarefa.setHorasTrabalhadas(dto.getHorasTrabalhadas());
+        tarefa.setPercentualConclusao(dto.getPercentualConclusao());
+        tarefa.setResponsavel(dto.getResponsavel());
+        tarefa.setObservacoes(dto.getObservacoes());
+    }
+    
+    /**
+     * Converte a tarefa para o DTO de resposta, incluindo projeto e campos calculados
+     */
+    public TarefaResponseDTO paraResponseDTO(Tarefa tarefa) {
+        TarefaResponseDTO.TarefaResponseDTOBuilder dto = TarefaResponseDTO.builder()
+            .id(tarefa.getId())
+            .titulo(tarefa.getTitulo())
+            .descricao(tarefa.getDescricao())
+            .status(tarefa.getStatus())
+            .prioridade(tarefa.getPrioridade())
+            .dataCriacao(tarefa.getDataCriacao())
+            .dataInicio(tarefa.getDataInicio())
+            .dataFimPrevista(tarefa.getDataFimPrevista())
+            .dataFimReal(tarefa.getDataFimReal())
+            .estimativaHoras(tarefa.getEstimativaHoras())
+            .horasTrabalhadas(tarefa.getHorasTrabalhadas())
+            .percentualConclusao(tarefa.getPercentualConclusao())
+            .responsavel(tarefa.getResponsavel())
+            .observacoes(tarefa.getObservacoes())
+            .dataAtualizacao(tarefa.getDataAtualizacao())
+            .ativo(tarefa.getAtivo())
+            .versao(tarefa.getVersao())
+            .atrasada(tarefa.isAtrasada())
+            .diasRestantes(tarefa.getDiasRestantes());
+        
+        if (tarefa.getProjeto() != null) {
+            dto.idProjeto(tarefa.getProjeto().getId())
+               .nomeProjeto(tarefa.getProjeto().getNome());
+        }
+        
+        return dto.build();
+    }
+    
+    /**
+     * Converte a projeção de leitura sem tocar em associações lazy
+     */
+    public TarefaResponseDTO paraResponseDTO(TarefaView view, LocalDate hoje) {
+        return TarefaResponseDTO.builder()
+            .id(view.id())
+            .titulo(view.titulo())
+            .descricao(view.descricao())
+            .status(view.status())
+            .prioridade(view.prioridade())
+            .dataCriacao(view.dataCriacao())
+            .dataInicio(view.dataInicio())
+            .dataFimPrevista(view.dataFimPrevista())
+            .dataFimReal(view.dataFimReal())
+            .estimativaHoras(view.estimativaHoras())
+            .horasTrabalhadas(view.horasTrabalhadas())
+            .percentualConclusao(view.percentualConclusao())
+            .responsavel(view.responsavel())
+            .observacoes(view.observacoes())
+            .dataAtualizacao(view.dataAtualizacao())
+            .ativo(view.ativo())
+            .versao(view.versao())
+            .idProjeto(view.idProjeto())
+            .nomeProjeto(view.nomeProjeto())
+            .atrasada(view.isAtrasada(hoje))
+            .diasRestantes(view.getDiasRestantes(hoje))
+            .build();
+    }
+}
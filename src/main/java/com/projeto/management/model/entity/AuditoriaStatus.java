@@ -0,0 +1,52 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.TabelaAuditoria;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade AuditoriaStatus
+ * Registro de uma mudança de status de projeto ou tarefa, gravado em lote pelo AuditoriaStatusService
+ */
+@Entity
+@Table(name = "auditoria_status", indexes = {
+    @Index(name = "idx_auditoria_historico", columnList = "tabela, id_registro, data_mudanca, id"),
+    @Index(name = "idx_auditoria_data", columnList = "data_mudanca")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditoriaStatus {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TabelaAuditoria tabela;
+    
+    @Column(name = "id_registro", nullable = false)
+    private Long idRegistro;
+    
+    @Column(name = "status_anterior", length = 50)
+    private String statusAnterior;
+    
+    @Column(name = "status_novo", length = 50, nullable = false)
+    private String statusNovo;
+    
+    @Column(name = "data_mudanca", nullable = false)
+    private LocalDateTime dataMudanca;
+    
+    @Column(length = 100)
+    private String usuario;
+    
+    @Column(columnDefinition = "TEXT")
+    private String observacao;
+}
@@ -8,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,6 +24,8 @@ import java.util.List;
  * Representa um projeto no sistema de gerenciamento
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Projeto.REGIAO_CACHE)
 @Table(name = "projeto", indexes = {
     @Index(name = "idx_projeto_nome", columnList = "nome"),
     @Index(name = "idx_projeto_status", columnList = "status"),
@@ -33,6 +37,11 @@ import java.util.List;
 @AllArgsConstructor
 public class Projeto {
     
+    /**
+     * Região do cache de segundo nível; limites em CacheSegundoNivelProperties
+     */
+    public static final String REGIAO_CACHE = "projeto";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,115 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade ProjetoEstatisticas
+ * Contadores por status e somas de horas das tarefas ativas de um projeto,
+ * mantidos incrementalmente pelas operações de escrita de TarefaService
+ */
+@Entity
+@Table(name = "projeto_estatisticas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoEstatisticas {
+    
+    @Id
+    @Column(name = "id_projeto")
+    private Long projetoId;
+    
+    @Column(name = "total_tarefas", nullable = false)
+    @Builder.Default
+    private Long totalTarefas = 0L;
+    
+    @Column(name = "tarefas_abertas", nullable = false)
+    @Builder.Default
+    private Long tarefasAbertas = 0L;
+    
+    @Column(name = "tarefas_em_andamento", nullable = false)
+    @Builder.Default
+    private Long tarefasEmAndamento = 0L;
+    
+    @Column(name = "tarefas_em_revisao", nullable = false)
+    @Builder.Default
+    private Long tarefasEmRevisao = 0L;
+    
+    @Column(name = "tarefas_concluidas", nullable = false)
+    @Builder.Default
+    private Long tarefasConcluidas = 0L;
+    
+    @Column(name = "tarefas_canceladas", nullable = false)
+    @Builder.Default
+    private Long tarefasCanceladas = 0L;
+    
+    @Column(name = "total_horas_estimadas", precision = 15, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalHorasEstimadas = BigDecimal.ZERO;
+    
+    @Column(name = "total_horas_trabalhadas", precision = 15, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal totalHorasTrabalhadas = BigDecimal.ZERO;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+    
+    /**
+     * Soma uma parcela de tarefas com o status informado
+     */
+    public void acumular(StatusTarefa status, long quantidade, BigDecimal horasEstimadas, BigDecimal horasTrabalhadas) {
+        totalTarefas += quantidade;
+        switch (status) {
+            case ABERTA -> tarefasAbertas += quantidade;
+            case EM_ANDAMENTO -> tarefasEmAndamento += quantidade;
+            case EM_REVISAO -> tarefasEmRevisao += quantidade;
+            case CONCLUIDA -> tarefasConcluidas += quantidade;
+            case CANCELADA -> tarefasCanceladas += quantidade;
+        }
+        totalHorasEstimadas = totalHorasEstimadas.add(horasEstimadas != null ? horasEstimadas : BigDecimal.ZERO);
+        totalHorasTrabalhadas = totalHorasTrabalhadas.add(horasTrabalhadas != null ? horasTrabalhadas : BigDecimal.ZERO);
+    }
+    
+    /**
+     * Verifica se os contadores divergem de outro registro (ignora data de atualização)
+     */
+    public boolean divergeDe(ProjetoEstatisticas outra) {
+        return !totalTarefas.equals(outra.totalTarefas) ||
+               !tarefasAbertas.equals(outra.tarefasAbertas) ||
+               !tarefasEmAndamento.equals(outra.tarefasEmAndamento) ||
+               !tarefasEmRevisao.equals(outra.tarefasEmRevisao) ||
+               !tarefasConcluidas.equals(outra.tarefasConcluidas) ||
+               !tarefasCanceladas.equals(outra.tarefasCanceladas) ||
+               totalHorasEstimadas.compareTo(outra.totalHorasEstimadas) != 0 ||
+               totalHorasTrabalhadas.compareTo(outra.totalHorasTrabalhadas) != 0;
+    }
+    
+    /**
+     * Copia os contadores de outro registro
+     */
+    public void copiarContadores(ProjetoEstatisticas outra) {
+        this.totalTarefas = outra.totalTarefas;
+        this.tarefasAbertas = outra.tarefasAbertas;
+        this.tarefasEmAndamento = outra.tarefasEmAndamento;
+        this.tarefasEmRevisao = outra.tarefasEmRevisao;
+        this.tarefasConcluidas = outra.tarefasConcluidas;
+        this.tarefasCanceladas = outra.tarefasCanceladas;
+        this.totalHorasEstimadas = outra.totalHorasEstimadas;
+        this.totalHorasTrabalhadas = outra.totalHorasTrabalhadas;
+    }
+    
+    public double getPercentualConclusao() {
+        if (totalTarefas == 0) {
+            return 0.0;
+        }
+        return (double) tarefasConcluidas / totalTarefas * 100.0;
+    }
+}
@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -33,8 +34,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Tarefa {
     
+    public static final int ALOCACAO_IDS = 50;
+    
+    /**
+     * Id por sequência com otimizador pooled: um acesso ao gerador a cada ALOCACAO_IDS inserções,
+     * o que permite ao Hibernate agrupar os INSERTs em lotes JDBC (IDENTITY desativa o batching)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefa_seq")
+    @SequenceGenerator(name = "tarefa_seq", sequenceName = "tarefa_seq", allocationSize = Tarefa.ALOCACAO_IDS)
     private Long id;
     
     @NotBlank(message = "Título da tarefa é obrigatório")
@@ -102,6 +110,14 @@ public class Tarefa {
     @Builder.Default
     private Boolean ativo = true;
     
+    /**
+     * Versão para controle de concorrência otimista (exposta como ETag)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+    
     // Relacionamento com Projeto
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_projeto", nullable = false)
@@ -128,6 +144,30 @@ public class Tarefa {
         return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), dataFimPrevista);
     }
     
+    /**
+     * Altera o status, ajustando percentual e data de conclusão
+     */
+    public void alterarStatus(StatusTarefa novoStatus) {
+        this.status = novoStatus;
+        atualizarPercentualPorStatus();
+    }
+    
+    /**
+     * Altera o percentual, concluindo ou iniciando a tarefa quando aplicável
+     */
+    public void alterarPercentual(Integer percentual) {
+        this.percentualConclusao = percentual;
+        
+        if (percentual == 100 && status != StatusTarefa.CONCLUIDA) {
+            this.status = StatusTarefa.CONCLUIDA;
+            this.dataFimReal = LocalDate.now();
+        } else if (percentual > 0 && percentual < 100 && status == StatusTarefa.ABERTA) {
+            this.status = StatusTarefa.EM_ANDAMENTO;
+        }
+        
+        atualizarPercentualPorStatus();
+    }
+    
     /**
      * Atualiza o percentual baseado no status
      */
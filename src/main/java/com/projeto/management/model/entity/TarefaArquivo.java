@@ -0,0 +1,93 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade TarefaArquivo
+ * Tarefa movida da tabela tarefa pela rotina de arquivamento; somente leitura
+ * O projeto é guardado apenas pelo id, pois ele também pode ter sido arquivado
+ */
+@Entity
+@Immutable
+@Table(name = "tarefa_arquivo", indexes = {
+    @Index(name = "idx_tarefa_arquivo_projeto", columnList = "id_projeto"),
+    @Index(name = "idx_tarefa_arquivo_data", columnList = "data_arquivamento")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaArquivo {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String titulo;
+    
+    @Column(columnDefinition = "TEXT")
+    private String descricao;
+    
+    @Enumerated(EnumType.STRING)
+    private StatusTarefa status;
+    
+    @Enumerated(EnumType.STRING)
+    private Prioridade prioridade;
+    
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_inicio")
+    private LocalDate dataInicio;
+    
+    @Column(name = "data_fim_prevista")
+    private LocalDate dataFimPrevista;
+    
+    @Column(name = "data_fim_real")
+    private LocalDate dataFimReal;
+    
+    @Column(name = "estimativa_horas", precision = 8, scale = 2)
+    private BigDecimal estimativaHoras;
+    
+    @Column(name = "horas_trabalhadas", precision = 8, scale = 2)
+    private BigDecimal horasTrabalhadas;
+    
+    @Column(name = "percentual_conclusao")
+    private Integer percentualConclusao;
+    
+    private String responsavel;
+    
+    @Column(columnDefinition = "TEXT")
+    private String observacoes;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+    
+    @Column(name = "usuario_criacao")
+    private String usuarioCriacao;
+    
+    @Column(name = "usuario_atualizacao")
+    private String usuarioAtualizacao;
+    
+    private Boolean ativo;
+    
+    @Column(nullable = false)
+    private Long versao;
+    
+    @Column(name = "id_projeto", nullable = false)
+    private Long idProjeto;
+    
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+}
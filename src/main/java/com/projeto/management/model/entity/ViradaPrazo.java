@@ -0,0 +1,32 @@
+package com.projeto.management.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade ViradaPrazo
+ * Uma linha por dia em que a virada do índice de prazos publicou os eventos TarefaAtrasada;
+ * a chave primária garante que, entre várias réplicas, só uma publique os eventos de cada dia
+ */
+@Entity
+@Table(name = "virada_prazo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViradaPrazo {
+    
+    @Id
+    @Column(name = "dia")
+    private LocalDate dia;
+    
+    @Column(name = "instancia", nullable = false, length = 100)
+    private String instancia;
+    
+    @Column(name = "data_execucao", nullable = false)
+    private LocalDateTime dataExecucao;
+}
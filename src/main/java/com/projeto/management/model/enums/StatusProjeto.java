@@ -1,5 +1,7 @@
 package com.projeto.management.model.enums;
 
+import com.projeto.domain.shared.TabelaTransicoes;
+
 /**
  * Enumeração para Status do Projeto
  */
@@ -10,6 +12,18 @@ public enum StatusProjeto {
     CONCLUIDO("Concluído"),
     CANCELADO("Cancelado");
     
+    /**
+     * Transições aceitas pela API de gestão: cancelado é final e concluído só aceita o próprio status.
+     * É mais permissiva que a tabela do domínio, que só conclui projetos em andamento
+     */
+    private static final TabelaTransicoes<StatusProjeto> TRANSICOES = TabelaTransicoes
+        .com(StatusProjeto::name, values())
+        .permitirExceto(PLANEJAMENTO)
+        .permitirExceto(EM_ANDAMENTO)
+        .permitirExceto(PAUSADO)
+        .permitir(CONCLUIDO, CONCLUIDO)
+        .construir();
+    
     private final String descricao;
     
     StatusProjeto(String descricao) {
@@ -19,4 +33,8 @@ public enum StatusProjeto {
     public String getDescricao() {
         return descricao;
     }
+    
+    public boolean podeSerAlteradoPara(StatusProjeto novoStatus) {
+        return TRANSICOES.permite(this, novoStatus);
+    }
 }
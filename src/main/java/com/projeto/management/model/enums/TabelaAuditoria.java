@@ -0,0 +1,19 @@
+package com.projeto.management.model.enums;
+
+/**
+ * Enumeração para a tabela de origem de um registro de auditoria de status
+ */
+public enum TabelaAuditoria {
+    PROJETO("Projeto"),
+    TAREFA("Tarefa");
+    
+    private final String descricao;
+    
+    TabelaAuditoria(String descricao) {
+        this.descricao = descricao;
+    }
+    
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,12 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.AuditoriaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório para a entidade AuditoriaStatus
+ */
+@Repository
+public interface AuditoriaStatusRepository extends JpaRepository<AuditoriaStatus, Long>, AuditoriaStatusRepositoryCustom {
+}
@@ -0,0 +1,30 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.keyset.CursorSlice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Operações de AuditoriaStatus implementadas manualmente (JDBC e Criteria API)
+ */
+public interface AuditoriaStatusRepositoryCustom {
+    
+    /**
+     * Insere os registros com INSERTs de várias linhas, sem passar pelo contexto de persistência
+     * @param registros registros a inserir (o id é gerado pelo banco e não é preenchido)
+     * @return número de linhas inseridas
+     */
+    int inserirEmLote(List<AuditoriaStatus> registros);
+    
+    /**
+     * Histórico de status de um registro, do mais recente para o mais antigo, paginado por cursor
+     * O intervalo de datas limita a leitura às partições do período
+     * @param inicio início do período (inclusive)
+     * @param fim fim do período (exclusive) ou null para sem limite
+     */
+    CursorSlice<AuditoriaStatus> buscarHistorico(TabelaAuditoria tabela, Long idRegistro, LocalDateTime inicio,
+                                                 LocalDateTime fim, String cursor, int tamanho);
+}
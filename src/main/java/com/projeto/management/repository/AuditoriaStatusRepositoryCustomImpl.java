@@ -0,0 +1,98 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.keyset.ChaveOrdenacao;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.keyset.KeysetPaginador;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementação das operações customizadas de AuditoriaStatus
+ */
+public class AuditoriaStatusRepositoryCustomImpl implements AuditoriaStatusRepositoryCustom {
+    
+    /**
+     * Linhas por comando: mantém o número de parâmetros do INSERT bem abaixo dos limites dos drivers
+     */
+    static final int LINHAS_POR_COMANDO = 100;
+    
+    private static final String INSERT = "INSERT INTO auditoria_status " +
+        "(tabela, id_registro, status_anterior, status_novo, data_mudanca, usuario, observacao) VALUES ";
+    private static final String LINHA = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUNAS = 7;
+    
+    private static final KeysetPaginador<AuditoriaStatus, AuditoriaStatus> HISTORICO = new KeysetPaginador<>(
+        AuditoriaStatus.class,
+        AuditoriaStatus.class,
+        (root, cb) -> root,
+        List.of(
+            ChaveOrdenacao.of("id", Long.class, AuditoriaStatus::getId),
+            ChaveOrdenacao.of("dataMudanca", LocalDateTime.class, AuditoriaStatus::getDataMudanca)
+        )
+    );
+    
+    /**
+     * Mais recentes primeiro; o id desempata mudanças no mesmo instante
+     */
+    private static final Sort ORDEM_HISTORICO = Sort.by(Sort.Order.desc("dataMudanca"), Sort.Order.desc("id"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public AuditoriaStatusRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public int inserirEmLote(List<AuditoriaStatus> registros) {
+        int inseridos = 0;
+        for (int inicio = 0; inicio < registros.size(); inicio += LINHAS_POR_COMANDO) {
+            List<AuditoriaStatus> bloco = registros.subList(inicio, Math.min(inicio + LINHAS_POR_COMANDO, registros.size()));
+            inseridos += jdbcTemplate.update(INSERT + String.join(", ", Collections.nCopies(bloco.size(), LINHA)),
+                parametros(bloco));
+        }
+        return inseridos;
+    }
+    
+    @Override
+    public CursorSlice<AuditoriaStatus> buscarHistorico(TabelaAuditoria tabela, Long idRegistro, LocalDateTime inicio,
+                                                        LocalDateTime fim, String cursor, int tamanho) {
+        return HISTORICO.buscar(entityManager, (root, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            predicados.add(cb.equal(root.get("tabela"), tabela));
+            predicados.add(cb.equal(root.get("idRegistro"), idRegistro));
+            predicados.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dataMudanca"), inicio));
+            if (fim != null) {
+                predicados.add(cb.lessThan(root.<LocalDateTime>get("dataMudanca"), fim));
+            }
+            return predicados;
+        }, ORDEM_HISTORICO, cursor, tamanho);
+    }
+    
+    private static Object[] parametros(List<AuditoriaStatus> bloco) {
+        Object[] parametros = new Object[bloco.size() * COLUNAS];
+        int i = 0;
+        for (AuditoriaStatus registro : bloco) {
+            parametros[i++] = registro.getTabela().name();
+            parametros[i++] = registro.getIdRegistro();
+            parametros[i++] = registro.getStatusAnterior();
+            parametros[i++] = registro.getStatusNovo();
+            parametros[i++] = registro.getDataMudanca();
+            parametros[i++] = registro.getUsuario();
+            parametros[i++] = registro.getObservacao();
+        }
+        return parametros;
+    }
+}
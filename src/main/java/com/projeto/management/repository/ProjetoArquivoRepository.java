@@ -0,0 +1,82 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ProjetoArquivo;
+import com.projeto.management.model.enums.StatusProjeto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para a entidade ProjetoArquivo
+ * Reúne as leituras do arquivo e as operações de movimentação usadas pelo ArquivamentoService
+ */
+@Repository
+public interface ProjetoArquivoRepository extends JpaRepository<ProjetoArquivo, Long> {
+    
+    /**
+     * Condição de arquivamento (SQL nativo): excluído ou encerrado, sem alteração desde o limite
+     * da retenção e sem tarefas restantes na tabela tarefa
+     */
+    String CONDICAO_ARQUIVAVEL = "(p.ativo = false OR p.status IN ('CONCLUIDO', 'CANCELADO')) " +
+           "AND p.data_atualizacao < :limite " +
+           "AND NOT EXISTS (SELECT 1 FROM tarefa t WHERE t.id_projeto = p.id) ";
+    
+    /**
+     * Busca projeto arquivado que estava ativo
+     */
+    Optional<ProjetoArquivo> findByIdAndAtivoTrue(Long id);
+    
+    /**
+     * Lista IDs de projetos candidatos ao arquivamento após o último ID processado (paginação por chave)
+     */
+    @Query("SELECT p.id FROM Projeto p WHERE p.id > :ultimoId " +
+           "AND (p.ativo = false OR p.status IN :statusEncerrados) " +
+           "AND p.dataAtualizacao < :limite " +
+           "AND NOT EXISTS (SELECT 1 FROM Tarefa t WHERE t.projeto.id = p.id) ORDER BY p.id")
+    List<Long> findIdsArquivaveisApos(@Param("ultimoId") Long ultimoId,
+                                      @Param("statusEncerrados") Collection<StatusProjeto> statusEncerrados,
+                                      @Param("limite") LocalDateTime limite,
+                                      Pageable pageable);
+    
+    /**
+     * Bloqueia os candidatos que ainda atendem à condição de arquivamento
+     */
+    @Query(value = "SELECT p.id FROM projeto p WHERE p.id IN (:ids) AND " + CONDICAO_ARQUIVAVEL +
+                   "FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearArquivaveis(@Param("ids") Collection<Long> ids, @Param("limite") LocalDateTime limite);
+    
+    /**
+     * Copia os projetos informados para o arquivo
+     */
+    @Modifying
+    @Query(value = "INSERT INTO projeto_arquivo (id, nome, descricao, data_inicio, data_fim_prevista, " +
+                   "data_fim_real, status, prioridade, orcamento, responsavel, data_criacao, data_atualizacao, " +
+                   "usuario_criacao, usuario_atualizacao, ativo, data_arquivamento) " +
+                   "SELECT id, nome, descricao, data_inicio, data_fim_prevista, " +
+                   "data_fim_real, status, prioridade, orcamento, responsavel, data_criacao, data_atualizacao, " +
+                   "usuario_criacao, usuario_atualizacao, ativo, :agora " +
+                   "FROM projeto WHERE id IN (:ids)", nativeQuery = true)
+    int copiarParaArquivo(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+    
+    /**
+     * Remove as estatísticas dos projetos arquivados (no MySQL a FK já remove em cascata)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM projeto_estatisticas WHERE id_projeto IN (:ids)", nativeQuery = true)
+    int removerEstatisticas(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Remove da tabela projeto os projetos já copiados para o arquivo
+     */
+    @Modifying
+    @Query(value = "DELETE FROM projeto WHERE id IN (:ids)", nativeQuery = true)
+    int removerArquivados(@Param("ids") Collection<Long> ids);
+}
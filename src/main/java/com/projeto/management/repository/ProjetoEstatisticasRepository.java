@@ -0,0 +1,82 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para a entidade ProjetoEstatisticas
+ */
+@Repository
+public interface ProjetoEstatisticasRepository extends JpaRepository<ProjetoEstatisticas, Long>, ProjetoEstatisticasRepositoryCustom {
+    
+    /**
+     * Aplica um delta aos contadores de um projeto
+     * @return número de linhas afetadas (0 quando o projeto ainda não possui registro)
+     */
+    @Modifying
+    @Query("UPDATE ProjetoEstatisticas e SET " +
+           "e.totalTarefas = e.totalTarefas + :total, " +
+           "e.tarefasAbertas = e.tarefasAbertas + :abertas, " +
+           "e.tarefasEmAndamento = e.tarefasEmAndamento + :emAndamento, " +
+           "e.tarefasEmRevisao = e.tarefasEmRevisao + :emRevisao, " +
+           "e.tarefasConcluidas = e.tarefasConcluidas + :concluidas, " +
+           "e.tarefasCanceladas = e.tarefasCanceladas + :canceladas, " +
+           "e.totalHorasEstimadas = e.totalHorasEstimadas + :horasEstimadas, " +
+           "e.totalHorasTrabalhadas = e.totalHorasTrabalhadas + :horasTrabalhadas, " +
+           "e.dataAtualizacao = :agora " +
+           "WHERE e.projetoId = :projetoId")
+    int aplicarDelta(@Param("projetoId") Long projetoId,
+                     @Param("total") long total,
+                     @Param("abertas") long abertas,
+                     @Param("emAndamento") long emAndamento,
+                     @Param("emRevisao") long emRevisao,
+                     @Param("concluidas") long concluidas,
+                     @Param("canceladas") long canceladas,
+                     @Param("horasEstimadas") BigDecimal horasEstimadas,
+                     @Param("horasTrabalhadas") BigDecimal horasTrabalhadas,
+                     @Param("agora") LocalDateTime agora);
+    
+    /**
+     * Busca e bloqueia os registros dos projetos informados para correção
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ProjetoEstatisticas e WHERE e.projetoId IN :projetoIds")
+    List<ProjetoEstatisticas> findParaAtualizacao(@Param("projetoIds") Collection<Long> projetoIds);
+    
+    /**
+     * Recalcula os agregados das tarefas ativas dos projetos informados, agrupados por status
+     * Retorna [projetoId, status, quantidade, horasEstimadas, horasTrabalhadas]
+     */
+    @Query("SELECT t.projeto.id, t.status, COUNT(t), " +
+           "SUM(COALESCE(t.estimativaHoras, 0)), SUM(COALESCE(t.horasTrabalhadas, 0)) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.projeto.id IN :projetoIds " +
+           "GROUP BY t.projeto.id, t.status")
+    List<Object[]> recalcularPorProjetos(@Param("projetoIds") Collection<Long> projetoIds);
+    
+    /**
+     * Mesmo recálculo sobre as tarefas arquivadas que estavam ativas, que continuam contando no projeto
+     */
+    @Query("SELECT a.idProjeto, a.status, COUNT(a), " +
+           "SUM(COALESCE(a.estimativaHoras, 0)), SUM(COALESCE(a.horasTrabalhadas, 0)) " +
+           "FROM TarefaArquivo a WHERE a.ativo = true AND a.idProjeto IN :projetoIds " +
+           "GROUP BY a.idProjeto, a.status")
+    List<Object[]> recalcularArquivadasPorProjetos(@Param("projetoIds") Collection<Long> projetoIds);
+    
+    /**
+     * Lista IDs de projetos ativos após o último ID processado (paginação por chave)
+     */
+    @Query("SELECT p.id FROM Projeto p WHERE p.ativo = true AND p.id > :ultimoId ORDER BY p.id")
+    List<Long> findIdsProjetosApos(@Param("ultimoId") Long ultimoId, Pageable pageable);
+}
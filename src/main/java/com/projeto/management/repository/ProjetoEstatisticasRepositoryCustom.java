@@ -0,0 +1,16 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+
+/**
+ * Operações de ProjetoEstatisticas implementadas manualmente (JDBC)
+ */
+public interface ProjetoEstatisticasRepositoryCustom {
+    
+    /**
+     * Insere o registro de um projeto se ele ainda não existir, sem passar pelo contexto de persistência
+     * Chave duplicada (registro criado por outra transação) não marca a transação corrente para rollback
+     * @return true se inseriu, false se o projeto já possuía registro
+     */
+    boolean inserirSeAusente(ProjetoEstatisticas estatisticas);
+}
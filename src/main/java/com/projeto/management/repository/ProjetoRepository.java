@@ -3,14 +3,21 @@ package com.projeto.management.repository;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
-import org.springframework.data.domain.Page;
+import com.projeto.management.repository.projection.ResumoTarefasView;
+import com.projeto.management.repository.projection.TextoIndexavelView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +25,12 @@ import java.util.Optional;
  * Repositório para a entidade Projeto
  */
 @Repository
-public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
+public interface ProjetoRepository extends JpaRepository<Projeto, Long>, ProjetoRepositoryCustom {
+    
+    /**
+     * Região do cache de consultas das leituras mais frequentes de projetos
+     */
+    String REGIAO_CONSULTAS = "projeto-consultas";
     
     /**
      * Busca projetos ativos
@@ -37,40 +49,61 @@ public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
     
     /**
      * Busca projetos por responsável
+     * @param padrao padrão montado por PadraoTexto.contem
      */
-    List<Projeto> findByResponsavelContainingIgnoreCaseAndAtivoTrue(String responsavel);
+    @Query("SELECT p FROM Projeto p WHERE p.ativo = true AND LOWER(p.responsavel) LIKE :padrao ESCAPE '\\'")
+    List<Projeto> findByResponsavelContendo(@Param("padrao") String padrao);
     
     /**
      * Busca projetos por nome
+     * @param padrao padrão montado por PadraoTexto.contem
+     */
+    @Query("SELECT p FROM Projeto p WHERE p.ativo = true AND LOWER(p.nome) LIKE :padrao ESCAPE '\\'")
+    List<Projeto> findByNomeContendo(@Param("padrao") String padrao);
+    
+    /**
+     * Busca projetos ativos pelos ids informados
      */
-    List<Projeto> findByNomeContainingIgnoreCaseAndAtivoTrue(String nome);
+    List<Projeto> findByIdInAndAtivoTrueOrderByIdAsc(Collection<Long> ids);
     
     /**
-     * Busca projeto ativo por ID
+     * Filtra, entre os ids informados, os de projetos ativos
      */
+    @Query("SELECT p.id FROM Projeto p WHERE p.ativo = true AND p.id IN :ids")
+    List<Long> findIdsAtivos(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Busca projeto ativo por ID (resultado em cache; pode refletir o banco de até um TTL atrás)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CONSULTAS)
+    })
     Optional<Projeto> findByIdAndAtivoTrue(Long id);
     
     /**
-     * Busca projetos com data fim prevista vencida
+     * Busca projeto ativo por ID direto no banco, ignorando o cache, para alterá-lo
      */
-    @Query("SELECT p FROM Projeto p WHERE p.ativo = true AND p.dataFimPrevista < :dataAtual AND p.status != 'CONCLUIDO'")
-    List<Projeto> findProjetosAtrasados(@Param("dataAtual") LocalDate dataAtual);
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    Optional<Projeto> findParaAlteracaoByIdAndAtivoTrue(Long id);
     
     /**
-     * Busca projetos com paginação e filtros
+     * Busca projetos com data fim prevista vencida
      */
-    @Query("SELECT p FROM Projeto p WHERE p.ativo = true " +
-           "AND (:nome IS NULL OR LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) " +
-           "AND (:status IS NULL OR p.status = :status) " +
-           "AND (:responsavel IS NULL OR LOWER(p.responsavel) LIKE LOWER(CONCAT('%', :responsavel, '%')))")
-    Page<Projeto> findProjetosComFiltros(@Param("nome") String nome, 
-                                        @Param("status") StatusProjeto status,
-                                        @Param("responsavel") String responsavel,
-                                        Pageable pageable);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CONSULTAS)
+    })
+    @Query("SELECT p FROM Projeto p WHERE p.ativo = true AND p.dataFimPrevista < :dataAtual AND p.status != 'CONCLUIDO'")
+    List<Projeto> findProjetosAtrasados(@Param("dataAtual") LocalDate dataAtual);
     
     /**
      * Conta projetos por status
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CONSULTAS)
+    })
     @Query("SELECT p.status, COUNT(p) FROM Projeto p WHERE p.ativo = true GROUP BY p.status")
     List<Object[]> countProjetosPorStatus();
     
@@ -82,4 +115,34 @@ public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
            "WHERE p.ativo = true AND (t.ativo = true OR t IS NULL) " +
            "GROUP BY p.id")
     List<Object[]> findProjetosComResumoTarefas();
+    
+    /**
+     * Calcula os totais de tarefas ativas dos projetos informados em uma única consulta agrupada
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.ResumoTarefasView(" +
+           "t.projeto.id, COUNT(t), " +
+           "COUNT(CASE WHEN t.status = 'CONCLUIDA' THEN 1 END), " +
+           "SUM(COALESCE(t.estimativaHoras, 0)), " +
+           "SUM(COALESCE(t.horasTrabalhadas, 0))) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.projeto.id IN :projetoIds " +
+           "GROUP BY t.projeto.id")
+    List<ResumoTarefasView> findResumoTarefasPorProjetos(@Param("projetoIds") Collection<Long> projetoIds);
+    
+    /**
+     * Lote de textos pesquisáveis dos projetos ativos com id maior que o informado
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.TextoIndexavelView(" +
+           "p.id, p.nome, p.responsavel, p.ativo) " +
+           "FROM Projeto p WHERE p.ativo = true AND p.id > :ultimoId ORDER BY p.id")
+    List<TextoIndexavelView> findTextosIndexaveisApos(@Param("ultimoId") Long ultimoId, Pageable pageable);
+    
+    /**
+     * Lote de textos pesquisáveis dos projetos alterados desde o instante informado (ativos ou não),
+     * com id maior que o informado
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.TextoIndexavelView(" +
+           "p.id, p.nome, p.responsavel, p.ativo) " +
+           "FROM Projeto p WHERE p.dataAtualizacao >= :desde AND p.id > :ultimoId ORDER BY p.id")
+    List<TextoIndexavelView> findTextosAlteradosApos(@Param("desde") LocalDateTime desde,
+                                                     @Param("ultimoId") Long ultimoId, Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.repository.filtro.ProjetoFiltro;
+import com.projeto.management.repository.keyset.CursorSlice;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Consultas de Projeto implementadas manualmente (Criteria API)
+ */
+public interface ProjetoRepositoryCustom {
+    
+    /**
+     * Lista projetos com filtros, incluindo na consulta apenas os filtros informados
+     * @param filtro filtros da listagem
+     * @param pageable paginação e ordenação
+     */
+    Page<Projeto> findProjetosComFiltros(ProjetoFiltro filtro, Pageable pageable);
+    
+    /**
+     * Lista projetos paginados por cursor
+     * @param filtro filtros da listagem
+     * @param sort ordenação (o id é acrescentado como desempate)
+     * @param cursor token de continuação ou null para a primeira página
+     * @param tamanho tamanho da página
+     */
+    CursorSlice<Projeto> findPorCursor(ProjetoFiltro filtro, Sort sort, String cursor, int tamanho);
+}
@@ -0,0 +1,79 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.repository.filtro.ProjetoFiltro;
+import com.projeto.management.repository.keyset.ChaveOrdenacao;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.keyset.KeysetPaginador;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementação das consultas customizadas de Projeto
+ */
+public class ProjetoRepositoryCustomImpl implements ProjetoRepositoryCustom {
+    
+    private static final KeysetPaginador<Projeto, Projeto> PAGINADOR = new KeysetPaginador<>(
+        Projeto.class,
+        Projeto.class,
+        (root, cb) -> root,
+        List.of(
+            ChaveOrdenacao.of("id", Long.class, Projeto::getId),
+            ChaveOrdenacao.of("nome", String.class, Projeto::getNome),
+            ChaveOrdenacao.of("status", StatusProjeto.class, Projeto::getStatus),
+            ChaveOrdenacao.of("prioridade", Prioridade.class, Projeto::getPrioridade),
+            ChaveOrdenacao.of("dataCriacao", LocalDateTime.class, Projeto::getDataCriacao),
+            ChaveOrdenacao.anulavel("dataInicio", LocalDate.class, ChaveOrdenacao.DATA_MAXIMA, Projeto::getDataInicio),
+            ChaveOrdenacao.anulavel("dataFimPrevista", LocalDate.class, ChaveOrdenacao.DATA_MAXIMA, Projeto::getDataFimPrevista),
+            ChaveOrdenacao.anulavel("responsavel", String.class, "", Projeto::getResponsavel)
+        )
+    );
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Projeto> findProjetosComFiltros(ProjetoFiltro filtro, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        CriteriaQuery<Projeto> query = cb.createQuery(Projeto.class);
+        Root<Projeto> root = query.from(Projeto.class);
+        query.select(root)
+            .where(filtro.predicados(root, cb).toArray(Predicate[]::new))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        
+        List<Projeto> conteudo = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        
+        // O COUNT só é executado quando o total não pode ser deduzido da própria página
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<Projeto> countRoot = count.from(Projeto.class);
+            count.select(cb.count(countRoot))
+                .where(filtro.predicados(countRoot, cb).toArray(Predicate[]::new));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+    
+    @Override
+    public CursorSlice<Projeto> findPorCursor(ProjetoFiltro filtro, Sort sort, String cursor, int tamanho) {
+        return PAGINADOR.buscar(entityManager, filtro::predicados, sort, cursor, tamanho);
+    }
+}
@@ -0,0 +1,107 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.TarefaArquivo;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.projection.TarefaView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para a entidade TarefaArquivo
+ * Reúne as leituras do arquivo e as operações de movimentação usadas pelo ArquivamentoService
+ */
+@Repository
+public interface TarefaArquivoRepository extends JpaRepository<TarefaArquivo, Long> {
+    
+    /**
+     * Mesma projeção de TarefaRepository.TAREFA_VIEW_SELECT; o nome vem do projeto ativo ou do arquivado
+     */
+    String TAREFA_ARQUIVO_VIEW_SELECT = "SELECT new com.projeto.management.repository.projection.TarefaView(" +
+           "a.id, a.titulo, a.descricao, a.status, a.prioridade, a.dataCriacao, a.dataInicio, " +
+           "a.dataFimPrevista, a.dataFimReal, a.estimativaHoras, a.horasTrabalhadas, " +
+           "a.percentualConclusao, a.responsavel, a.observacoes, a.dataAtualizacao, a.ativo, " +
+           "a.idProjeto, COALESCE(p.nome, pa.nome), a.versao) " +
+           "FROM TarefaArquivo a " +
+           "LEFT JOIN Projeto p ON p.id = a.idProjeto " +
+           "LEFT JOIN ProjetoArquivo pa ON pa.id = a.idProjeto ";
+    
+    /**
+     * Condição de arquivamento (SQL nativo): excluída, encerrada ou de projeto excluído,
+     * sem alteração desde o limite da retenção
+     */
+    String CONDICAO_ARQUIVAVEL = "(t.ativo = false OR t.status IN ('CONCLUIDA', 'CANCELADA') " +
+           "OR t.id_projeto IN (SELECT p.id FROM projeto p WHERE p.ativo = false)) " +
+           "AND t.data_atualizacao < :limite ";
+    
+    // Leituras
+    
+    /**
+     * Busca a projeção de uma tarefa arquivada que estava ativa
+     */
+    @Query(TAREFA_ARQUIVO_VIEW_SELECT + "WHERE a.ativo = true AND a.id = :id")
+    Optional<TarefaView> findViewById(@Param("id") Long id);
+    
+    /**
+     * Lista projeções das tarefas arquivadas (que estavam ativas) de um projeto
+     */
+    @Query(TAREFA_ARQUIVO_VIEW_SELECT + "WHERE a.ativo = true AND a.idProjeto = :projetoId ORDER BY a.id")
+    List<TarefaView> findViewsByProjetoId(@Param("projetoId") Long projetoId);
+    
+    // Movimentação
+    
+    /**
+     * Lista IDs de tarefas candidatas ao arquivamento após o último ID processado (paginação por chave)
+     */
+    @Query("SELECT t.id FROM Tarefa t WHERE t.id > :ultimoId " +
+           "AND (t.ativo = false OR t.status IN :statusEncerrados OR t.projeto.ativo = false) " +
+           "AND t.dataAtualizacao < :limite ORDER BY t.id")
+    List<Long> findIdsArquivaveisApos(@Param("ultimoId") Long ultimoId,
+                                      @Param("statusEncerrados") Collection<StatusTarefa> statusEncerrados,
+                                      @Param("limite") LocalDateTime limite,
+                                      Pageable pageable);
+    
+    /**
+     * Bloqueia as candidatas que ainda atendem à condição de arquivamento
+     * A condição é reavaliada sob lock: uma tarefa alterada desde a listagem fica de fora
+     */
+    @Query(value = "SELECT t.id FROM tarefa t WHERE t.id IN (:ids) AND " + CONDICAO_ARQUIVAVEL +
+                   "FOR UPDATE", nativeQuery = true)
+    List<Long> bloquearArquivaveis(@Param("ids") Collection<Long> ids, @Param("limite") LocalDateTime limite);
+    
+    /**
+     * Lista os projetos das tarefas informadas, em ordem de ID
+     */
+    @Query("SELECT DISTINCT t.projeto.id FROM Tarefa t WHERE t.id IN :ids ORDER BY t.projeto.id")
+    List<Long> findProjetoIdsDasTarefas(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Copia as tarefas informadas para o arquivo
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tarefa_arquivo (id, titulo, descricao, status, prioridade, data_criacao, " +
+                   "data_inicio, data_fim_prevista, data_fim_real, estimativa_horas, horas_trabalhadas, " +
+                   "percentual_conclusao, responsavel, observacoes, data_atualizacao, usuario_criacao, " +
+                   "usuario_atualizacao, ativo, versao, id_projeto, data_arquivamento) " +
+                   "SELECT id, titulo, descricao, status, prioridade, data_criacao, " +
+                   "data_inicio, data_fim_prevista, data_fim_real, estimativa_horas, horas_trabalhadas, " +
+                   "percentual_conclusao, responsavel, observacoes, data_atualizacao, usuario_criacao, " +
+                   "usuario_atualizacao, ativo, versao, id_projeto, :agora " +
+                   "FROM tarefa WHERE id IN (:ids)", nativeQuery = true)
+    int copiarParaArquivo(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+    
+    /**
+     * Remove da tabela tarefa as tarefas já copiadas para o arquivo
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tarefa WHERE id IN (:ids)", nativeQuery = true)
+    int removerArquivadas(@Param("ids") Collection<Long> ids);
+}
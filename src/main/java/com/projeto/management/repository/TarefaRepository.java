@@ -2,15 +2,23 @@ package com.projeto.management.repository;
 
 import com.projeto.management.model.entity.Tarefa;
 import com.projeto.management.model.enums.StatusTarefa;
-import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import com.projeto.management.repository.projection.PrazoTarefaView;
+import com.projeto.management.repository.projection.TarefaView;
+import com.projeto.management.repository.projection.TextoIndexavelView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +26,17 @@ import java.util.Optional;
  * Repositório para a entidade Tarefa
  */
 @Repository
-public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+public interface TarefaRepository extends JpaRepository<Tarefa, Long>, TarefaRepositoryCustom {
+    
+    /**
+     * SELECT base das projeções de leitura (tarefa + projeto em um único statement)
+     */
+    String TAREFA_VIEW_SELECT = "SELECT new com.projeto.management.repository.projection.TarefaView(" +
+           "t.id, t.titulo, t.descricao, t.status, t.prioridade, t.dataCriacao, t.dataInicio, " +
+           "t.dataFimPrevista, t.dataFimReal, t.estimativaHoras, t.horasTrabalhadas, " +
+           "t.percentualConclusao, t.responsavel, t.observacoes, t.dataAtualizacao, t.ativo, " +
+           "p.id, p.nome, t.versao) " +
+           "FROM Tarefa t JOIN t.projeto p ";
     
     /**
      * Busca tarefas ativas
@@ -58,22 +76,6 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
      */
     Page<Tarefa> findByProjetoIdAndAtivoTrueOrderByPrioridadeDescDataFimPrevistaAsc(Long projetoId, Pageable pageable);
     
-    /**
-     * Busca tarefas com filtros
-     */
-    @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
-           "AND (:projetoId IS NULL OR t.projeto.id = :projetoId) " +
-           "AND (:titulo IS NULL OR LOWER(t.titulo) LIKE LOWER(CONCAT('%', :titulo, '%'))) " +
-           "AND (:status IS NULL OR t.status = :status) " +
-           "AND (:responsavel IS NULL OR LOWER(t.responsavel) LIKE LOWER(CONCAT('%', :responsavel, '%'))) " +
-           "AND (:prioridade IS NULL OR t.prioridade = :prioridade)")
-    Page<Tarefa> findTarefasComFiltros(@Param("projetoId") Long projetoId,
-                                      @Param("titulo") String titulo,
-                                      @Param("status") StatusTarefa status,
-                                      @Param("responsavel") String responsavel,
-                                      @Param("prioridade") Prioridade prioridade,
-                                      Pageable pageable);
-    
     /**
      * Conta tarefas por status de um projeto
      */
@@ -109,4 +111,147 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
            "SUM(COALESCE(t.horasTrabalhadas, 0)) " +
            "FROM Tarefa t WHERE t.projeto.id = :projetoId AND t.ativo = true")
     Object[] getEstatisticasProjeto(@Param("projetoId") Long projetoId);
+    
+    // Projeções de leitura
+    
+    /**
+     * Busca a projeção de uma tarefa ativa
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true AND t.id = :id")
+    Optional<TarefaView> findViewById(@Param("id") Long id);
+    
+    /**
+     * Busca e bloqueia a projeção de uma tarefa ativa (leitura corrente mesmo em REPEATABLE READ)
+     * Só a linha da tarefa é bloqueada: o nome do projeto vem de uma subconsulta
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.projeto.management.repository.projection.TarefaView(" +
+           "t.id, t.titulo, t.descricao, t.status, t.prioridade, t.dataCriacao, t.dataInicio, " +
+           "t.dataFimPrevista, t.dataFimReal, t.estimativaHoras, t.horasTrabalhadas, " +
+           "t.percentualConclusao, t.responsavel, t.observacoes, t.dataAtualizacao, t.ativo, " +
+           "t.projeto.id, (SELECT p.nome FROM Projeto p WHERE p.id = t.projeto.id), t.versao) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.id = :id")
+    Optional<TarefaView> findViewParaAtualizacaoById(@Param("id") Long id);
+    
+    /**
+     * Lista projeções de tarefas de um projeto
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true AND p.id = :projetoId")
+    List<TarefaView> findViewsByProjetoId(@Param("projetoId") Long projetoId);
+    
+    /**
+     * Lista projeções de tarefas atrasadas
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true " +
+           "AND t.dataFimPrevista < :dataAtual " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
+    List<TarefaView> findViewsAtrasadas(@Param("dataAtual") LocalDate dataAtual);
+    
+    /**
+     * Lista projeções de tarefas que vencem no intervalo informado
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true " +
+           "AND t.dataFimPrevista BETWEEN :dataAtual AND :dataLimite " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
+    List<TarefaView> findViewsVencendoEm(@Param("dataAtual") LocalDate dataAtual,
+                                         @Param("dataLimite") LocalDate dataLimite);
+    
+    /**
+     * Lista projeções de tarefas por responsável
+     * @param padrao padrão montado por PadraoTexto.contem
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true " +
+           "AND LOWER(t.responsavel) LIKE :padrao ESCAPE '\\'")
+    List<TarefaView> findViewsByResponsavel(@Param("padrao") String padrao);
+    
+    /**
+     * Lista projeções de tarefas cujo título contém o termo
+     * @param padrao padrão montado por PadraoTexto.contem
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true " +
+           "AND LOWER(t.titulo) LIKE :padrao ESCAPE '\\'")
+    List<TarefaView> findViewsByTitulo(@Param("padrao") String padrao);
+    
+    /**
+     * Lista projeções das tarefas ativas com os ids informados
+     */
+    @Query(TAREFA_VIEW_SELECT + "WHERE t.ativo = true AND t.id IN :ids ORDER BY t.id")
+    List<TarefaView> findViewsByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Busca e bloqueia, em ordem de id, as projeções das tarefas ativas informadas
+     * Como em findViewParaAtualizacaoById, só as linhas das tarefas são bloqueadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.projeto.management.repository.projection.TarefaView(" +
+           "t.id, t.titulo, t.descricao, t.status, t.prioridade, t.dataCriacao, t.dataInicio, " +
+           "t.dataFimPrevista, t.dataFimReal, t.estimativaHoras, t.horasTrabalhadas, " +
+           "t.percentualConclusao, t.responsavel, t.observacoes, t.dataAtualizacao, t.ativo, " +
+           "t.projeto.id, (SELECT p.nome FROM Projeto p WHERE p.id = t.projeto.id), t.versao) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.id IN :ids ORDER BY t.id")
+    List<TarefaView> findViewsParaAtualizacaoByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Lote de textos pesquisáveis das tarefas ativas com id maior que o informado
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.TextoIndexavelView(" +
+           "t.id, t.titulo, t.responsavel, t.ativo) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.id > :ultimoId ORDER BY t.id")
+    List<TextoIndexavelView> findTextosIndexaveisApos(@Param("ultimoId") Long ultimoId, Pageable pageable);
+    
+    /**
+     * Lote de textos pesquisáveis das tarefas alteradas desde o instante informado (ativas ou não),
+     * com id maior que o informado
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.TextoIndexavelView(" +
+           "t.id, t.titulo, t.responsavel, t.ativo) " +
+           "FROM Tarefa t WHERE t.dataAtualizacao >= :desde AND t.id > :ultimoId ORDER BY t.id")
+    List<TextoIndexavelView> findTextosAlteradosApos(@Param("desde") LocalDateTime desde,
+                                                     @Param("ultimoId") Long ultimoId, Pageable pageable);
+    
+    /**
+     * Lote de prazos das tarefas ativas em aberto com id maior que o informado
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.PrazoTarefaView(t.id, t.dataFimPrevista) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.dataFimPrevista IS NOT NULL " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA') AND t.id > :ultimoId ORDER BY t.id")
+    List<PrazoTarefaView> findPrazosAbertosApos(@Param("ultimoId") Long ultimoId, Pageable pageable);
+    
+    /**
+     * Lote de prazos das tarefas alteradas desde o instante informado, com id maior que o informado
+     * O prazo vem nulo para as tarefas excluídas ou encerradas, que devem sair do índice
+     */
+    @Query("SELECT new com.projeto.management.repository.projection.PrazoTarefaView(t.id, " +
+           "CASE WHEN t.ativo = true AND t.status NOT IN ('CONCLUIDA', 'CANCELADA') THEN t.dataFimPrevista END) " +
+           "FROM Tarefa t WHERE t.dataAtualizacao >= :desde AND t.id > :ultimoId ORDER BY t.id")
+    List<PrazoTarefaView> findPrazosAlteradosApos(@Param("desde") LocalDateTime desde,
+                                                  @Param("ultimoId") Long ultimoId, Pageable pageable);
+    
+    /**
+     * Bloqueia e retorna o estado das tarefas ativas com os ids informados (atualização em lote)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.projeto.management.repository.projection.EstadoTarefaView(" +
+           "t.id, t.projeto.id, t.status, t.estimativaHoras, t.horasTrabalhadas, t.dataFimPrevista) " +
+           "FROM Tarefa t WHERE t.ativo = true AND t.id IN :ids ORDER BY t.id")
+    List<EstadoTarefaView> findEstadosParaAtualizacao(@Param("ids") Collection<Long> ids);
+    
+    // Escritas condicionais
+    
+    /**
+     * Grava status, percentual e data de conclusão em um único UPDATE condicionado à versão
+     * @return 1 se a linha estava ativa e na versão esperada, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = :status, t.percentualConclusao = :percentual, " +
+           "t.dataFimReal = :dataFimReal, t.usuarioAtualizacao = :usuario, t.dataAtualizacao = :agora, " +
+           "t.versao = t.versao + 1 " +
+           "WHERE t.id = :id AND t.ativo = true AND t.versao = :versao")
+    int atualizarProgresso(@Param("id") Long id,
+                           @Param("versao") Long versao,
+                           @Param("status") StatusTarefa status,
+                           @Param("percentual") Integer percentual,
+                           @Param("dataFimReal") LocalDate dataFimReal,
+                           @Param("usuario") String usuario,
+                           @Param("agora") LocalDateTime agora);
 }
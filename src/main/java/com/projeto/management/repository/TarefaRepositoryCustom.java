@@ -0,0 +1,69 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.projection.TarefaView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de Tarefa implementadas manualmente (Criteria API)
+ */
+public interface TarefaRepositoryCustom {
+    
+    /**
+     * Lista projeções de tarefas com filtros, incluindo na consulta apenas os filtros informados
+     * @param filtro filtros da listagem
+     * @param pageable paginação e ordenação
+     */
+    Page<TarefaView> findViewsComFiltros(TarefaFiltro filtro, Pageable pageable);
+    
+    /**
+     * Lista projeções de tarefas paginadas por cursor
+     * @param filtro filtros da listagem
+     * @param sort ordenação (o id é acrescentado como desempate)
+     * @param cursor token de continuação ou null para a primeira página
+     * @param tamanho tamanho da página
+     */
+    CursorSlice<TarefaView> findViewsPorCursor(TarefaFiltro filtro, Sort sort, String cursor, int tamanho);
+    
+    /**
+     * Lista, em ordem de id, os ids das tarefas que atendem aos filtros
+     * @param filtro filtros da listagem
+     * @param aposId id a partir do qual continuar (exclusivo)
+     * @param limite quantidade máxima de ids
+     */
+    List<Long> findIdsComFiltros(TarefaFiltro filtro, Long aposId, int limite);
+    
+    /**
+     * Atualiza em um único UPDATE as tarefas ativas com os ids informados
+     * A troca de status aplica as mesmas regras de Tarefa.atualizarPercentualPorStatus.
+     * Campos nulos não são alterados; a versão é sempre incrementada.
+     * @return número de linhas atualizadas
+     */
+    int atualizarEmLote(Collection<Long> ids, StatusTarefa status, Prioridade prioridade, String responsavel,
+                        String usuario, LocalDateTime agora);
+    
+    /**
+     * Grava o progresso de várias tarefas em um único lote JDBC, cada UPDATE condicionado à versão
+     * como em TarefaRepository.atualizarProgresso
+     * @return linhas atualizadas por item, na ordem recebida (0 quando a tarefa não estava ativa
+     *         ou na versão informada)
+     */
+    int[] atualizarProgressoEmLote(List<AtualizacaoProgresso> atualizacoes, LocalDateTime agora);
+    
+    /**
+     * Novo progresso de uma tarefa, a gravar somente se ela ainda estiver na versão informada
+     */
+    record AtualizacaoProgresso(Long id, Long versao, StatusTarefa status, Integer percentual,
+                                LocalDate dataFimReal, String usuario) {
+    }
+}
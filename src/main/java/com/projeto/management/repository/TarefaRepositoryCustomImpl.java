@@ -0,0 +1,200 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.keyset.ChaveOrdenacao;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.keyset.KeysetPaginador;
+import com.projeto.management.repository.projection.TarefaView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementação das consultas customizadas de Tarefa
+ */
+public class TarefaRepositoryCustomImpl implements TarefaRepositoryCustom {
+    
+    private static final KeysetPaginador<Tarefa, TarefaView> PAGINADOR = new KeysetPaginador<>(
+        Tarefa.class,
+        TarefaView.class,
+        TarefaRepositoryCustomImpl::selecionarView,
+        List.of(
+            ChaveOrdenacao.of("id", Long.class, TarefaView::id),
+            ChaveOrdenacao.of("titulo", String.class, TarefaView::titulo),
+            ChaveOrdenacao.of("status", StatusTarefa.class, TarefaView::status),
+            ChaveOrdenacao.of("prioridade", Prioridade.class, TarefaView::prioridade),
+            ChaveOrdenacao.of("dataCriacao", LocalDateTime.class, TarefaView::dataCriacao),
+            ChaveOrdenacao.anulavel("dataInicio", LocalDate.class, ChaveOrdenacao.DATA_MAXIMA, TarefaView::dataInicio),
+            ChaveOrdenacao.anulavel("dataFimPrevista", LocalDate.class, ChaveOrdenacao.DATA_MAXIMA, TarefaView::dataFimPrevista),
+            ChaveOrdenacao.anulavel("responsavel", String.class, "", TarefaView::responsavel),
+            ChaveOrdenacao.anulavel("percentualConclusao", Integer.class, 0, TarefaView::percentualConclusao)
+        )
+    );
+    
+    private static final String ATUALIZAR_PROGRESSO = "UPDATE tarefa SET status = ?, percentual_conclusao = ?, " +
+        "data_fim_real = ?, usuario_atualizacao = ?, data_atualizacao = ?, versao = versao + 1 " +
+        "WHERE id = ? AND ativo = true AND versao = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public TarefaRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Page<TarefaView> findViewsComFiltros(TarefaFiltro filtro, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        CriteriaQuery<TarefaView> query = cb.createQuery(TarefaView.class);
+        Root<Tarefa> root = query.from(Tarefa.class);
+        query.select(selecionarView(root, cb))
+            .where(filtro.predicados(root, cb).toArray(Predicate[]::new))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        
+        List<TarefaView> conteudo = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        
+        // O COUNT só é executado quando o total não pode ser deduzido da própria página
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<Tarefa> countRoot = count.from(Tarefa.class);
+            count.select(cb.count(countRoot))
+                .where(filtro.predicados(countRoot, cb).toArray(Predicate[]::new));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+    
+    @Override
+    public CursorSlice<TarefaView> findViewsPorCursor(TarefaFiltro filtro, Sort sort, String cursor, int tamanho) {
+        return PAGINADOR.buscar(entityManager, filtro::predicados, sort, cursor, tamanho);
+    }
+    
+    @Override
+    public List<Long> findIdsComFiltros(TarefaFiltro filtro, Long aposId, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Tarefa> root = query.from(Tarefa.class);
+        List<Predicate> predicados = filtro.predicados(root, cb);
+        predicados.add(cb.greaterThan(root.<Long>get("id"), aposId));
+        query.select(root.<Long>get("id"))
+            .where(predicados.toArray(Predicate[]::new))
+            .orderBy(cb.asc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+            .setMaxResults(limite)
+            .getResultList();
+    }
+    
+    @Override
+    public int atualizarEmLote(Collection<Long> ids, StatusTarefa status, Prioridade prioridade, String responsavel,
+                               String usuario, LocalDateTime agora) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        CriteriaUpdate<Tarefa> update = cb.createCriteriaUpdate(Tarefa.class);
+        Root<Tarefa> root = update.from(Tarefa.class);
+        
+        if (status != null) {
+            update.set(root.<StatusTarefa>get("status"), status);
+            derivarProgresso(update, root, cb, status, agora.toLocalDate());
+        }
+        if (prioridade != null) {
+            update.set(root.<Prioridade>get("prioridade"), prioridade);
+        }
+        if (responsavel != null) {
+            update.set(root.<String>get("responsavel"), responsavel);
+        }
+        Path<Long> versao = root.get("versao");
+        update.set(versao, cb.sum(versao, 1L))
+            .set(root.<String>get("usuarioAtualizacao"), usuario)
+            .set(root.<LocalDateTime>get("dataAtualizacao"), agora)
+            .where(cb.isTrue(root.<Boolean>get("ativo")), root.get("id").in(ids));
+        
+        return entityManager.createQuery(update).executeUpdate();
+    }
+    
+    @Override
+    public int[] atualizarProgressoEmLote(List<AtualizacaoProgresso> atualizacoes, LocalDateTime agora) {
+        int[] atualizadas = jdbcTemplate.batchUpdate(ATUALIZAR_PROGRESSO, atualizacoes.stream()
+            .map(atualizacao -> new Object[]{
+                atualizacao.status().name(), atualizacao.percentual(), atualizacao.dataFimReal(),
+                atualizacao.usuario(), agora, atualizacao.id(), atualizacao.versao()})
+            .toList());
+        
+        // Drivers que reescrevem o lote não informam as linhas por comando; o chamador bloqueou as linhas
+        // ao ler as versões (findViewsParaAtualizacaoByIds), então nenhuma delas pode ter mudado
+        for (int i = 0; i < atualizadas.length; i++) {
+            if (atualizadas[i] == Statement.SUCCESS_NO_INFO) {
+                atualizadas[i] = 1;
+            }
+        }
+        return atualizadas;
+    }
+    
+    /**
+     * Versão em SQL de Tarefa.atualizarPercentualPorStatus, avaliada linha a linha pelo banco
+     */
+    private static void derivarProgresso(CriteriaUpdate<Tarefa> update, Root<Tarefa> root, CriteriaBuilder cb,
+                                         StatusTarefa status, LocalDate hoje) {
+        Path<Integer> percentual = root.get("percentualConclusao");
+        Expression<Integer> percentualAtual = cb.coalesce(percentual, 0);
+        
+        switch (status) {
+            case ABERTA -> update.set(percentual, 0);
+            case EM_ANDAMENTO -> update.set(percentual, cb.<Integer>selectCase()
+                .when(cb.equal(percentualAtual, 0), 10)
+                .otherwise(percentual));
+            case EM_REVISAO -> update.set(percentual, cb.<Integer>selectCase()
+                .when(cb.lt(percentualAtual, 90), 90)
+                .otherwise(percentual));
+            case CONCLUIDA -> {
+                Path<LocalDate> dataFimReal = root.get("dataFimReal");
+                update.set(percentual, 100)
+                    .set(dataFimReal, cb.coalesce(dataFimReal, hoje));
+            }
+            case CANCELADA -> {
+                // Mantém o percentual atual
+            }
+        }
+    }
+    
+    private static CompoundSelection<TarefaView> selecionarView(Root<Tarefa> root, CriteriaBuilder cb) {
+        Join<Tarefa, Projeto> projeto = root.join("projeto");
+        return cb.construct(TarefaView.class,
+            root.get("id"), root.get("titulo"), root.get("descricao"), root.get("status"),
+            root.get("prioridade"), root.get("dataCriacao"), root.get("dataInicio"),
+            root.get("dataFimPrevista"), root.get("dataFimReal"), root.get("estimativaHoras"),
+            root.get("horasTrabalhadas"), root.get("percentualConclusao"), root.get("responsavel"),
+            root.get("observacoes"), root.get("dataAtualizacao"), root.get("ativo"),
+            projeto.get("id"), projeto.get("nome"), root.get("versao"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ViradaPrazo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Repositório para a entidade ViradaPrazo
+ */
+@Repository
+public interface ViradaPrazoRepository extends JpaRepository<ViradaPrazo, LocalDate> {
+    
+    /**
+     * Reivindica a virada do dia para a instância informada
+     * Falha com DataIntegrityViolationException quando outra instância já a registrou
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO virada_prazo (dia, instancia, data_execucao) " +
+                   "VALUES (:dia, :instancia, :dataExecucao)", nativeQuery = true)
+    int registrar(@Param("dia") LocalDate dia,
+                  @Param("instancia") String instancia,
+                  @Param("dataExecucao") LocalDateTime dataExecucao);
+}
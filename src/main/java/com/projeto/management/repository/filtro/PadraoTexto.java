@@ -0,0 +1,58 @@
+package com.projeto.management.repository.filtro;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Busca textual usada pelos filtros de listagem
+ * 
+ * Mantém a semântica da API: "contém", sem distinção de maiúsculas/minúsculas
+ * (LOWER(coluna) LIKE '%valor%'). Só os filtros textuais informados entram no SQL,
+ * então os demais predicados (status, projeto, prioridade) continuam usando os índices.
+ * 
+ * Também monta o padrão das buscas por texto que recorrem ao banco quando o índice em memória
+ * não responde, com a mesma normalização dele (sem espaços nas pontas, curingas literais).
+ */
+public final class PadraoTexto {
+    
+    static final char ESCAPE = '\\';
+    
+    private PadraoTexto() {
+    }
+    
+    /**
+     * Indica se o filtro textual foi informado
+     */
+    static boolean informado(String valor) {
+        return StringUtils.hasText(valor);
+    }
+    
+    /**
+     * Predicado "coluna contém valor" sem distinção de maiúsculas/minúsculas, escapando os curingas do LIKE
+     */
+    static Predicate contem(CriteriaBuilder cb, Expression<String> coluna, String valor) {
+        return cb.like(cb.lower(coluna), contem(valor), ESCAPE);
+    }
+    
+    /**
+     * Padrão "contém" para LOWER(coluna) LIKE :padrao ESCAPE '\\'
+     */
+    public static String contem(String valor) {
+        return "%" + escapar(valor.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+    
+    static String escapar(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length() + 4);
+        for (char c : valor.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
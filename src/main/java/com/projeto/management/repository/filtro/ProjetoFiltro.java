@@ -0,0 +1,39 @@
+package com.projeto.management.repository.filtro;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.StatusProjeto;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros da listagem de projetos
+ * Gera apenas os predicados dos filtros efetivamente informados, sempre na mesma ordem,
+ * para que cada combinação de filtros produza um único formato de SQL
+ */
+public record ProjetoFiltro(
+    String nome,
+    StatusProjeto status,
+    String responsavel
+) {
+    
+    public List<Predicate> predicados(Root<Projeto> root, CriteriaBuilder cb) {
+        List<Predicate> predicados = new ArrayList<>();
+        predicados.add(cb.isTrue(root.<Boolean>get("ativo")));
+        
+        if (status != null) {
+            predicados.add(cb.equal(root.get("status"), status));
+        }
+        if (PadraoTexto.informado(nome)) {
+            predicados.add(PadraoTexto.contem(cb, root.get("nome"), nome));
+        }
+        if (PadraoTexto.informado(responsavel)) {
+            predicados.add(PadraoTexto.contem(cb, root.get("responsavel"), responsavel));
+        }
+        
+        return predicados;
+    }
+}
@@ -0,0 +1,48 @@
+package com.projeto.management.repository.filtro;
+
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros da listagem de tarefas
+ * Gera apenas os predicados dos filtros efetivamente informados, sempre na mesma ordem,
+ * para que cada combinação de filtros produza um único formato de SQL
+ */
+public record TarefaFiltro(
+    Long projetoId,
+    String titulo,
+    StatusTarefa status,
+    String responsavel,
+    Prioridade prioridade
+) {
+    
+    public List<Predicate> predicados(Root<Tarefa> root, CriteriaBuilder cb) {
+        List<Predicate> predicados = new ArrayList<>();
+        predicados.add(cb.isTrue(root.<Boolean>get("ativo")));
+        
+        if (projetoId != null) {
+            predicados.add(cb.equal(root.get("projeto").get("id"), projetoId));
+        }
+        if (status != null) {
+            predicados.add(cb.equal(root.get("status"), status));
+        }
+        if (prioridade != null) {
+            predicados.add(cb.equal(root.get("prioridade"), prioridade));
+        }
+        if (PadraoTexto.informado(titulo)) {
+            predicados.add(PadraoTexto.contem(cb, root.get("titulo"), titulo));
+        }
+        if (PadraoTexto.informado(responsavel)) {
+            predicados.add(PadraoTexto.contem(cb, root.get("responsavel"), responsavel));
+        }
+        
+        return predicados;
+    }
+}
@@ -0,0 +1,69 @@
+package com.projeto.management.repository.keyset;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Chave de ordenação permitida no modo cursor
+ * Define o tipo do valor (para codificar o cursor), o valor que substitui NULL
+ * na ordenação e como extrair o valor do último elemento da página
+ *
+ * @param <R> tipo do resultado da consulta
+ */
+public record ChaveOrdenacao<R>(
+    String propriedade,
+    Class<?> tipo,
+    Object valorNulo,
+    Function<R, Object> extrator
+) {
+    
+    /**
+     * Data usada no lugar de NULL: datas ausentes ordenam como "mais distantes"
+     */
+    public static final LocalDate DATA_MAXIMA = LocalDate.of(9999, 12, 31);
+    
+    public static <R> ChaveOrdenacao<R> of(String propriedade, Class<?> tipo, Function<R, Object> extrator) {
+        return new ChaveOrdenacao<>(propriedade, tipo, null, extrator);
+    }
+    
+    public static <R> ChaveOrdenacao<R> anulavel(String propriedade, Class<?> tipo, Object valorNulo,
+                                                 Function<R, Object> extrator) {
+        return new ChaveOrdenacao<>(propriedade, tipo, valorNulo, extrator);
+    }
+    
+    Object extrair(R resultado) {
+        Object valor = extrator.apply(resultado);
+        return valor != null ? valor : valorNulo;
+    }
+    
+    String formatar(Object valor) {
+        if (valor instanceof Enum<?> e) {
+            return e.name();
+        }
+        return String.valueOf(valor);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Comparable<?> converter(String valor) {
+        if (tipo == String.class) {
+            return valor;
+        }
+        if (tipo == Long.class) {
+            return Long.valueOf(valor);
+        }
+        if (tipo == Integer.class) {
+            return Integer.valueOf(valor);
+        }
+        if (tipo == LocalDate.class) {
+            return LocalDate.parse(valor);
+        }
+        if (tipo == LocalDateTime.class) {
+            return LocalDateTime.parse(valor);
+        }
+        if (tipo.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) tipo, valor);
+        }
+        throw new IllegalStateException("Tipo de chave não suportado: " + tipo.getName());
+    }
+}
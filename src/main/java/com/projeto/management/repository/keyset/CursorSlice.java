@@ -0,0 +1,21 @@
+package com.projeto.management.repository.keyset;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fatia de resultados paginados por cursor (sem contagem total)
+ *
+ * @param conteudo elementos da página
+ * @param proximoCursor token opaco para a próxima página (null quando não há mais dados)
+ */
+public record CursorSlice<R>(List<R> conteudo, String proximoCursor) {
+    
+    public boolean temProximo() {
+        return proximoCursor != null;
+    }
+    
+    public <U> CursorSlice<U> map(Function<R, U> conversor) {
+        return new CursorSlice<>(conteudo.stream().map(conversor).toList(), proximoCursor);
+    }
+}
@@ -0,0 +1,62 @@
+package com.projeto.management.repository.keyset;
+
+import com.projeto.management.exception.BusinessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Codificação do token de continuação do modo cursor
+ * O token carrega a assinatura da ordenação e os valores das chaves do último elemento
+ */
+final class KeysetCursor {
+    
+    private KeysetCursor() {
+    }
+    
+    static String codificar(String assinatura, List<String> valores) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(assinatura);
+            out.writeShort(valores.size());
+            for (String valor : valores) {
+                out.writeUTF(valor);
+            }
+            out.flush();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao gerar cursor", e);
+        }
+    }
+    
+    static List<String> decodificar(String token, String assinatura, int quantidadeValores) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            
+            if (!assinatura.equals(in.readUTF())) {
+                throw new BusinessException("Cursor não corresponde à ordenação informada");
+            }
+            
+            int quantidade = in.readUnsignedShort();
+            if (quantidade != quantidadeValores) {
+                throw new BusinessException("Cursor inválido");
+            }
+            
+            List<String> valores = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                valores.add(in.readUTF());
+            }
+            return valores;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.projeto.management.repository.keyset;
+
+import com.projeto.management.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Paginação por chave (seek) usando Criteria API
+ * Em vez de OFFSET, a próxima página parte dos valores de ordenação do último elemento,
+ * de modo que o custo de cada página não depende da profundidade e não há COUNT(*)
+ *
+ * @param <T> entidade raiz da consulta
+ * @param <R> tipo do resultado (entidade ou projeção)
+ */
+public class KeysetPaginador<T, R> {
+    
+    public static final int TAMANHO_MAXIMO = 1000;
+    
+    private static final String PROPRIEDADE_ID = "id";
+    
+    private final Class<T> entidade;
+    private final Class<R> resultado;
+    private final BiFunction<Root<T>, CriteriaBuilder, Selection<R>> selecao;
+    private final Map<String, ChaveOrdenacao<R>> chaves;
+    
+    public KeysetPaginador(Class<T> entidade, Class<R> resultado,
+                           BiFunction<Root<T>, CriteriaBuilder, Selection<R>> selecao,
+                           List<ChaveOrdenacao<R>> chaves) {
+        this.entidade = entidade;
+        this.resultado = resultado;
+        this.selecao = selecao;
+        this.chaves = chaves.stream()
+            .collect(Collectors.toMap(ChaveOrdenacao::propriedade, c -> c, (a, b) -> a, LinkedHashMap::new));
+        
+        if (!this.chaves.containsKey(PROPRIEDADE_ID)) {
+            throw new IllegalArgumentException("A chave 'id' é obrigatória para desempate");
+        }
+    }
+    
+    /**
+     * Busca a próxima fatia
+     * @param entityManager entity manager da transação corrente
+     * @param filtros predicados de filtro sobre a raiz
+     * @param sort ordenação solicitada (o id é sempre acrescentado como desempate)
+     * @param cursor token da página anterior ou null para a primeira página
+     * @param tamanho número máximo de elementos
+     */
+    public CursorSlice<R> buscar(EntityManager entityManager,
+                                 BiFunction<Root<T>, CriteriaBuilder, List<Predicate>> filtros,
+                                 Sort sort, String cursor, int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new BusinessException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO);
+        }
+        
+        List<Sort.Order> ordens = normalizar(sort);
+        String assinatura = assinatura(ordens);
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultado);
+        Root<T> root = query.from(entidade);
+        query.select(selecao.apply(root, cb));
+        
+        List<Expression<?>> expressoes = new ArrayList<>();
+        List<Order> orderBy = new ArrayList<>();
+        for (Sort.Order ordem : ordens) {
+            Expression<?> expressao = expressao(root, cb, chaves.get(ordem.getProperty()));
+            expressoes.add(expressao);
+            orderBy.add(ordem.isAscending() ? cb.asc(expressao) : cb.desc(expressao));
+        }
+        
+        List<Predicate> predicados = new ArrayList<>(filtros.apply(root, cb));
+        if (cursor != null && !cursor.isBlank()) {
+            List<String> valores = KeysetCursor.decodificar(cursor, assinatura, ordens.size());
+            predicados.add(posicaoApos(cb, ordens, expressoes, valores));
+        }
+        
+        query.where(predicados.toArray(Predicate[]::new));
+        query.orderBy(orderBy);
+        
+        List<R> linhas = entityManager.createQuery(query)
+            .setMaxResults(tamanho + 1)
+            .getResultList();
+        
+        if (linhas.size() <= tamanho) {
+            return new CursorSlice<>(linhas, null);
+        }
+        
+        List<R> pagina = linhas.subList(0, tamanho);
+        return new CursorSlice<>(List.copyOf(pagina), proximoCursor(assinatura, ordens, pagina.get(tamanho - 1)));
+    }
+    
+    /**
+     * Valida as propriedades e garante o id como último critério de desempate
+     */
+    private List<Sort.Order> normalizar(Sort sort) {
+        List<Sort.Order> ordens = new ArrayList<>();
+        boolean possuiId = false;
+        
+        for (Sort.Order ordem : sort) {
+            if (!chaves.containsKey(ordem.getProperty())) {
+                throw new BusinessException("Ordenação não suportada no modo cursor: " + ordem.getProperty());
+            }
+            ordens.add(ordem);
+            if (PROPRIEDADE_ID.equals(ordem.getProperty())) {
+                possuiId = true;
+                break; // O id é único: critérios posteriores nunca seriam usados
+            }
+        }
+        
+        if (!possuiId) {
+            ordens.add(Sort.Order.asc(PROPRIEDADE_ID));
+        }
+        return ordens;
+    }
+    
+    private String assinatura(List<Sort.Order> ordens) {
+        return ordens.stream()
+            .map(o -> o.getProperty() + ":" + o.getDirection().name())
+            .collect(Collectors.joining(","));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Expression<?> expressao(Root<T> root, CriteriaBuilder cb, ChaveOrdenacao<R> chave) {
+        Expression caminho = root.get(chave.propriedade());
+        return chave.valorNulo() != null ? cb.coalesce(caminho, chave.valorNulo()) : caminho;
+    }
+    
+    /**
+     * Monta (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... respeitando a direção de cada chave
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate posicaoApos(CriteriaBuilder cb, List<Sort.Order> ordens,
+                                  List<Expression<?>> expressoes, List<String> valores) {
+        List<Comparable> convertidos = new ArrayList<>(ordens.size());
+        try {
+            for (int i = 0; i < ordens.size(); i++) {
+                convertidos.add(chaves.get(ordens.get(i).getProperty()).converter(valores.get(i)));
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+        
+        List<Predicate> alternativas = new ArrayList<>();
+        for (int i = 0; i < ordens.size(); i++) {
+            List<Predicate> termos = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                termos.add(cb.equal(expressoes.get(j), convertidos.get(j)));
+            }
+            Expression expressao = expressoes.get(i);
+            termos.add(ordens.get(i).isAscending()
+                ? cb.greaterThan(expressao, convertidos.get(i))
+                : cb.lessThan(expressao, convertidos.get(i)));
+            alternativas.add(cb.and(termos.toArray(Predicate[]::new)));
+        }
+        return cb.or(alternativas.toArray(Predicate[]::new));
+    }
+    
+    private String proximoCursor(String assinatura, List<Sort.Order> ordens, R ultimo) {
+        List<String> valores = new ArrayList<>(ordens.size());
+        for (Sort.Order ordem : ordens) {
+            ChaveOrdenacao<R> chave = chaves.get(ordem.getProperty());
+            valores.add(chave.formatar(chave.extrair(ultimo)));
+        }
+        return KeysetCursor.codificar(assinatura, valores);
+    }
+}
@@ -0,0 +1,19 @@
+package com.projeto.management.repository.projection;
+
+import com.projeto.management.model.enums.StatusTarefa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Estado de uma tarefa relevante para as estatísticas do projeto e o índice de prazos, lido antes de uma atualização em lote
+ */
+public record EstadoTarefaView(
+    Long id,
+    Long idProjeto,
+    StatusTarefa status,
+    BigDecimal estimativaHoras,
+    BigDecimal horasTrabalhadas,
+    LocalDate dataFimPrevista
+) {
+}
@@ -0,0 +1,13 @@
+package com.projeto.management.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Prazo de uma tarefa ativa em aberto (nulo quando a tarefa foi encerrada ou excluída)
+ * Usado na carga e na sincronização do índice de prazos em memória
+ */
+public record PrazoTarefaView(
+    Long id,
+    LocalDate dataFimPrevista
+) {
+}
@@ -0,0 +1,27 @@
+package com.projeto.management.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Totais agregados das tarefas ativas de um projeto
+ * Calculados por consulta agrupada, sem hidratar entidades Tarefa
+ */
+public record ResumoTarefasView(
+    Long projetoId,
+    Long totalTarefas,
+    Long tarefasConcluidas,
+    BigDecimal totalHorasEstimadas,
+    BigDecimal totalHorasTrabalhadas
+) {
+    
+    public static ResumoTarefasView vazio(Long projetoId) {
+        return new ResumoTarefasView(projetoId, 0L, 0L, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+    
+    public double getPercentualConclusao() {
+        if (totalTarefas == null || totalTarefas == 0) {
+            return 0.0;
+        }
+        return (double) tarefasConcluidas / totalTarefas * 100.0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.projeto.management.repository.projection;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura para Tarefa
+ * Carregada via constructor expression junto com os dados do projeto,
+ * evitando o carregamento lazy de Tarefa.projeto por linha
+ */
+public record TarefaView(
+    Long id,
+    String titulo,
+    String descricao,
+    StatusTarefa status,
+    Prioridade prioridade,
+    LocalDateTime dataCriacao,
+    LocalDate dataInicio,
+    LocalDate dataFimPrevista,
+    LocalDate dataFimReal,
+    BigDecimal estimativaHoras,
+    BigDecimal horasTrabalhadas,
+    Integer percentualConclusao,
+    String responsavel,
+    String observacoes,
+    LocalDateTime dataAtualizacao,
+    Boolean ativo,
+    Long idProjeto,
+    String nomeProjeto,
+    Long versao
+) {
+    
+    /**
+     * Cópia com o progresso atualizado, refletindo a linha após um UPDATE de status/percentual
+     */
+    public TarefaView comProgresso(StatusTarefa novoStatus, Integer novoPercentual, LocalDate novaDataFimReal,
+                                   LocalDateTime novaDataAtualizacao, Long novaVersao) {
+        return new TarefaView(id, titulo, descricao, novoStatus, prioridade, dataCriacao, dataInicio,
+            dataFimPrevista, novaDataFimReal, estimativaHoras, horasTrabalhadas, novoPercentual,
+            responsavel, observacoes, novaDataAtualizacao, ativo, idProjeto, nomeProjeto, novaVersao);
+    }
+    
+    /**
+     * Mesma regra de Tarefa.isAtrasada, avaliada sobre a data de referência
+     */
+    public boolean isAtrasada(LocalDate hoje) {
+        return dataFimPrevista != null &&
+               hoje.isAfter(dataFimPrevista) &&
+               status != StatusTarefa.CONCLUIDA &&
+               status != StatusTarefa.CANCELADA;
+    }
+    
+    /**
+     * Em aberto com prazo entre as datas informadas (inclusive), mesma regra de findViewsVencendoEm
+     */
+    public boolean isVencendoEntre(LocalDate inicio, LocalDate fim) {
+        return dataFimPrevista != null &&
+               !dataFimPrevista.isBefore(inicio) &&
+               !dataFimPrevista.isAfter(fim) &&
+               status != StatusTarefa.CONCLUIDA &&
+               status != StatusTarefa.CANCELADA;
+    }
+    
+    /**
+     * Mesma regra de Tarefa.getDiasRestantes, avaliada sobre a data de referência
+     */
+    public long getDiasRestantes(LocalDate hoje) {
+        if (dataFimPrevista == null) {
+            return 0;
+        }
+        return java.time.temporal.ChronoUnit.DAYS.between(hoje, dataFimPrevista);
+    }
+}
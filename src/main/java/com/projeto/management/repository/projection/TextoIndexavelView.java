@@ -0,0 +1,13 @@
+package com.projeto.management.repository.projection;
+
+/**
+ * Textos pesquisáveis de um registro (título/nome e responsável) e se ele está ativo
+ * Usado na carga e na sincronização do índice de busca em memória
+ */
+public record TextoIndexavelView(
+    Long id,
+    String texto,
+    String responsavel,
+    Boolean ativo
+) {
+}
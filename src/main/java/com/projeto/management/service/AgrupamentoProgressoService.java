@@ -0,0 +1,498 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.exception.ConflitoVersaoException;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TarefaRepositoryCustom.AtualizacaoProgresso;
+import com.projeto.management.repository.projection.TarefaView;
+import com.projeto.management.service.ProjetoEstatisticasService.ContribuicaoTarefa;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupamento das atualizações de percentual e status de tarefas em poucas transações (group commit)
+ * 
+ * Desligado por padrão (progresso.agrupamento.habilitado): sem ele cada atualização é uma transação
+ * do TarefaService. Ligado, as atualizações vão para filas por partição (id da tarefa módulo o número
+ * de partições, então uma tarefa sempre cai na mesma fila e na mesma ordem) e a thread de cada partição
+ * grava o lote acumulado em uma única transação: uma leitura das tarefas com bloqueio (em ordem de id),
+ * um lote JDBC de UPDATEs condicionados à versão e um único delta de estatísticas por projeto.
+ * 
+ * Várias atualizações da mesma tarefa no mesmo lote são aplicadas em sequência sobre o estado lido
+ * (valendo a última, com percentual, status e data de conclusão derivados pelas regras de Tarefa) e
+ * gravadas em um único UPDATE; todas recebem o estado final. Um If-Match só confere na primeira
+ * alteração da tarefa no lote, pois as versões intermediárias nunca chegam ao banco.
+ * 
+ * Latência x vazão: janela-ms é o tempo máximo que o primeiro pedido espera por outros antes da
+ * gravação (somado ao tempo da própria transação); tamanho-maximo-lote encerra a janela antes.
+ * Janelas maiores juntam mais pedidos por commit, com mais latência por requisição.
+ * 
+ * Cada pedido termina com o seu próprio resultado ou erro. Se a transação do lote falhar, os pedidos
+ * são refeitos um a um pelo TarefaService; fila cheia ou serviço parado também caem nesse caminho.
+ */
+@Service
+@Slf4j
+public class AgrupamentoProgressoService implements SmartLifecycle, MeterBinder {
+    
+    /**
+     * Para depois do servidor web (requisições em andamento entregam seus pedidos) e antes da
+     * auditoria de status, que recebe as mudanças dos lotes finais
+     */
+    static final int FASE = SmartLifecycle.DEFAULT_PHASE - 3072;
+    
+    /**
+     * Marcador colocado nas filas pelo stop() para acordar as threads que esperam pedidos
+     */
+    private static final Pedido PARADA = new Pedido(0L, null, null, null, null, null);
+    
+    private final TarefaService tarefaService;
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final IndicePrazosService indicePrazosService;
+    private final AuditoriaStatusService auditoriaStatusService;
+    private final TarefaMapper tarefaMapper;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${progresso.agrupamento.habilitado:false}")
+    private boolean habilitado = false;
+    
+    @Value("${progresso.agrupamento.particoes:4}")
+    private int particoes = 4;
+    
+    @Value("${progresso.agrupamento.janela-ms:5}")
+    private long janelaMs = 5;
+    
+    @Value("${progresso.agrupamento.tamanho-maximo-lote:200}")
+    private int tamanhoMaximoLote = 200;
+    
+    @Value("${progresso.agrupamento.capacidade-fila:1000}")
+    private int capacidadeFila = 1000;
+    
+    @Value("${progresso.agrupamento.espera-maxima-ms:10000}")
+    private long esperaMaximaMs = 10_000;
+    
+    private final ReadWriteLock estado = new ReentrantReadWriteLock();
+    private volatile boolean executando;
+    private volatile List<BlockingQueue<Pedido>> filas = List.of();
+    private List<Thread> gravadores = List.of();
+    
+    private final AtomicLong agrupados = new AtomicLong();
+    private final AtomicLong diretos = new AtomicLong();
+    private final AtomicLong coalescidos = new AtomicLong();
+    private final AtomicLong lotes = new AtomicLong();
+    private final AtomicLong lotesRefeitos = new AtomicLong();
+    private final AtomicLong nanosLotes = new AtomicLong();
+    
+    public AgrupamentoProgressoService(TarefaService tarefaService,
+                                       TarefaRepository tarefaRepository,
+                                       ProjetoEstatisticasService projetoEstatisticasService,
+                                       IndicePrazosService indicePrazosService,
+                                       AuditoriaStatusService auditoriaStatusService,
+                                       TarefaMapper tarefaMapper,
+                                       PlatformTransactionManager transactionManager) {
+        this.tarefaService = tarefaService;
+        this.tarefaRepository = tarefaRepository;
+        this.projetoEstatisticasService = projetoEstatisticasService;
+        this.indicePrazosService = indicePrazosService;
+        this.auditoriaStatusService = auditoriaStatusService;
+        this.tarefaMapper = tarefaMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    // Atualizações
+    
+    /**
+     * Mesmo contrato de TarefaService.atualizarPercentual, gravado no próximo lote da partição da tarefa
+     */
+    public TarefaResponseDTO atualizarPercentual(Long id, Integer percentual, String usuarioLogado, Long versaoEsperada) {
+        if (percentual < 0 || percentual > 100) {
+            throw new BusinessException("Percentual deve estar entre 0 e 100");
+        }
+        return executar(new Pedido(id, tarefa -> tarefa.alterarPercentual(percentual), versaoEsperada, usuarioLogado,
+            () -> tarefaService.atualizarPercentual(id, percentual, usuarioLogado, versaoEsperada),
+            new CompletableFuture<>()));
+    }
+    
+    /**
+     * Mesmo contrato de TarefaService.alterarStatus, gravado no próximo lote da partição da tarefa
+     */
+    public TarefaResponseDTO alterarStatus(Long id, StatusTarefa novoStatus, String usuarioLogado, Long versaoEsperada) {
+        return executar(new Pedido(id, tarefa -> tarefa.alterarStatus(novoStatus), versaoEsperada, usuarioLogado,
+            () -> tarefaService.alterarStatus(id, novoStatus, usuarioLogado, versaoEsperada),
+            new CompletableFuture<>()));
+    }
+    
+    // Ciclo de vida
+    
+    @Override
+    public void start() {
+        if (!habilitado) {
+            return;
+        }
+        estado.writeLock().lock();
+        try {
+            if (executando) {
+                return;
+            }
+            List<BlockingQueue<Pedido>> novasFilas = new ArrayList<>(particoes);
+            List<Thread> novosGravadores = new ArrayList<>(particoes);
+            for (int particao = 0; particao < particoes; particao++) {
+                BlockingQueue<Pedido> fila = new ArrayBlockingQueue<>(capacidadeFila);
+                novasFilas.add(fila);
+                novosGravadores.add(new Thread(() -> gravar(fila), "progresso-tarefa-" + particao));
+            }
+            filas = List.copyOf(novasFilas);
+            gravadores = List.copyOf(novosGravadores);
+            executando = true;
+            gravadores.forEach(Thread::start);
+        } finally {
+            estado.writeLock().unlock();
+        }
+        log.info("Agrupamento de progresso de tarefas iniciado - partições: {}, janela: {} ms, lote máximo: {}, fila: {}",
+                 particoes, janelaMs, tamanhoMaximoLote, capacidadeFila);
+    }
+    
+    /**
+     * Para de aceitar pedidos, espera as threads gravarem o que já estava nas filas e refaz um a um
+     * o que eventualmente sobrar
+     */
+    @Override
+    public void stop() {
+        estado.writeLock().lock();
+        try {
+            if (!executando) {
+                return;
+            }
+            executando = false;
+            filas.forEach(fila -> fila.offer(PARADA));
+        } finally {
+            estado.writeLock().unlock();
+        }
+        
+        try {
+            for (Thread gravador : gravadores) {
+                gravador.join(esperaMaximaMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        List<Pedido> restantes = new ArrayList<>();
+        filas.forEach(fila -> fila.drainTo(restantes));
+        restantes.stream().filter(pedido -> pedido != PARADA).forEach(this::processarIndividualmente);
+        log.info("Agrupamento de progresso de tarefas encerrado: {} pedidos em {} lotes, {} coalescidos, {} diretos",
+                 agrupados.get(), lotes.get(), coalescidos.get(), diretos.get());
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+    
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("progresso.agrupamento.fila.tamanho", this, AgrupamentoProgressoService::getTamanhoFilas)
+            .description("Atualizações de progresso aguardando o próximo lote")
+            .register(registry);
+        FunctionTimer.builder("progresso.agrupamento.lotes", this,
+                s -> s.lotes.get(), s -> s.nanosLotes.get(), TimeUnit.NANOSECONDS)
+            .description("Lotes de atualizações de progresso gravados (um commit por lote)")
+            .register(registry);
+        registrarContador(registry, "lote", agrupados, "Atualizações de progresso gravadas em lote");
+        registrarContador(registry, "direto", diretos, "Atualizações de progresso gravadas individualmente");
+        FunctionCounter.builder("progresso.agrupamento.coalescidas", coalescidos, AtomicLong::get)
+            .description("Atualizações substituídas por outra da mesma tarefa no mesmo lote")
+            .register(registry);
+        FunctionCounter.builder("progresso.agrupamento.lotes.refeitos", lotesRefeitos, AtomicLong::get)
+            .description("Lotes cuja transação falhou e foram refeitos um pedido por vez")
+            .register(registry);
+    }
+    
+    public int getTamanhoFilas() {
+        return filas.stream().mapToInt(BlockingQueue::size).sum();
+    }
+    
+    // Métodos privados de apoio
+    
+    private TarefaResponseDTO executar(Pedido pedido) {
+        if (!enfileirar(pedido)) {
+            diretos.incrementAndGet();
+            return pedido.individual().get();
+        }
+        
+        try {
+            return pedido.resultado().get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException erro) {
+                throw erro;
+            }
+            throw new IllegalStateException("Falha ao atualizar a tarefa " + pedido.id(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Atualização da tarefa " + pedido.id() + " não confirmada em "
+                + esperaMaximaMs + " ms; ela ainda pode ser gravada", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a atualização da tarefa " + pedido.id(), e);
+        }
+    }
+    
+    private boolean enfileirar(Pedido pedido) {
+        estado.readLock().lock();
+        try {
+            return executando && filas.get(particao(pedido.id())).offer(pedido);
+        } finally {
+            estado.readLock().unlock();
+        }
+    }
+    
+    private int particao(Long id) {
+        return (int) Math.floorMod(id, (long) filas.size());
+    }
+    
+    /**
+     * Laço da thread de uma partição: espera um pedido e acumula os seguintes por até janelaMs
+     * ou tamanhoMaximoLote pedidos
+     */
+    private void gravar(BlockingQueue<Pedido> fila) {
+        List<Pedido> lote = new ArrayList<>(tamanhoMaximoLote);
+        boolean interrompido = false;
+        
+        while (!interrompido && (executando || !fila.isEmpty())) {
+            try {
+                coletar(fila, lote);
+            } catch (InterruptedException e) {
+                // O restante da fila é refeito pelo stop()
+                interrompido = true;
+            }
+            
+            lote.removeIf(pedido -> pedido == PARADA);
+            if (!lote.isEmpty()) {
+                processar(lote);
+                lote.clear();
+            }
+        }
+    }
+    
+    private void coletar(BlockingQueue<Pedido> fila, List<Pedido> lote) throws InterruptedException {
+        Pedido primeiro = fila.take();
+        lote.add(primeiro);
+        if (primeiro == PARADA) {
+            fila.drainTo(lote);
+            return;
+        }
+        
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        while (lote.size() < tamanhoMaximoLote) {
+            fila.drainTo(lote, tamanhoMaximoLote - lote.size());
+            long restante = prazo - System.nanoTime();
+            if (lote.size() >= tamanhoMaximoLote || restante <= 0) {
+                return;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+    
+    /**
+     * Grava o lote em uma transação e só então entrega os resultados; se a transação falhar,
+     * nenhum pedido foi entregue e todos são refeitos individualmente
+     */
+    private void processar(List<Pedido> lote) {
+        long inicio = System.nanoTime();
+        List<Runnable> entregas;
+        try {
+            entregas = transactionTemplate.execute(status -> aplicar(lote));
+        } catch (RuntimeException e) {
+            lotesRefeitos.incrementAndGet();
+            log.warn("Falha ao gravar lote de {} atualizações de progresso; refazendo uma a uma", lote.size(), e);
+            lote.forEach(this::processarIndividualmente);
+            return;
+        } finally {
+            lotes.incrementAndGet();
+            nanosLotes.addAndGet(System.nanoTime() - inicio);
+        }
+        
+        agrupados.addAndGet(lote.size());
+        entregas.forEach(Runnable::run);
+    }
+    
+    private void processarIndividualmente(Pedido pedido) {
+        diretos.incrementAndGet();
+        try {
+            pedido.resultado().complete(pedido.individual().get());
+        } catch (RuntimeException e) {
+            pedido.resultado().completeExceptionally(e);
+        }
+    }
+    
+    /**
+     * Aplica os pedidos do lote dentro da transação
+     * @return entregas dos resultados, a executar depois do commit
+     */
+    private List<Runnable> aplicar(List<Pedido> lote) {
+        // Em ordem de id: lotes concorrentes bloqueiam as linhas na mesma ordem
+        Map<Long, List<Pedido>> porTarefa = new TreeMap<>();
+        lote.forEach(pedido -> porTarefa.computeIfAbsent(pedido.id(), id -> new ArrayList<>()).add(pedido));
+        
+        // Leitura com bloqueio: as versões lidas valem até o commit, mesmo com drivers que não
+        // informam as linhas afetadas por comando do lote
+        Map<Long, TarefaView> atuais = tarefaRepository.findViewsParaAtualizacaoByIds(porTarefa.keySet()).stream()
+            .collect(Collectors.toMap(TarefaView::id, Function.identity()));
+        
+        List<Runnable> entregas = new ArrayList<>(lote.size());
+        List<Gravacao> gravacoes = new ArrayList<>(porTarefa.size());
+        porTarefa.forEach((id, pedidos) -> {
+            TarefaView atual = atuais.get(id);
+            if (atual == null) {
+                EntityNotFoundException erro = new EntityNotFoundException("Tarefa não encontrada com ID: " + id);
+                pedidos.forEach(pedido -> entregas.add(() -> pedido.resultado().completeExceptionally(erro)));
+                return;
+            }
+            Gravacao gravacao = combinar(atual, pedidos, entregas);
+            if (gravacao != null) {
+                gravacoes.add(gravacao);
+            }
+        });
+        if (gravacoes.isEmpty()) {
+            return entregas;
+        }
+        
+        LocalDateTime agora = LocalDateTime.now();
+        int[] atualizadas = tarefaRepository.atualizarProgressoEmLote(
+            gravacoes.stream().map(Gravacao::atualizacao).toList(), agora);
+        
+        LocalDate hoje = agora.toLocalDate();
+        List<Map.Entry<ContribuicaoTarefa, ContribuicaoTarefa>> alteracoes = new ArrayList<>(gravacoes.size());
+        for (int i = 0; i < gravacoes.size(); i++) {
+            Gravacao gravacao = gravacoes.get(i);
+            TarefaView atual = gravacao.atual();
+            
+            if (atualizadas[i] == 0) {
+                // Mesmo contrato do TarefaService: If-Match recebe 409; sem versão a última escrita vence,
+                // então o pedido é refeito individualmente depois do commit
+                ConflitoVersaoException erro = new ConflitoVersaoException(
+                    "Tarefa " + atual.id() + " foi alterada por outra requisição; recarregue e tente novamente", true);
+                gravacao.pedidos().forEach(pedido -> entregas.add(pedido.versaoEsperada() != null
+                    ? () -> pedido.resultado().completeExceptionally(erro)
+                    : () -> processarIndividualmente(pedido)));
+                continue;
+            }
+            
+            AtualizacaoProgresso atualizacao = gravacao.atualizacao();
+            TarefaView atualizada = atual.comProgresso(atualizacao.status(), atualizacao.percentual(),
+                atualizacao.dataFimReal(), agora, atual.versao() + 1);
+            alteracoes.add(Map.entry(ContribuicaoTarefa.de(atual), ContribuicaoTarefa.de(atualizada)));
+            if (atual.status() != atualizada.status()) {
+                indicePrazosService.registrarStatus(atual.id(), atualizada.status(), atualizada.dataFimPrevista());
+                auditoriaStatusService.registrarTarefa(atual.id(), atual.status(), atualizada.status(), atualizacao.usuario());
+            }
+            
+            TarefaResponseDTO resposta = tarefaMapper.paraResponseDTO(atualizada, hoje);
+            gravacao.pedidos().forEach(pedido -> entregas.add(() -> pedido.resultado().complete(resposta)));
+            coalescidos.addAndGet(gravacao.pedidos().size() - 1);
+        }
+        
+        if (!alteracoes.isEmpty()) {
+            projetoEstatisticasService.registrarAlteracoes(alteracoes);
+        }
+        return entregas;
+    }
+    
+    /**
+     * Aplica em sequência os pedidos de uma tarefa sobre o estado lido
+     * @return a gravação do estado final, ou null se nenhum pedido pôde ser aplicado
+     */
+    private static Gravacao combinar(TarefaView atual, List<Pedido> pedidos, List<Runnable> entregas) {
+        Tarefa tarefa = Tarefa.builder()
+            .status(atual.status())
+            .percentualConclusao(atual.percentualConclusao())
+            .dataFimReal(atual.dataFimReal())
+            .build();
+        
+        List<Pedido> aplicados = new ArrayList<>(pedidos.size());
+        String usuario = null;
+        for (Pedido pedido : pedidos) {
+            Long versaoEsperada = pedido.versaoEsperada();
+            if (versaoEsperada != null && (!aplicados.isEmpty() || !versaoEsperada.equals(atual.versao()))) {
+                long versaoAtual = aplicados.isEmpty() ? atual.versao() : atual.versao() + 1;
+                ConflitoVersaoException erro = new ConflitoVersaoException(
+                    "Tarefa " + atual.id() + " está na versão " + versaoAtual + " (esperada " + versaoEsperada + ")", true);
+                entregas.add(() -> pedido.resultado().completeExceptionally(erro));
+                continue;
+            }
+            pedido.alteracao().accept(tarefa);
+            aplicados.add(pedido);
+            usuario = pedido.usuario();
+        }
+        
+        if (aplicados.isEmpty()) {
+            return null;
+        }
+        return new Gravacao(atual, new AtualizacaoProgresso(atual.id(), atual.versao(), tarefa.getStatus(),
+            tarefa.getPercentualConclusao(), tarefa.getDataFimReal(), usuario), aplicados);
+    }
+    
+    private static void registrarContador(MeterRegistry registry, String caminho, AtomicLong contador, String descricao) {
+        FunctionCounter.builder("progresso.agrupamento.pedidos", contador, AtomicLong::get)
+            .description(descricao)
+            .tag("caminho", caminho)
+            .register(registry);
+    }
+    
+    /**
+     * Atualização pedida por uma requisição
+     * @param alteracao regra aplicada sobre o estado da tarefa no lote
+     * @param individual mesma atualização em uma transação própria do TarefaService
+     */
+    private record Pedido(Long id, Consumer<Tarefa> alteracao, Long versaoEsperada, String usuario,
+                          Supplier<TarefaResponseDTO> individual, CompletableFuture<TarefaResponseDTO> resultado) {
+    }
+    
+    /**
+     * UPDATE de uma tarefa no lote e os pedidos que ele atende
+     */
+    private record Gravacao(TarefaView atual, AtualizacaoProgresso atualizacao, List<Pedido> pedidos) {
+    }
+}
@@ -0,0 +1,231 @@
+package com.projeto.management.service;
+
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoArquivoRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Service de arquivamento (separação entre dados quentes e frios)
+ * 
+ * Move para tarefa_arquivo / projeto_arquivo as tarefas e os projetos excluídos ou encerrados
+ * que não são alterados há mais que o período de retenção. A varredura é por chave, em lotes:
+ * cada lote roda em sua própria transação (bloqueia, copia e remove) e há uma pausa entre os
+ * lotes para não disputar o banco com as requisições. Projetos só são arquivados depois que
+ * todas as suas tarefas já saíram da tabela tarefa.
+ * 
+ * As leituras com incluirArquivados=true consultam também as tabelas de arquivo.
+ */
+@Service
+@Slf4j
+public class ArquivamentoService implements MeterBinder {
+    
+    static final String TABELA_TAREFA = "tarefa";
+    static final String TABELA_PROJETO = "projeto";
+    
+    private static final Set<StatusTarefa> STATUS_TAREFA_ENCERRADOS =
+        EnumSet.of(StatusTarefa.CONCLUIDA, StatusTarefa.CANCELADA);
+    private static final Set<StatusProjeto> STATUS_PROJETO_ENCERRADOS =
+        EnumSet.of(StatusProjeto.CONCLUIDO, StatusProjeto.CANCELADO);
+    
+    private final TarefaArquivoRepository tarefaArquivoRepository;
+    private final ProjetoArquivoRepository projetoArquivoRepository;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${arquivamento.habilitado:true}")
+    private boolean habilitado = true;
+    
+    @Value("${arquivamento.retencao-dias:365}")
+    private int retencaoDias = 365;
+    
+    @Value("${arquivamento.tamanho-lote:500}")
+    private int tamanhoLote = 500;
+    
+    @Value("${arquivamento.pausa-entre-lotes-ms:200}")
+    private long pausaEntreLotesMs = 200;
+    
+    private final Movimentacao tarefas = new Movimentacao();
+    private final Movimentacao projetos = new Movimentacao();
+    
+    public ArquivamentoService(TarefaArquivoRepository tarefaArquivoRepository,
+                               ProjetoArquivoRepository projetoArquivoRepository,
+                               ProjetoEstatisticasService projetoEstatisticasService,
+                               PlatformTransactionManager transactionManager) {
+        this.tarefaArquivoRepository = tarefaArquivoRepository;
+        this.projetoArquivoRepository = projetoArquivoRepository;
+        this.projetoEstatisticasService = projetoEstatisticasService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Execução agendada com o limite calculado a partir da retenção configurada
+     */
+    @Scheduled(cron = "${arquivamento.cron:0 0 2 * * *}")
+    public void arquivarAgendado() {
+        if (habilitado) {
+            arquivar(LocalDateTime.now().minusDays(retencaoDias));
+        }
+    }
+    
+    /**
+     * Arquiva as tarefas e, em seguida, os projetos sem alteração desde o limite informado
+     * @return linhas movidas por tabela
+     */
+    public ResultadoArquivamento arquivar(LocalDateTime limite) {
+        log.info("Iniciando arquivamento de registros sem alteração desde {}", limite);
+        
+        int tarefasMovidas = mover(TABELA_TAREFA, tarefas,
+            ultimoId -> tarefaArquivoRepository.findIdsArquivaveisApos(
+                ultimoId, STATUS_TAREFA_ENCERRADOS, limite, PageRequest.of(0, tamanhoLote)),
+            ids -> moverTarefas(ids, limite));
+        
+        int projetosMovidos = mover(TABELA_PROJETO, projetos,
+            ultimoId -> projetoArquivoRepository.findIdsArquivaveisApos(
+                ultimoId, STATUS_PROJETO_ENCERRADOS, limite, PageRequest.of(0, tamanhoLote)),
+            ids -> moverProjetos(ids, limite));
+        
+        return new ResultadoArquivamento(tarefasMovidas, projetosMovidos);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrarMetricas(registry, TABELA_TAREFA, tarefas);
+        registrarMetricas(registry, TABELA_PROJETO, projetos);
+    }
+    
+    // Métodos privados de apoio
+    
+    private int mover(String tabela, Movimentacao movimentacao,
+                      LongFunction<List<Long>> candidatos,
+                      Function<List<Long>, Integer> moverLote) {
+        long inicio = System.nanoTime();
+        int movidas = 0;
+        long ultimoId = 0L;
+        
+        try {
+            while (true) {
+                List<Long> ids = candidatos.apply(ultimoId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                
+                Integer movidasLote = transactionTemplate.execute(status -> moverLote.apply(ids));
+                movidas += movidasLote != null ? movidasLote : 0;
+                ultimoId = ids.get(ids.size() - 1);
+                
+                if (ids.size() < tamanhoLote || !pausar()) {
+                    break;
+                }
+            }
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            movimentacao.registrar(movidas, duracao);
+            log.info("Arquivamento de {}: {} linhas movidas em {} ms",
+                     tabela, movidas, TimeUnit.NANOSECONDS.toMillis(duracao));
+        }
+        
+        return movidas;
+    }
+    
+    /**
+     * As estatísticas dos projetos afetados são reconciliadas na mesma transação: as tarefas
+     * que estavam ativas passam a contar a partir do arquivo
+     */
+    private int moverTarefas(List<Long> candidatas, LocalDateTime limite) {
+        List<Long> ids = tarefaArquivoRepository.bloquearArquivaveis(candidatas, limite);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Long> projetoIds = tarefaArquivoRepository.findProjetoIdsDasTarefas(ids);
+        tarefaArquivoRepository.copiarParaArquivo(ids, LocalDateTime.now());
+        int movidas = tarefaArquivoRepository.removerArquivadas(ids);
+        projetoEstatisticasService.reconciliar(projetoIds);
+        return movidas;
+    }
+    
+    /**
+     * O DELETE nativo invalida as regiões do cache de segundo nível, então projetos arquivados
+     * não continuam sendo servidos do cache
+     */
+    private int moverProjetos(List<Long> candidatos, LocalDateTime limite) {
+        List<Long> ids = projetoArquivoRepository.bloquearArquivaveis(candidatos, limite);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        projetoArquivoRepository.copiarParaArquivo(ids, LocalDateTime.now());
+        projetoArquivoRepository.removerEstatisticas(ids);
+        return projetoArquivoRepository.removerArquivados(ids);
+    }
+    
+    /**
+     * Pausa entre lotes
+     * @return false se a thread foi interrompida e a execução deve parar
+     */
+    private boolean pausar() {
+        if (pausaEntreLotesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausaEntreLotesMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Arquivamento interrompido; o restante fica para a próxima execução");
+            return false;
+        }
+    }
+    
+    private static void registrarMetricas(MeterRegistry registry, String tabela, Movimentacao movimentacao) {
+        FunctionCounter.builder("arquivamento.linhas", movimentacao, m -> m.linhas.get())
+            .description("Linhas movidas para as tabelas de arquivo")
+            .tag("tabela", tabela)
+            .register(registry);
+        FunctionTimer.builder("arquivamento.duracao", movimentacao,
+                m -> m.execucoes.get(), m -> m.nanos.get(), TimeUnit.NANOSECONDS)
+            .description("Tempo das execuções de arquivamento")
+            .tag("tabela", tabela)
+            .register(registry);
+    }
+    
+    /**
+     * Totais acumulados de uma tabela, expostos como métricas
+     */
+    private static final class Movimentacao {
+        private final AtomicLong linhas = new AtomicLong();
+        private final AtomicLong execucoes = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        
+        void registrar(int movidas, long duracaoNanos) {
+            linhas.addAndGet(movidas);
+            execucoes.incrementAndGet();
+            nanos.addAndGet(duracaoNanos);
+        }
+    }
+    
+    /**
+     * Linhas movidas em uma execução
+     */
+    public record ResultadoArquivamento(int tarefas, int projetos) {
+    }
+}
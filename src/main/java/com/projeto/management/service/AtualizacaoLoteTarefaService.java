@@ -0,0 +1,164 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.request.AtualizacaoTarefasLoteRequestDTO;
+import com.projeto.management.dto.response.AtualizacaoTarefasLoteResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import com.projeto.management.service.ProjetoEstatisticasService.ContribuicaoTarefa;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service de atualização de tarefas em lote (status, prioridade e responsável)
+ * 
+ * As tarefas selecionadas são processadas em blocos, cada um em sua própria transação:
+ * as linhas do bloco são bloqueadas e lidas como projeção (para os deltas das estatísticas)
+ * e atualizadas por um único UPDATE, que deriva percentual e data de conclusão no próprio banco.
+ * As mudanças de status do bloco são enviadas à auditoria de status com o usuário responsável,
+ * a partir dos estados lidos antes do UPDATE.
+ */
+@Service
+@Slf4j
+public class AtualizacaoLoteTarefaService {
+    
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final IndiceBuscaService indiceBuscaService;
+    private final IndicePrazosService indicePrazosService;
+    private final AuditoriaStatusService auditoriaStatusService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${atualizacao-lote.tamanho-bloco:1000}")
+    private int tamanhoBloco = 1000;
+    
+    public AtualizacaoLoteTarefaService(TarefaRepository tarefaRepository,
+                                        ProjetoEstatisticasService projetoEstatisticasService,
+                                        IndiceBuscaService indiceBuscaService,
+                                        IndicePrazosService indicePrazosService,
+                                        AuditoriaStatusService auditoriaStatusService,
+                                        PlatformTransactionManager transactionManager) {
+        this.tarefaRepository = tarefaRepository;
+        this.projetoEstatisticasService = projetoEstatisticasService;
+        this.indiceBuscaService = indiceBuscaService;
+        this.indicePrazosService = indicePrazosService;
+        this.auditoriaStatusService = auditoriaStatusService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Aplica a alteração às tarefas selecionadas por ids ou por filtros
+     */
+    public AtualizacaoTarefasLoteResponseDTO atualizar(AtualizacaoTarefasLoteRequestDTO request, String usuarioLogado) {
+        validar(request);
+        long inicio = System.currentTimeMillis();
+        Contagem contagem = new Contagem();
+        
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = request.getIds().stream().distinct().sorted().toList();
+            for (int i = 0; i < ids.size(); i += tamanhoBloco) {
+                List<Long> bloco = ids.subList(i, Math.min(i + tamanhoBloco, ids.size()));
+                contagem.selecionadas += bloco.size();
+                contagem.somar(atualizarBloco(bloco, request, usuarioLogado));
+            }
+        } else {
+            AtualizacaoTarefasLoteRequestDTO.Filtro filtro = request.getFiltro();
+            TarefaFiltro tarefaFiltro = new TarefaFiltro(filtro.getProjetoId(), filtro.getTitulo(),
+                filtro.getStatus(), filtro.getResponsavel(), filtro.getPrioridade());
+            
+            // Percorre por id: as linhas já alteradas não voltam a ser selecionadas
+            Long ultimoId = 0L;
+            while (true) {
+                List<Long> bloco = tarefaRepository.findIdsComFiltros(tarefaFiltro, ultimoId, tamanhoBloco);
+                if (bloco.isEmpty()) {
+                    break;
+                }
+                contagem.selecionadas += bloco.size();
+                contagem.somar(atualizarBloco(bloco, request, usuarioLogado));
+                ultimoId = bloco.get(bloco.size() - 1);
+            }
+        }
+        
+        log.info("Atualização em lote concluída: {} selecionadas, {} atualizadas em {} blocos ({} ms)",
+                 contagem.selecionadas, contagem.atualizadas, contagem.lotes, System.currentTimeMillis() - inicio);
+        
+        return AtualizacaoTarefasLoteResponseDTO.builder()
+            .selecionadas(contagem.selecionadas)
+            .atualizadas(contagem.atualizadas)
+            .lotes(contagem.lotes)
+            .build();
+    }
+    
+    // Métodos privados de apoio
+    
+    private void validar(AtualizacaoTarefasLoteRequestDTO request) {
+        boolean porIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean porFiltro = request.getFiltro() != null;
+        
+        if (porIds == porFiltro) {
+            throw new BusinessException("Informe ids ou filtro para selecionar as tarefas (apenas um dos dois)");
+        }
+        if (porFiltro && filtroVazio(request.getFiltro())) {
+            throw new BusinessException("Informe ao menos um critério no filtro");
+        }
+        if (request.getStatus() == null && request.getPrioridade() == null && request.getResponsavel() == null) {
+            throw new BusinessException("Informe ao menos uma alteração (status, prioridade ou responsável)");
+        }
+    }
+    
+    private static boolean filtroVazio(AtualizacaoTarefasLoteRequestDTO.Filtro filtro) {
+        return filtro.getProjetoId() == null && filtro.getStatus() == null && filtro.getPrioridade() == null &&
+               !StringUtils.hasText(filtro.getTitulo()) && !StringUtils.hasText(filtro.getResponsavel());
+    }
+    
+    private Integer atualizarBloco(List<Long> ids, AtualizacaoTarefasLoteRequestDTO request, String usuarioLogado) {
+        return transactionTemplate.execute(status -> {
+            List<EstadoTarefaView> estados = tarefaRepository.findEstadosParaAtualizacao(ids);
+            if (estados.isEmpty()) {
+                return 0;
+            }
+            List<Long> ativos = estados.stream().map(EstadoTarefaView::id).toList();
+            
+            int atualizadas = tarefaRepository.atualizarEmLote(ativos, request.getStatus(), request.getPrioridade(),
+                request.getResponsavel(), usuarioLogado, LocalDateTime.now());
+            
+            StatusTarefa novoStatus = request.getStatus();
+            if (novoStatus != null) {
+                projetoEstatisticasService.registrarAlteracoes(estados.stream()
+                    .map(ContribuicaoTarefa::de)
+                    .map(antes -> Map.entry(antes, antes.comStatus(novoStatus)))
+                    .toList());
+                indicePrazosService.registrarStatusTarefas(estados, novoStatus);
+                auditoriaStatusService.registrarTarefas(estados, novoStatus, usuarioLogado);
+            }
+            if (request.getResponsavel() != null) {
+                indiceBuscaService.registrarResponsavelTarefas(ativos, request.getResponsavel());
+            }
+            
+            return atualizadas;
+        });
+    }
+    
+    private static final class Contagem {
+        private int selecionadas;
+        private int atualizadas;
+        private int lotes;
+        
+        private void somar(Integer atualizadasBloco) {
+            if (atualizadasBloco != null && atualizadasBloco > 0) {
+                atualizadas += atualizadasBloco;
+                lotes++;
+            }
+        }
+    }
+}
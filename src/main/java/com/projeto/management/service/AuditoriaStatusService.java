@@ -0,0 +1,428 @@
+package com.projeto.management.service;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.AuditoriaStatusRepository;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Service de auditoria das mudanças de status de projetos e tarefas (tabela auditoria_status)
+ *
+ * Substitui os triggers do MySQL: as mudanças são registradas após o commit da transação que as fez
+ * em uma fila limitada, e uma thread dedicada grava a fila em lotes (INSERT de várias linhas) quando
+ * o lote enche ou o intervalo máximo passa. Assim a gravação da auditoria não estende o tempo de lock
+ * das linhas alteradas.
+ *
+ * Fila cheia não descarta registros: o excedente é gravado de forma síncrona por quem o registrou.
+ * No desligamento a fila é esvaziada antes do fechamento do pool de conexões; fora do ciclo de vida
+ * (antes do início ou depois da parada) os registros também são gravados de forma síncrona.
+ * A thread de gravação é daemon e também é parada na destruição do bean, de modo que um contexto
+ * fechado sem a fase de parada (falha no refresh, testes) não mantém a JVM ativa.
+ *
+ * Recebe as mudanças dos services legados e os eventos de domínio de Tarefa e Projeto publicados
+ * no contexto da aplicação.
+ */
+@Service
+@Slf4j
+public class AuditoriaStatusService implements SmartLifecycle, DisposableBean, MeterBinder {
+    
+    /**
+     * Para depois do servidor web (graceful shutdown), que fica em fases maiores, e antes dos beans
+     * serem destruídos: requisições em andamento ainda têm suas mudanças gravadas
+     */
+    static final int FASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    
+    private static final int TENTATIVAS = 3;
+    
+    /**
+     * Marcador colocado na fila pelo stop() para acordar a thread que espera completar um lote
+     */
+    private static final AuditoriaStatus PARADA = new AuditoriaStatus();
+    
+    private final AuditoriaStatusRepository auditoriaStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${auditoria.fila.capacidade:10000}")
+    private int capacidade = 10_000;
+    
+    @Value("${auditoria.lote.tamanho:500}")
+    private int tamanhoLote = 500;
+    
+    @Value("${auditoria.lote.intervalo-ms:200}")
+    private long intervaloMs = 200;
+    
+    @Value("${auditoria.desligamento.timeout-ms:30000}")
+    private long timeoutDesligamentoMs = 30_000;
+    
+    private final ReadWriteLock estado = new ReentrantReadWriteLock();
+    private volatile boolean executando;
+    private volatile BlockingQueue<AuditoriaStatus> fila;
+    private Thread escritor;
+    
+    private final AtomicLong gravados = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong sincronos = new AtomicLong();
+    private final AtomicLong gravacoes = new AtomicLong();
+    private final AtomicLong nanosGravacao = new AtomicLong();
+    private volatile long duracaoUltimaGravacaoNanos;
+    
+    public AuditoriaStatusService(AuditoriaStatusRepository auditoriaStatusRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.auditoriaStatusRepository = auditoriaStatusRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    // Registro das mudanças
+    
+    /**
+     * Registra a mudança de status de uma tarefa (ignorada se o status não mudou)
+     */
+    public void registrarTarefa(Long id, StatusTarefa anterior, StatusTarefa novo, String usuario) {
+        if (novo != null && anterior != novo) {
+            aposCommit(List.of(registro(TabelaAuditoria.TAREFA, id, nome(anterior), novo.name(), usuario, null)));
+        }
+    }
+    
+    /**
+     * Registra a mudança de status de um lote de tarefas para o mesmo status
+     */
+    public void registrarTarefas(Collection<EstadoTarefaView> estados, StatusTarefa novo, String usuario) {
+        List<AuditoriaStatus> registros = estados.stream()
+            .filter(estado -> estado.status() != novo)
+            .map(estado -> registro(TabelaAuditoria.TAREFA, estado.id(), nome(estado.status()), novo.name(), usuario, null))
+            .toList();
+        if (!registros.isEmpty()) {
+            aposCommit(registros);
+        }
+    }
+    
+    /**
+     * Registra a mudança de status de um projeto (ignorada se o status não mudou)
+     */
+    public void registrarProjeto(Long id, StatusProjeto anterior, StatusProjeto novo, String usuario) {
+        if (novo != null && anterior != novo) {
+            aposCommit(List.of(registro(TabelaAuditoria.PROJETO, id, nome(anterior), novo.name(), usuario, null)));
+        }
+    }
+    
+    /**
+     * Eventos de domínio de Tarefa que mudam o status; o status anterior não faz parte do evento
+     * e fica em branco, exceto no desbloqueio
+     */
+    @EventListener
+    public void aoEventoTarefa(TarefaEvent evento) {
+        AuditoriaStatus registro = switch (evento) {
+            case TarefaEvent.TarefaIniciada e ->
+                registroDeEvento(TabelaAuditoria.TAREFA, e.tarefaId(), null, "EM_ANDAMENTO", null, e.ocorridoEm());
+            case TarefaEvent.TarefaFinalizada e ->
+                registroDeEvento(TabelaAuditoria.TAREFA, e.tarefaId(), null, "CONCLUIDA", null, e.ocorridoEm());
+            case TarefaEvent.TarefaBloqueada e ->
+                registroDeEvento(TabelaAuditoria.TAREFA, e.tarefaId(), null, "BLOQUEADA", e.motivo(), e.ocorridoEm());
+            case TarefaEvent.TarefaDesbloqueada e ->
+                registroDeEvento(TabelaAuditoria.TAREFA, e.tarefaId(), "BLOQUEADA", "EM_ANDAMENTO", null, e.ocorridoEm());
+            default -> null;
+        };
+        if (registro != null) {
+            aposCommit(List.of(registro));
+        }
+    }
+    
+    /**
+     * Eventos de domínio de Projeto que mudam o status
+     */
+    @EventListener
+    public void aoEventoProjeto(ProjetoEvent evento) {
+        AuditoriaStatus registro = switch (evento) {
+            case ProjetoEvent.ProjetoIniciado e ->
+                registroDeEvento(TabelaAuditoria.PROJETO, e.projetoId(), null, "EM_ANDAMENTO", null, e.ocorridoEm());
+            case ProjetoEvent.ProjetoFinalizado e ->
+                registroDeEvento(TabelaAuditoria.PROJETO, e.projetoId(), null, "CONCLUIDO", null, e.ocorridoEm());
+            case ProjetoEvent.ProjetoCancelado e ->
+                registroDeEvento(TabelaAuditoria.PROJETO, e.projetoId(), null, "CANCELADO", e.motivo(), e.ocorridoEm());
+            default -> null;
+        };
+        if (registro != null) {
+            aposCommit(List.of(registro));
+        }
+    }
+    
+    // Ciclo de vida
+    
+    @Override
+    public void start() {
+        estado.writeLock().lock();
+        try {
+            if (executando) {
+                return;
+            }
+            fila = new ArrayBlockingQueue<>(capacidade);
+            executando = true;
+            escritor = new Thread(this::executar, "auditoria-status");
+            escritor.setDaemon(true);
+            escritor.start();
+        } finally {
+            estado.writeLock().unlock();
+        }
+        log.info("Gravação de auditoria de status iniciada - capacidade da fila: {}, lote: {}, intervalo: {} ms",
+                 capacidade, tamanhoLote, intervaloMs);
+    }
+    
+    /**
+     * Para de aceitar registros na fila, espera a thread gravar o que restou e grava de forma
+     * síncrona o que eventualmente sobrar se ela não terminar no prazo
+     */
+    @Override
+    public void stop() {
+        estado.writeLock().lock();
+        try {
+            if (!executando) {
+                return;
+            }
+            executando = false;
+            fila.offer(PARADA);
+        } finally {
+            estado.writeLock().unlock();
+        }
+        
+        try {
+            escritor.join(timeoutDesligamentoMs);
+            if (escritor.isAlive()) {
+                log.warn("Gravação de auditoria não terminou em {} ms; interrompendo", timeoutDesligamentoMs);
+                escritor.interrupt();
+                escritor.join(intervaloMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        List<AuditoriaStatus> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        restantes.removeIf(registro -> registro == PARADA);
+        if (!restantes.isEmpty()) {
+            gravar(restantes);
+        }
+        log.info("Gravação de auditoria de status encerrada: {} registros gravados, {} descartados",
+                 gravados.get(), descartados.get());
+    }
+    
+    /**
+     * Garante a parada quando o contexto é destruído sem passar pela fase de parada do ciclo de vida
+     */
+    @Override
+    public void destroy() {
+        stop();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+    
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auditoria.fila.tamanho", this, AuditoriaStatusService::getTamanhoFila)
+            .description("Registros de auditoria aguardando gravação")
+            .register(registry);
+        FunctionTimer.builder("auditoria.gravacao", this,
+                s -> s.gravacoes.get(), s -> s.nanosGravacao.get(), TimeUnit.NANOSECONDS)
+            .description("Gravações de lotes de auditoria")
+            .register(registry);
+        TimeGauge.builder("auditoria.gravacao.ultima", this, TimeUnit.NANOSECONDS,
+                s -> s.duracaoUltimaGravacaoNanos)
+            .description("Duração da última gravação de lote de auditoria")
+            .register(registry);
+        registrarContador(registry, "gravado", gravados, "Registros de auditoria gravados");
+        registrarContador(registry, "descartado", descartados, "Registros de auditoria descartados após falhas na gravação");
+        FunctionCounter.builder("auditoria.fila.transbordamentos", sincronos, AtomicLong::get)
+            .description("Registros gravados de forma síncrona por fila cheia ou fora do ciclo de vida")
+            .register(registry);
+    }
+    
+    public int getTamanhoFila() {
+        BlockingQueue<AuditoriaStatus> atual = fila;
+        return atual == null ? 0 : atual.size();
+    }
+    
+    // Métodos privados de apoio
+    
+    private void aposCommit(List<AuditoriaStatus> registros) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enfileirar(registros);
+                }
+            });
+        } else {
+            enfileirar(registros);
+        }
+    }
+    
+    private void enfileirar(List<AuditoriaStatus> registros) {
+        List<AuditoriaStatus> excedentes = new ArrayList<>();
+        estado.readLock().lock();
+        try {
+            for (AuditoriaStatus registro : registros) {
+                if (!executando || !fila.offer(registro)) {
+                    excedentes.add(registro);
+                }
+            }
+        } finally {
+            estado.readLock().unlock();
+        }
+        
+        if (!excedentes.isEmpty()) {
+            sincronos.addAndGet(excedentes.size());
+            gravar(excedentes);
+        }
+    }
+    
+    /**
+     * Laço da thread de gravação: acumula até tamanhoLote registros ou intervaloMs desde o primeiro;
+     * depois do stop() grava o que restou na fila sem esperar completar o lote
+     */
+    private void executar() {
+        List<AuditoriaStatus> lote = new ArrayList<>(tamanhoLote);
+        boolean interrompido = false;
+        
+        while (!interrompido && (executando || !fila.isEmpty())) {
+            try {
+                coletar(lote);
+            } catch (InterruptedException e) {
+                // O restante da fila é gravado pelo stop()
+                interrompido = true;
+            }
+            
+            lote.removeIf(registro -> registro == PARADA);
+            if (!lote.isEmpty()) {
+                gravar(lote);
+                lote.clear();
+            }
+        }
+    }
+    
+    private void coletar(List<AuditoriaStatus> lote) throws InterruptedException {
+        AuditoriaStatus primeiro = fila.poll(intervaloMs, TimeUnit.MILLISECONDS);
+        if (primeiro == null) {
+            return;
+        }
+        lote.add(primeiro);
+        
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        while (lote.size() < tamanhoLote && executando) {
+            fila.drainTo(lote, tamanhoLote - lote.size());
+            long restante = prazo - System.nanoTime();
+            if (lote.size() >= tamanhoLote || restante <= 0) {
+                return;
+            }
+            AuditoriaStatus proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+    
+    private void gravar(List<AuditoriaStatus> registros) {
+        long inicio = System.nanoTime();
+        try {
+            for (int tentativa = 1; tentativa <= TENTATIVAS; tentativa++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> auditoriaStatusRepository.inserirEmLote(registros));
+                    gravados.addAndGet(registros.size());
+                    return;
+                } catch (RuntimeException e) {
+                    if (tentativa == TENTATIVAS || !aguardarNovaTentativa()) {
+                        descartados.addAndGet(registros.size());
+                        log.error("Falha ao gravar {} registros de auditoria de status; descartados", registros.size(), e);
+                        return;
+                    }
+                    log.warn("Falha ao gravar {} registros de auditoria de status (tentativa {} de {})",
+                             registros.size(), tentativa, TENTATIVAS, e);
+                }
+            }
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            duracaoUltimaGravacaoNanos = duracao;
+            gravacoes.incrementAndGet();
+            nanosGravacao.addAndGet(duracao);
+        }
+    }
+    
+    private boolean aguardarNovaTentativa() {
+        try {
+            Thread.sleep(intervaloMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private static void registrarContador(MeterRegistry registry, String resultado, AtomicLong contador, String descricao) {
+        FunctionCounter.builder("auditoria.registros", contador, AtomicLong::get)
+            .description(descricao)
+            .tag("resultado", resultado)
+            .register(registry);
+    }
+    
+    private static AuditoriaStatus registro(TabelaAuditoria tabela, Long id, String anterior, String novo,
+                                            String usuario, String observacao) {
+        AuditoriaStatus registro = registroDeEvento(tabela, id, anterior, novo, observacao, null);
+        registro.setUsuario(usuario);
+        return registro;
+    }
+    
+    private static AuditoriaStatus registroDeEvento(TabelaAuditoria tabela, Long id, String anterior, String novo,
+                                                    String observacao, LocalDateTime ocorridoEm) {
+        return AuditoriaStatus.builder()
+            .tabela(tabela)
+            .idRegistro(id)
+            .statusAnterior(anterior)
+            .statusNovo(novo)
+            .dataMudanca(Objects.requireNonNullElseGet(ocorridoEm, LocalDateTime::now))
+            .observacao(observacao)
+            .build();
+    }
+    
+    private static String nome(Enum<?> status) {
+        return status == null ? null : status.name();
+    }
+}
@@ -0,0 +1,135 @@
+package com.projeto.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.exportacao.ColunaCsv;
+import com.projeto.management.service.exportacao.EscritorExportacao;
+import com.projeto.management.service.exportacao.FormatoExportacao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service de exportação de tarefas e projetos em NDJSON ou CSV
+ * 
+ * Os registros são lidos em lotes por cursor (ordem de id), cada lote em sua própria transação
+ * de leitura, e escritos direto na saída: a memória usada é a de um lote, independentemente do
+ * total exportado, e a conexão com o banco é liberada entre os lotes, sem ficar presa à
+ * velocidade do cliente.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportacaoService {
+    
+    private static final Sort ORDEM_EXPORTACAO = Sort.by("id");
+    
+    private static final List<ColunaCsv<TarefaResponseDTO>> COLUNAS_TAREFA = List.of(
+        new ColunaCsv<>("id", TarefaResponseDTO::getId),
+        new ColunaCsv<>("titulo", TarefaResponseDTO::getTitulo),
+        new ColunaCsv<>("status", TarefaResponseDTO::getStatus),
+        new ColunaCsv<>("prioridade", TarefaResponseDTO::getPrioridade),
+        new ColunaCsv<>("id_projeto", TarefaResponseDTO::getIdProjeto),
+        new ColunaCsv<>("nome_projeto", TarefaResponseDTO::getNomeProjeto),
+        new ColunaCsv<>("responsavel", TarefaResponseDTO::getResponsavel),
+        new ColunaCsv<>("data_criacao", TarefaResponseDTO::getDataCriacao),
+        new ColunaCsv<>("data_inicio", TarefaResponseDTO::getDataInicio),
+        new ColunaCsv<>("data_fim_prevista", TarefaResponseDTO::getDataFimPrevista),
+        new ColunaCsv<>("data_fim_real", TarefaResponseDTO::getDataFimReal),
+        new ColunaCsv<>("estimativa_horas", TarefaResponseDTO::getEstimativaHoras),
+        new ColunaCsv<>("horas_trabalhadas", TarefaResponseDTO::getHorasTrabalhadas),
+        new ColunaCsv<>("percentual_conclusao", TarefaResponseDTO::getPercentualConclusao),
+        new ColunaCsv<>("atrasada", TarefaResponseDTO::getAtrasada)
+    );
+    
+    private static final List<ColunaCsv<ProjetoResponseDTO>> COLUNAS_PROJETO = List.of(
+        new ColunaCsv<>("id", ProjetoResponseDTO::getId),
+        new ColunaCsv<>("nome", ProjetoResponseDTO::getNome),
+        new ColunaCsv<>("status", ProjetoResponseDTO::getStatus),
+        new ColunaCsv<>("prioridade", ProjetoResponseDTO::getPrioridade),
+        new ColunaCsv<>("responsavel", ProjetoResponseDTO::getResponsavel),
+        new ColunaCsv<>("data_inicio", ProjetoResponseDTO::getDataInicio),
+        new ColunaCsv<>("data_fim_prevista", ProjetoResponseDTO::getDataFimPrevista),
+        new ColunaCsv<>("data_fim_real", ProjetoResponseDTO::getDataFimReal),
+        new ColunaCsv<>("orcamento", ProjetoResponseDTO::getOrcamento),
+        new ColunaCsv<>("total_tarefas", ProjetoResponseDTO::getTotalTarefas),
+        new ColunaCsv<>("tarefas_concluidas", ProjetoResponseDTO::getTarefasConcluidas),
+        new ColunaCsv<>("percentual_conclusao", ProjetoResponseDTO::getPercentualConclusao),
+        new ColunaCsv<>("total_horas_estimadas", ProjetoResponseDTO::getTotalHorasEstimadas),
+        new ColunaCsv<>("total_horas_trabalhadas", ProjetoResponseDTO::getTotalHorasTrabalhadas)
+    );
+    
+    private final TarefaService tarefaService;
+    private final ProjetoService projetoService;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${exportacao.tamanho-lote:500}")
+    private int tamanhoLote = 500;
+    
+    /**
+     * Exporta as tarefas que atendem aos mesmos filtros da listagem
+     * @return quantidade de tarefas exportadas
+     */
+    public long exportarTarefas(Long projetoId, String titulo, StatusTarefa status, String responsavel,
+                                Prioridade prioridade, FormatoExportacao formato, OutputStream saida) throws IOException {
+        log.info("Exportando tarefas em {} - Projeto: {}, Status: {}", formato, projetoId, status);
+        
+        EscritorExportacao<TarefaResponseDTO> escritor =
+            EscritorExportacao.para(formato, saida, objectMapper, COLUNAS_TAREFA);
+        
+        long total = 0;
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<TarefaResponseDTO> lote = tarefaService.listarTarefasPorCursor(
+                projetoId, titulo, status, responsavel, prioridade, ORDEM_EXPORTACAO, cursor, tamanhoLote);
+            total += escreverLote(escritor, lote);
+            cursor = lote.getNextCursor();
+        } while (cursor != null);
+        
+        log.info("Exportação de tarefas concluída: {} registros", total);
+        return total;
+    }
+    
+    /**
+     * Exporta os projetos que atendem aos mesmos filtros da listagem
+     * @return quantidade de projetos exportados
+     */
+    public long exportarProjetos(String nome, StatusProjeto status, String responsavel,
+                                 FormatoExportacao formato, OutputStream saida) throws IOException {
+        log.info("Exportando projetos em {} - Status: {}", formato, status);
+        
+        EscritorExportacao<ProjetoResponseDTO> escritor =
+            EscritorExportacao.para(formato, saida, objectMapper, COLUNAS_PROJETO);
+        
+        long total = 0;
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<ProjetoResponseDTO> lote = projetoService.listarProjetosPorCursor(
+                nome, status, responsavel, ORDEM_EXPORTACAO, cursor, tamanhoLote);
+            total += escreverLote(escritor, lote);
+            cursor = lote.getNextCursor();
+        } while (cursor != null);
+        
+        log.info("Exportação de projetos concluída: {} registros", total);
+        return total;
+    }
+    
+    private <T> int escreverLote(EscritorExportacao<T> escritor, CursorPageResponseDTO<T> lote) throws IOException {
+        for (T registro : lote.getContent()) {
+            escritor.escrever(registro);
+        }
+        escritor.descarregar();
+        return lote.getContent().size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.HistoricoStatusResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.AuditoriaStatusRepository;
+import com.projeto.management.repository.keyset.CursorSlice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Service de consulta do histórico de status (tabela auditoria_status)
+ * 
+ * O histórico é lido do mais recente para o mais antigo, por cursor, e sempre dentro de um período:
+ * no máximo desde o início da retenção, o que limita a leitura às partições ainda mantidas.
+ * Registros arquivados ou excluídos continuam com histórico; ids desconhecidos retornam página vazia.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class HistoricoStatusService {
+    
+    private final AuditoriaStatusRepository auditoriaStatusRepository;
+    private final ParticionamentoAuditoriaService particionamentoAuditoriaService;
+    
+    /**
+     * Lista o histórico de status de um projeto ou tarefa
+     * @param desde primeiro dia do período (limitado ao início da retenção) ou null
+     * @param ate último dia do período (inclusive) ou null para sem limite
+     */
+    public CursorPageResponseDTO<HistoricoStatusResponseDTO> listar(TabelaAuditoria tabela, Long id,
+                                                                  LocalDate desde, LocalDate ate,
+                                                                  String cursor, int tamanho) {
+        log.debug("Listando histórico de status - {} {}, período: {} a {}", tabela.getDescricao(), id, desde, ate);
+        
+        if (desde != null && ate != null && ate.isBefore(desde)) {
+            throw new BusinessException("Data final do histórico deve ser posterior à data inicial");
+        }
+        
+        LocalDateTime inicioRetencao = particionamentoAuditoriaService.inicioRetencao();
+        LocalDateTime inicio = desde == null || desde.atStartOfDay().isBefore(inicioRetencao)
+            ? inicioRetencao : desde.atStartOfDay();
+        LocalDateTime fim = ate == null ? null : ate.plusDays(1).atStartOfDay();
+        
+        CursorSlice<HistoricoStatusResponseDTO> slice = auditoriaStatusRepository
+            .buscarHistorico(tabela, id, inicio, fim, cursor, tamanho)
+            .map(this::converterParaResponseDTO);
+        
+        return CursorPageResponseDTO.<HistoricoStatusResponseDTO>builder()
+            .content(slice.conteudo())
+            .size(slice.conteudo().size())
+            .hasNext(slice.temProximo())
+            .nextCursor(slice.proximoCursor())
+            .build();
+    }
+    
+    private HistoricoStatusResponseDTO converterParaResponseDTO(AuditoriaStatus registro) {
+        return HistoricoStatusResponseDTO.builder()
+            .id(registro.getId())
+            .statusAnterior(registro.getStatusAnterior())
+            .statusNovo(registro.getStatusNovo())
+            .dataMudanca(registro.getDataMudanca())
+            .usuario(registro.getUsuario())
+            .observacao(registro.getObservacao())
+            .build();
+    }
+}
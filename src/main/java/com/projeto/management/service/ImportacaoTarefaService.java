@@ -0,0 +1,297 @@
+package com.projeto.management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ImportacaoTarefasResponseDTO;
+import com.projeto.management.dto.response.ImportacaoTarefasResponseDTO.ErroItem;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service de importação de tarefas em lote
+ * 
+ * A entrada é processada em lotes de tamanho configurável: cada lote é validado de uma vez,
+ * tem os projetos ainda desconhecidos resolvidos em uma única consulta IN e é gravado em sua
+ * própria transação, com os INSERTs agrupados em um batch JDBC (ids pela sequência pooled de
+ * Tarefa). Itens inválidos são reportados sem interromper a carga; se o banco rejeitar um
+ * lote, os itens dele são regravados um a um para isolar o que falhou.
+ */
+@Service
+@Slf4j
+public class ImportacaoTarefaService {
+    
+    private final TarefaService tarefaService;
+    private final ProjetoRepository projetoRepository;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final IndiceBuscaService indiceBuscaService;
+    private final IndicePrazosService indicePrazosService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${importacao.tamanho-lote:500}")
+    private int tamanhoLote = 500;
+    
+    public ImportacaoTarefaService(TarefaService tarefaService,
+                                   ProjetoRepository projetoRepository,
+                                   ProjetoEstatisticasService projetoEstatisticasService,
+                                   IndiceBuscaService indiceBuscaService,
+                                   IndicePrazosService indicePrazosService,
+                                   Validator validator,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.tarefaService = tarefaService;
+        this.projetoRepository = projetoRepository;
+        this.projetoEstatisticasService = projetoEstatisticasService;
+        this.indiceBuscaService = indiceBuscaService;
+        this.indicePrazosService = indicePrazosService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Importa uma lista de tarefas
+     */
+    public ImportacaoTarefasResponseDTO importar(List<TarefaRequestDTO> tarefas, String usuarioLogado) {
+        Iterator<TarefaRequestDTO> origem = tarefas.iterator();
+        return importar(new Iterator<>() {
+            private int indice;
+            
+            @Override
+            public boolean hasNext() {
+                return origem.hasNext();
+            }
+            
+            @Override
+            public Item next() {
+                return new Item(indice++, origem.next(), null);
+            }
+        }, usuarioLogado);
+    }
+    
+    /**
+     * Importa tarefas em NDJSON (uma tarefa JSON por linha), lidas à medida que os lotes são gravados
+     * Linhas em branco são ignoradas; linhas inválidas são reportadas pelo índice da linha
+     */
+    public ImportacaoTarefasResponseDTO importarNdjson(InputStream entrada, String usuarioLogado) {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        return importar(new Iterator<>() {
+            private int linha = -1;
+            private String proxima = ler();
+            
+            private String ler() {
+                try {
+                    String atual;
+                    do {
+                        atual = leitor.readLine();
+                        linha++;
+                    } while (atual != null && atual.isBlank());
+                    return atual;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            
+            @Override
+            public boolean hasNext() {
+                return proxima != null;
+            }
+            
+            @Override
+            public Item next() {
+                if (proxima == null) {
+                    throw new NoSuchElementException();
+                }
+                Item item;
+                try {
+                    item = new Item(linha, objectMapper.readValue(proxima, TarefaRequestDTO.class), null);
+                } catch (JsonProcessingException e) {
+                    item = new Item(linha, null, "JSON inválido: " + e.getOriginalMessage());
+                }
+                proxima = ler();
+                return item;
+            }
+        }, usuarioLogado);
+    }
+    
+    // Métodos privados de apoio
+    
+    private ImportacaoTarefasResponseDTO importar(Iterator<Item> itens, String usuarioLogado) {
+        long inicio = System.currentTimeMillis();
+        Resultado resultado = new Resultado();
+        Set<Long> projetosAtivos = new HashSet<>();
+        Set<Long> projetosAusentes = new HashSet<>();
+        List<Item> lote = new ArrayList<>(tamanhoLote);
+        
+        while (itens.hasNext()) {
+            lote.add(itens.next());
+            if (lote.size() == tamanhoLote) {
+                processarLote(lote, usuarioLogado, projetosAtivos, projetosAusentes, resultado);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            processarLote(lote, usuarioLogado, projetosAtivos, projetosAusentes, resultado);
+        }
+        
+        resultado.erros.sort(Comparator.comparingInt(ErroItem::getIndice));
+        log.info("Importação de tarefas concluída: {} recebidas, {} importadas, {} rejeitadas em {} ms",
+                 resultado.recebidas, resultado.importadas, resultado.erros.size(),
+                 System.currentTimeMillis() - inicio);
+        
+        return ImportacaoTarefasResponseDTO.builder()
+            .recebidas(resultado.recebidas)
+            .importadas(resultado.importadas)
+            .rejeitadas(resultado.erros.size())
+            .erros(resultado.erros)
+            .build();
+    }
+    
+    private void processarLote(List<Item> lote, String usuarioLogado, Set<Long> projetosAtivos,
+                               Set<Long> projetosAusentes, Resultado resultado) {
+        resultado.recebidas += lote.size();
+        List<Item> validos = new ArrayList<>(lote.size());
+        
+        for (Item item : lote) {
+            String erro = item.erro() != null ? item.erro() : validar(item.tarefa());
+            if (erro != null) {
+                resultado.erros.add(new ErroItem(item.indice(), erro));
+            } else {
+                validos.add(item);
+            }
+        }
+        
+        // Uma única consulta para os projetos ainda não vistos nesta importação
+        Set<Long> desconhecidos = validos.stream()
+            .map(item -> item.tarefa().getIdProjeto())
+            .filter(id -> !projetosAtivos.contains(id) && !projetosAusentes.contains(id))
+            .collect(Collectors.toSet());
+        if (!desconhecidos.isEmpty()) {
+            List<Long> ativos = projetoRepository.findIdsAtivos(desconhecidos);
+            projetosAtivos.addAll(ativos);
+            desconhecidos.removeAll(ativos);
+            projetosAusentes.addAll(desconhecidos);
+        }
+        
+        List<Item> gravaveis = new ArrayList<>(validos.size());
+        for (Item item : validos) {
+            Long idProjeto = item.tarefa().getIdProjeto();
+            if (projetosAtivos.contains(idProjeto)) {
+                gravaveis.add(item);
+            } else {
+                resultado.erros.add(new ErroItem(item.indice(), "Projeto não encontrado com ID: " + idProjeto));
+            }
+        }
+        
+        if (gravaveis.isEmpty()) {
+            return;
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> gravar(gravaveis, usuarioLogado));
+            resultado.importadas += gravaveis.size();
+        } catch (RuntimeException e) {
+            log.warn("Lote de {} tarefas rejeitado pelo banco, gravando item a item", gravaveis.size(), e);
+            for (Item item : gravaveis) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> gravar(List.of(item), usuarioLogado));
+                    resultado.importadas++;
+                } catch (RuntimeException erroItem) {
+                    resultado.erros.add(new ErroItem(item.indice(), "Falha ao gravar: " + causaRaiz(erroItem)));
+                }
+            }
+        }
+    }
+    
+    private String validar(TarefaRequestDTO tarefa) {
+        if (tarefa == null) {
+            return "Item vazio";
+        }
+        Set<ConstraintViolation<TarefaRequestDTO>> violacoes = validator.validate(tarefa);
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        try {
+            TarefaService.validarDatasTarefa(tarefa.getDataInicio(), tarefa.getDataFimPrevista());
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+    
+    private void gravar(List<Item> itens, String usuarioLogado) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(tamanhoLote);
+        
+        List<Tarefa> tarefas = new ArrayList<>(itens.size());
+        for (Item item : itens) {
+            Projeto projeto = entityManager.getReference(Projeto.class, item.tarefa().getIdProjeto());
+            Tarefa tarefa = tarefaService.novaTarefa(item.tarefa(), projeto, usuarioLogado);
+            entityManager.persist(tarefa);
+            tarefas.add(tarefa);
+        }
+        entityManager.flush();
+        
+        projetoEstatisticasService.registrarInclusoes(tarefas);
+        indiceBuscaService.registrarTarefas(tarefas);
+        indicePrazosService.registrarTarefas(tarefas);
+        
+        // Libera as entidades do lote mesmo quando a gravação participa de uma transação maior
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    private static String causaRaiz(Throwable erro) {
+        Throwable causa = erro;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        return causa.getMessage();
+    }
+    
+    /**
+     * Item da entrada: a tarefa lida ou o erro de leitura, com a posição original
+     */
+    private record Item(int indice, TarefaRequestDTO tarefa, String erro) {
+    }
+    
+    private static final class Resultado {
+        private int recebidas;
+        private int importadas;
+        private final List<ErroItem> erros = new ArrayList<>();
+    }
+}
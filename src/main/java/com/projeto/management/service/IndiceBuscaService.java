@@ -0,0 +1,422 @@
+package com.projeto.management.service;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.projection.TextoIndexavelView;
+import com.projeto.management.service.busca.IndiceTrigramas;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Service que mantém os índices de busca por substring em memória
+ * (título e responsável das tarefas, nome e responsável dos projetos)
+ * 
+ * O índice é carregado por varredura em lotes na inicialização e reconstruído periodicamente;
+ * entre as reconstruções é atualizado pelas operações de escrita desta instância após o commit
+ * e, a cada poucos segundos, pelos registros alterados no banco por outras réplicas ou processos
+ * (sincronização pela data de atualização, com sobreposição para transações em voo).
+ * 
+ * O índice só pré-seleciona candidatos: o chamador relê as linhas no banco e as confirma com
+ * confirmar, descartando o que foi alterado ou excluído desde a indexação.
+ * Enquanto não estiver pronto, se saturar ou se a sincronização atrasar além da defasagem máxima,
+ * as buscas retornam vazio e o chamador consulta o banco.
+ */
+@Service
+@Slf4j
+public class IndiceBuscaService implements MeterBinder {
+    
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoRepository projetoRepository;
+    
+    @Value("${busca.indice.habilitado:true}")
+    private boolean habilitado = true;
+    
+    @Value("${busca.indice.capacidade-maxima:200000}")
+    private int capacidadeMaxima = 200_000;
+    
+    @Value("${busca.indice.tamanho-lote:1000}")
+    private int tamanhoLote = 1000;
+    
+    @Value("${busca.indice.sincronizacao.sobreposicao-ms:60000}")
+    private long sobreposicaoMs = 60_000;
+    
+    @Value("${busca.indice.defasagem-maxima-ms:120000}")
+    private long defasagemMaximaMs = 120_000;
+    
+    private final Object monitor = new Object();
+    private volatile Indices indices;
+    private List<Consumer<Indices>> pendentes;
+    private volatile long duracaoUltimaReconstrucaoMs;
+    private volatile LocalDateTime marcaSincronizacao;
+    private volatile long ultimaSincronizacaoNanos;
+    
+    public IndiceBuscaService(TarefaRepository tarefaRepository, ProjetoRepository projetoRepository) {
+        this.tarefaRepository = tarefaRepository;
+        this.projetoRepository = projetoRepository;
+    }
+    
+    /**
+     * Carga inicial do índice
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Reconstrução periódica, descartando eventuais divergências acumuladas
+     */
+    @Scheduled(cron = "${busca.indice.reconstrucao.cron:0 0 4 * * *}")
+    public void reconstruirPeriodicamente() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Sincronização periódica com as escritas feitas fora desta instância
+     */
+    @Scheduled(fixedDelayString = "${busca.indice.sincronizacao.intervalo-ms:30000}",
+               initialDelayString = "${busca.indice.sincronizacao.intervalo-ms:30000}")
+    public void sincronizarPeriodicamente() {
+        if (habilitado) {
+            sincronizar();
+        }
+    }
+    
+    /**
+     * Reconstrói os índices a partir do banco e substitui os atuais ao final
+     * Escritas ocorridas durante a varredura são reaplicadas sobre os novos índices antes da troca
+     */
+    public void reconstruir() {
+        synchronized (monitor) {
+            if (pendentes != null) {
+                log.debug("Reconstrução do índice de busca já em andamento");
+                return;
+            }
+            pendentes = new ArrayList<>();
+        }
+        
+        long inicio = System.nanoTime();
+        LocalDateTime marca = LocalDateTime.now();
+        Indices novos = new Indices(capacidadeMaxima);
+        try {
+            varrer(tarefaRepository::findTextosIndexaveisApos, novos.tituloTarefa(), novos.responsavelTarefa());
+            varrer(projetoRepository::findTextosIndexaveisApos, novos.nomeProjeto(), novos.responsavelProjeto());
+        } catch (RuntimeException e) {
+            synchronized (monitor) {
+                pendentes = null;
+            }
+            log.error("Falha ao reconstruir o índice de busca; mantendo o índice anterior", e);
+            return;
+        }
+        
+        synchronized (monitor) {
+            pendentes.forEach(operacao -> operacao.accept(novos));
+            pendentes = null;
+            indices = novos;
+            marcaSincronizacao = marca;
+            ultimaSincronizacaoNanos = inicio;
+        }
+        
+        duracaoUltimaReconstrucaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.info("Índice de busca reconstruído em {} ms: {} tarefas, {} projetos{}",
+                duracaoUltimaReconstrucaoMs, novos.tituloTarefa().getDocumentos(), novos.nomeProjeto().getDocumentos(),
+                novos.saturado() ? " (capacidade excedida, buscas recorrem ao banco)" : "");
+    }
+    
+    /**
+     * Aplica aos índices os registros alterados no banco desde a última sincronização (ou carga)
+     * Relê também a janela de sobreposição anterior, que cobre transações que gravaram a data de
+     * atualização antes da última varredura mas só fizeram commit depois dela.
+     */
+    public void sincronizar() {
+        LocalDateTime desde;
+        synchronized (monitor) {
+            if (indices == null || pendentes != null) {
+                return;
+            }
+            desde = marcaSincronizacao.minus(Duration.ofMillis(sobreposicaoMs));
+        }
+        
+        long inicio = System.nanoTime();
+        LocalDateTime marca = LocalDateTime.now();
+        try {
+            int tarefas = sincronizarLotes(carga(tarefaRepository::findTextosAlteradosApos, desde),
+                                           Indices::tituloTarefa, Indices::responsavelTarefa);
+            int projetos = sincronizarLotes(carga(projetoRepository::findTextosAlteradosApos, desde),
+                                            Indices::nomeProjeto, Indices::responsavelProjeto);
+            log.debug("Índice de busca sincronizado desde {}: {} tarefas, {} projetos", desde, tarefas, projetos);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao sincronizar o índice de busca; nova tentativa no próximo ciclo", e);
+            return;
+        }
+        
+        synchronized (monitor) {
+            marcaSincronizacao = marca;
+            ultimaSincronizacaoNanos = inicio;
+        }
+    }
+    
+    /**
+     * Mantém os candidatos do índice cujo texto atual (relido do banco) ainda contém o termo
+     */
+    public <T> List<T> confirmar(List<T> candidatos, Function<T, String> texto, String termo) {
+        return candidatos.stream()
+            .filter(candidato -> IndiceTrigramas.contem(texto.apply(candidato), termo))
+            .toList();
+    }
+    
+    /**
+     * Registra a troca de responsável de um lote de tarefas ativas (aplicado após o commit)
+     */
+    public void registrarResponsavelTarefas(Collection<Long> ids, String responsavel) {
+        List<Long> copia = List.copyOf(ids);
+        aposCommit(indices -> copia.forEach(id -> indices.responsavelTarefa().indexar(id, responsavel)));
+    }
+    
+    /**
+     * Registra o estado atual dos textos de uma tarefa (aplicado após o commit)
+     */
+    public void registrarTarefa(Tarefa tarefa) {
+        aposCommit(indexacaoDe(tarefa));
+    }
+    
+    /**
+     * Registra o estado atual dos textos de um conjunto de tarefas em uma única operação após o commit
+     */
+    public void registrarTarefas(Collection<Tarefa> tarefas) {
+        List<Consumer<Indices>> operacoes = tarefas.stream().map(IndiceBuscaService::indexacaoDe).toList();
+        if (!operacoes.isEmpty()) {
+            aposCommit(indices -> operacoes.forEach(operacao -> operacao.accept(indices)));
+        }
+    }
+    
+    /**
+     * Registra o estado atual dos textos de um projeto (aplicado após o commit)
+     */
+    public void registrarProjeto(Projeto projeto) {
+        long id = projeto.getId();
+        boolean ativo = Boolean.TRUE.equals(projeto.getAtivo());
+        String nome = projeto.getNome();
+        String responsavel = projeto.getResponsavel();
+        
+        aposCommit(indices -> {
+            if (ativo) {
+                indices.nomeProjeto().indexar(id, nome);
+                indices.responsavelProjeto().indexar(id, responsavel);
+            } else {
+                indices.nomeProjeto().remover(id);
+                indices.responsavelProjeto().remover(id);
+            }
+        });
+    }
+    
+    public Optional<List<Long>> buscarTarefasPorTitulo(String termo) {
+        return buscar(Indices::tituloTarefa, termo);
+    }
+    
+    public Optional<List<Long>> buscarTarefasPorResponsavel(String termo) {
+        return buscar(Indices::responsavelTarefa, termo);
+    }
+    
+    public Optional<List<Long>> buscarProjetosPorNome(String termo) {
+        return buscar(Indices::nomeProjeto, termo);
+    }
+    
+    public Optional<List<Long>> buscarProjetosPorResponsavel(String termo) {
+        return buscar(Indices::responsavelProjeto, termo);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String nome : List.of("tarefa.titulo", "tarefa.responsavel", "projeto.nome", "projeto.responsavel")) {
+            Gauge.builder("busca.indice.documentos", this, s -> s.medir(nome, IndiceTrigramas::getDocumentos))
+                .description("Documentos no índice de busca em memória")
+                .tag("indice", nome)
+                .register(registry);
+            Gauge.builder("busca.indice.trigramas", this, s -> s.medir(nome, IndiceTrigramas::getTrigramas))
+                .description("Trigramas distintos no índice de busca em memória")
+                .tag("indice", nome)
+                .register(registry);
+        }
+        Gauge.builder("busca.indice.saturado", this, s -> s.indices != null && s.indices.saturado() ? 1 : 0)
+            .description("1 quando algum índice excedeu a capacidade máxima")
+            .register(registry);
+        TimeGauge.builder("busca.indice.reconstrucao", this, TimeUnit.MILLISECONDS, s -> s.duracaoUltimaReconstrucaoMs)
+            .description("Duração da última reconstrução do índice de busca")
+            .register(registry);
+    }
+    
+    // Métodos privados de apoio
+    
+    private void varrer(CargaLote carga, IndiceTrigramas indiceTexto, IndiceTrigramas indiceResponsavel) {
+        Long ultimoId = 0L;
+        List<TextoIndexavelView> lote;
+        do {
+            lote = carga.buscar(ultimoId, PageRequest.of(0, tamanhoLote));
+            for (TextoIndexavelView registro : lote) {
+                indiceTexto.indexar(registro.id(), registro.texto());
+                indiceResponsavel.indexar(registro.id(), registro.responsavel());
+            }
+            if (!lote.isEmpty()) {
+                ultimoId = lote.get(lote.size() - 1).id();
+            }
+        } while (lote.size() == tamanhoLote && !(indiceTexto.isSaturado() && indiceResponsavel.isSaturado()));
+    }
+    
+    /**
+     * Operação que leva aos índices os textos atuais da tarefa, capturados no momento da chamada
+     */
+    private static Consumer<Indices> indexacaoDe(Tarefa tarefa) {
+        long id = tarefa.getId();
+        boolean ativo = Boolean.TRUE.equals(tarefa.getAtivo());
+        String titulo = tarefa.getTitulo();
+        String responsavel = tarefa.getResponsavel();
+        
+        return indices -> {
+            if (ativo) {
+                indices.tituloTarefa().indexar(id, titulo);
+                indices.responsavelTarefa().indexar(id, responsavel);
+            } else {
+                indices.tituloTarefa().remover(id);
+                indices.responsavelTarefa().remover(id);
+            }
+        };
+    }
+    
+    private int sincronizarLotes(CargaLote carga, Function<Indices, IndiceTrigramas> texto,
+                                 Function<Indices, IndiceTrigramas> responsavel) {
+        Long ultimoId = 0L;
+        int total = 0;
+        List<TextoIndexavelView> lote;
+        do {
+            lote = carga.buscar(ultimoId, PageRequest.of(0, tamanhoLote));
+            List<TextoIndexavelView> alterados = lote;
+            aplicar(indices -> alterados.forEach(registro -> {
+                if (Boolean.TRUE.equals(registro.ativo())) {
+                    texto.apply(indices).indexar(registro.id(), registro.texto());
+                    responsavel.apply(indices).indexar(registro.id(), registro.responsavel());
+                } else {
+                    texto.apply(indices).remover(registro.id());
+                    responsavel.apply(indices).remover(registro.id());
+                }
+            }));
+            total += lote.size();
+            if (!lote.isEmpty()) {
+                ultimoId = lote.get(lote.size() - 1).id();
+            }
+        } while (lote.size() == tamanhoLote);
+        return total;
+    }
+    
+    private Optional<List<Long>> buscar(Function<Indices, IndiceTrigramas> seletor, String termo) {
+        Indices atuais = indices;
+        if (atuais == null || defasado()) {
+            return Optional.empty();
+        }
+        return seletor.apply(atuais).buscar(termo);
+    }
+    
+    private boolean defasado() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ultimaSincronizacaoNanos) > defasagemMaximaMs;
+    }
+    
+    private void aposCommit(Consumer<Indices> operacao) {
+        if (!habilitado) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aplicar(operacao);
+                }
+            });
+        } else {
+            aplicar(operacao);
+        }
+    }
+    
+    private void aplicar(Consumer<Indices> operacao) {
+        synchronized (monitor) {
+            if (indices != null) {
+                operacao.accept(indices);
+            }
+            if (pendentes != null) {
+                pendentes.add(operacao);
+            }
+        }
+    }
+    
+    private double medir(String nome, Function<IndiceTrigramas, Integer> medida) {
+        Indices atuais = indices;
+        return atuais == null ? 0 : medida.apply(atuais.porNome(nome));
+    }
+    
+    private static CargaLote carga(CargaAlteradosLote carga, LocalDateTime desde) {
+        return (ultimoId, pagina) -> carga.buscar(desde, ultimoId, pagina);
+    }
+    
+    @FunctionalInterface
+    private interface CargaLote {
+        List<TextoIndexavelView> buscar(Long ultimoId, PageRequest pagina);
+    }
+    
+    @FunctionalInterface
+    private interface CargaAlteradosLote {
+        List<TextoIndexavelView> buscar(LocalDateTime desde, Long ultimoId, PageRequest pagina);
+    }
+    
+    private record Indices(
+        IndiceTrigramas tituloTarefa,
+        IndiceTrigramas responsavelTarefa,
+        IndiceTrigramas nomeProjeto,
+        IndiceTrigramas responsavelProjeto
+    ) {
+        
+        Indices(int capacidadeMaxima) {
+            this(new IndiceTrigramas("tarefa.titulo", capacidadeMaxima),
+                 new IndiceTrigramas("tarefa.responsavel", capacidadeMaxima),
+                 new IndiceTrigramas("projeto.nome", capacidadeMaxima),
+                 new IndiceTrigramas("projeto.responsavel", capacidadeMaxima));
+        }
+        
+        IndiceTrigramas porNome(String nome) {
+            return List.of(tituloTarefa, responsavelTarefa, nomeProjeto, responsavelProjeto).stream()
+                .filter(indice -> indice.getNome().equals(nome))
+                .findFirst()
+                .orElseThrow();
+        }
+        
+        boolean saturado() {
+            return tituloTarefa.isSaturado() || responsavelTarefa.isSaturado()
+                || nomeProjeto.isSaturado() || responsavelProjeto.isSaturado();
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.projeto.management.service;
+
+import com.projeto.domain.tarefa.events.TarefaEvent.TarefaAtrasada;
+import com.projeto.infrastructure.events.EventPublisher;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.ViradaPrazoRepository;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import com.projeto.management.repository.projection.PrazoTarefaView;
+import com.projeto.management.service.prazo.IndicePrazos;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Service que mantém o índice de prazos das tarefas em aberto em memória
+ * (consultas de tarefas atrasadas e vencendo em N dias)
+ * 
+ * Segue o ciclo do índice de busca: carga por varredura em lotes na inicialização, reconstrução
+ * periódica e, entre elas, atualização pelas operações de escrita após o commit e sincronização
+ * periódica com as tarefas alteradas no banco por outras réplicas ou processos.
+ * O índice só pré-seleciona candidatos, que o chamador relê e confirma no banco.
+ * Enquanto não estiver pronto, se saturar ou se a sincronização atrasar além da defasagem máxima,
+ * as consultas retornam vazio e o chamador consulta o banco.
+ * 
+ * Na virada do dia as tarefas cujo prazo acabou de passar são publicadas como TarefaAtrasada
+ * no EventPublisher, quando houver um configurado; a virada é registrada em virada_prazo
+ * e só a réplica que conseguir registrá-la publica os eventos.
+ */
+@Service
+@Slf4j
+public class IndicePrazosService implements MeterBinder {
+    
+    private final TarefaRepository tarefaRepository;
+    private final ViradaPrazoRepository viradaPrazoRepository;
+    private final ObjectProvider<EventPublisher> eventPublisher;
+    
+    @Value("${prazos.indice.habilitado:true}")
+    private boolean habilitado = true;
+    
+    @Value("${prazos.indice.capacidade-maxima:500000}")
+    private int capacidadeMaxima = 500_000;
+    
+    @Value("${prazos.indice.tamanho-lote:1000}")
+    private int tamanhoLote = 1000;
+    
+    @Value("${prazos.indice.sincronizacao.sobreposicao-ms:60000}")
+    private long sobreposicaoMs = 60_000;
+    
+    @Value("${prazos.indice.defasagem-maxima-ms:120000}")
+    private long defasagemMaximaMs = 120_000;
+    
+    @Value("${prazos.virada.instancia:${HOSTNAME:desconhecida}}")
+    private String instancia = "desconhecida";
+    
+    private final Object monitor = new Object();
+    private volatile IndicePrazos indice;
+    private List<Consumer<IndicePrazos>> pendentes;
+    private LocalDate ultimaVirada;
+    private volatile long duracaoUltimaReconstrucaoMs;
+    private volatile LocalDateTime marcaSincronizacao;
+    private volatile long ultimaSincronizacaoNanos;
+    private final AtomicLong eventosPublicados = new AtomicLong();
+    
+    public IndicePrazosService(TarefaRepository tarefaRepository, ViradaPrazoRepository viradaPrazoRepository,
+                               ObjectProvider<EventPublisher> eventPublisher) {
+        this.tarefaRepository = tarefaRepository;
+        this.viradaPrazoRepository = viradaPrazoRepository;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Carga inicial do índice
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarNaInicializacao() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Reconstrução periódica, descartando eventuais divergências acumuladas
+     */
+    @Scheduled(cron = "${prazos.indice.reconstrucao.cron:0 30 4 * * *}")
+    public void reconstruirPeriodicamente() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+    
+    /**
+     * Sincronização periódica com as escritas feitas fora desta instância
+     */
+    @Scheduled(fixedDelayString = "${prazos.indice.sincronizacao.intervalo-ms:30000}",
+               initialDelayString = "${prazos.indice.sincronizacao.intervalo-ms:30000}")
+    public void sincronizarPeriodicamente() {
+        if (habilitado) {
+            sincronizar();
+        }
+    }
+    
+    /**
+     * Virada do dia: publica as tarefas que passaram a estar atrasadas
+     */
+    @Scheduled(cron = "${prazos.virada.cron:0 0 0 * * *}")
+    public void virarDiaAgendado() {
+        virarDia(LocalDate.now());
+    }
+    
+    /**
+     * Reconstrói o índice a partir do banco e substitui o atual ao final
+     * Escritas ocorridas durante a varredura são reaplicadas sobre o novo índice antes da troca
+     */
+    public void reconstruir() {
+        synchronized (monitor) {
+            if (pendentes != null) {
+                log.debug("Reconstrução do índice de prazos já em andamento");
+                return;
+            }
+            pendentes = new ArrayList<>();
+        }
+        
+        long inicio = System.nanoTime();
+        LocalDateTime marca = LocalDateTime.now();
+        IndicePrazos novo = new IndicePrazos(capacidadeMaxima);
+        try {
+            varrer(novo);
+        } catch (RuntimeException e) {
+            synchronized (monitor) {
+                pendentes = null;
+            }
+            log.error("Falha ao reconstruir o índice de prazos; mantendo o índice anterior", e);
+            return;
+        }
+        
+        synchronized (monitor) {
+            pendentes.forEach(operacao -> operacao.accept(novo));
+            pendentes = null;
+            indice = novo;
+            marcaSincronizacao = marca;
+            ultimaSincronizacaoNanos = inicio;
+            // Na primeira carga as tarefas já atrasadas não geram eventos; só as que vencerem a partir de hoje
+            if (ultimaVirada == null) {
+                ultimaVirada = LocalDate.now();
+            }
+        }
+        
+        duracaoUltimaReconstrucaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        log.info("Índice de prazos reconstruído em {} ms: {} tarefas em {} dias{}",
+                duracaoUltimaReconstrucaoMs, novo.getTarefas(), novo.getDias(),
+                novo.isSaturado() ? " (capacidade excedida, consultas recorrem ao banco)" : "");
+    }
+    
+    /**
+     * Aplica ao índice os prazos das tarefas alteradas no banco desde a última sincronização (ou carga)
+     * Relê também a janela de sobreposição anterior, que cobre transações que gravaram a data de
+     * atualização antes da última varredura mas só fizeram commit depois dela.
+     */
+    public void sincronizar() {
+        LocalDateTime desde;
+        synchronized (monitor) {
+            if (indice == null || pendentes != null) {
+                return;
+            }
+            desde = marcaSincronizacao.minus(Duration.ofMillis(sobreposicaoMs));
+        }
+        
+        long inicio = System.nanoTime();
+        LocalDateTime marca = LocalDateTime.now();
+        try {
+            Long ultimoId = 0L;
+            List<PrazoTarefaView> lote;
+            do {
+                lote = tarefaRepository.findPrazosAlteradosApos(desde, ultimoId, PageRequest.of(0, tamanhoLote));
+                List<PrazoTarefaView> alterados = lote;
+                aplicar(alvo -> alterados.forEach(registro -> alvo.registrar(registro.id(), registro.dataFimPrevista())));
+                if (!lote.isEmpty()) {
+                    ultimoId = lote.get(lote.size() - 1).id();
+                }
+            } while (lote.size() == tamanhoLote);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao sincronizar o índice de prazos; nova tentativa no próximo ciclo", e);
+            return;
+        }
+        
+        synchronized (monitor) {
+            marcaSincronizacao = marca;
+            ultimaSincronizacaoNanos = inicio;
+        }
+    }
+    
+    /**
+     * Publica TarefaAtrasada para cada tarefa em aberto cujo prazo ficou entre a última virada e ontem
+     * Se a aplicação ficou parada por mais de um dia, cobre todos os dias perdidos desde que o índice foi carregado.
+     * O índice é sincronizado antes, e só a réplica que registrar a virada do dia em virada_prazo publica.
+     * @return quantidade de tarefas que passaram a estar atrasadas (0 se outra réplica já fez a virada)
+     */
+    public int virarDia(LocalDate hoje) {
+        sincronizar();
+        
+        synchronized (monitor) {
+            if (indice == null || ultimaVirada == null || !hoje.isAfter(ultimaVirada)) {
+                return 0;
+            }
+        }
+        
+        boolean registrada = registrarVirada(hoje);
+        Map<LocalDate, List<Long>> vencidas;
+        synchronized (monitor) {
+            IndicePrazos atual = indice;
+            if (!registrada) {
+                ultimaVirada = hoje;
+                log.info("Virada do dia {} já registrada por outra instância; eventos não publicados aqui", hoje);
+                return 0;
+            }
+            if (atual.isSaturado()) {
+                log.warn("Índice de prazos saturado; tarefas que venceram desde {} não geram eventos", ultimaVirada);
+            }
+            vencidas = atual.agruparEntre(ultimaVirada, hoje.minusDays(1));
+            ultimaVirada = hoje;
+        }
+        
+        int total = vencidas.values().stream().mapToInt(List::size).sum();
+        EventPublisher publisher = eventPublisher.getIfAvailable();
+        if (publisher == null) {
+            log.info("Virada do dia {}: {} tarefa(s) passaram a estar atrasadas (nenhum EventPublisher configurado)",
+                     hoje, total);
+            return total;
+        }
+        
+        vencidas.forEach((prazo, ids) -> ids.forEach(id -> publicar(publisher, new TarefaAtrasada(id, prazo))));
+        log.info("Virada do dia {}: {} tarefa(s) passaram a estar atrasadas", hoje, total);
+        return total;
+    }
+    
+    /**
+     * Registra o prazo atual de uma tarefa (aplicado após o commit)
+     */
+    public void registrarTarefa(Tarefa tarefa) {
+        registrar(List.of(prazoDe(tarefa)));
+    }
+    
+    /**
+     * Registra o prazo atual de um conjunto de tarefas (aplicado após o commit)
+     */
+    public void registrarTarefas(Collection<Tarefa> tarefas) {
+        registrar(tarefas.stream().map(IndicePrazosService::prazoDe).toList());
+    }
+    
+    /**
+     * Registra o novo status de uma tarefa ativa com o prazo informado (aplicado após o commit)
+     */
+    public void registrarStatus(Long id, StatusTarefa status, LocalDate dataFimPrevista) {
+        registrar(List.of(new Prazo(id, emAberto(true, status) ? dataFimPrevista : null)));
+    }
+    
+    /**
+     * Registra o novo status de um lote de tarefas ativas (aplicado após o commit)
+     */
+    public void registrarStatusTarefas(Collection<EstadoTarefaView> estados, StatusTarefa status) {
+        boolean aberta = emAberto(true, status);
+        registrar(estados.stream()
+            .map(estado -> new Prazo(estado.id(), aberta ? estado.dataFimPrevista() : null))
+            .toList());
+    }
+    
+    /**
+     * Candidatos a tarefas em aberto com prazo anterior ao dia informado (a confirmar no banco)
+     * @return vazio quando o índice não está pronto, está saturado ou defasado
+     */
+    public Optional<List<Long>> buscarAtrasadas(LocalDate hoje) {
+        IndicePrazos atual = indice;
+        return atual == null || defasado() ? Optional.empty() : atual.vencidasAntesDe(hoje);
+    }
+    
+    /**
+     * Candidatos a tarefas em aberto com prazo entre os dias informados, inclusive (a confirmar no banco)
+     * @return vazio quando o índice não está pronto, está saturado ou defasado
+     */
+    public Optional<List<Long>> buscarVencendoEntre(LocalDate inicio, LocalDate fim) {
+        IndicePrazos atual = indice;
+        return atual == null || defasado() ? Optional.empty() : atual.vencendoEntre(inicio, fim);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("prazos.indice.tarefas", this, s -> s.indice == null ? 0 : s.indice.getTarefas())
+            .description("Tarefas em aberto com prazo no índice em memória")
+            .register(registry);
+        Gauge.builder("prazos.indice.saturado", this, s -> s.indice != null && s.indice.isSaturado() ? 1 : 0)
+            .description("1 quando o índice de prazos excedeu a capacidade máxima")
+            .register(registry);
+        TimeGauge.builder("prazos.indice.reconstrucao", this, TimeUnit.MILLISECONDS, s -> s.duracaoUltimaReconstrucaoMs)
+            .description("Duração da última reconstrução do índice de prazos")
+            .register(registry);
+        FunctionCounter.builder("prazos.eventos.atrasada", eventosPublicados, AtomicLong::get)
+            .description("Eventos TarefaAtrasada publicados na virada do dia")
+            .register(registry);
+    }
+    
+    // Métodos privados de apoio
+    
+    private void varrer(IndicePrazos novo) {
+        Long ultimoId = 0L;
+        List<PrazoTarefaView> lote;
+        do {
+            lote = tarefaRepository.findPrazosAbertosApos(ultimoId, PageRequest.of(0, tamanhoLote));
+            for (PrazoTarefaView registro : lote) {
+                novo.registrar(registro.id(), registro.dataFimPrevista());
+            }
+            if (!lote.isEmpty()) {
+                ultimoId = lote.get(lote.size() - 1).id();
+            }
+        } while (lote.size() == tamanhoLote && !novo.isSaturado());
+    }
+    
+    private boolean defasado() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ultimaSincronizacaoNanos) > defasagemMaximaMs;
+    }
+    
+    private boolean registrarVirada(LocalDate hoje) {
+        try {
+            return viradaPrazoRepository.registrar(hoje, instancia, LocalDateTime.now()) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+    
+    private void publicar(EventPublisher publisher, TarefaAtrasada evento) {
+        try {
+            publisher.publish(evento);
+            eventosPublicados.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao publicar TarefaAtrasada da tarefa {}", evento.tarefaId(), e);
+        }
+    }
+    
+    private void registrar(List<Prazo> prazos) {
+        if (!habilitado || prazos.isEmpty()) {
+            return;
+        }
+        Consumer<IndicePrazos> operacao = alvo -> prazos.forEach(prazo -> alvo.registrar(prazo.id(), prazo.data()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aplicar(operacao);
+                }
+            });
+        } else {
+            aplicar(operacao);
+        }
+    }
+    
+    private void aplicar(Consumer<IndicePrazos> operacao) {
+        synchronized (monitor) {
+            if (indice != null) {
+                operacao.accept(indice);
+            }
+            if (pendentes != null) {
+                pendentes.add(operacao);
+            }
+        }
+    }
+    
+    private static Prazo prazoDe(Tarefa tarefa) {
+        boolean aberta = emAberto(Boolean.TRUE.equals(tarefa.getAtivo()), tarefa.getStatus());
+        return new Prazo(tarefa.getId(), aberta ? tarefa.getDataFimPrevista() : null);
+    }
+    
+    private static boolean emAberto(boolean ativa, StatusTarefa status) {
+        return ativa && status != StatusTarefa.CONCLUIDA && status != StatusTarefa.CANCELADA;
+    }
+    
+    /**
+     * Prazo de uma tarefa a aplicar no índice; data nula retira a tarefa
+     */
+    private record Prazo(long id, LocalDate data) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.projeto.management.service;
+
+import com.projeto.management.service.auditoria.ParticionamentoAuditoria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Service de manutenção da tabela auditoria_status
+ * 
+ * Mantém as partições mensais (criando com antecedência as dos próximos meses) e aplica a retenção
+ * descartando as partições inteiras anteriores a ela. Roda na subida da aplicação e diariamente;
+ * em várias réplicas as operações são idempotentes, e uma falha fica para a próxima execução.
+ * 
+ * O início da retenção também limita as leituras do histórico, que não enxergam registros
+ * vencidos ainda não removidos.
+ */
+@Service
+@Slf4j
+public class ParticionamentoAuditoriaService {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${auditoria.particionamento.habilitado:true}")
+    private boolean habilitado = true;
+    
+    @Value("${auditoria.retencao-meses:12}")
+    private int retencaoMeses = 12;
+    
+    @Value("${auditoria.particionamento.meses-a-frente:2}")
+    private int mesesAFrente = 2;
+    
+    @Value("${auditoria.retencao.tamanho-lote:1000}")
+    private int tamanhoLoteExclusao = 1000;
+    
+    private volatile ParticionamentoAuditoria particionamento;
+    
+    public ParticionamentoAuditoriaService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        manterAgendado();
+    }
+    
+    @Scheduled(cron = "${auditoria.particionamento.cron:0 30 1 * * *}")
+    public void manterAgendado() {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            manter(YearMonth.now());
+        } catch (DataAccessException e) {
+            log.error("Falha na manutenção das partições de auditoria; nova tentativa na próxima execução", e);
+        }
+    }
+    
+    /**
+     * Cria as partições do mês informado até mesesAFrente e remove as anteriores à retenção
+     * @return partições (ou linhas, sem particionamento nativo) removidas
+     */
+    public int manter(YearMonth mesAtual) {
+        ParticionamentoAuditoria estrategia = particionamento();
+        
+        estrategia.criarAte(mesAtual, mesAtual.plusMonths(mesesAFrente));
+        int removidas = estrategia.removerAnterioresA(primeiroMesRetido(mesAtual));
+        
+        log.info("Manutenção de auditoria_status ({}): partições até {}, {} removidas antes de {}",
+                 estrategia.descricao(), mesAtual.plusMonths(mesesAFrente), removidas, primeiroMesRetido(mesAtual));
+        return removidas;
+    }
+    
+    /**
+     * Primeiro instante retido: início do mês mais antigo dentro da retenção
+     */
+    public LocalDateTime inicioRetencao() {
+        return primeiroMesRetido(YearMonth.now()).atDay(1).atStartOfDay();
+    }
+    
+    // Métodos privados de apoio
+    
+    /**
+     * A retenção conta os meses completos anteriores ao atual
+     */
+    private YearMonth primeiroMesRetido(YearMonth mesAtual) {
+        return mesAtual.minusMonths(Math.max(retencaoMeses, 1));
+    }
+    
+    private ParticionamentoAuditoria particionamento() {
+        ParticionamentoAuditoria atual = particionamento;
+        if (atual == null) {
+            atual = ParticionamentoAuditoria.para(jdbcTemplate, tamanhoLoteExclusao);
+            particionamento = atual;
+            log.info("Retenção de auditoria_status por {}", atual.descricao());
+        }
+        return atual;
+    }
+}
@@ -0,0 +1,352 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.ProjetoEstatisticasResponseDTO;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoEstatisticasRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import com.projeto.management.repository.projection.TarefaView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para manutenção incremental das estatísticas por projeto
+ * As operações de escrita de TarefaService aplicam deltas na mesma transação;
+ * a verificação periódica recalcula os agregados em lotes e corrige divergências
+ */
+@Service
+@Slf4j
+@Transactional
+public class ProjetoEstatisticasService {
+    
+    private final ProjetoEstatisticasRepository estatisticasRepository;
+    private final ProjetoRepository projetoRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${estatisticas.verificacao.tamanho-lote:500}")
+    private int tamanhoLote = 500;
+    
+    public ProjetoEstatisticasService(ProjetoEstatisticasRepository estatisticasRepository,
+                                      ProjetoRepository projetoRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.estatisticasRepository = estatisticasRepository;
+        this.projetoRepository = projetoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Registra a inclusão de uma tarefa
+     */
+    public void registrarInclusao(Tarefa tarefa) {
+        ContribuicaoTarefa depois = ContribuicaoTarefa.de(tarefa);
+        aplicar(depois.projetoId(), Delta.de(depois));
+    }
+    
+    /**
+     * Registra a inclusão de um lote de tarefas com um único delta por projeto
+     */
+    public void registrarInclusoes(Collection<Tarefa> tarefas) {
+        Map<Long, Delta> deltas = new HashMap<>();
+        for (Tarefa tarefa : tarefas) {
+            ContribuicaoTarefa contribuicao = ContribuicaoTarefa.de(tarefa);
+            deltas.merge(contribuicao.projetoId(), Delta.de(contribuicao), Delta::mais);
+        }
+        deltas.forEach(this::aplicar);
+    }
+    
+    /**
+     * Registra a alteração de um lote de tarefas com um único delta por projeto
+     * @param alteracoes pares (antes, depois) de cada tarefa alterada
+     */
+    public void registrarAlteracoes(Collection<Map.Entry<ContribuicaoTarefa, ContribuicaoTarefa>> alteracoes) {
+        // Em ordem de projeto: lotes concorrentes bloqueiam as linhas de estatísticas na mesma ordem
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (Map.Entry<ContribuicaoTarefa, ContribuicaoTarefa> alteracao : alteracoes) {
+            ContribuicaoTarefa antes = alteracao.getKey();
+            ContribuicaoTarefa depois = alteracao.getValue();
+            deltas.merge(antes.projetoId(), Delta.ZERO.menos(Delta.de(antes)), Delta::mais);
+            deltas.merge(depois.projetoId(), Delta.de(depois), Delta::mais);
+        }
+        deltas.forEach(this::aplicar);
+    }
+    
+    /**
+     * Registra a alteração de uma tarefa a partir do estado anterior capturado antes da escrita
+     */
+    public void registrarAlteracao(ContribuicaoTarefa antes, Tarefa tarefa) {
+        registrarAlteracao(antes, ContribuicaoTarefa.de(tarefa));
+    }
+    
+    /**
+     * Registra a alteração de uma tarefa a partir dos estados anterior e posterior à escrita
+     */
+    public void registrarAlteracao(ContribuicaoTarefa antes, ContribuicaoTarefa depois) {
+        if (Objects.equals(antes.projetoId(), depois.projetoId())) {
+            aplicar(depois.projetoId(), Delta.de(depois).menos(Delta.de(antes)));
+        } else {
+            aplicar(antes.projetoId(), Delta.ZERO.menos(Delta.de(antes)));
+            aplicar(depois.projetoId(), Delta.de(depois));
+        }
+    }
+    
+    /**
+     * Busca as estatísticas de um projeto (leitura de uma única linha)
+     */
+    @Transactional(readOnly = true)
+    public ProjetoEstatisticasResponseDTO buscarPorProjeto(Long projetoId) {
+        ProjetoEstatisticas estatisticas = estatisticasRepository.findById(projetoId)
+            .orElseGet(() -> {
+                if (projetoRepository.findByIdAndAtivoTrue(projetoId).isEmpty()) {
+                    throw new EntityNotFoundException("Projeto não encontrado com ID: " + projetoId);
+                }
+                return recalcular(List.of(projetoId)).get(projetoId);
+            });
+        
+        return converterParaResponseDTO(estatisticas);
+    }
+    
+    /**
+     * Recalcula as estatísticas de todos os projetos em lotes e corrige divergências
+     * Cada lote roda em sua própria transação para não manter locks por muito tempo
+     * @return número de projetos corrigidos
+     */
+    @Scheduled(cron = "${estatisticas.verificacao.cron:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int verificarEReparar() {
+        long inicio = System.currentTimeMillis();
+        int corrigidos = 0;
+        Long ultimoId = 0L;
+        
+        while (true) {
+            List<Long> ids = estatisticasRepository.findIdsProjetosApos(ultimoId, PageRequest.of(0, tamanhoLote));
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            Integer corrigidosLote = transactionTemplate.execute(status -> repararLote(ids));
+            corrigidos += corrigidosLote != null ? corrigidosLote : 0;
+            ultimoId = ids.get(ids.size() - 1);
+        }
+        
+        log.info("Verificação de estatísticas concluída: {} projetos corrigidos em {} ms",
+                 corrigidos, System.currentTimeMillis() - inicio);
+        return corrigidos;
+    }
+    
+    /**
+     * Recalcula e corrige as estatísticas dos projetos informados na transação atual
+     * Usado quando tarefas mudam de tabela sem passar pelos deltas (arquivamento)
+     * @param projetoIds projetos em ordem de ID (as linhas são bloqueadas nessa ordem)
+     */
+    public void reconciliar(List<Long> projetoIds) {
+        if (!projetoIds.isEmpty()) {
+            repararLote(projetoIds);
+        }
+    }
+    
+    // Métodos privados de apoio
+    
+    private int repararLote(List<Long> ids) {
+        // Bloqueia as linhas existentes antes de recalcular para não perder deltas concorrentes
+        Map<Long, ProjetoEstatisticas> existentes = estatisticasRepository.findParaAtualizacao(ids).stream()
+            .collect(Collectors.toMap(ProjetoEstatisticas::getProjetoId, Function.identity()));
+        Map<Long, ProjetoEstatisticas> calculadas = recalcular(ids);
+        LocalDateTime agora = LocalDateTime.now();
+        int corrigidos = 0;
+        
+        for (Long id : ids) {
+            ProjetoEstatisticas calculada = calculadas.get(id);
+            ProjetoEstatisticas existente = existentes.get(id);
+            
+            if (existente == null) {
+                calculada.setDataAtualizacao(agora);
+                // Se uma primeira escrita concorrente criou o registro, ele já parte do recálculo dela
+                if (estatisticasRepository.inserirSeAusente(calculada)) {
+                    corrigidos++;
+                }
+            } else if (existente.divergeDe(calculada)) {
+                log.warn("Divergência nas estatísticas do projeto {} corrigida", id);
+                existente.copiarContadores(calculada);
+                existente.setDataAtualizacao(agora);
+                corrigidos++;
+            }
+        }
+        
+        return corrigidos;
+    }
+    
+    private void aplicar(Long projetoId, Delta delta) {
+        if (projetoId == null || delta.vazio()) {
+            return;
+        }
+        
+        if (aplicarDelta(projetoId, delta) > 0) {
+            return;
+        }
+        
+        // Primeiro registro do projeto: parte do recálculo completo (já inclui a escrita atual)
+        ProjetoEstatisticas estatisticas = recalcular(List.of(projetoId)).get(projetoId);
+        estatisticas.setDataAtualizacao(LocalDateTime.now());
+        if (!estatisticasRepository.inserirSeAusente(estatisticas)) {
+            // Outra transação criou o registro depois do UPDATE, sem esta escrita: o delta vale sobre ele
+            aplicarDelta(projetoId, delta);
+        }
+    }
+    
+    private int aplicarDelta(Long projetoId, Delta delta) {
+        return estatisticasRepository.aplicarDelta(projetoId,
+            delta.total(), delta.abertas(), delta.emAndamento(), delta.emRevisao(),
+            delta.concluidas(), delta.canceladas(), delta.horasEstimadas(), delta.horasTrabalhadas(),
+            LocalDateTime.now());
+    }
+    
+    private Map<Long, ProjetoEstatisticas> recalcular(Collection<Long> ids) {
+        Map<Long, ProjetoEstatisticas> resultado = new HashMap<>();
+        ids.forEach(id -> resultado.put(id, ProjetoEstatisticas.builder().projetoId(id).build()));
+        
+        // Tarefas arquivadas saíram da tabela tarefa, mas continuam fazendo parte do projeto
+        acumular(resultado, estatisticasRepository.recalcularPorProjetos(ids));
+        acumular(resultado, estatisticasRepository.recalcularArquivadasPorProjetos(ids));
+        
+        return resultado;
+    }
+    
+    private static void acumular(Map<Long, ProjetoEstatisticas> resultado, List<Object[]> linhas) {
+        for (Object[] linha : linhas) {
+            resultado.get((Long) linha[0]).acumular(
+                (StatusTarefa) linha[1],
+                ((Number) linha[2]).longValue(),
+                (BigDecimal) linha[3],
+                (BigDecimal) linha[4]);
+        }
+    }
+    
+    private ProjetoEstatisticasResponseDTO converterParaResponseDTO(ProjetoEstatisticas estatisticas) {
+        return ProjetoEstatisticasResponseDTO.builder()
+            .idProjeto(estatisticas.getProjetoId())
+            .totalTarefas(estatisticas.getTotalTarefas())
+            .tarefasAbertas(estatisticas.getTarefasAbertas())
+            .tarefasEmAndamento(estatisticas.getTarefasEmAndamento())
+            .tarefasEmRevisao(estatisticas.getTarefasEmRevisao())
+            .tarefasConcluidas(estatisticas.getTarefasConcluidas())
+            .tarefasCanceladas(estatisticas.getTarefasCanceladas())
+            .totalHorasEstimadas(estatisticas.getTotalHorasEstimadas())
+            .totalHorasTrabalhadas(estatisticas.getTotalHorasTrabalhadas())
+            .percentualConclusao(estatisticas.getPercentualConclusao())
+            .dataAtualizacao(estatisticas.getDataAtualizacao())
+            .build();
+    }
+    
+    /**
+     * Estado de uma tarefa relevante para as estatísticas, capturado antes de uma escrita
+     */
+    public record ContribuicaoTarefa(
+        Long projetoId,
+        boolean ativo,
+        StatusTarefa status,
+        BigDecimal estimativaHoras,
+        BigDecimal horasTrabalhadas
+    ) {
+        public static ContribuicaoTarefa de(Tarefa tarefa) {
+            return new ContribuicaoTarefa(
+                tarefa.getProjeto() != null ? tarefa.getProjeto().getId() : null,
+                Boolean.TRUE.equals(tarefa.getAtivo()),
+                tarefa.getStatus(),
+                tarefa.getEstimativaHoras(),
+                tarefa.getHorasTrabalhadas()
+            );
+        }
+        
+        public static ContribuicaoTarefa de(EstadoTarefaView estado) {
+            return new ContribuicaoTarefa(
+                estado.idProjeto(),
+                true,
+                estado.status(),
+                estado.estimativaHoras(),
+                estado.horasTrabalhadas()
+            );
+        }
+        
+        public ContribuicaoTarefa comStatus(StatusTarefa novoStatus) {
+            return new ContribuicaoTarefa(projetoId, ativo, novoStatus, estimativaHoras, horasTrabalhadas);
+        }
+        
+        public static ContribuicaoTarefa de(TarefaView view) {
+            return new ContribuicaoTarefa(
+                view.idProjeto(),
+                Boolean.TRUE.equals(view.ativo()),
+                view.status(),
+                view.estimativaHoras(),
+                view.horasTrabalhadas()
+            );
+        }
+    }
+    
+    /**
+     * Diferença a ser somada aos contadores de um projeto
+     */
+    record Delta(long total, long abertas, long emAndamento, long emRevisao,
+                 long concluidas, long canceladas,
+                 BigDecimal horasEstimadas, BigDecimal horasTrabalhadas) {
+        
+        static final Delta ZERO = new Delta(0, 0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+        
+        static Delta de(ContribuicaoTarefa contribuicao) {
+            if (!contribuicao.ativo() || contribuicao.status() == null) {
+                return ZERO;
+            }
+            StatusTarefa status = contribuicao.status();
+            return new Delta(1,
+                status == StatusTarefa.ABERTA ? 1 : 0,
+                status == StatusTarefa.EM_ANDAMENTO ? 1 : 0,
+                status == StatusTarefa.EM_REVISAO ? 1 : 0,
+                status == StatusTarefa.CONCLUIDA ? 1 : 0,
+                status == StatusTarefa.CANCELADA ? 1 : 0,
+                contribuicao.estimativaHoras() != null ? contribuicao.estimativaHoras() : BigDecimal.ZERO,
+                contribuicao.horasTrabalhadas() != null ? contribuicao.horasTrabalhadas() : BigDecimal.ZERO);
+        }
+        
+        Delta mais(Delta outro) {
+            return new Delta(total + outro.total, abertas + outro.abertas,
+                emAndamento + outro.emAndamento, emRevisao + outro.emRevisao,
+                concluidas + outro.concluidas, canceladas + outro.canceladas,
+                horasEstimadas.add(outro.horasEstimadas),
+                horasTrabalhadas.add(outro.horasTrabalhadas));
+        }
+        
+        Delta menos(Delta outro) {
+            return new Delta(total - outro.total, abertas - outro.abertas,
+                emAndamento - outro.emAndamento, emRevisao - outro.emRevisao,
+                concluidas - outro.concluidas, canceladas - outro.canceladas,
+                horasEstimadas.subtract(outro.horasEstimadas),
+                horasTrabalhadas.subtract(outro.horasTrabalhadas));
+        }
+        
+        boolean vazio() {
+            return total == 0 && abertas == 0 && emAndamento == 0 && emRevisao == 0 &&
+                   concluidas == 0 && canceladas == 0 &&
+                   horasEstimadas.signum() == 0 && horasTrabalhadas.signum() == 0;
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package com.projeto.management.service;
 
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.ProjetoEstatisticasResponseDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
+import com.projeto.management.mapper.ProjetoMapper;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.repository.ProjetoArquivoRepository;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import com.projeto.management.repository.filtro.PadraoTexto;
+import com.projeto.management.repository.filtro.ProjetoFiltro;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.projection.ResumoTarefasView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,8 +41,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProjetoService {
     
+    private static final int TAMANHO_LOTE_IDS = 1000;
+    
     private final ProjetoRepository projetoRepository;
-    private final ModelMapper modelMapper;
+    private final ProjetoMapper projetoMapper;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final IndiceBuscaService indiceBuscaService;
+    private final ProjetoArquivoRepository projetoArquivoRepository;
+    private final TarefaArquivoRepository tarefaArquivoRepository;
+    private final AuditoriaStatusService auditoriaStatusService;
     
     /**
      * Cria um novo projeto
@@ -41,7 +60,7 @@ public class ProjetoService {
         // Validações de negócio
         validarDatasProject(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
         
-        Projeto projeto = modelMapper.map(requestDTO, Projeto.class);
+        Projeto projeto = projetoMapper.paraEntidade(requestDTO);
         projeto.setUsuarioCriacao(usuarioLogado);
         projeto.setUsuarioAtualizacao(usuarioLogado);
         
@@ -54,9 +73,10 @@ public class ProjetoService {
         }
         
         Projeto projetoSalvo = projetoRepository.save(projeto);
+        indiceBuscaService.registrarProjeto(projetoSalvo);
         log.info("Projeto criado com ID: {}", projetoSalvo.getId());
         
-        return converterParaResponseDTO(projetoSalvo);
+        return projetoMapper.paraResponseDTO(projetoSalvo);
     }
     
     /**
@@ -68,8 +88,28 @@ public class ProjetoService {
         
         Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
-            
-        return converterParaResponseDTO(projeto);
+        
+        return projetoMapper.paraResponseDTO(projeto);
+    }
+    
+    /**
+     * Busca projeto por ID; com incluirArquivados procura também no arquivo
+     * e acrescenta as tarefas arquivadas do projeto
+     */
+    @Transactional(readOnly = true)
+    public ProjetoResponseDTO buscarPorId(Long id, boolean incluirArquivados) {
+        if (!incluirArquivados) {
+            return buscarPorId(id);
+        }
+        log.debug("Buscando projeto por ID, incluindo arquivados: {}", id);
+        
+        ProjetoResponseDTO dto = projetoRepository.findByIdAndAtivoTrue(id)
+            .map(projetoMapper::paraResponseDTO)
+            .or(() -> projetoArquivoRepository.findByIdAndAtivoTrue(id).map(projetoMapper::paraResponseDTOArquivado))
+            .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+        
+        projetoMapper.incluirTarefasArquivadas(dto, tarefaArquivoRepository.findViewsByProjetoId(id));
+        return dto;
     }
     
     /**
@@ -81,9 +121,32 @@ public class ProjetoService {
         log.debug("Listando projetos com filtros - Nome: {}, Status: {}, Responsável: {}", 
                  nome, status, responsavel);
         
-        Page<Projeto> projetos = projetoRepository.findProjetosComFiltros(nome, status, responsavel, pageable);
+        Page<Projeto> projetos = projetoRepository.findProjetosComFiltros(
+            new ProjetoFiltro(nome, status, responsavel), pageable);
+        Map<Long, ResumoTarefasView> resumos = carregarResumos(projetos.getContent());
         
-        return projetos.map(this::converterParaResponseDTO);
+        return projetos.map(projeto -> converterParaResumoDTO(projeto, resumos));
+    }
+    
+    /**
+     * Lista projetos paginados por cursor (sem contagem total)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ProjetoResponseDTO> listarProjetosPorCursor(String nome, StatusProjeto status,
+                                                                            String responsavel, Sort sort,
+                                                                            String cursor, int tamanho) {
+        log.debug("Listando projetos por cursor - Ordenação: {}, Tamanho: {}", sort, tamanho);
+        
+        CursorSlice<Projeto> slice = projetoRepository.findPorCursor(
+            new ProjetoFiltro(nome, status, responsavel), sort, cursor, tamanho);
+        Map<Long, ResumoTarefasView> resumos = carregarResumos(slice.conteudo());
+        
+        return CursorPageResponseDTO.<ProjetoResponseDTO>builder()
+            .content(slice.map(projeto -> converterParaResumoDTO(projeto, resumos)).conteudo())
+            .size(slice.conteudo().size())
+            .hasNext(slice.temProximo())
+            .nextCursor(slice.proximoCursor())
+            .build();
     }
     
     /**
@@ -92,20 +155,24 @@ public class ProjetoService {
     public ProjetoResponseDTO atualizarProjeto(Long id, ProjetoRequestDTO requestDTO, String usuarioLogado) {
         log.info("Atualizando projeto ID: {}", id);
         
-        Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
+        Projeto projeto = projetoRepository.findParaAlteracaoByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
         
         // Validações de negócio
         validarDatasProject(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
         
+        StatusProjeto statusAnterior = projeto.getStatus();
+        
         // Atualiza os campos
-        modelMapper.map(requestDTO, projeto);
+        projetoMapper.copiar(requestDTO, projeto);
         projeto.setUsuarioAtualizacao(usuarioLogado);
         
         Projeto projetoAtualizado = projetoRepository.save(projeto);
+        indiceBuscaService.registrarProjeto(projetoAtualizado);
+        auditoriaStatusService.registrarProjeto(id, statusAnterior, projetoAtualizado.getStatus(), usuarioLogado);
         log.info("Projeto atualizado: {}", projetoAtualizado.getId());
         
-        return converterParaResponseDTO(projetoAtualizado);
+        return projetoMapper.paraResponseDTO(projetoAtualizado);
     }
     
     /**
@@ -114,7 +181,7 @@ public class ProjetoService {
     public void excluirProjeto(Long id, String usuarioLogado) {
         log.info("Excluindo projeto ID: {}", id);
         
-        Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
+        Projeto projeto = projetoRepository.findParaAlteracaoByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
         
         // Verifica se pode excluir
@@ -125,6 +192,7 @@ public class ProjetoService {
         projeto.setAtivo(false);
         projeto.setUsuarioAtualizacao(usuarioLogado);
         projetoRepository.save(projeto);
+        indiceBuscaService.registrarProjeto(projeto);
         
         log.info("Projeto excluído logicamente: {}", id);
     }
@@ -135,7 +203,7 @@ public class ProjetoService {
     public ProjetoResponseDTO alterarStatus(Long id, StatusProjeto novoStatus, String usuarioLogado) {
         log.info("Alterando status do projeto {} para {}", id, novoStatus);
         
-        Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
+        Projeto projeto = projetoRepository.findParaAlteracaoByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
         
         StatusProjeto statusAnterior = projeto.getStatus();
@@ -152,9 +220,10 @@ public class ProjetoService {
         }
         
         Projeto projetoAtualizado = projetoRepository.save(projeto);
+        auditoriaStatusService.registrarProjeto(id, statusAnterior, novoStatus, usuarioLogado);
         log.info("Status alterado de {} para {}", statusAnterior, novoStatus);
         
-        return converterParaResponseDTO(projetoAtualizado);
+        return projetoMapper.paraResponseDTO(projetoAtualizado);
     }
     
     /**
@@ -165,9 +234,10 @@ public class ProjetoService {
         log.debug("Buscando projetos atrasados");
         
         List<Projeto> projetos = projetoRepository.findProjetosAtrasados(LocalDate.now());
+        Map<Long, ResumoTarefasView> resumos = carregarResumos(projetos);
         
         return projetos.stream()
-            .map(this::converterParaResponseDTO)
+            .map(projeto -> converterParaResumoDTO(projeto, resumos))
             .collect(Collectors.toList());
     }
     
@@ -178,10 +248,29 @@ public class ProjetoService {
     public List<ProjetoResponseDTO> buscarPorResponsavel(String responsavel) {
         log.debug("Buscando projetos por responsável: {}", responsavel);
         
-        List<Projeto> projetos = projetoRepository.findByResponsavelContainingIgnoreCaseAndAtivoTrue(responsavel);
+        List<Projeto> projetos = indiceBuscaService.buscarProjetosPorResponsavel(responsavel)
+            .map(ids -> indiceBuscaService.confirmar(carregarProjetos(ids), Projeto::getResponsavel, responsavel))
+            .orElseGet(() -> projetoRepository.findByResponsavelContendo(PadraoTexto.contem(responsavel)));
         
         return projetos.stream()
-            .map(this::converterParaResponseDTO)
+            .map(projetoMapper::paraResponseDTO)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Busca projetos cujo nome contém o termo informado
+     */
+    @Transactional(readOnly = true)
+    public List<ProjetoResponseDTO> buscarPorNome(String termo) {
+        log.debug("Buscando projetos por nome: {}", termo);
+        
+        List<Projeto> projetos = indiceBuscaService.buscarProjetosPorNome(termo)
+            .map(ids -> indiceBuscaService.confirmar(carregarProjetos(ids), Projeto::getNome, termo))
+            .orElseGet(() -> projetoRepository.findByNomeContendo(PadraoTexto.contem(termo)));
+        Map<Long, ResumoTarefasView> resumos = carregarResumos(projetos);
+        
+        return projetos.stream()
+            .map(projeto -> converterParaResumoDTO(projeto, resumos))
             .collect(Collectors.toList());
     }
     
@@ -195,8 +284,30 @@ public class ProjetoService {
         return projetoRepository.countProjetosPorStatus();
     }
     
+    /**
+     * Obtém estatísticas das tarefas de um projeto
+     */
+    @Transactional(readOnly = true)
+    public ProjetoEstatisticasResponseDTO getEstatisticasTarefas(Long id) {
+        log.debug("Buscando estatísticas das tarefas do projeto: {}", id);
+        
+        return projetoEstatisticasService.buscarPorProjeto(id);
+    }
+    
     // Métodos privados de apoio
     
+    /**
+     * Carrega os projetos dos ids encontrados no índice de busca, em lotes
+     */
+    private List<Projeto> carregarProjetos(List<Long> ids) {
+        List<Projeto> projetos = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IDS) {
+            projetos.addAll(projetoRepository.findByIdInAndAtivoTrueOrderByIdAsc(
+                ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IDS, ids.size()))));
+        }
+        return projetos;
+    }
+    
     private void validarDatasProject(LocalDate dataInicio, LocalDate dataFimPrevista) {
         if (dataInicio != null && dataFimPrevista != null) {
             if (dataFimPrevista.isBefore(dataInicio)) {
@@ -206,46 +317,34 @@ public class ProjetoService {
     }
     
     private void validarTransicaoStatus(StatusProjeto statusAtual, StatusProjeto novoStatus) {
-        // Regras de negócio para transição de status
-        if (statusAtual == StatusProjeto.CANCELADO) {
-            throw new BusinessException("Não é possível alterar status de um projeto cancelado");
+        // Regras de negócio na tabela de transições do StatusProjeto; aqui só a mensagem
+        if (statusAtual.podeSerAlteradoPara(novoStatus)) {
+            return;
         }
         
-        if (statusAtual == StatusProjeto.CONCLUIDO && novoStatus != StatusProjeto.CONCLUIDO) {
-            throw new BusinessException("Não é possível alterar status de um projeto concluído");
-        }
+        throw new BusinessException(switch (statusAtual) {
+            case CANCELADO -> "Não é possível alterar status de um projeto cancelado";
+            case CONCLUIDO -> "Não é possível alterar status de um projeto concluído";
+            default -> "Transição de status não permitida: " + statusAtual + " para " + novoStatus;
+        });
     }
     
-    private ProjetoResponseDTO converterParaResponseDTO(Projeto projeto) {
-        ProjetoResponseDTO dto = modelMapper.map(projeto, ProjetoResponseDTO.class);
-        
-        // Calcula campos adicionais
-        dto.setPercentualConclusao(projeto.getPercentualConclusao());
-        dto.setAtrasado(projeto.isAtrasado());
-        
-        if (projeto.getTarefas() != null) {
-            dto.setTotalTarefas(projeto.getTarefas().size());
-            
-            long tarefasConcluidas = projeto.getTarefas().stream()
-                .filter(t -> t.getAtivo() && t.getStatus() == com.projeto.management.model.enums.StatusTarefa.CONCLUIDA)
-                .count();
-            dto.setTarefasConcluidas((int) tarefasConcluidas);
-            
-            dto.setTotalHorasEstimadas(
-                projeto.getTarefas().stream()
-                    .filter(t -> t.getAtivo() && t.getEstimativaHoras() != null)
-                    .map(t -> t.getEstimativaHoras())
-                    .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add)
-            );
-            
-            dto.setTotalHorasTrabalhadas(
-                projeto.getTarefas().stream()
-                    .filter(t -> t.getAtivo() && t.getHorasTrabalhadas() != null)
-                    .map(t -> t.getHorasTrabalhadas())
-                    .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add)
-            );
+    /**
+     * Carrega os totais de tarefas de todos os projetos da lista com uma única consulta agrupada
+     */
+    private Map<Long, ResumoTarefasView> carregarResumos(List<Projeto> projetos) {
+        if (projetos.isEmpty()) {
+            return Map.of();
         }
         
-        return dto;
+        List<Long> ids = projetos.stream().map(Projeto::getId).collect(Collectors.toList());
+        
+        return projetoRepository.findResumoTarefasPorProjetos(ids).stream()
+            .collect(Collectors.toMap(ResumoTarefasView::projetoId, Function.identity()));
+    }
+    
+    private ProjetoResponseDTO converterParaResumoDTO(Projeto projeto, Map<Long, ResumoTarefasView> resumos) {
+        return projetoMapper.paraResumoDTO(projeto,
+            resumos.getOrDefault(projeto.getId(), ResumoTarefasView.vazio(projeto.getId())));
     }
 }
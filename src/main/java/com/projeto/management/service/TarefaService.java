@@ -1,25 +1,38 @@
 package com.projeto.management.service;
 
 import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
 import com.projeto.management.dto.response.TarefaResponseDTO;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
+import com.projeto.management.exception.ConflitoVersaoException;
+import com.projeto.management.mapper.TarefaMapper;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.entity.Tarefa;
 import com.projeto.management.model.enums.StatusTarefa;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.repository.TarefaArquivoRepository;
 import com.projeto.management.repository.TarefaRepository;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.filtro.PadraoTexto;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.projection.TarefaView;
+import com.projeto.management.service.ProjetoEstatisticasService.ContribuicaoTarefa;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -31,9 +44,16 @@ import java.util.stream.Collectors;
 @Transactional
 public class TarefaService {
     
+    private static final int TAMANHO_LOTE_IDS = 1000;
+    
     private final TarefaRepository tarefaRepository;
     private final ProjetoRepository projetoRepository;
-    private final ModelMapper modelMapper;
+    private final TarefaMapper tarefaMapper;
+    private final ProjetoEstatisticasService projetoEstatisticasService;
+    private final IndiceBuscaService indiceBuscaService;
+    private final IndicePrazosService indicePrazosService;
+    private final TarefaArquivoRepository tarefaArquivoRepository;
+    private final AuditoriaStatusService auditoriaStatusService;
     
     /**
      * Cria uma nova tarefa
@@ -48,23 +68,12 @@ public class TarefaService {
         // Validações de negócio
         validarDatasTarefa(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
         
-        Tarefa tarefa = modelMapper.map(requestDTO, Tarefa.class);
-        tarefa.setProjeto(projeto);
-        tarefa.setUsuarioCriacao(usuarioLogado);
-        tarefa.setUsuarioAtualizacao(usuarioLogado);
-        
-        // Define valores padrão se não informados
-        if (tarefa.getStatus() == null) {
-            tarefa.setStatus(StatusTarefa.ABERTA);
-        }
-        if (tarefa.getPrioridade() == null) {
-            tarefa.setPrioridade(Prioridade.MEDIA);
-        }
-        if (tarefa.getPercentualConclusao() == null) {
-            tarefa.setPercentualConclusao(0);
-        }
+        Tarefa tarefa = novaTarefa(requestDTO, projeto, usuarioLogado);
         
         Tarefa tarefaSalva = tarefaRepository.save(tarefa);
+        projetoEstatisticasService.registrarInclusao(tarefaSalva);
+        indiceBuscaService.registrarTarefa(tarefaSalva);
+        indicePrazosService.registrarTarefa(tarefaSalva);
         log.info("Tarefa criada com ID: {}", tarefaSalva.getId());
         
         return converterParaResponseDTO(tarefaSalva);
@@ -83,6 +92,23 @@ public class TarefaService {
         return converterParaResponseDTO(tarefa);
     }
     
+    /**
+     * Busca tarefa por ID, procurando também no arquivo quando solicitado
+     */
+    @Transactional(readOnly = true)
+    public TarefaResponseDTO buscarPorId(Long id, boolean incluirArquivados) {
+        if (!incluirArquivados) {
+            return buscarPorId(id);
+        }
+        log.debug("Buscando tarefa por ID, incluindo arquivadas: {}", id);
+        
+        return tarefaRepository.findByIdAndAtivoTrue(id)
+            .map(this::converterParaResponseDTO)
+            .or(() -> tarefaArquivoRepository.findViewById(id)
+                .map(view -> converterParaResponseDTO(view, LocalDate.now())))
+            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+    }
+    
     /**
      * Lista tarefas com paginação e filtros
      */
@@ -92,10 +118,32 @@ public class TarefaService {
         log.debug("Listando tarefas com filtros - Projeto: {}, Título: {}, Status: {}", 
                  projetoId, titulo, status);
         
-        Page<Tarefa> tarefas = tarefaRepository.findTarefasComFiltros(
-            projetoId, titulo, status, responsavel, prioridade, pageable);
+        Page<TarefaView> tarefas = tarefaRepository.findViewsComFiltros(
+            new TarefaFiltro(projetoId, titulo, status, responsavel, prioridade), pageable);
         
-        return tarefas.map(this::converterParaResponseDTO);
+        LocalDate hoje = LocalDate.now();
+        return tarefas.map(view -> converterParaResponseDTO(view, hoje));
+    }
+    
+    /**
+     * Lista tarefas paginadas por cursor (sem contagem total)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TarefaResponseDTO> listarTarefasPorCursor(Long projetoId, String titulo, StatusTarefa status,
+                                                                          String responsavel, Prioridade prioridade,
+                                                                          Sort sort, String cursor, int tamanho) {
+        log.debug("Listando tarefas por cursor - Projeto: {}, Ordenação: {}, Tamanho: {}", projetoId, sort, tamanho);
+        
+        CursorSlice<TarefaView> slice = tarefaRepository.findViewsPorCursor(
+            new TarefaFiltro(projetoId, titulo, status, responsavel, prioridade), sort, cursor, tamanho);
+        
+        LocalDate hoje = LocalDate.now();
+        return CursorPageResponseDTO.<TarefaResponseDTO>builder()
+            .content(slice.map(view -> converterParaResponseDTO(view, hoje)).conteudo())
+            .size(slice.conteudo().size())
+            .hasNext(slice.temProximo())
+            .nextCursor(slice.proximoCursor())
+            .build();
     }
     
     /**
@@ -105,11 +153,25 @@ public class TarefaService {
     public List<TarefaResponseDTO> listarTarefasPorProjeto(Long projetoId) {
         log.debug("Listando tarefas do projeto: {}", projetoId);
         
-        List<Tarefa> tarefas = tarefaRepository.findByProjetoIdAndAtivoTrue(projetoId);
+        List<TarefaView> tarefas = tarefaRepository.findViewsByProjetoId(projetoId);
         
-        return tarefas.stream()
-            .map(this::converterParaResponseDTO)
-            .collect(Collectors.toList());
+        return converterViews(tarefas);
+    }
+    
+    /**
+     * Lista tarefas por projeto; com incluirArquivados, as arquivadas vêm após as ativas
+     */
+    @Transactional(readOnly = true)
+    public List<TarefaResponseDTO> listarTarefasPorProjeto(Long projetoId, boolean incluirArquivados) {
+        if (!incluirArquivados) {
+            return listarTarefasPorProjeto(projetoId);
+        }
+        log.debug("Listando tarefas do projeto, incluindo arquivadas: {}", projetoId);
+        
+        List<TarefaView> tarefas = new ArrayList<>(tarefaRepository.findViewsByProjetoId(projetoId));
+        tarefas.addAll(tarefaArquivoRepository.findViewsByProjetoId(projetoId));
+        
+        return converterViews(tarefas);
     }
     
     /**
@@ -121,6 +183,8 @@ public class TarefaService {
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
         
+        ContribuicaoTarefa antes = ContribuicaoTarefa.de(tarefa);
+        
         // Se mudou o projeto, valida se existe
         if (!tarefa.getProjeto().getId().equals(requestDTO.getIdProjeto())) {
             Projeto novoProjeto = projetoRepository.findByIdAndAtivoTrue(requestDTO.getIdProjeto())
@@ -132,10 +196,14 @@ public class TarefaService {
         validarDatasTarefa(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
         
         // Atualiza os campos
-        modelMapper.map(requestDTO, tarefa);
+        tarefaMapper.copiar(requestDTO, tarefa);
         tarefa.setUsuarioAtualizacao(usuarioLogado);
         
         Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
+        projetoEstatisticasService.registrarAlteracao(antes, tarefaAtualizada);
+        indiceBuscaService.registrarTarefa(tarefaAtualizada);
+        indicePrazosService.registrarTarefa(tarefaAtualizada);
+        auditoriaStatusService.registrarTarefa(id, antes.status(), tarefaAtualizada.getStatus(), usuarioLogado);
         log.info("Tarefa atualizada: {}", tarefaAtualizada.getId());
         
         return converterParaResponseDTO(tarefaAtualizada);
@@ -150,9 +218,14 @@ public class TarefaService {
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
         
+        ContribuicaoTarefa antes = ContribuicaoTarefa.de(tarefa);
+        
         tarefa.setAtivo(false);
         tarefa.setUsuarioAtualizacao(usuarioLogado);
         tarefaRepository.save(tarefa);
+        projetoEstatisticasService.registrarAlteracao(antes, tarefa);
+        indiceBuscaService.registrarTarefa(tarefa);
+        indicePrazosService.registrarTarefa(tarefa);
         
         log.info("Tarefa excluída logicamente: {}", id);
     }
@@ -161,52 +234,44 @@ public class TarefaService {
      * Altera status da tarefa
      */
     public TarefaResponseDTO alterarStatus(Long id, StatusTarefa novoStatus, String usuarioLogado) {
+        return alterarStatus(id, novoStatus, usuarioLogado, null);
+    }
+    
+    /**
+     * Altera status da tarefa com um único UPDATE condicionado à versão
+     * @param versaoEsperada versão informada pelo cliente (If-Match) ou null para aceitar a atual
+     */
+    public TarefaResponseDTO alterarStatus(Long id, StatusTarefa novoStatus, String usuarioLogado, Long versaoEsperada) {
         log.info("Alterando status da tarefa {} para {}", id, novoStatus);
         
-        Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
-            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
-        
-        StatusTarefa statusAnterior = tarefa.getStatus();
-        
-        tarefa.setStatus(novoStatus);
-        tarefa.setUsuarioAtualizacao(usuarioLogado);
-        
-        // Atualiza percentual automaticamente
-        tarefa.atualizarPercentualPorStatus();
-        
-        Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
-        log.info("Status alterado de {} para {}", statusAnterior, novoStatus);
+        TarefaView tarefaAtualizada = atualizarProgresso(id, versaoEsperada, usuarioLogado,
+            tarefa -> tarefa.alterarStatus(novoStatus));
         
-        return converterParaResponseDTO(tarefaAtualizada);
+        return converterParaResponseDTO(tarefaAtualizada, LocalDate.now());
     }
     
     /**
      * Atualiza percentual de conclusão
      */
     public TarefaResponseDTO atualizarPercentual(Long id, Integer percentual, String usuarioLogado) {
+        return atualizarPercentual(id, percentual, usuarioLogado, null);
+    }
+    
+    /**
+     * Atualiza percentual de conclusão com um único UPDATE condicionado à versão
+     * @param versaoEsperada versão informada pelo cliente (If-Match) ou null para aceitar a atual
+     */
+    public TarefaResponseDTO atualizarPercentual(Long id, Integer percentual, String usuarioLogado, Long versaoEsperada) {
         log.info("Atualizando percentual da tarefa {} para {}%", id, percentual);
         
         if (percentual < 0 || percentual > 100) {
             throw new BusinessException("Percentual deve estar entre 0 e 100");
         }
         
-        Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
-            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
-        
-        tarefa.setPercentualConclusao(percentual);
-        tarefa.setUsuarioAtualizacao(usuarioLogado);
-        
-        // Atualiza status baseado no percentual
-        if (percentual == 100 && tarefa.getStatus() != StatusTarefa.CONCLUIDA) {
-            tarefa.setStatus(StatusTarefa.CONCLUIDA);
-            tarefa.setDataFimReal(LocalDate.now());
-        } else if (percentual > 0 && percentual < 100 && tarefa.getStatus() == StatusTarefa.ABERTA) {
-            tarefa.setStatus(StatusTarefa.EM_ANDAMENTO);
-        }
-        
-        Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
+        TarefaView tarefaAtualizada = atualizarProgresso(id, versaoEsperada, usuarioLogado,
+            tarefa -> tarefa.alterarPercentual(percentual));
         
-        return converterParaResponseDTO(tarefaAtualizada);
+        return converterParaResponseDTO(tarefaAtualizada, LocalDate.now());
     }
     
     /**
@@ -216,11 +281,12 @@ public class TarefaService {
     public List<TarefaResponseDTO> buscarTarefasAtrasadas() {
         log.debug("Buscando tarefas atrasadas");
         
-        List<Tarefa> tarefas = tarefaRepository.findTarefasAtrasadas(LocalDate.now());
+        LocalDate hoje = LocalDate.now();
+        List<TarefaView> tarefas = indicePrazosService.buscarAtrasadas(hoje)
+            .map(ids -> carregarViews(ids).stream().filter(view -> view.isAtrasada(hoje)).toList())
+            .orElseGet(() -> tarefaRepository.findViewsAtrasadas(hoje));
         
-        return tarefas.stream()
-            .map(this::converterParaResponseDTO)
-            .collect(Collectors.toList());
+        return converterViews(tarefas);
     }
     
     /**
@@ -233,11 +299,13 @@ public class TarefaService {
         LocalDate dataAtual = LocalDate.now();
         LocalDate dataLimite = dataAtual.plusDays(dias);
         
-        List<Tarefa> tarefas = tarefaRepository.findTarefasVencendoEm(dataAtual, dataLimite);
+        List<TarefaView> tarefas = indicePrazosService.buscarVencendoEntre(dataAtual, dataLimite)
+            .map(ids -> carregarViews(ids).stream()
+                .filter(view -> view.isVencendoEntre(dataAtual, dataLimite))
+                .toList())
+            .orElseGet(() -> tarefaRepository.findViewsVencendoEm(dataAtual, dataLimite));
         
-        return tarefas.stream()
-            .map(this::converterParaResponseDTO)
-            .collect(Collectors.toList());
+        return converterViews(tarefas);
     }
     
     /**
@@ -261,16 +329,127 @@ public class TarefaService {
     public List<TarefaResponseDTO> buscarPorResponsavel(String responsavel) {
         log.debug("Buscando tarefas por responsável: {}", responsavel);
         
-        List<Tarefa> tarefas = tarefaRepository.findByResponsavelContainingIgnoreCaseAndAtivoTrue(responsavel);
+        List<TarefaView> tarefas = indiceBuscaService.buscarTarefasPorResponsavel(responsavel)
+            .map(ids -> indiceBuscaService.confirmar(carregarViews(ids), TarefaView::responsavel, responsavel))
+            .orElseGet(() -> tarefaRepository.findViewsByResponsavel(PadraoTexto.contem(responsavel)));
         
-        return tarefas.stream()
-            .map(this::converterParaResponseDTO)
-            .collect(Collectors.toList());
+        return converterViews(tarefas);
+    }
+    
+    /**
+     * Busca tarefas cujo título contém o termo informado
+     */
+    @Transactional(readOnly = true)
+    public List<TarefaResponseDTO> buscarPorTitulo(String termo) {
+        log.debug("Buscando tarefas por título: {}", termo);
+        
+        List<TarefaView> tarefas = indiceBuscaService.buscarTarefasPorTitulo(termo)
+            .map(ids -> indiceBuscaService.confirmar(carregarViews(ids), TarefaView::titulo, termo))
+            .orElseGet(() -> tarefaRepository.findViewsByTitulo(PadraoTexto.contem(termo)));
+        
+        return converterViews(tarefas);
     }
     
     // Métodos privados de apoio
     
-    private void validarDatasTarefa(LocalDate dataInicio, LocalDate dataFimPrevista) {
+    /**
+     * Carrega as projeções dos ids encontrados nos índices em memória (busca e prazos), em lotes
+     */
+    private List<TarefaView> carregarViews(List<Long> ids) {
+        List<TarefaView> views = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IDS) {
+            views.addAll(tarefaRepository.findViewsByIds(
+                ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IDS, ids.size()))));
+        }
+        return views;
+    }
+    
+    /**
+     * Aplica uma alteração de status/percentual sem carregar a entidade
+     * As regras de Tarefa são aplicadas sobre uma cópia transitória do estado lido, e o resultado
+     * é gravado por um UPDATE que só afeta a linha se ela ainda estiver ativa e na mesma versão.
+     * Sem versão esperada (sem If-Match) a última escrita vence: se outra requisição alterou a tarefa
+     * entre a leitura e o UPDATE, a linha é relida com bloqueio e a alteração é reaplicada sobre ela.
+     */
+    private TarefaView atualizarProgresso(Long id, Long versaoEsperada, String usuarioLogado,
+                                          Consumer<Tarefa> alteracao) {
+        TarefaView atual = tarefaRepository.findViewById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+        
+        if (versaoEsperada != null && !versaoEsperada.equals(atual.versao())) {
+            throw new ConflitoVersaoException(
+                "Tarefa " + id + " está na versão " + atual.versao() + " (esperada " + versaoEsperada + ")", true);
+        }
+        
+        Optional<TarefaView> gravada = gravarProgresso(atual, usuarioLogado, alteracao);
+        if (gravada.isEmpty() && versaoEsperada == null) {
+            atual = tarefaRepository.findViewParaAtualizacaoById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+            gravada = gravarProgresso(atual, usuarioLogado, alteracao);
+        }
+        
+        TarefaView atualizada = gravada.orElseThrow(() -> new ConflitoVersaoException(
+            "Tarefa " + id + " foi alterada por outra requisição; recarregue e tente novamente",
+            versaoEsperada != null));
+        projetoEstatisticasService.registrarAlteracao(ContribuicaoTarefa.de(atual), ContribuicaoTarefa.de(atualizada));
+        
+        if (atual.status() != atualizada.status()) {
+            indicePrazosService.registrarStatus(id, atualizada.status(), atualizada.dataFimPrevista());
+            auditoriaStatusService.registrarTarefa(id, atual.status(), atualizada.status(), usuarioLogado);
+            log.info("Status da tarefa {} alterado de {} para {}", id, atual.status(), atualizada.status());
+        }
+        
+        return atualizada;
+    }
+    
+    /**
+     * Grava o progresso resultante da alteração sobre o estado lido, se a linha ainda estiver nessa versão
+     * @return a projeção atualizada, ou vazio quando a tarefa mudou de versão (ou deixou de estar ativa)
+     */
+    private Optional<TarefaView> gravarProgresso(TarefaView atual, String usuarioLogado, Consumer<Tarefa> alteracao) {
+        Tarefa tarefa = Tarefa.builder()
+            .status(atual.status())
+            .percentualConclusao(atual.percentualConclusao())
+            .dataFimReal(atual.dataFimReal())
+            .build();
+        alteracao.accept(tarefa);
+        
+        LocalDateTime agora = LocalDateTime.now();
+        int atualizadas = tarefaRepository.atualizarProgresso(atual.id(), atual.versao(), tarefa.getStatus(),
+            tarefa.getPercentualConclusao(), tarefa.getDataFimReal(), usuarioLogado, agora);
+        
+        if (atualizadas == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(atual.comProgresso(tarefa.getStatus(), tarefa.getPercentualConclusao(),
+            tarefa.getDataFimReal(), agora, atual.versao() + 1));
+    }
+    
+    /**
+     * Monta uma nova tarefa a partir do request, com os valores padrão de criação
+     * Usado também pela importação em lote
+     */
+    Tarefa novaTarefa(TarefaRequestDTO requestDTO, Projeto projeto, String usuarioLogado) {
+        Tarefa tarefa = tarefaMapper.paraEntidade(requestDTO);
+        tarefa.setProjeto(projeto);
+        tarefa.setUsuarioCriacao(usuarioLogado);
+        tarefa.setUsuarioAtualizacao(usuarioLogado);
+        
+        // Define valores padrão se não informados
+        if (tarefa.getStatus() == null) {
+            tarefa.setStatus(StatusTarefa.ABERTA);
+        }
+        if (tarefa.getPrioridade() == null) {
+            tarefa.setPrioridade(Prioridade.MEDIA);
+        }
+        if (tarefa.getPercentualConclusao() == null) {
+            tarefa.setPercentualConclusao(0);
+        }
+        
+        return tarefa;
+    }
+    
+    static void validarDatasTarefa(LocalDate dataInicio, LocalDate dataFimPrevista) {
         if (dataInicio != null && dataFimPrevista != null) {
             if (dataFimPrevista.isBefore(dataInicio)) {
                 throw new BusinessException("Data fim prevista não pode ser anterior à data de início");
@@ -279,18 +458,17 @@ public class TarefaService {
     }
     
     private TarefaResponseDTO converterParaResponseDTO(Tarefa tarefa) {
-        TarefaResponseDTO dto = modelMapper.map(tarefa, TarefaResponseDTO.class);
-        
-        // Adiciona informações do projeto
-        if (tarefa.getProjeto() != null) {
-            dto.setIdProjeto(tarefa.getProjeto().getId());
-            dto.setNomeProjeto(tarefa.getProjeto().getNome());
-        }
-        
-        // Calcula campos adicionais
-        dto.setAtrasada(tarefa.isAtrasada());
-        dto.setDiasRestantes(tarefa.getDiasRestantes());
-        
-        return dto;
+        return tarefaMapper.paraResponseDTO(tarefa);
+    }
+    
+    private List<TarefaResponseDTO> converterViews(List<TarefaView> views) {
+        LocalDate hoje = LocalDate.now();
+        return views.stream()
+            .map(view -> converterParaResponseDTO(view, hoje))
+            .collect(Collectors.toList());
+    }
+    
+    private TarefaResponseDTO converterParaResponseDTO(TarefaView view, LocalDate hoje) {
+        return tarefaMapper.paraResponseDTO(view, hoje);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.projeto.management.service.auditoria;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Manutenção das partições mensais da tabela auditoria_status
+ * 
+ * Com particionamento nativo (MySQL ou PostgreSQL) cada mês fica em uma partição: as do mês
+ * corrente e dos seguintes são criadas antecipadamente e as anteriores à retenção são removidas
+ * inteiras, sem DELETE. Sem particionamento a retenção é aplicada por exclusão em lotes.
+ */
+public interface ParticionamentoAuditoria {
+    
+    String TABELA = "auditoria_status";
+    
+    DateTimeFormatter FORMATO_MES = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    /**
+     * Garante que existam partições do mês atual até o último mês informado (inclusive)
+     */
+    void criarAte(YearMonth atual, YearMonth ultimo);
+    
+    /**
+     * Remove os registros anteriores ao primeiro mês retido
+     * @return partições removidas (ou linhas, sem particionamento)
+     */
+    int removerAnterioresA(YearMonth primeiroMesRetido);
+    
+    /**
+     * Descrição usada nos logs
+     */
+    String descricao();
+    
+    /**
+     * Escolhe a estratégia pelo banco e pela existência de particionamento na tabela
+     * (uma tabela criada sem particionamento, como pelo Hibernate, usa a exclusão em lotes)
+     */
+    static ParticionamentoAuditoria para(JdbcTemplate jdbcTemplate, int tamanhoLoteExclusao) {
+        String banco = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        
+        if ("MySQL".equalsIgnoreCase(banco) && ParticionamentoMySql.particionada(jdbcTemplate)) {
+            return new ParticionamentoMySql(jdbcTemplate);
+        }
+        if ("PostgreSQL".equalsIgnoreCase(banco) && ParticionamentoPostgreSql.particionada(jdbcTemplate)) {
+            return new ParticionamentoPostgreSql(jdbcTemplate);
+        }
+        return new ParticionamentoPorExclusao(jdbcTemplate, tamanhoLoteExclusao, banco);
+    }
+}
@@ -0,0 +1,97 @@
+package com.projeto.management.service.auditoria;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Particionamento nativo do MySQL: RANGE COLUMNS(data_mudanca) com uma partição pYYYYMM por mês
+ * e a partição pmax (MAXVALUE) no fim, que é reorganizada para abrir os meses seguintes
+ */
+class ParticionamentoMySql implements ParticionamentoAuditoria {
+    
+    private static final String PARTICAO_MAXIMA = "pmax";
+    private static final Pattern PARTICAO_MENSAL = Pattern.compile("p(\\d{6})");
+    
+    private static final String SQL_PARTICOES = """
+        SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+        ORDER BY PARTITION_ORDINAL_POSITION
+        """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    ParticionamentoMySql(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    static boolean particionada(JdbcTemplate jdbcTemplate) {
+        return !particoes(jdbcTemplate).isEmpty();
+    }
+    
+    /**
+     * Os meses novos saem da partição pmax, que fica vazia enquanto houver meses criados à frente,
+     * então a reorganização não copia linhas
+     */
+    @Override
+    public void criarAte(YearMonth atual, YearMonth ultimo) {
+        List<YearMonth> meses = mesesExistentes();
+        YearMonth proximo = meses.isEmpty() ? atual : meses.get(meses.size() - 1).plusMonths(1);
+        if (proximo.isAfter(ultimo)) {
+            return;
+        }
+        
+        StringBuilder novas = new StringBuilder();
+        for (YearMonth mes = proximo; !mes.isAfter(ultimo); mes = mes.plusMonths(1)) {
+            novas.append("PARTITION ").append(nome(mes))
+                .append(" VALUES LESS THAN ('").append(mes.plusMonths(1).atDay(1)).append("'), ");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABELA + " REORGANIZE PARTITION " + PARTICAO_MAXIMA + " INTO ("
+            + novas + "PARTITION " + PARTICAO_MAXIMA + " VALUES LESS THAN (MAXVALUE))");
+    }
+    
+    /**
+     * Cada partição mensal guarda as linhas anteriores ao mês seguinte: a primeira também guarda
+     * as mais antigas, e todas são descartadas juntas quando ela sai da retenção
+     */
+    @Override
+    public int removerAnterioresA(YearMonth primeiroMesRetido) {
+        List<String> antigas = mesesExistentes().stream()
+            .filter(mes -> mes.isBefore(primeiroMesRetido))
+            .map(ParticionamentoMySql::nome)
+            .toList();
+        if (!antigas.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABELA + " DROP PARTITION " + String.join(", ", antigas));
+        }
+        return antigas.size();
+    }
+    
+    @Override
+    public String descricao() {
+        return "partições nativas do MySQL";
+    }
+    
+    private List<YearMonth> mesesExistentes() {
+        return particoes(jdbcTemplate).stream()
+            .map(PARTICAO_MENSAL::matcher)
+            .filter(Matcher::matches)
+            .map(m -> YearMonth.parse(m.group(1), FORMATO_MES))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+    
+    private static List<String> particoes(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList(SQL_PARTICOES, String.class, TABELA).stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
+    private static String nome(YearMonth mes) {
+        return "p" + mes.format(FORMATO_MES);
+    }
+}
@@ -0,0 +1,63 @@
+package com.projeto.management.service.auditoria;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Retenção sem particionamento nativo: exclusão por id em lotes, cada lote em sua própria transação
+ * (auto-commit), para não manter locks longos; não há partições a criar
+ */
+class ParticionamentoPorExclusao implements ParticionamentoAuditoria {
+    
+    private static final String SQL_IDS = "SELECT id FROM " + TABELA + " WHERE data_mudanca < ? ORDER BY id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int tamanhoLote;
+    private final String banco;
+    
+    ParticionamentoPorExclusao(JdbcTemplate jdbcTemplate, int tamanhoLote, String banco) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.banco = banco;
+    }
+    
+    @Override
+    public void criarAte(YearMonth atual, YearMonth ultimo) {
+        // Sem partições
+    }
+    
+    @Override
+    public int removerAnterioresA(YearMonth primeiroMesRetido) {
+        Timestamp limite = Timestamp.valueOf(primeiroMesRetido.atDay(1).atStartOfDay());
+        int removidas = 0;
+        
+        while (true) {
+            List<Long> ids = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SQL_IDS);
+                ps.setTimestamp(1, limite);
+                ps.setMaxRows(tamanhoLote);
+                return ps;
+            }, (rs, linha) -> rs.getLong(1));
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            removidas += jdbcTemplate.update("DELETE FROM " + TABELA + " WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+            if (ids.size() < tamanhoLote) {
+                break;
+            }
+        }
+        return removidas;
+    }
+    
+    @Override
+    public String descricao() {
+        return "exclusão em lotes (" + banco + " sem particionamento nativo em " + TABELA + ")";
+    }
+}
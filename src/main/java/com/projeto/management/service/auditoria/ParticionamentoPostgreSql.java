@@ -0,0 +1,78 @@
+package com.projeto.management.service.auditoria;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Particionamento declarativo do PostgreSQL: PARTITION BY RANGE (data_mudanca) com uma tabela
+ * auditoria_status_pYYYYMM por mês
+ * 
+ * Não há partição padrão: os meses são criados com antecedência e descartados com DROP TABLE.
+ */
+class ParticionamentoPostgreSql implements ParticionamentoAuditoria {
+    
+    private static final Pattern PARTICAO_MENSAL = Pattern.compile(TABELA + "_p(\\d{6})");
+    
+    private static final String SQL_PARTICIONADA = """
+        SELECT COUNT(*) FROM pg_partitioned_table pt
+        JOIN pg_class c ON c.oid = pt.partrelid
+        WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+        """;
+    
+    private static final String SQL_PARTICOES = """
+        SELECT filha.relname FROM pg_inherits i
+        JOIN pg_class filha ON filha.oid = i.inhrelid
+        JOIN pg_class mae ON mae.oid = i.inhparent
+        WHERE mae.relname = ? AND pg_table_is_visible(mae.oid)
+        """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    ParticionamentoPostgreSql(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    static boolean particionada(JdbcTemplate jdbcTemplate) {
+        Integer tabelas = jdbcTemplate.queryForObject(SQL_PARTICIONADA, Integer.class, TABELA);
+        return tabelas != null && tabelas > 0;
+    }
+    
+    /**
+     * IF NOT EXISTS torna a criação idempotente entre réplicas executando ao mesmo tempo
+     */
+    @Override
+    public void criarAte(YearMonth atual, YearMonth ultimo) {
+        for (YearMonth mes = atual; !mes.isAfter(ultimo); mes = mes.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + nome(mes) + " PARTITION OF " + TABELA
+                + " FOR VALUES FROM ('" + mes.atDay(1) + "') TO ('" + mes.plusMonths(1).atDay(1) + "')");
+        }
+    }
+    
+    @Override
+    public int removerAnterioresA(YearMonth primeiroMesRetido) {
+        List<String> antigas = jdbcTemplate.queryForList(SQL_PARTICOES, String.class, TABELA).stream()
+            .map(PARTICAO_MENSAL::matcher)
+            .filter(Matcher::matches)
+            .filter(m -> YearMonth.parse(m.group(1), FORMATO_MES).isBefore(primeiroMesRetido))
+            .map(Matcher::group)
+            .sorted()
+            .toList();
+        for (String particao : antigas) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + particao);
+        }
+        return antigas.size();
+    }
+    
+    @Override
+    public String descricao() {
+        return "partições declarativas do PostgreSQL";
+    }
+    
+    private static String nome(YearMonth mes) {
+        return TABELA + "_p" + mes.format(FORMATO_MES);
+    }
+}
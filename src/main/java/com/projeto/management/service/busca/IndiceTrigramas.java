@@ -0,0 +1,254 @@
+package com.projeto.management.service.busca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas em memória para busca por substring
+ * 
+ * Cada documento (id, texto) é normalizado (minúsculas) e decomposto em trigramas;
+ * a busca percorre a menor lista de ids entre os trigramas do termo e confirma cada candidato
+ * contra o texto armazenado, de modo que o resultado é exato e não apenas aproximado.
+ * Acentos são mantidos: o resultado é o mesmo da consulta LOWER(coluna) LIKE do banco.
+ * 
+ * A memória é limitada pela quantidade máxima de documentos: ao ultrapassá-la o índice
+ * é descartado e marcado como saturado, e as buscas passam a retornar vazio (sem resposta)
+ * para que o chamador recorra ao banco.
+ */
+public final class IndiceTrigramas {
+    
+    private final String nome;
+    private final int capacidadeMaxima;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<Long, String> textos = new HashMap<>();
+    private final Map<Long, ListaIds> postings = new HashMap<>();
+    private boolean saturado;
+    
+    public IndiceTrigramas(String nome, int capacidadeMaxima) {
+        if (capacidadeMaxima <= 0) {
+            throw new IllegalArgumentException("Capacidade máxima do índice deve ser positiva");
+        }
+        this.nome = nome;
+        this.capacidadeMaxima = capacidadeMaxima;
+    }
+    
+    /**
+     * Indexa (ou reindexa) o texto de um documento; texto vazio remove o documento
+     */
+    public void indexar(long id, String texto) {
+        String normalizado = normalizar(texto);
+        if (normalizado.isEmpty()) {
+            remover(id);
+            return;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            if (saturado) {
+                return;
+            }
+            String anterior = textos.get(id);
+            if (normalizado.equals(anterior)) {
+                return;
+            }
+            if (anterior == null && textos.size() >= capacidadeMaxima) {
+                saturar();
+                return;
+            }
+            if (anterior != null) {
+                removerPostings(id, anterior);
+            }
+            textos.put(id, normalizado);
+            for (long trigrama : trigramas(normalizado)) {
+                postings.computeIfAbsent(trigrama, t -> new ListaIds()).adicionar(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove um documento do índice
+     */
+    public void remover(long id) {
+        lock.writeLock().lock();
+        try {
+            String anterior = textos.remove(id);
+            if (anterior != null) {
+                removerPostings(id, anterior);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Busca os ids cujo texto contém o termo, em ordem crescente
+     * @return vazio quando o índice está saturado e não pode responder
+     */
+    public Optional<List<Long>> buscar(String termo) {
+        String normalizado = normalizar(termo);
+        
+        lock.readLock().lock();
+        try {
+            if (saturado) {
+                return Optional.empty();
+            }
+            if (normalizado.isEmpty()) {
+                return Optional.of(List.of());
+            }
+            if (normalizado.length() < 3) {
+                return Optional.of(varrerTextos(normalizado));
+            }
+            
+            ListaIds menor = null;
+            for (long trigrama : trigramas(normalizado)) {
+                ListaIds lista = postings.get(trigrama);
+                if (lista == null) {
+                    return Optional.of(List.of());
+                }
+                if (menor == null || lista.tamanho < menor.tamanho) {
+                    menor = lista;
+                }
+            }
+            
+            List<Long> encontrados = new ArrayList<>();
+            for (int i = 0; i < menor.tamanho; i++) {
+                long id = menor.ids[i];
+                if (textos.get(id).contains(normalizado)) {
+                    encontrados.add(id);
+                }
+            }
+            return Optional.of(encontrados);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Indica se o texto contém o termo, com a mesma normalização do índice
+     * Usado para confirmar candidatos do índice contra o texto atual lido do banco
+     */
+    public static boolean contem(String texto, String termo) {
+        return normalizar(texto).contains(normalizar(termo));
+    }
+    
+    public String getNome() {
+        return nome;
+    }
+    
+    public int getDocumentos() {
+        lock.readLock().lock();
+        try {
+            return textos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getTrigramas() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public boolean isSaturado() {
+        lock.readLock().lock();
+        try {
+            return saturado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Normaliza o texto para comparação: minúsculas e sem espaços nas pontas
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        return texto.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Trigramas distintos do texto, cada um codificado em um long (3 caracteres de 16 bits)
+     */
+    static long[] trigramas(String texto) {
+        if (texto.length() < 3) {
+            return new long[0];
+        }
+        long[] trigramas = new long[texto.length() - 2];
+        for (int i = 0; i < trigramas.length; i++) {
+            trigramas[i] = ((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2);
+        }
+        return Arrays.stream(trigramas).distinct().toArray();
+    }
+    
+    private List<Long> varrerTextos(String termo) {
+        return textos.entrySet().stream()
+            .filter(entrada -> entrada.getValue().contains(termo))
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+    
+    private void removerPostings(long id, String texto) {
+        for (long trigrama : trigramas(texto)) {
+            ListaIds lista = postings.get(trigrama);
+            if (lista != null && lista.remover(id) && lista.tamanho == 0) {
+                postings.remove(trigrama);
+            }
+        }
+    }
+    
+    private void saturar() {
+        saturado = true;
+        textos.clear();
+        postings.clear();
+    }
+    
+    /**
+     * Lista de ids ordenada e sem repetição, armazenada em um long[] compacto
+     */
+    private static final class ListaIds {
+        
+        private long[] ids = new long[4];
+        private int tamanho;
+        
+        void adicionar(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+            int insercao = -posicao - 1;
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, tamanho + (tamanho >> 1) + 1);
+            }
+            System.arraycopy(ids, insercao, ids, insercao + 1, tamanho - insercao);
+            ids[insercao] = id;
+            tamanho++;
+        }
+        
+        boolean remover(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.projeto.management.service.exportacao;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de uma exportação CSV: cabeçalho e extrator do valor
+ */
+public record ColunaCsv<T>(String nome, Function<T, ?> valor) {
+}
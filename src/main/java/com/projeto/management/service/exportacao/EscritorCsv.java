@@ -0,0 +1,55 @@
+package com.projeto.management.service.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV (RFC 4180) com linha de cabeçalho; campos com separador, aspas ou quebra de linha são citados
+ */
+class EscritorCsv<T> implements EscritorExportacao<T> {
+    
+    private final Writer saida;
+    private final List<ColunaCsv<T>> colunas;
+    
+    EscritorCsv(OutputStream saida, List<ColunaCsv<T>> colunas) throws IOException {
+        this.saida = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        this.colunas = colunas;
+        
+        for (int i = 0; i < colunas.size(); i++) {
+            escreverCampo(i, colunas.get(i).nome());
+        }
+        this.saida.write("\r\n");
+    }
+    
+    @Override
+    public void escrever(T registro) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            Object valor = colunas.get(i).valor().apply(registro);
+            escreverCampo(i, valor == null ? "" : valor.toString());
+        }
+        saida.write("\r\n");
+    }
+    
+    @Override
+    public void descarregar() throws IOException {
+        saida.flush();
+    }
+    
+    private void escreverCampo(int indice, String valor) throws IOException {
+        if (indice > 0) {
+            saida.write(',');
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            saida.write(valor);
+            return;
+        }
+        saida.write('"');
+        saida.write(valor.replace("\"", "\"\""));
+        saida.write('"');
+    }
+}
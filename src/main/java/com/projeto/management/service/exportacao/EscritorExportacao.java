@@ -0,0 +1,29 @@
+package com.projeto.management.service.exportacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Escreve registros, um a um, diretamente na saída da exportação
+ * Nenhum registro é retido após ser escrito
+ */
+public interface EscritorExportacao<T> {
+    
+    void escrever(T registro) throws IOException;
+    
+    /**
+     * Envia ao cliente o que já foi escrito (chamado ao fim de cada lote)
+     */
+    void descarregar() throws IOException;
+    
+    static <T> EscritorExportacao<T> para(FormatoExportacao formato, OutputStream saida,
+                                          ObjectMapper objectMapper, List<ColunaCsv<T>> colunas) throws IOException {
+        return switch (formato) {
+            case NDJSON -> new EscritorNdjson<>(saida, objectMapper);
+            case CSV -> new EscritorCsv<>(saida, colunas);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.projeto.management.service.exportacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON: um objeto JSON por linha
+ */
+class EscritorNdjson<T> implements EscritorExportacao<T> {
+    
+    private final OutputStream saida;
+    private final ObjectMapper objectMapper;
+    
+    EscritorNdjson(OutputStream saida, ObjectMapper objectMapper) {
+        this.saida = saida;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public void escrever(T registro) throws IOException {
+        saida.write(objectMapper.writeValueAsBytes(registro));
+        saida.write('\n');
+    }
+    
+    @Override
+    public void descarregar() throws IOException {
+        saida.flush();
+    }
+}
@@ -0,0 +1,25 @@
+package com.projeto.management.service.exportacao;
+
+/**
+ * Formatos suportados na exportação de dados
+ */
+public enum FormatoExportacao {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    private final String mediaType;
+    private final String extensao;
+    
+    FormatoExportacao(String mediaType, String extensao) {
+        this.mediaType = mediaType;
+        this.extensao = extensao;
+    }
+    
+    public String getMediaType() {
+        return mediaType;
+    }
+    
+    public String getExtensao() {
+        return extensao;
+    }
+}
@@ -0,0 +1,188 @@
+package com.projeto.management.service.prazo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória das tarefas em aberto pela data fim prevista
+ * 
+ * As tarefas ficam em baldes por dia dentro de um mapa ordenado: "atrasadas" é o prefixo de dias
+ * anteriores a hoje e "vencendo até" é um intervalo de dias, de modo que cada consulta percorre
+ * apenas os baldes que fazem parte da resposta. Um segundo mapa guarda o prazo de cada tarefa
+ * para que alterações e remoções encontrem o balde sem varredura.
+ * 
+ * Como no índice de busca, a memória é limitada pela quantidade máxima de tarefas: ao ultrapassá-la
+ * o índice é descartado e marcado como saturado, e as consultas retornam vazio para que o chamador
+ * recorra ao banco.
+ */
+public final class IndicePrazos {
+    
+    private final int capacidadeMaxima;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final NavigableMap<LocalDate, NavigableSet<Long>> porDia = new TreeMap<>();
+    private final Map<Long, LocalDate> prazos = new HashMap<>();
+    private boolean saturado;
+    
+    public IndicePrazos(int capacidadeMaxima) {
+        if (capacidadeMaxima <= 0) {
+            throw new IllegalArgumentException("Capacidade máxima do índice deve ser positiva");
+        }
+        this.capacidadeMaxima = capacidadeMaxima;
+    }
+    
+    /**
+     * Registra (ou move) o prazo de uma tarefa em aberto; prazo nulo remove a tarefa
+     */
+    public void registrar(long id, LocalDate prazo) {
+        if (prazo == null) {
+            remover(id);
+            return;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            if (saturado) {
+                return;
+            }
+            LocalDate anterior = prazos.get(id);
+            if (prazo.equals(anterior)) {
+                return;
+            }
+            if (anterior == null && prazos.size() >= capacidadeMaxima) {
+                saturar();
+                return;
+            }
+            if (anterior != null) {
+                retirar(id, anterior);
+            }
+            prazos.put(id, prazo);
+            porDia.computeIfAbsent(prazo, dia -> new TreeSet<>()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove uma tarefa do índice (concluída, cancelada, excluída ou sem prazo)
+     */
+    public void remover(long id) {
+        lock.writeLock().lock();
+        try {
+            LocalDate anterior = prazos.remove(id);
+            if (anterior != null) {
+                retirar(id, anterior);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Tarefas com prazo anterior ao dia informado, por prazo e id
+     * @return vazio quando o índice está saturado e não pode responder
+     */
+    public Optional<List<Long>> vencidasAntesDe(LocalDate dia) {
+        lock.readLock().lock();
+        try {
+            return saturado ? Optional.empty() : Optional.of(achatar(porDia.headMap(dia, false)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Tarefas com prazo entre os dias informados (inclusive), por prazo e id
+     * @return vazio quando o índice está saturado e não pode responder
+     */
+    public Optional<List<Long>> vencendoEntre(LocalDate inicio, LocalDate fim) {
+        lock.readLock().lock();
+        try {
+            if (saturado) {
+                return Optional.empty();
+            }
+            if (fim.isBefore(inicio)) {
+                return Optional.of(List.of());
+            }
+            return Optional.of(achatar(porDia.subMap(inicio, true, fim, true)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Prazos das tarefas entre os dias informados (inclusive), agrupados por dia
+     * Usado na virada do dia para identificar as tarefas que acabaram de vencer
+     */
+    public Map<LocalDate, List<Long>> agruparEntre(LocalDate inicio, LocalDate fim) {
+        lock.readLock().lock();
+        try {
+            Map<LocalDate, List<Long>> grupos = new TreeMap<>();
+            if (!saturado && !fim.isBefore(inicio)) {
+                porDia.subMap(inicio, true, fim, true).forEach((dia, ids) -> grupos.put(dia, List.copyOf(ids)));
+            }
+            return grupos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getTarefas() {
+        lock.readLock().lock();
+        try {
+            return prazos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int getDias() {
+        lock.readLock().lock();
+        try {
+            return porDia.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public boolean isSaturado() {
+        lock.readLock().lock();
+        try {
+            return saturado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void retirar(long id, LocalDate prazo) {
+        NavigableSet<Long> ids = porDia.get(prazo);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                porDia.remove(prazo);
+            }
+        }
+    }
+    
+    private static List<Long> achatar(NavigableMap<LocalDate, NavigableSet<Long>> dias) {
+        List<Long> ids = new ArrayList<>();
+        dias.values().forEach(ids::addAll);
+        return ids;
+    }
+    
+    private void saturar() {
+        saturado = true;
+        porDia.clear();
+        prazos.clear();
+    }
+}
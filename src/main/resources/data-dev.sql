@@ -1,4 +1,5 @@
 -- Script SQL para dados de exemplo em ambiente de desenvolvimento
+-- Apenas H2: os ids de tarefa usam NEXT VALUE FOR tarefa_seq (PostgreSQL/MySQL: database/data.sql)
 -- Inserir projetos de exemplo
 INSERT INTO projeto (nome, descricao, data_inicio, data_fim_prevista, status, prioridade, orcamento, responsavel, usuario_criacao) VALUES
 ('E-commerce Platform', 'Desenvolvimento de plataforma de e-commerce completa com painel administrativo', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 150000.00, 'João Silva', 'admin'),
@@ -7,26 +8,26 @@ INSERT INTO projeto (nome, descricao, data_inicio, data_fim_prevista, status, pr
 ('Sistema de Relatórios', 'Desenvolvimento de sistema de relatórios avançados com dashboards', '2025-11-01', '2026-01-31', 'PLANEJAMENTO', 'MEDIA', 60000.00, 'Ana Lima', 'admin');
 
 -- Inserir tarefas de exemplo
-INSERT INTO tarefa (titulo, descricao, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, horas_trabalhadas, percentual_conclusao, responsavel, id_projeto, usuario_criacao) VALUES
+INSERT INTO tarefa (id, titulo, descricao, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, horas_trabalhadas, percentual_conclusao, responsavel, id_projeto, usuario_criacao) VALUES
 -- Tarefas do E-commerce Platform (ID 1)
-('Análise de Requisitos', 'Levantamento completo dos requisitos funcionais e não funcionais', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
-('Design System e UI/UX', 'Criação do design system e protótipos das interfaces', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
-('API Backend - Autenticação', 'Desenvolvimento da API de autenticação e autorização', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
-('API Backend - Catálogo', 'Desenvolvimento da API de gerenciamento do catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
-('Frontend - Página Inicial', 'Desenvolvimento da página inicial do e-commerce', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
-('Testes Automatizados', 'Implementação da suite de testes automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Análise de Requisitos', 'Levantamento completo dos requisitos funcionais e não funcionais', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Design System e UI/UX', 'Criação do design system e protótipos das interfaces', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'API Backend - Autenticação', 'Desenvolvimento da API de autenticação e autorização', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'API Backend - Catálogo', 'Desenvolvimento da API de gerenciamento do catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Frontend - Página Inicial', 'Desenvolvimento da página inicial do e-commerce', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Testes Automatizados', 'Implementação da suite de testes automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
 
 -- Tarefas da Migração Legacy (ID 2)
-('Mapeamento da Arquitetura Atual', 'Documentação detalhada da arquitetura legada', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
-('Planejamento da Nova Arquitetura', 'Design da nova arquitetura de microserviços', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
-('Setup da Infraestrutura', 'Configuração da infraestrutura para os microserviços', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Mapeamento da Arquitetura Atual', 'Documentação detalhada da arquitetura legada', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Planejamento da Nova Arquitetura', 'Design da nova arquitetura de microserviços', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Setup da Infraestrutura', 'Configuração da infraestrutura para os microserviços', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
 
 -- Tarefas do App Mobile (ID 3)
-('Prototipação Mobile', 'Criação dos protótipos para iOS e Android', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
-('Setup React Native', 'Configuração inicial do projeto React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
-('Telas de Autenticação', 'Desenvolvimento das telas de login e cadastro', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
-('Integração com APIs', 'Integração do app com as APIs do backend', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Prototipação Mobile', 'Criação dos protótipos para iOS e Android', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Setup React Native', 'Configuração inicial do projeto React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Telas de Autenticação', 'Desenvolvimento das telas de login e cadastro', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Integração com APIs', 'Integração do app com as APIs do backend', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
 
 -- Tarefas do Sistema de Relatórios (ID 4)
-('Especificação dos Relatórios', 'Definição detalhada dos relatórios necessários', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
-('Configuração do BI', 'Setup da ferramenta de Business Intelligence', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
+(NEXT VALUE FOR tarefa_seq, 'Especificação dos Relatórios', 'Definição detalhada dos relatórios necessários', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
+(NEXT VALUE FOR tarefa_seq, 'Configuração do BI', 'Setup da ferramenta de Business Intelligence', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
@@ -0,0 +1,106 @@
+package com.projeto.application;
+
+import com.projeto.application.projeto.ProjetoApplicationService;
+import com.projeto.application.projeto.commands.AlterarStatusProjetoCommand;
+import com.projeto.application.projeto.commands.CriarProjetoCommand;
+import com.projeto.application.tarefa.TarefaApplicationService;
+import com.projeto.application.tarefa.commands.AlterarStatusTarefaCommand;
+import com.projeto.application.tarefa.commands.CriarTarefaCommand;
+import com.projeto.infrastructure.events.EventPublisher;
+import com.projeto.infrastructure.persistence.jdbc.JdbcProjetoRepository;
+import com.projeto.infrastructure.persistence.jdbc.JdbcTarefaRepository;
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.AuditoriaStatusRepository;
+import com.projeto.management.service.AuditoriaStatusService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Auditoria das mudanças de status feitas pelos casos de uso do domínio
+ * Os eventos de Tarefa e Projeto chegam ao AuditoriaStatusService pelo contexto da aplicação
+ * e são gravados após o commit da transação do caso de uso
+ */
+@DataJpaTest
+@Import({ProjetoApplicationService.class, TarefaApplicationService.class, JdbcProjetoRepository.class,
+         JdbcTarefaRepository.class, AuditoriaStatusService.class})
+@DisplayName("Auditoria de status dos casos de uso")
+class AuditoriaStatusCasosDeUsoTest {
+    
+    private static final String USUARIO = "admin";
+    
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan("com.projeto.management.model.entity")
+    @EnableJpaRepositories(basePackageClasses = AuditoriaStatusRepository.class)
+    static class Configuracao {
+    }
+    
+    @MockBean
+    private EventPublisher eventPublisher;
+    
+    @Autowired
+    private ProjetoApplicationService projetoService;
+    
+    @Autowired
+    private TarefaApplicationService tarefaService;
+    
+    @Autowired
+    private AuditoriaStatusService auditoriaStatusService;
+    
+    @Autowired
+    private AuditoriaStatusRepository auditoriaStatusRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    @DisplayName("Deve auditar as mudanças de status feitas pelos application services após o commit")
+    void deveAuditarMudancasDeStatusDosCasosDeUso() {
+        Long projetoId = projetoService.criarProjeto(new CriarProjetoCommand(
+            "Projeto Auditado", "Descrição", LocalDate.now(), LocalDate.now().plusDays(30), "Maria", USUARIO));
+        projetoService.alterarStatus(new AlterarStatusProjetoCommand(projetoId, "EM_ANDAMENTO", null, USUARIO));
+        Long tarefaId = tarefaService.criarTarefa(new CriarTarefaCommand(
+            "Tarefa Auditada", "Descrição", "ALTA", LocalDate.now().plusDays(10), projetoId, "Maria", USUARIO));
+        tarefaService.alterarStatus(new AlterarStatusTarefaCommand(tarefaId, "EM_ANDAMENTO", null, USUARIO));
+        
+        // Antes do commit nada é enfileirado
+        assertThat(auditoriaStatusService.getTamanhoFila()).isZero();
+        
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            auditoriaStatusService.stop();
+            
+            var registros = auditoriaStatusRepository.findAll().stream()
+                .sorted(Comparator.comparing(AuditoriaStatus::getTabela))
+                .toList();
+            assertThat(registros).extracting(AuditoriaStatus::getTabela, AuditoriaStatus::getIdRegistro,
+                    AuditoriaStatus::getStatusNovo, AuditoriaStatus::getObservacao)
+                .containsExactly(
+                    tuple(TabelaAuditoria.PROJETO, projetoId, "EM_ANDAMENTO", null),
+                    tuple(TabelaAuditoria.TAREFA, tarefaId, "EM_ANDAMENTO", null));
+        } finally {
+            auditoriaStatusService.start();
+            auditoriaStatusRepository.deleteAllInBatch();
+            jdbcTemplate.update("DELETE FROM tarefa WHERE id = ?", tarefaId);
+            jdbcTemplate.update("DELETE FROM projeto WHERE id = ?", projetoId);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.projeto.application.projeto.commands.CriarProjetoCommand;
 import com.projeto.application.projeto.commands.AlterarStatusProjetoCommand;
 import com.projeto.domain.projeto.Projeto;
 import com.projeto.domain.projeto.ProjetoRepository;
+import com.projeto.domain.projeto.events.ProjetoEvent;
 import com.projeto.domain.projeto.valueobjects.StatusProjeto;
 import com.projeto.infrastructure.events.EventPublisher;
 
@@ -16,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -39,6 +41,9 @@ class ProjetoApplicationServiceTest {
     @Mock
     private EventPublisher eventPublisher;
     
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    
     @InjectMocks
     private ProjetoApplicationService service;
     
@@ -122,7 +127,9 @@ class ProjetoApplicationServiceTest {
             service.criarProjeto(command);
             
             // Then
-            verify(eventPublisher, atLeastOnce()).publish(any());
+            // Eventos do caso de uso publicados em um único lote
+            verify(eventPublisher).publishAll(argThat(eventos ->
+                eventos.stream().anyMatch(ProjetoEvent.ProjetoCriado.class::isInstance)));
         }
     }
     
@@ -53,6 +53,23 @@ class ProjetoTest {
             assertThat(projeto.getAuditInfo().criadoPor()).isEqualTo(USUARIO);
         }
         
+        @Test
+        @DisplayName("Deve criar projeto sem ID até a persistência")
+        void deveCriarProjetoSemIdAtePersistencia() {
+            // When
+            var projeto = Projeto.criar(
+                NOME_PROJETO, DESCRICAO, DATA_INICIO, DATA_FIM, RESPONSAVEL, USUARIO
+            );
+            var outro = Projeto.criar(
+                NOME_PROJETO, DESCRICAO, DATA_INICIO, DATA_FIM, RESPONSAVEL, USUARIO
+            );
+            
+            // Then
+            assertThat(projeto.getId()).isNull();
+            assertThat(projeto.isNova()).isTrue();
+            assertThat(projeto).isEqualTo(projeto).isNotEqualTo(outro);
+        }
+        
         @Test
         @DisplayName("Deve gerar evento de projeto criado")
         void deveGerarEventoDeProjetoCriado() {
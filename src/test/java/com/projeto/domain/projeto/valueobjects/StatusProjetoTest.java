@@ -52,6 +52,14 @@ class StatusProjetoTest {
             assertThat(status.valor()).isEqualTo("PLANEJAMENTO");
         }
         
+        @Test
+        @DisplayName("Deve devolver a instância única do status")
+        void deveDevolverInstanciaUnica() {
+            // When / Then
+            assertThat(StatusProjeto.of("PAUSADO")).isSameAs(StatusProjeto.PAUSADO);
+            assertThat(StatusProjeto.of("pausado")).isSameAs(StatusProjeto.PAUSADO);
+        }
+        
         @Test
         @DisplayName("Deve lançar exceção para status inválido")
         void deveLancarExcecaoParaStatusInvalido() {
@@ -116,6 +124,29 @@ class StatusProjetoTest {
             assertThat(statusAtual.podeSerAlteradoPara(StatusProjeto.CANCELADO)).isFalse();
         }
         
+        @Test
+        @DisplayName("EM_ANDAMENTO e PAUSADO seguem a tabela de transições")
+        void emAndamentoEPausadoSeguemTabela() {
+            // When / Then
+            assertThat(StatusProjeto.EM_ANDAMENTO.podeSerAlteradoPara(StatusProjeto.CONCLUIDO)).isTrue();
+            assertThat(StatusProjeto.EM_ANDAMENTO.podeSerAlteradoPara(StatusProjeto.PAUSADO)).isTrue();
+            assertThat(StatusProjeto.PAUSADO.podeSerAlteradoPara(StatusProjeto.EM_ANDAMENTO)).isTrue();
+            assertThat(StatusProjeto.PAUSADO.podeSerAlteradoPara(StatusProjeto.CONCLUIDO)).isFalse();
+            assertThat(StatusProjeto.CANCELADO.podeSerAlteradoPara(StatusProjeto.CANCELADO)).isFalse();
+        }
+        
+        @Test
+        @DisplayName("Instância criada fora de of() deve seguir as mesmas regras")
+        void instanciaForaDeOfDeveSeguirMesmasRegras() {
+            // Given
+            var statusAtual = new StatusProjeto("EM_ANDAMENTO");
+            
+            // When / Then
+            assertThat(statusAtual.podeSerAlteradoPara(new StatusProjeto("CONCLUIDO"))).isTrue();
+            assertThat(statusAtual.estaAtivo()).isTrue();
+            assertThat(new StatusProjeto("CANCELADO").estaFinalizado()).isTrue();
+        }
+        
         @Test
         @DisplayName("Deve identificar status ativo corretamente")
         void deveIdentificarStatusAtivo() {
@@ -0,0 +1,136 @@
+package com.projeto.infrastructure.codec;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.infrastructure.config.JacksonConfig;
+import com.projeto.infrastructure.events.kafka.KafkaEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes do formato binário dos eventos: ida e volta, evolução de esquema pelo registro em arquivo
+ * e escolha do formato pelo deserializer
+ */
+@DisplayName("Codec binário de eventos")
+class CodecBinarioEventosTest {
+    
+    @TempDir
+    Path diretorio;
+    
+    private Path arquivo;
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    
+    @BeforeEach
+    void setUp() {
+        arquivo = diretorio.resolve("esquemas.registro");
+    }
+    
+    @Test
+    @DisplayName("Deve ler de volta todos os eventos de domínio, inclusive campos nulos")
+    void deveLerDeVoltaTodosOsEventosDeDominio() {
+        var codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo));
+        var agora = LocalDateTime.of(2024, 3, 10, 14, 30, 15, 123_456_789);
+        List<Object> eventos = List.of(
+            new TarefaEvent.TarefaCriada(1L, "Tarefa", 10L, agora),
+            new TarefaEvent.TarefaBloqueada(2L, "Tarefa", null, agora),
+            new TarefaEvent.TarefaAtrasada(3L, LocalDate.of(1969, 12, 31), agora),
+            new TarefaEvent.PercentualAtualizado(-4L, "Ação em ÇÃO", 0, Integer.MAX_VALUE, agora),
+            new ProjetoEvent.ProjetoCancelado(Long.MAX_VALUE, "Projeto", "Sem orçamento", agora),
+            new ProjetoEvent.ProjetoAtualizado(Long.MIN_VALUE, "", null)
+        );
+        
+        var saida = new SaidaBinaria(16);
+        for (Object evento : eventos) {
+            EventoCodificado codificado = codec.codificar(evento, saida);
+            assertThat(codec.decodificar(codificado.esquemaId(), codificado.dados())).isEqualTo(evento);
+        }
+    }
+    
+    @Test
+    @DisplayName("Deve ocupar menos bytes que o JSON")
+    void deveOcuparMenosBytesQueJson() throws Exception {
+        var codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo));
+        var evento = new TarefaEvent.PercentualAtualizado(123L, "Implementar autenticação", 30, 60);
+        
+        assertThat(codec.codificar(evento, new SaidaBinaria()).dados().length)
+            .isLessThan(objectMapper.writeValueAsBytes(evento).length / 2);
+    }
+    
+    @Test
+    @DisplayName("Deve manter os IDs de esquema ao recarregar o registro")
+    void deveManterIdsAoRecarregarRegistro() {
+        var evento = new ProjetoEvent.ProjetoCriado(1L, "Projeto");
+        int id = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo))
+            .codificar(evento, new SaidaBinaria()).esquemaId();
+        
+        var recarregado = new RegistroEsquemasArquivo(arquivo);
+        
+        assertThat(recarregado.buscar(id)).contains(EsquemaEvento.de(ProjetoEvent.ProjetoCriado.class));
+        assertThat(recarregado.registrar(EsquemaEvento.de(ProjetoEvent.ProjetoCriado.class))).isEqualTo(id);
+    }
+    
+    @Test
+    @DisplayName("Deve ler evento escrito com versão anterior compatível do esquema")
+    void deveLerEventoDeVersaoAnteriorCompativel() throws Exception {
+        Files.writeString(arquivo, "7=ProjetoCriado(projetoId:LONGO,nome:TEXTO,legado:TEXTO,ocorridoEm:DATA_HORA)\n");
+        var codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo));
+        // Mapa de nulos (ocorridoEm), projetoId 5 em zigzag, nome "A" e o campo legado "x", descartado
+        byte[] dados = {0b1000, 10, 1, 'A', 1, 'x'};
+        
+        assertThat(codec.decodificar(7, dados)).isEqualTo(new ProjetoEvent.ProjetoCriado(5L, "A", null));
+        assertThatThrownBy(() -> codec.decodificar(7, new byte[] {0b1000, 10, 5, 'A'}))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decodificar(99, dados))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("desconhecido");
+    }
+    
+    @Test
+    @DisplayName("Deve deixar em JSON o evento com esquema incompatível com o registrado")
+    void deveDeixarEmJsonEventoComEsquemaIncompativel() throws Exception {
+        Files.writeString(arquivo, "1=ProjetoCriado(projetoId:TEXTO,nome:TEXTO,ocorridoEm:DATA_HORA)\n");
+        
+        var codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo));
+        
+        assertThat(codec.suporta(new ProjetoEvent.ProjetoCriado(1L, "Projeto"))).isFalse();
+        assertThat(codec.suporta(new ProjetoEvent.ProjetoIniciado(1L, "Projeto"))).isTrue();
+        assertThat(Files.readAllLines(arquivo)).noneMatch(linha -> linha.contains("ProjetoCriado(projetoId:LONGO"));
+    }
+    
+    @Test
+    @DisplayName("Deserializer deve escolher o formato pelo cabeçalho content-type")
+    void deserializerDeveEscolherFormatoPeloContentType() throws Exception {
+        var codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(arquivo));
+        var deserializer = new EventoDeserializer(codec, objectMapper);
+        var evento = new TarefaEvent.TarefaIniciada(1L, "Tarefa", 2L);
+        
+        EventoCodificado codificado = codec.codificar(evento, new SaidaBinaria());
+        var binario = new RecordHeaders()
+            .add(FormatoEvento.HEADER_CONTENT_TYPE, bytes(FormatoEvento.BINARIO.contentType()))
+            .add(CodecBinarioEventos.HEADER_ESQUEMA_ID, bytes(Integer.toString(codificado.esquemaId())));
+        assertThat(deserializer.deserialize("tarefa-events", binario, codificado.dados())).isEqualTo(evento);
+        
+        // Sem content-type (mensagens anteriores ao formato binário) o corpo é JSON
+        var json = new RecordHeaders().add(KafkaEventPublisher.HEADER_EVENT_TYPE, bytes("TarefaIniciada"));
+        assertThat(deserializer.deserialize("tarefa-events", json, objectMapper.writeValueAsBytes(evento)))
+            .isEqualTo(evento);
+    }
+    
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+}
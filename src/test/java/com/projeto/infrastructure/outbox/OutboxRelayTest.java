@@ -0,0 +1,158 @@
+package com.projeto.infrastructure.outbox;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.infrastructure.config.JacksonConfig;
+import com.projeto.infrastructure.events.CoalescenciaEventos;
+import com.projeto.infrastructure.events.kafka.KafkaEventPublisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes do outbox: gravação na transação do caso de uso (evento a evento ou em lote), envio ordenado
+ * por chave e limpeza
+ * Sem transação de teste: cada ciclo do relay faz o seu próprio commit
+ */
+@JdbcTest
+@Import(OutboxStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Outbox de eventos")
+class OutboxRelayTest {
+    
+    @SpringBootConfiguration
+    static class Configuracao {
+    }
+    
+    @Autowired
+    private OutboxStore store;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private KafkaEventPublisher kafka;
+    private OutboxRelay relay;
+    private OutboxEventPublisher publisher;
+    private TransactionTemplate transacao;
+    
+    @BeforeEach
+    void setUp() {
+        kafka = mock(KafkaEventPublisher.class);
+        when(kafka.publishSerialized(anyString(), anyString(), anyString(), anyString(), anyLong()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        transacao = new TransactionTemplate(transactionManager);
+        relay = new OutboxRelay(store, kafka, transacao, new OutboxProperties(true, 100, 50, 1000, 7, 2));
+        publisher = new OutboxEventPublisher(store, relay, new JacksonConfig().objectMapper());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM " + OutboxStore.TABELA);
+    }
+    
+    @Test
+    @DisplayName("Deve gravar somente eventos de transações confirmadas")
+    void deveGravarSomenteEventosDeTransacoesConfirmadas() {
+        transacao.executeWithoutResult(status -> publisher.publish(new ProjetoEvent.ProjetoCriado(1L, "Confirmado")));
+        transacao.executeWithoutResult(status -> {
+            publisher.publish(new ProjetoEvent.ProjetoCriado(2L, "Desfeito"));
+            status.setRollbackOnly();
+        });
+        
+        assertThat(relay.retransmitir()).isEqualTo(1);
+        
+        verify(kafka).publishSerialized(eq("projeto-events"), eq("projeto-1"), contains("Confirmado"),
+                                        eq("ProjetoCriado"), anyLong());
+        verifyNoMoreInteractions(kafka);
+        assertThat(relay.retransmitir()).isZero();
+        assertThat(relay.getAtrasoMs()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Deve reter os eventos seguintes da mesma chave após uma falha")
+    void deveReterEventosSeguintesDaMesmaChaveAposFalha() {
+        when(kafka.publishSerialized(anyString(), eq("tarefa-1"), contains("\"novoPercentual\":10"), anyString(), anyLong()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+        transacao.executeWithoutResult(status -> {
+            publisher.publish(new TarefaEvent.PercentualAtualizado(1L, "Tarefa", 0, 10));
+            publisher.publish(new TarefaEvent.PercentualAtualizado(2L, "Outra", 0, 50));
+            publisher.publish(new TarefaEvent.PercentualAtualizado(1L, "Tarefa", 10, 20));
+        });
+        
+        assertThat(relay.retransmitir()).isEqualTo(1);
+        assertThat(pendentes()).containsExactly("tarefa-1", "tarefa-1");
+        
+        reset(kafka);
+        when(kafka.publishSerialized(anyString(), anyString(), anyString(), anyString(), anyLong()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        assertThat(relay.retransmitir()).isEqualTo(2);
+        var ordem = inOrder(kafka);
+        ordem.verify(kafka).publishSerialized(anyString(), eq("tarefa-1"), contains("\"novoPercentual\":10"), anyString(), anyLong());
+        ordem.verify(kafka).publishSerialized(anyString(), eq("tarefa-1"), contains("\"novoPercentual\":20"), anyString(), anyLong());
+        assertThat(pendentes()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve gravar o lote do caso de uso fundindo percentuais consecutivos da mesma tarefa")
+    void deveGravarLoteFundindoPercentuaisConsecutivosDaMesmaTarefa() {
+        transacao.executeWithoutResult(status -> publisher.publishAll(List.of(
+            new TarefaEvent.PercentualAtualizado(1L, "Tarefa", 0, 10),
+            new TarefaEvent.PercentualAtualizado(1L, "Tarefa", 10, 30),
+            new TarefaEvent.PercentualAtualizado(2L, "Outra", 0, 50),
+            new TarefaEvent.PercentualAtualizado(1L, "Tarefa", 30, 40),
+            new TarefaEvent.TarefaAtualizada(1L, "Tarefa")
+        ), CoalescenciaEventos.PERCENTUAL_POR_TAREFA));
+        
+        assertThat(pendentes()).containsExactly("tarefa-1", "tarefa-2", "tarefa-1", "tarefa-1");
+        assertThat(jdbcTemplate.queryForList("SELECT payload FROM " + OutboxStore.TABELA + " ORDER BY id", String.class)
+            .get(0))
+            .contains("\"percentualAnterior\":0", "\"novoPercentual\":30");
+        
+        assertThat(relay.retransmitir()).isEqualTo(4);
+        assertThat(pendentes()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Deve remover em lotes os eventos enviados antes da retenção")
+    void deveRemoverEmLotesEventosEnviadosAntesDaRetencao() {
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(new ProjetoEvent.ProjetoCriado((long) i, "Projeto " + i));
+        }
+        publisher.publish(new ProjetoEvent.ProjetoCriado(9L, "Pendente"));
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + OutboxStore.TABELA + " ORDER BY id", Long.class);
+        store.marcarEnviados(ids.subList(0, 3), LocalDateTime.now().minusDays(8));
+        
+        relay.limpar();
+        
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM " + OutboxStore.TABELA, Long.class))
+            .containsExactly(ids.get(3));
+    }
+    
+    private List<String> pendentes() {
+        return jdbcTemplate.queryForList("SELECT chave FROM " + OutboxStore.TABELA
+            + " WHERE enviado_em IS NULL ORDER BY id", String.class);
+    }
+}
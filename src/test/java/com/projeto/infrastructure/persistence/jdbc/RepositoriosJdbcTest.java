@@ -0,0 +1,172 @@
+package com.projeto.infrastructure.persistence.jdbc;
+
+import com.projeto.domain.projeto.Projeto;
+import com.projeto.domain.tarefa.Tarefa;
+import com.projeto.domain.tarefa.valueobjects.PrioridadeTarefa;
+import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes dos repositórios JDBC sobre as tabelas do modelo legado
+ * O schema é gerado pelo Hibernate a partir das entidades legadas
+ */
+@DataJpaTest
+@Import({JdbcTarefaRepository.class, JdbcProjetoRepository.class})
+@DisplayName("Repositórios JDBC")
+class RepositoriosJdbcTest {
+    
+    private static final String USUARIO = "admin";
+    
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan("com.projeto.management.model.entity")
+    static class Configuracao {
+    }
+    
+    @Autowired
+    private JdbcTarefaRepository tarefaRepository;
+    
+    @Autowired
+    private JdbcProjetoRepository projetoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = projetoRepository.save(Projeto.criar(
+            "Projeto JDBC", "Descrição", LocalDate.now(), LocalDate.now().plusDays(30), "Maria", USUARIO));
+    }
+    
+    @Test
+    @DisplayName("Deve gerar IDs na inserção e reconstituir os agregados")
+    void deveGerarIdsNaInsercaoEReconstituirAgregados() {
+        var nova = tarefa("Tarefa", PrioridadeTarefa.ALTA);
+        assertThat(nova.isNova()).isTrue();
+        
+        var salva = tarefaRepository.save(nova);
+        
+        assertThat(projeto.getId()).isNotNull();
+        assertThat(salva.getId()).isNotNull();
+        var lida = tarefaRepository.findById(salva.getId()).orElseThrow();
+        assertThat(lida).isEqualTo(salva);
+        assertThat(lida.getTitulo()).isEqualTo("Tarefa");
+        assertThat(lida.getStatus()).isEqualTo(StatusTarefa.ABERTA);
+        assertThat(lida.getPrioridade()).isEqualTo(PrioridadeTarefa.ALTA);
+        assertThat(lida.getProjetoId()).isEqualTo(projeto.getId());
+        assertThat(lida.getAuditInfo().criadoPor()).isEqualTo(USUARIO);
+        assertThat(projetoRepository.findById(projeto.getId()).orElseThrow().getNome()).isEqualTo("Projeto JDBC");
+    }
+    
+    @Test
+    @DisplayName("Deve inserir e atualizar em lote mantendo a ordem")
+    void deveInserirEAtualizarEmLoteMantendoOrdem() {
+        var existente = tarefaRepository.save(tarefa("Existente", PrioridadeTarefa.BAIXA));
+        existente.atualizarPercentual(40, "joao");
+        
+        var salvas = tarefaRepository.saveAll(List.of(
+            tarefa("Primeira", PrioridadeTarefa.MEDIA), existente, tarefa("Terceira", PrioridadeTarefa.MEDIA)));
+        
+        assertThat(salvas).extracting(Tarefa::getTitulo).containsExactly("Primeira", "Existente", "Terceira");
+        assertThat(salvas).extracting(Tarefa::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(salvas.get(1).getId()).isEqualTo(existente.getId());
+        
+        var atualizada = tarefaRepository.findById(existente.getId()).orElseThrow();
+        assertThat(atualizada.getPercentualConclusao()).isEqualTo(40);
+        assertThat(atualizada.getAuditInfo().atualizadoPor()).isEqualTo("joao");
+        assertThat(tarefaRepository.countByProjetoId(projeto.getId())).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Deve paginar e ordenar no SQL")
+    void devePaginarEOrdenarNoSql() {
+        tarefaRepository.saveAll(List.of(
+            tarefa("A", PrioridadeTarefa.BAIXA), tarefa("B", PrioridadeTarefa.ALTA),
+            tarefa("C", PrioridadeTarefa.CRITICA), tarefa("D", PrioridadeTarefa.MEDIA)));
+        
+        var pagina = tarefaRepository.findByProjetoId(projeto.getId(),
+            PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "titulo")));
+        
+        assertThat(pagina.getContent()).extracting(Tarefa::getTitulo).containsExactly("B", "A");
+        assertThat(pagina.getTotalElements()).isEqualTo(4);
+        assertThat(tarefaRepository.findTarefasAltaPrioridade(PageRequest.of(0, 10)).getContent())
+            .extracting(Tarefa::getTitulo).containsExactly("B", "C");
+        assertThatThrownBy(() -> tarefaRepository.findAll(PageRequest.of(0, 10, Sort.by("descricao"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("Deve ler EM_REVISAO como em andamento e preservá-lo na atualização")
+    void deveLerEmRevisaoComoEmAndamentoEPreservarNaAtualizacao() {
+        var tarefa = tarefaRepository.save(tarefa("Revisão", PrioridadeTarefa.MEDIA));
+        jdbcTemplate.update("UPDATE tarefa SET status = 'EM_REVISAO' WHERE id = ?", tarefa.getId());
+        
+        var lida = tarefaRepository.findById(tarefa.getId()).orElseThrow();
+        assertThat(lida.getStatus()).isEqualTo(StatusTarefa.EM_ANDAMENTO);
+        assertThat(tarefaRepository.countByStatus(StatusTarefa.EM_ANDAMENTO)).isEqualTo(1);
+        
+        lida.atualizar("Revisão final", null, PrioridadeTarefa.ALTA, null, "Maria", USUARIO);
+        tarefaRepository.save(lida);
+        
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM tarefa WHERE id = ?", String.class, tarefa.getId()))
+            .isEqualTo("EM_REVISAO");
+    }
+    
+    @Test
+    @DisplayName("Deve rejeitar a gravação de uma tarefa lida antes de outra escrita")
+    void deveRejeitarGravacaoComVersaoDesatualizada() {
+        var salva = tarefaRepository.save(tarefa("Concorrente", PrioridadeTarefa.MEDIA));
+        var primeira = tarefaRepository.findById(salva.getId()).orElseThrow();
+        var segunda = tarefaRepository.findById(salva.getId()).orElseThrow();
+        
+        primeira.atualizarPercentual(30, "joao");
+        var gravada = tarefaRepository.save(primeira);
+        segunda.atualizarPercentual(60, "maria");
+        
+        assertThatThrownBy(() -> tarefaRepository.save(segunda))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(gravada.getVersao()).isEqualTo(primeira.getVersao() + 1);
+        
+        // O agregado devolvido carrega a nova versão e pode ser gravado de novo
+        gravada.atualizarPercentual(50, "joao");
+        tarefaRepository.save(gravada);
+        assertThat(tarefaRepository.findById(salva.getId()).orElseThrow().getPercentualConclusao()).isEqualTo(50);
+    }
+    
+    @Test
+    @DisplayName("Deve excluir logicamente")
+    void deveExcluirLogicamente() {
+        var tarefa = tarefaRepository.save(tarefa("Excluída", PrioridadeTarefa.MEDIA));
+        
+        tarefaRepository.delete(tarefa);
+        projetoRepository.delete(projeto);
+        
+        assertThat(tarefaRepository.findById(tarefa.getId())).isEmpty();
+        assertThat(projetoRepository.existsByNome("Projeto JDBC")).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tarefa", Long.class)).isEqualTo(1);
+    }
+    
+    private Tarefa tarefa(String titulo, PrioridadeTarefa prioridade) {
+        return Tarefa.criar(titulo, null, prioridade, LocalDate.now().plusDays(7), projeto.getId(), "Maria", USUARIO);
+    }
+}
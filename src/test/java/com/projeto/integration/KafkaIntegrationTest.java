@@ -23,8 +23,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -134,6 +137,33 @@ class KafkaIntegrationTest {
         assertThat(record.key()).isEqualTo("projeto-123");
     }
     
+    @Test
+    @DisplayName("Deve publicar lote de eventos em ordem com um único futuro")
+    void devePublicarLoteDeEventosEmOrdemComUmUnicoFuturo() throws Exception {
+        // Given
+        var eventos = List.of(
+            new ProjetoEvent.ProjetoCriado(7L, "Lote", LocalDateTime.now()),
+            new ProjetoEvent.ProjetoIniciado(7L, "Lote", LocalDateTime.now()),
+            new ProjetoEvent.ProjetoFinalizado(7L, "Lote", LocalDateTime.now())
+        );
+        consumer.subscribe(Collections.singletonList("projeto-events"));
+        
+        // When
+        eventPublisher.publishAll(eventos).get(10, TimeUnit.SECONDS);
+        
+        // Then
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
+        
+        assertThat(records.count()).isEqualTo(3);
+        var valores = new ArrayList<String>();
+        records.forEach(record -> {
+            assertThat(record.key()).isEqualTo("projeto-7");
+            valores.add(record.value());
+        });
+        assertThat(objectMapper.readValue(valores.get(0), ProjetoEvent.ProjetoCriado.class).projetoId()).isEqualTo(7L);
+        assertThat(objectMapper.readValue(valores.get(2), ProjetoEvent.ProjetoFinalizado.class).nome()).isEqualTo("Lote");
+    }
+    
     @Test
     @DisplayName("Deve lidar com erro de serialização graciosamente")
     void deveLidarComErroSerializacaoGraciosamente() {
@@ -0,0 +1,152 @@
+package com.projeto.management.benchmark;
+
+import com.projeto.management.ProjetoManagementApplication;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.service.AgrupamentoProgressoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Commits por segundo das atualizações de percentual com e sem o agrupamento em lotes
+ * 
+ * 32 threads atualizam 200 tarefas em um H2 em arquivo (com escrita em disco a cada commit).
+ * O JMH informa as atualizações por segundo; ao fim de cada iteração são impressos os commits
+ * por segundo e os pedidos por commit (sem agrupamento, um commit por atualização).
+ * 
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.projeto.management.benchmark.AgrupamentoProgressoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class AgrupamentoProgressoBenchmark {
+    
+    private static final int TAREFAS = 200;
+    
+    @Param({"false", "true"})
+    private boolean agrupado;
+    
+    @Param({"5"})
+    private int janelaMs;
+    
+    private ConfigurableApplicationContext contexto;
+    private AgrupamentoProgressoService agrupamentoProgressoService;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Long> ids = new ArrayList<>();
+    
+    private long inicioIteracao;
+    private double commitsInicio;
+    private double pedidosInicio;
+    
+    @Setup
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(ProjetoManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:file:./target/benchmark/progresso;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.datasource.hikari.maximum-pool-size=16",
+                "progresso.agrupamento.habilitado=" + agrupado,
+                "progresso.agrupamento.janela-ms=" + janelaMs,
+                "logging.level.root=WARN")
+            .run();
+        agrupamentoProgressoService = contexto.getBean(AgrupamentoProgressoService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        agrupamentoProgressoService.bindTo(meterRegistry);
+        
+        Projeto projeto = contexto.getBean(ProjetoRepository.class).save(Projeto.builder()
+            .nome("Projeto benchmark")
+            .responsavel("Responsável")
+            .build());
+        TarefaRepository tarefaRepository = contexto.getBean(TarefaRepository.class);
+        for (int i = 0; i < TAREFAS; i++) {
+            ids.add(tarefaRepository.save(Tarefa.builder().titulo("Tarefa " + i).projeto(projeto).build()).getId());
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+    
+    @Setup(Level.Iteration)
+    public void iniciarIteracao() {
+        inicioIteracao = System.nanoTime();
+        commitsInicio = commits();
+        pedidosInicio = pedidos();
+    }
+    
+    @TearDown(Level.Iteration)
+    public void encerrarIteracao() {
+        double segundos = (System.nanoTime() - inicioIteracao) / 1e9;
+        double commits = commits() - commitsInicio;
+        double pedidos = pedidos() - pedidosInicio;
+        System.out.printf(Locale.ROOT, "%n  agrupado=%s: %.0f commits/s, %.1f atualizações por commit%n",
+            agrupado, commits / segundos, commits == 0 ? 0 : pedidos / commits);
+    }
+    
+    @Benchmark
+    public Object atualizarPercentual() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return agrupamentoProgressoService.atualizarPercentual(ids.get(random.nextInt(TAREFAS)),
+            random.nextInt(1, 100), "benchmark", null);
+    }
+    
+    /**
+     * Sem agrupamento todo pedido é direto (um commit cada); com ele, um commit por lote
+     * mais os pedidos refeitos ou desviados para o caminho direto
+     */
+    private double commits() {
+        return meterRegistry.get("progresso.agrupamento.lotes").functionTimer().count()
+            - meterRegistry.get("progresso.agrupamento.lotes.refeitos").functionCounter().count()
+            + contador("direto");
+    }
+    
+    private double pedidos() {
+        return contador("lote") + contador("direto");
+    }
+    
+    private double contador(String caminho) {
+        return meterRegistry.get("progresso.agrupamento.pedidos").tag("caminho", caminho).functionCounter().count();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AgrupamentoProgressoBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
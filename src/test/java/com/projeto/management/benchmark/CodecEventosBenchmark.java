@@ -0,0 +1,126 @@
+package com.projeto.management.benchmark;
+
+import com.projeto.domain.projeto.events.ProjetoEvent;
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.infrastructure.codec.CodecBinarioEventos;
+import com.projeto.infrastructure.codec.EventoCodificado;
+import com.projeto.infrastructure.codec.RegistroEsquemasArquivo;
+import com.projeto.infrastructure.codec.SaidaBinaria;
+import com.projeto.infrastructure.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o formato binário dos eventos com o JSON do Jackson usado até aqui
+ * 
+ * Cada operação codifica ou decodifica um lote com um evento de cada forma comum (tarefa criada,
+ * percentual, bloqueio, atraso, projeto cancelado). Os bytes por evento de cada formato são
+ * impressos no início da execução.
+ * 
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.projeto.management.benchmark.CodecEventosBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecEventosBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private ObjectWriter objectWriter;
+    private CodecBinarioEventos codec;
+    
+    private List<Object> eventos;
+    private List<byte[]> jsons;
+    private List<EventoCodificado> binarios;
+    
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        objectWriter = objectMapper.writer();
+        Path registro = Files.createTempFile("esquemas-eventos", ".registro");
+        Files.delete(registro);
+        codec = CodecBinarioEventos.paraEventosDeDominio(new RegistroEsquemasArquivo(registro));
+        
+        eventos = List.of(
+            new TarefaEvent.TarefaCriada(18_342L, "Implementar autenticação", 231L),
+            new TarefaEvent.PercentualAtualizado(18_342L, "Implementar autenticação", 30, 60),
+            new TarefaEvent.TarefaBloqueada(18_342L, "Implementar autenticação", "Aguardando acesso ao ambiente"),
+            new TarefaEvent.TarefaAtrasada(18_342L, LocalDate.now().minusDays(1)),
+            new ProjetoEvent.ProjetoCancelado(231L, "Portal do cliente", "Escopo absorvido por outro projeto")
+        );
+        jsons = eventos.stream().map(this::json).toList();
+        binarios = eventos.stream().map(evento -> codec.codificar(evento, new SaidaBinaria())).toList();
+        
+        System.out.printf(Locale.ROOT, "%n  bytes por evento: JSON %.1f, binário %.1f%n",
+            jsons.stream().mapToInt(json -> json.length).average().orElse(0),
+            binarios.stream().mapToInt(binario -> binario.dados().length).average().orElse(0));
+    }
+    
+    @Benchmark
+    public void codificarJson(Blackhole blackhole) throws IOException {
+        for (Object evento : eventos) {
+            blackhole.consume(objectWriter.writeValueAsBytes(evento));
+        }
+    }
+    
+    @Benchmark
+    public void codificarBinario(Blackhole blackhole) {
+        SaidaBinaria saida = new SaidaBinaria();
+        for (Object evento : eventos) {
+            blackhole.consume(codec.codificar(evento, saida));
+        }
+    }
+    
+    @Benchmark
+    public void decodificarJson(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < jsons.size(); i++) {
+            blackhole.consume(objectMapper.readValue(jsons.get(i), eventos.get(i).getClass()));
+        }
+    }
+    
+    @Benchmark
+    public void decodificarBinario(Blackhole blackhole) {
+        for (EventoCodificado binario : binarios) {
+            blackhole.consume(codec.decodificar(binario.esquemaId(), binario.dados()));
+        }
+    }
+    
+    private byte[] json(Object evento) {
+        try {
+            return objectWriter.writeValueAsBytes(evento);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CodecEventosBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.projeto.management.benchmark;
+
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os mappers sem reflexão com a configuração anterior do ModelMapper
+ * 
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.projeto.management.benchmark.MapeamentoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+    
+    private ModelMapper modelMapper;
+    private TarefaMapper tarefaMapper;
+    private ProjetoMapper projetoMapper;
+    
+    private TarefaRequestDTO tarefaRequest;
+    private Tarefa tarefa;
+    private Projeto projeto;
+    
+    @Setup
+    public void setUp() {
+        // Mesma configuração do antigo ModelMapperConfig
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        
+        tarefaMapper = new TarefaMapper();
+        projetoMapper = new ProjetoMapper(tarefaMapper);
+        
+        tarefaRequest = TarefaRequestDTO.builder()
+            .titulo("Implementar autenticação")
+            .descricao("Login com JWT")
+            .status(StatusTarefa.EM_ANDAMENTO)
+            .prioridade(Prioridade.ALTA)
+            .dataInicio(LocalDate.now())
+            .dataFimPrevista(LocalDate.now().plusDays(10))
+            .estimativaHoras(new BigDecimal("16.00"))
+            .horasTrabalhadas(new BigDecimal("4.50"))
+            .percentualConclusao(30)
+            .responsavel("Ana")
+            .idProjeto(1L)
+            .build();
+        
+        projeto = Projeto.builder()
+            .id(1L)
+            .nome("Portal")
+            .status(StatusProjeto.EM_ANDAMENTO)
+            .prioridade(Prioridade.ALTA)
+            .responsavel("Ana")
+            .dataCriacao(LocalDateTime.now())
+            .tarefas(new ArrayList<>())
+            .build();
+        
+        tarefa = tarefaMapper.paraEntidade(tarefaRequest);
+        tarefa.setId(10L);
+        tarefa.setProjeto(projeto);
+        tarefa.setAtivo(true);
+        tarefa.setDataCriacao(LocalDateTime.now());
+        
+        for (int i = 0; i < 20; i++) {
+            Tarefa outra = tarefaMapper.paraEntidade(tarefaRequest);
+            outra.setId(100L + i);
+            outra.setProjeto(projeto);
+            projeto.getTarefas().add(outra);
+        }
+    }
+    
+    @Benchmark
+    public Tarefa requestParaTarefaModelMapper() {
+        return modelMapper.map(tarefaRequest, Tarefa.class);
+    }
+    
+    @Benchmark
+    public Tarefa requestParaTarefaMapper() {
+        return tarefaMapper.paraEntidade(tarefaRequest);
+    }
+    
+    @Benchmark
+    public TarefaResponseDTO tarefaParaResponseModelMapper() {
+        return modelMapper.map(tarefa, TarefaResponseDTO.class);
+    }
+    
+    @Benchmark
+    public TarefaResponseDTO tarefaParaResponseMapper() {
+        return tarefaMapper.paraResponseDTO(tarefa);
+    }
+    
+    @Benchmark
+    public ProjetoResponseDTO projetoComTarefasModelMapper() {
+        return modelMapper.map(projeto, ProjetoResponseDTO.class);
+    }
+    
+    @Benchmark
+    public ProjetoResponseDTO projetoComTarefasMapper() {
+        return projetoMapper.paraResponseDTO(projeto);
+    }
+    
+    @Benchmark
+    public List<TarefaResponseDTO> paginaDeTarefasModelMapper() {
+        List<TarefaResponseDTO> pagina = new ArrayList<>(projeto.getTarefas().size());
+        for (Tarefa t : projeto.getTarefas()) {
+            pagina.add(modelMapper.map(t, TarefaResponseDTO.class));
+        }
+        return pagina;
+    }
+    
+    @Benchmark
+    public List<TarefaResponseDTO> paginaDeTarefasMapper() {
+        List<TarefaResponseDTO> pagina = new ArrayList<>(projeto.getTarefas().size());
+        for (Tarefa t : projeto.getTarefas()) {
+            pagina.add(tarefaMapper.paraResponseDTO(t));
+        }
+        return pagina;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MapeamentoBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.projeto.management.benchmark;
+
+import com.projeto.domain.tarefa.valueobjects.StatusTarefa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho quente das transições de status da tarefa: of() dos dois status, podeSerAlteradoPara
+ * e estaAtiva/estaFinalizada, para os 25 pares de status
+ * 
+ * Compara a tabela de transições compilada com as regras anteriores (Set.of na validação,
+ * toUpperCase em todo of() e switch de strings), reproduzidas aqui sobre strings.
+ * Com -prof gc, a tabela deve mostrar zero bytes alocados por operação.
+ * 
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.projeto.management.benchmark.TransicoesStatusBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransicoesStatusBenchmark {
+    
+    private final String[] valores = {"ABERTA", "EM_ANDAMENTO", "CONCLUIDA", "CANCELADA", "BLOQUEADA"};
+    
+    @Benchmark
+    public void tabela(Blackhole blackhole) {
+        for (String de : valores) {
+            StatusTarefa atual = StatusTarefa.of(de);
+            blackhole.consume(atual.estaAtiva());
+            blackhole.consume(atual.estaFinalizada());
+            for (String para : valores) {
+                blackhole.consume(atual.podeSerAlteradoPara(StatusTarefa.of(para)));
+            }
+        }
+    }
+    
+    @Benchmark
+    public void anterior(Blackhole blackhole) {
+        for (String de : valores) {
+            String atual = ofAnterior(de);
+            blackhole.consume("ABERTA".equals(atual) || "EM_ANDAMENTO".equals(atual));
+            blackhole.consume("CONCLUIDA".equals(atual) || "CANCELADA".equals(atual));
+            for (String para : valores) {
+                blackhole.consume(podeSerAlteradoParaAnterior(atual, ofAnterior(para)));
+            }
+        }
+    }
+    
+    private static String ofAnterior(String valor) {
+        String maiusculo = valor.toUpperCase();
+        var statusValidos = Set.of("ABERTA", "EM_ANDAMENTO", "CONCLUIDA", "CANCELADA", "BLOQUEADA");
+        if (!statusValidos.contains(maiusculo.toUpperCase())) {
+            throw new IllegalArgumentException("Status inválido: " + valor);
+        }
+        // O of() anterior criava uma instância nova a cada chamada
+        return new String(maiusculo);
+    }
+    
+    private static boolean podeSerAlteradoParaAnterior(String atual, String novo) {
+        return switch (atual) {
+            case "ABERTA" -> true;
+            case "EM_ANDAMENTO" -> !novo.equals("ABERTA");
+            case "BLOQUEADA" -> !novo.equals("CONCLUIDA");
+            case "CONCLUIDA", "CANCELADA" -> false;
+            default -> false;
+        };
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TransicoesStatusBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.projeto.management.config;
+
+import com.projeto.management.config.cache.MetricasCacheSegundoNivel;
+import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.service.AuditoriaStatusService;
+import com.projeto.management.service.IndiceBuscaService;
+import com.projeto.management.service.ProjetoEstatisticasService;
+import com.projeto.management.service.ProjetoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do cache de segundo nível de projetos
+ * Sem transação de teste: o cache só é atualizado e invalidado no commit de cada chamada ao service.
+ */
+@DataJpaTest(properties = "cache.segundo-nivel.ttl=PT1S")
+@Import({CacheSegundoNivelConfig.class, ProjetoService.class, ProjetoMapper.class, TarefaMapper.class,
+    ProjetoEstatisticasService.class, IndiceBuscaService.class, AuditoriaStatusService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheSegundoNivelTest {
+    
+    private static final long TTL_MILLIS = 1_000;
+    
+    @Autowired
+    private ProjetoService projetoService;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private MetricasCacheSegundoNivel metricasCacheSegundoNivel;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Statistics statistics;
+    private Long id;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        id = projetoService.criarProjeto(ProjetoRequestDTO.builder()
+            .nome("Projeto Cache")
+            .responsavel("Responsável")
+            .build(), "teste").getId();
+        
+        // Primeira leitura popula o cache
+        projetoService.buscarPorId(id);
+        statistics.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM projeto_estatisticas");
+        jdbcTemplate.update("DELETE FROM projeto");
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+    
+    @Test
+    void buscarPorId_DeveServirDoCache_SemExecutarAConsulta() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        metricasCacheSegundoNivel.bindTo(meterRegistry);
+        
+        projetoService.buscarPorId(id);
+        
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1.0, meterRegistry.get("cache.segundo.nivel.taxa.acerto")
+            .tag("regiao", ProjetoRepository.REGIAO_CONSULTAS).gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.segundo.nivel.requisicoes")
+            .tag("regiao", ProjetoRepository.REGIAO_CONSULTAS).tag("resultado", "acerto").functionCounter().count());
+    }
+    
+    @Test
+    void excluirProjeto_DeveInvalidarOCache_NaMesmaInstancia() {
+        projetoService.excluirProjeto(id, "teste");
+        
+        assertThrows(EntityNotFoundException.class, () -> projetoService.buscarPorId(id));
+    }
+    
+    @Test
+    void alterarStatus_DeveInvalidarAContagemPorStatus() {
+        assertEquals(1L, contar(StatusProjeto.PLANEJAMENTO));
+        
+        projetoService.alterarStatus(id, StatusProjeto.EM_ANDAMENTO, "teste");
+        
+        assertEquals(0L, contar(StatusProjeto.PLANEJAMENTO));
+        assertEquals(1L, contar(StatusProjeto.EM_ANDAMENTO));
+    }
+    
+    @Test
+    void buscarPorId_DeveRefletirEscritaDeOutraInstancia_AposOTtl() throws InterruptedException {
+        // Outra réplica da aplicação escreve direto no banco, sem passar por este cache
+        jdbcTemplate.update("UPDATE projeto SET ativo = false WHERE id = ?", id);
+        
+        assertEquals(id, projetoService.buscarPorId(id).getId());
+        assertTrue(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(id).isEmpty());
+        
+        Thread.sleep(TTL_MILLIS + 200);
+        
+        assertThrows(EntityNotFoundException.class, () -> projetoService.buscarPorId(id));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private long contar(StatusProjeto status) {
+        return ((List<Object[]>) projetoService.getEstatisticasProjetos()).stream()
+            .filter(linha -> linha[0] == status)
+            .mapToLong(linha -> (Long) linha[1])
+            .sum();
+    }
+}
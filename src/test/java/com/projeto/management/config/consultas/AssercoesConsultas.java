@@ -0,0 +1,73 @@
+package com.projeto.management.config.consultas;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Asserções sobre os comandos JDBC executados por um trecho de código
+ * Exige que o DataSource usado pelo trecho seja um DataSourceInstrumentado (veja @ContarConsultas).
+ */
+public final class AssercoesConsultas {
+    
+    static final int MAXIMO_FORMATOS = 1_000;
+    
+    private AssercoesConsultas() {
+    }
+    
+    /**
+     * Executa a ação e falha se ela executar mais que maximo comandos JDBC
+     * @return o resultado da ação
+     */
+    public static <T> T assertMaximoConsultas(int maximo, Supplier<T> acao) {
+        ContextoConsultas contexto = ContextoConsultas.atual();
+        if (contexto != null) {
+            throw new IllegalStateException("Já há uma contagem de consultas em andamento nesta thread");
+        }
+        contexto = ContextoConsultas.iniciar(MAXIMO_FORMATOS);
+        T resultado;
+        try {
+            resultado = acao.get();
+        } finally {
+            ContextoConsultas.encerrar();
+        }
+        verificar(contexto, maximo, -1, -1, -1, -1);
+        return resultado;
+    }
+    
+    public static void assertMaximoConsultas(int maximo, Runnable acao) {
+        assertMaximoConsultas(maximo, () -> {
+            acao.run();
+            return null;
+        });
+    }
+    
+    static void verificar(ContextoConsultas contexto, int total, int select, int insert, int update, int delete) {
+        StringBuilder excedidos = new StringBuilder();
+        excedido(excedidos, "comandos", contexto.getConsultas(), total);
+        excedido(excedidos, "SELECT", contexto.getConsultas(ContextoConsultas.Tipo.SELECT), select);
+        excedido(excedidos, "INSERT", contexto.getConsultas(ContextoConsultas.Tipo.INSERT), insert);
+        excedido(excedidos, "UPDATE", contexto.getConsultas(ContextoConsultas.Tipo.UPDATE), update);
+        excedido(excedidos, "DELETE", contexto.getConsultas(ContextoConsultas.Tipo.DELETE), delete);
+        if (!excedidos.isEmpty()) {
+            fail("Orçamento de consultas excedido:" + excedidos + "\nComandos executados (vezes - formato):\n"
+                + descrever(contexto.getRepeticoes()));
+        }
+    }
+    
+    private static void excedido(StringBuilder excedidos, String tipo, int executados, int maximo) {
+        if (maximo >= 0 && executados > maximo) {
+            excedidos.append(' ').append(executados).append(' ').append(tipo).append(" (máximo ").append(maximo).append(')');
+        }
+    }
+    
+    private static String descrever(Map<String, Integer> repeticoes) {
+        return repeticoes.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+            .map(formato -> "  " + formato.getValue() + " - " + formato.getKey())
+            .collect(Collectors.joining("\n"));
+    }
+}
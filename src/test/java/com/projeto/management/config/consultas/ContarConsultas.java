@@ -0,0 +1,23 @@
+package com.projeto.management.config.consultas;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Instrumenta o DataSource do contexto de teste e verifica os orçamentos de @MaximoConsultas
+ * Para testes com contexto Spring (@DataJpaTest, @SpringBootTest); sem contexto, basta envolver
+ * o DataSource em um DataSourceInstrumentado e usar AssercoesConsultas.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(OrcamentoConsultasExtension.class)
+@Import(InstrumentacaoDataSource.class)
+public @interface ContarConsultas {
+}
@@ -0,0 +1,130 @@
+package com.projeto.management.config.consultas;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da contagem de comandos JDBC por requisição com um banco H2 instrumentado
+ */
+class FiltroConsultasRequisicaoTest {
+    
+    private DataSourceInstrumentado dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private FiltroConsultasRequisicao filtro;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new DataSourceInstrumentado(
+            new DriverManagerDataSource("jdbc:h2:mem:consultas_requisicao;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE item (id INT PRIMARY KEY, nome VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO item VALUES (1, 'um'), (2, 'dois'), (3, 'tres')");
+        
+        meterRegistry = new SimpleMeterRegistry();
+        ConsultasRequisicaoProperties properties = new ConsultasRequisicaoProperties();
+        properties.setOrcamento(3);
+        properties.setRepeticoesSuspeitas(3);
+        filtro = new FiltroConsultasRequisicao(properties, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ContextoConsultas.encerrar();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void doFilter_DeveIncluirServerTimingERegistrarMetricasPorMetodoDoController() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/itens");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(new ItemController(), ItemController.class.getMethod("listar")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        filtro.doFilter(request, response, (req, res) -> {
+            // N+1: uma consulta por item
+            for (int id = 1; id <= 3; id++) {
+                jdbcTemplate.queryForObject("SELECT nome FROM item WHERE id = ?", String.class, id);
+            }
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item WHERE nome <> 'zero'", Integer.class);
+            res.getWriter().write("[]");
+        });
+        
+        String serverTiming = response.getHeader(FiltroConsultasRequisicao.HEADER_SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("db;dur="), serverTiming);
+        assertTrue(serverTiming.endsWith("desc=\"consultas=4 repetidas=3\""), serverTiming);
+        
+        assertEquals(4.0, meterRegistry.get("http.requisicao.consultas")
+            .tag("metodo", "ItemController.listar").summary().totalAmount());
+        assertEquals(3.0, meterRegistry.get("http.requisicao.consultas.repetidas")
+            .tag("metodo", "ItemController.listar").summary().max());
+        assertEquals(1, meterRegistry.get("http.requisicao.tempo.banco")
+            .tag("metodo", "ItemController.listar").timer().count());
+        assertTrue(meterRegistry.get("http.requisicao.tempo.banco").timer().totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+    
+    @Test
+    void doFilter_NaoDeveRegistrarMetricas_ForaDosControllers() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        filtro.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response,
+            (req, res) -> jdbcTemplate.queryForList("SELECT id FROM item"));
+        
+        assertEquals("db;dur=", response.getHeader(FiltroConsultasRequisicao.HEADER_SERVER_TIMING).substring(0, 7));
+        assertTrue(meterRegistry.find("http.requisicao.consultas").meters().isEmpty());
+    }
+    
+    @Test
+    void getConnection_DeveMedirConexaoAbertaAntesDoContexto_SomenteComContextoAtivo() throws Exception {
+        try (Connection conexao = dataSource.getConnection()) {
+            JdbcTemplate mesmaConexao = new JdbcTemplate(new SingleConnectionDataSource(conexao, true));
+            mesmaConexao.queryForList("SELECT id FROM item");
+            
+            ContextoConsultas contexto = ContextoConsultas.iniciar(10);
+            mesmaConexao.update("UPDATE item SET nome = ? WHERE id = ?", "um", 1);
+            mesmaConexao.queryForList("/* listagem */ SELECT id FROM item");
+            ContextoConsultas.encerrar();
+            mesmaConexao.queryForList("SELECT id FROM item");
+            
+            assertEquals(2, contexto.getConsultas());
+            assertEquals(1, contexto.getConsultas(ContextoConsultas.Tipo.SELECT));
+            assertEquals(1, contexto.getConsultas(ContextoConsultas.Tipo.UPDATE));
+            assertEquals(conexao, conexao);
+        }
+    }
+    
+    @Test
+    void formato_DeveIgnorarLiteraisEListasIn() {
+        String esperado = "SELECT t1_0.id FROM tarefa t1_0 WHERE t1_0.id IN (?) AND t1_0.titulo = ?";
+        
+        assertEquals(esperado, ContextoConsultas.formato(
+            "SELECT t1_0.id FROM tarefa t1_0 WHERE t1_0.id IN (1, 2, 3) AND t1_0.titulo = 'a''b'"));
+        assertEquals(esperado, ContextoConsultas.formato(
+            "SELECT t1_0.id FROM tarefa t1_0\n    WHERE t1_0.id IN (?, ?) AND t1_0.titulo = ?"));
+    }
+    
+    @RestController
+    static class ItemController {
+        
+        public List<String> listar() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.projeto.management.config.consultas;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Orçamento de comandos JDBC de um método de teste de uma classe anotada com @ContarConsultas
+ * 
+ * Conta somente o corpo do teste (o @BeforeEach fica de fora) e só os comandos da thread do teste.
+ * Limites por tipo negativos não são verificados.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaximoConsultas {
+    
+    /**
+     * Máximo de comandos de qualquer tipo
+     */
+    int value();
+    
+    int select() default -1;
+    
+    int insert() default -1;
+    
+    int update() default -1;
+    
+    int delete() default -1;
+}
@@ -0,0 +1,39 @@
+package com.projeto.management.config.consultas;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Abre um ContextoConsultas em volta de cada teste anotado com @MaximoConsultas e falha o teste
+ * quando o orçamento é ultrapassado
+ */
+public class OrcamentoConsultasExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(OrcamentoConsultasExtension.class);
+    
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (AnnotationSupport.isAnnotated(context.getTestMethod(), MaximoConsultas.class)) {
+            context.getStore(NAMESPACE).put(ContextoConsultas.class, ContextoConsultas.iniciar(AssercoesConsultas.MAXIMO_FORMATOS));
+        }
+    }
+    
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ContextoConsultas contexto = context.getStore(NAMESPACE).remove(ContextoConsultas.class, ContextoConsultas.class);
+        if (contexto == null) {
+            return;
+        }
+        ContextoConsultas.encerrar();
+        // Um teste que já falhou mantém a falha original
+        if (context.getExecutionException().isEmpty()) {
+            MaximoConsultas maximo = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaximoConsultas.class)
+                .orElseThrow();
+            AssercoesConsultas.verificar(contexto, maximo.value(), maximo.select(), maximo.insert(),
+                maximo.update(), maximo.delete());
+        }
+    }
+}
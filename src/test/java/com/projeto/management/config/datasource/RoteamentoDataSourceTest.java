@@ -0,0 +1,158 @@
+package com.projeto.management.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do roteamento leitura/escrita com dois bancos H2 (primário e réplica)
+ */
+class RoteamentoDataSourceTest {
+    
+    private static final String CONSULTA_LAG = "SELECT segundos FROM replica_lag";
+    
+    private DataSource primario;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+    private RoteamentoProperties.Aderencia aderencia;
+    private MonitorReplicas monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+    
+    @BeforeEach
+    void setUp() {
+        primario = h2("roteamento_primario");
+        replica = h2("roteamento_replica");
+        prepararBanco(primario, "primario");
+        prepararBanco(replica, "replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (segundos INT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+        
+        meterRegistry = new SimpleMeterRegistry();
+        aderencia = new RoteamentoProperties.Aderencia();
+        monitor = new MonitorReplicas(Map.of("replica-1", replica), CONSULTA_LAG, Duration.ofSeconds(5), meterRegistry);
+        monitor.verificar();
+        
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+            new RoteamentoDataSource(primario, Map.of("replica-1", replica), monitor, aderencia, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ContextoRoteamento.encerrar();
+        new JdbcTemplate(primario).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void transacaoSomenteLeitura_DeveUsarReplica() {
+        assertEquals("replica", origemLeitura());
+        assertEquals(1.0, meterRegistry.get("datasource.roteamento.conexoes")
+            .tags("rota", "replica-1", "motivo", "leitura").counter().count());
+    }
+    
+    @Test
+    void transacaoDeEscrita_DeveUsarPrimario() {
+        assertEquals("primario", escrita.execute(status -> origem()));
+    }
+    
+    @Test
+    void leituraAposEscritaNaMesmaRequisicao_DeveUsarPrimario() {
+        ContextoRoteamento.iniciar("ana");
+        assertEquals("replica", origemLeitura());
+        
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET nome = nome"));
+        
+        assertEquals("primario", origemLeitura());
+        
+        ContextoRoteamento.encerrar();
+        ContextoRoteamento.iniciar("ana");
+        assertEquals("replica", origemLeitura());
+    }
+    
+    @Test
+    void leituraAposEscrita_DeveIgnorarAderencia_QuandoDesabilitada() {
+        aderencia.setRequisicao(false);
+        ContextoRoteamento.iniciar("ana");
+        
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET nome = nome"));
+        
+        assertEquals("replica", origemLeitura());
+    }
+    
+    @Test
+    void leituraDoMesmoUsuarioDentroDaJanela_DeveUsarPrimario() {
+        aderencia.setRequisicao(false);
+        aderencia.setJanelaPorUsuario(Duration.ofMinutes(1));
+        
+        ContextoRoteamento.iniciar("ana");
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET nome = nome"));
+        ContextoRoteamento.encerrar();
+        
+        ContextoRoteamento.iniciar("ana");
+        assertEquals("primario", origemLeitura());
+        ContextoRoteamento.encerrar();
+        
+        ContextoRoteamento.iniciar("bruno");
+        assertEquals("replica", origemLeitura());
+    }
+    
+    @Test
+    void replicaComLagAcimaDoLimite_DeveSairDoRodizio() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET segundos = 30");
+        monitor.verificar();
+        
+        assertEquals("primario", origemLeitura());
+        assertEquals(30.0, meterRegistry.get("datasource.roteamento.replica.lag").gauge().value());
+        assertEquals(0.0, meterRegistry.get("datasource.roteamento.replica.apta").gauge().value());
+        
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET segundos = 1");
+        monitor.verificar();
+        
+        assertEquals("replica", origemLeitura());
+    }
+    
+    @Test
+    void replicaComFalhaNaVerificacao_DeveSairDoRodizio() {
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        monitor.verificar();
+        
+        assertEquals("primario", origemLeitura());
+    }
+    
+    private String origemLeitura() {
+        return leitura.execute(status -> origem());
+    }
+    
+    private String origem() {
+        return jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class);
+    }
+    
+    private static DataSource h2(String nome) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+    
+    private static void prepararBanco(DataSource dataSource, String nome) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origem (nome VARCHAR(20))");
+        jdbc.update("INSERT INTO origem VALUES (?)", nome);
+    }
+}
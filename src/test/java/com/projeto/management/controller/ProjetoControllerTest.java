@@ -2,9 +2,13 @@ package com.projeto.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.HistoricoStatusResponseDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.service.HistoricoStatusService;
 import com.projeto.management.service.ProjetoService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +44,9 @@ class ProjetoControllerTest {
     @MockBean
     private ProjetoService projetoService;
     
+    @MockBean
+    private HistoricoStatusService historicoStatusService;
+    
     @Test
     void criarProjeto_DeveRetornar201_QuandoDadosValidos() throws Exception {
         // Given
@@ -97,7 +104,7 @@ class ProjetoControllerTest {
             .status(StatusProjeto.PLANEJAMENTO)
             .build();
         
-        when(projetoService.buscarPorId(1L)).thenReturn(responseDTO);
+        when(projetoService.buscarPorId(1L, false)).thenReturn(responseDTO);
         
         // When & Then
         mockMvc.perform(get("/api/projetos/1"))
@@ -157,4 +164,32 @@ class ProjetoControllerTest {
                 .header("X-Usuario", "teste"))
                 .andExpect(status().isNoContent());
     }
+    
+    @Test
+    void listarHistorico_DeveRetornar200_ComPeriodoECursor() throws Exception {
+        // Given
+        HistoricoStatusResponseDTO mudanca = HistoricoStatusResponseDTO.builder()
+            .id(7L)
+            .statusAnterior("PLANEJAMENTO")
+            .statusNovo("EM_ANDAMENTO")
+            .usuario("teste")
+            .build();
+        
+        when(historicoStatusService.listar(TabelaAuditoria.PROJETO, 1L, LocalDate.of(2026, 1, 1), null, "abc", 10))
+            .thenReturn(CursorPageResponseDTO.<HistoricoStatusResponseDTO>builder()
+                .content(List.of(mudanca))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("def")
+                .build());
+        
+        // When & Then
+        mockMvc.perform(get("/api/projetos/1/historico")
+                .param("desde", "2026-01-01")
+                .param("cursor", "abc")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].statusNovo").value("EM_ANDAMENTO"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
 }
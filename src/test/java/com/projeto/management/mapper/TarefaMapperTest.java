@@ -0,0 +1,68 @@
+package com.projeto.management.mapper;
+
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para TarefaMapper
+ */
+class TarefaMapperTest {
+    
+    private final TarefaMapper tarefaMapper = new TarefaMapper();
+    
+    @Test
+    void copiar_DeveSobrescreverCamposComNulos_ComoNoMapeamentoAnterior() {
+        Projeto projeto = Projeto.builder().id(1L).nome("Projeto").build();
+        Tarefa tarefa = Tarefa.builder()
+            .id(5L)
+            .titulo("Antigo")
+            .responsavel("Ana")
+            .horasTrabalhadas(new BigDecimal("3.00"))
+            .projeto(projeto)
+            .build();
+        TarefaRequestDTO request = TarefaRequestDTO.builder()
+            .titulo("Novo")
+            .idProjeto(2L)
+            .build();
+        
+        tarefaMapper.copiar(request, tarefa);
+        
+        assertEquals("Novo", tarefa.getTitulo());
+        assertNull(tarefa.getResponsavel());
+        assertNull(tarefa.getHorasTrabalhadas());
+        assertEquals(5L, tarefa.getId());
+        assertSame(projeto, tarefa.getProjeto());
+        assertEquals(1L, projeto.getId());
+    }
+    
+    @Test
+    void paraResponseDTO_DeveIncluirProjetoECamposCalculados() {
+        Tarefa tarefa = Tarefa.builder()
+            .id(5L)
+            .titulo("Tarefa")
+            .status(StatusTarefa.ABERTA)
+            .prioridade(Prioridade.ALTA)
+            .dataFimPrevista(LocalDate.now().minusDays(2))
+            .projeto(Projeto.builder().id(1L).nome("Projeto").build())
+            .build();
+        
+        TarefaResponseDTO dto = tarefaMapper.paraResponseDTO(tarefa);
+        
+        assertEquals(5L, dto.getId());
+        assertEquals(1L, dto.getIdProjeto());
+        assertEquals("Projeto", dto.getNomeProjeto());
+        assertTrue(dto.getAtrasada());
+        assertEquals(StatusTarefa.ABERTA, dto.getStatus());
+        assertEquals(Prioridade.ALTA, dto.getPrioridade());
+    }
+}
@@ -0,0 +1,34 @@
+package com.projeto.management.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StatementInspector de testes que registra o SQL gerado pelo Hibernate
+ */
+public class CapturaSql implements StatementInspector {
+    
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+    
+    public static void limpar() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+    
+    public static List<String> statements() {
+        synchronized (STATEMENTS) {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+}
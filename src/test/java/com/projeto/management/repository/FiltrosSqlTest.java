@@ -0,0 +1,195 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.filtro.ProjetoFiltro;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.projection.TarefaView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica o SQL gerado pelos filtros dinâmicos de listagem
+ * Cada combinação de filtros deve gerar apenas os seus predicados, sem "IS NULL OR",
+ * e sempre o mesmo texto de SQL (valores enviados como parâmetros)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.projeto.management.repository.CapturaSql")
+class FiltrosSqlTest {
+    
+    private static final Pattern PROJETO_ID = Pattern.compile("id_projeto\\s*=\\s*\\?");
+    private static final Pattern STATUS = Pattern.compile("\\.status\\s*=\\s*\\?");
+    private static final Pattern PRIORIDADE = Pattern.compile("\\.prioridade\\s*=\\s*\\?");
+    private static final Pattern TITULO = Pattern.compile("lower\\(\\w+\\.titulo\\)\\s+like\\s+\\?\\s+escape");
+    private static final Pattern NOME = Pattern.compile("lower\\(\\w+\\.nome\\)\\s+like\\s+\\?\\s+escape");
+    private static final Pattern RESPONSAVEL = Pattern.compile("lower\\(\\w+\\.responsavel\\)\\s+like\\s+\\?\\s+escape");
+    
+    @Autowired
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder().nome("Projeto Filtros").responsavel("Ana").build();
+        entityManager.persist(projeto);
+        entityManager.persist(tarefa("100% revisado", "Ana Souza"));
+        entityManager.persist(tarefa("1000 itens", "Bruno"));
+        entityManager.persist(tarefa("Relatório final", "Ana Lima"));
+        entityManager.flush();
+        entityManager.clear();
+        CapturaSql.limpar();
+    }
+    
+    @Test
+    void findViewsComFiltros_DeveGerarApenasOsPredicadosInformados_EmFormatoEstavel() {
+        Set<String> formatos = new HashSet<>();
+        
+        for (int combinacao = 0; combinacao < 32; combinacao++) {
+            TarefaFiltro filtro = new TarefaFiltro(
+                (combinacao & 1) != 0 ? projeto.getId() : null,
+                (combinacao & 2) != 0 ? "Rel" : null,
+                (combinacao & 4) != 0 ? StatusTarefa.ABERTA : null,
+                (combinacao & 8) != 0 ? "Ana" : null,
+                (combinacao & 16) != 0 ? Prioridade.ALTA : null);
+            
+            String sql = executarTarefas(filtro);
+            
+            assertSemFiltroOpcional(sql);
+            assertEquals(filtro.projetoId() != null, PROJETO_ID.matcher(sql).find(), sql);
+            assertEquals(filtro.titulo() != null, TITULO.matcher(sql).find(), sql);
+            assertEquals(filtro.status() != null, STATUS.matcher(sql).find(), sql);
+            assertEquals(filtro.responsavel() != null, RESPONSAVEL.matcher(sql).find(), sql);
+            assertEquals(filtro.prioridade() != null, PRIORIDADE.matcher(sql).find(), sql);
+            
+            // Mesma combinação com outros valores deve reaproveitar o mesmo SQL
+            TarefaFiltro outrosValores = new TarefaFiltro(
+                filtro.projetoId() != null ? filtro.projetoId() + 1 : null,
+                filtro.titulo() != null ? "Outro" : null,
+                filtro.status() != null ? StatusTarefa.CONCLUIDA : null,
+                filtro.responsavel() != null ? "Bruno" : null,
+                filtro.prioridade() != null ? Prioridade.BAIXA : null);
+            assertEquals(sql, executarTarefas(outrosValores));
+            
+            formatos.add(sql);
+        }
+        
+        assertEquals(32, formatos.size());
+    }
+    
+    @Test
+    void findProjetosComFiltros_DeveGerarApenasOsPredicadosInformados_EmFormatoEstavel() {
+        Set<String> formatos = new HashSet<>();
+        
+        for (int combinacao = 0; combinacao < 8; combinacao++) {
+            ProjetoFiltro filtro = new ProjetoFiltro(
+                (combinacao & 1) != 0 ? "Proj" : null,
+                (combinacao & 2) != 0 ? StatusProjeto.PLANEJAMENTO : null,
+                (combinacao & 4) != 0 ? "Ana" : null);
+            
+            CapturaSql.limpar();
+            projetoRepository.findProjetosComFiltros(filtro, PageRequest.of(0, 10));
+            String sql = unicoSelect();
+            
+            assertSemFiltroOpcional(sql);
+            assertEquals(filtro.nome() != null, NOME.matcher(sql).find(), sql);
+            assertEquals(filtro.status() != null, STATUS.matcher(sql).find(), sql);
+            assertEquals(filtro.responsavel() != null, RESPONSAVEL.matcher(sql).find(), sql);
+            
+            formatos.add(sql);
+        }
+        
+        assertEquals(8, formatos.size());
+    }
+    
+    @Test
+    void findViewsComFiltros_DeveTratarCuringasComoTexto() {
+        Page<TarefaView> resultado = tarefaRepository.findViewsComFiltros(
+            new TarefaFiltro(null, "100%", null, null, null), PageRequest.of(0, 10));
+        
+        assertEquals(1, resultado.getTotalElements());
+        assertEquals("100% revisado", resultado.getContent().get(0).titulo());
+    }
+    
+    @Test
+    void findViewsComFiltros_DeveBuscarTrechoSemDistinguirMaiusculas() {
+        Page<TarefaView> porTitulo = tarefaRepository.findViewsComFiltros(
+            new TarefaFiltro(null, "FINAL", null, null, null), PageRequest.of(0, 10));
+        Page<TarefaView> porResponsavel = tarefaRepository.findViewsComFiltros(
+            new TarefaFiltro(null, null, null, "lima", null), PageRequest.of(0, 10));
+        
+        assertEquals(List.of("Relatório final"), porTitulo.map(TarefaView::titulo).getContent());
+        assertEquals(List.of("Ana Lima"), porResponsavel.map(TarefaView::responsavel).getContent());
+    }
+    
+    @Test
+    void findViewsComFiltros_DeveIgnorarFiltroTextualEmBranco() {
+        String semFiltro = executarTarefas(new TarefaFiltro(null, null, null, null, null));
+        String emBranco = executarTarefas(new TarefaFiltro(null, "  ", null, "", null));
+        
+        assertEquals(semFiltro, emBranco);
+    }
+    
+    @Test
+    void findViewsComFiltros_DeveContarComOsMesmosPredicados_SemJoinComProjeto() {
+        Page<TarefaView> pagina = tarefaRepository.findViewsComFiltros(
+            new TarefaFiltro(null, null, null, "Ana", null), PageRequest.of(0, 1));
+        
+        assertEquals(2, pagina.getTotalElements());
+        
+        List<String> statements = CapturaSql.statements();
+        assertEquals(2, statements.size());
+        String count = statements.get(1).toLowerCase(Locale.ROOT);
+        assertTrue(count.contains("count("), count);
+        assertFalse(count.contains(" join "), count);
+        assertTrue(RESPONSAVEL.matcher(count).find(), count);
+    }
+    
+    private String executarTarefas(TarefaFiltro filtro) {
+        CapturaSql.limpar();
+        tarefaRepository.findViewsComFiltros(filtro, PageRequest.of(0, 10));
+        return unicoSelect();
+    }
+    
+    private String unicoSelect() {
+        List<String> statements = CapturaSql.statements();
+        assertEquals(1, statements.size(), "Esperado apenas o SELECT (sem COUNT) para página incompleta");
+        return statements.get(0).toLowerCase(Locale.ROOT);
+    }
+    
+    private void assertSemFiltroOpcional(String sql) {
+        assertFalse(sql.contains(" is null"), sql);
+        assertFalse(sql.contains("'ana'") || sql.contains("'rel'") || sql.contains("'proj'"), sql);
+    }
+    
+    private Tarefa tarefa(String titulo, String responsavel) {
+        return Tarefa.builder()
+            .titulo(titulo)
+            .responsavel(responsavel)
+            .prioridade(Prioridade.MEDIA)
+            .projeto(projeto)
+            .build();
+    }
+}
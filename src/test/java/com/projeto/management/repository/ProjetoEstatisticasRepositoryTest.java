@@ -0,0 +1,71 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da criação do registro de estatísticas por primeira escrita concorrente
+ */
+@DataJpaTest
+class ProjetoEstatisticasRepositoryTest {
+    
+    @Autowired
+    private ProjetoEstatisticasRepository estatisticasRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder().nome("Projeto Estatísticas").responsavel("Responsável").build();
+        entityManager.persist(projeto);
+        entityManager.flush();
+    }
+    
+    @Test
+    void inserirSeAusente_DeveIgnorarRegistroExistente_SemInvalidarATransacao() {
+        assertTrue(estatisticasRepository.inserirSeAusente(estatisticas(2L)));
+        assertFalse(estatisticasRepository.inserirSeAusente(estatisticas(5L)));
+        
+        int atualizados = estatisticasRepository.aplicarDelta(projeto.getId(), 1L, 1L, 0L, 0L, 0L, 0L,
+            new BigDecimal("3.00"), BigDecimal.ZERO, LocalDateTime.now());
+        assertEquals(1, atualizados);
+        
+        // A chave duplicada não pode ter marcado a transação para rollback
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            assertEquals(3L, jdbcTemplate.queryForObject(
+                "SELECT total_tarefas FROM projeto_estatisticas WHERE id_projeto = ?", Long.class, projeto.getId()));
+        } finally {
+            jdbcTemplate.update("DELETE FROM projeto_estatisticas WHERE id_projeto = ?", projeto.getId());
+            jdbcTemplate.update("DELETE FROM projeto WHERE id = ?", projeto.getId());
+        }
+    }
+    
+    private ProjetoEstatisticas estatisticas(long total) {
+        return ProjetoEstatisticas.builder()
+            .projetoId(projeto.getId())
+            .totalTarefas(total)
+            .tarefasAbertas(total)
+            .dataAtualizacao(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.repository.filtro.TarefaFiltro;
+import com.projeto.management.repository.keyset.CursorSlice;
+import com.projeto.management.repository.projection.TarefaView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da paginação por cursor de TarefaRepository
+ */
+@DataJpaTest
+class TarefaRepositoryCursorTest {
+    
+    private static final int TOTAL = 47;
+    
+    @Autowired
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder().nome("Projeto Cursor").responsavel("Responsável").build();
+        entityManager.persist(projeto);
+        
+        Prioridade[] prioridades = Prioridade.values();
+        for (int i = 0; i < TOTAL; i++) {
+            entityManager.persist(Tarefa.builder()
+                .titulo("Tarefa " + i)
+                .prioridade(prioridades[i % prioridades.length])
+                // Datas repetidas e nulas para exercitar desempate e tratamento de NULL
+                .dataFimPrevista(i % 5 == 0 ? null : LocalDate.of(2030, 1, 1).plusDays(i % 3))
+                .responsavel(i % 2 == 0 ? null : "Responsável " + i)
+                .projeto(projeto)
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void findViewsPorCursor_DevePercorrerTodasAsTarefasUmaUnicaVez_NaOrdemSolicitada() {
+        Sort sort = Sort.by(Sort.Order.desc("prioridade"), Sort.Order.asc("dataFimPrevista"));
+        TarefaFiltro filtro = new TarefaFiltro(projeto.getId(), null, null, null, null);
+        
+        List<TarefaView> percorridas = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            CursorSlice<TarefaView> slice = tarefaRepository.findViewsPorCursor(filtro, sort, cursor, 10);
+            percorridas.addAll(slice.conteudo());
+            cursor = slice.proximoCursor();
+            paginas++;
+        } while (cursor != null);
+        
+        assertEquals(5, paginas);
+        assertEquals(TOTAL, percorridas.size());
+        
+        Set<Long> ids = new HashSet<>();
+        percorridas.forEach(t -> ids.add(t.id()));
+        assertEquals(TOTAL, ids.size());
+        
+        for (int i = 1; i < percorridas.size(); i++) {
+            TarefaView anterior = percorridas.get(i - 1);
+            TarefaView atual = percorridas.get(i);
+            int prioridade = anterior.prioridade().name().compareTo(atual.prioridade().name());
+            assertTrue(prioridade >= 0, "Prioridade fora de ordem");
+            if (prioridade == 0) {
+                LocalDate dataAnterior = anterior.dataFimPrevista() != null ? anterior.dataFimPrevista() : LocalDate.MAX;
+                LocalDate dataAtual = atual.dataFimPrevista() != null ? atual.dataFimPrevista() : LocalDate.MAX;
+                assertFalse(dataAnterior.isAfter(dataAtual), "Data fim prevista fora de ordem");
+            }
+        }
+    }
+    
+    @Test
+    void findViewsPorCursor_DeveSuportarChaveAnulavelEmOrdemDecrescente() {
+        Sort sort = Sort.by(Sort.Order.desc("responsavel"));
+        TarefaFiltro filtro = new TarefaFiltro(projeto.getId(), null, null, null, null);
+        
+        int total = 0;
+        String cursor = null;
+        do {
+            CursorSlice<TarefaView> slice = tarefaRepository.findViewsPorCursor(filtro, sort, cursor, 7);
+            total += slice.conteudo().size();
+            cursor = slice.proximoCursor();
+        } while (cursor != null);
+        
+        assertEquals(TOTAL, total);
+    }
+    
+    @Test
+    void findViewsPorCursor_DeveRejeitarCursorDeOutraOrdenacao() {
+        TarefaFiltro filtro = new TarefaFiltro(null, null, null, null, null);
+        String cursor = tarefaRepository.findViewsPorCursor(filtro, Sort.by("titulo"), null, 5).proximoCursor();
+        
+        assertThrows(BusinessException.class,
+            () -> tarefaRepository.findViewsPorCursor(filtro, Sort.by("prioridade"), cursor, 5));
+    }
+    
+    @Test
+    void findViewsPorCursor_DeveRejeitarPropriedadeNaoSuportada() {
+        TarefaFiltro filtro = new TarefaFiltro(null, null, null, null, null);
+        
+        assertThrows(BusinessException.class,
+            () -> tarefaRepository.findViewsPorCursor(filtro, Sort.by("descricao"), null, 5));
+    }
+}
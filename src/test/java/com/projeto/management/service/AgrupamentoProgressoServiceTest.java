@@ -0,0 +1,190 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.ConflitoVersaoException;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Testes do agrupamento das atualizações de progresso em lotes
+ * Sem transação de teste: cada lote faz o seu próprio commit. Uma única partição e uma janela longa
+ * garantem que pedidos enviados juntos caiam no mesmo lote.
+ */
+@DataJpaTest(properties = {"progresso.agrupamento.habilitado=true", "progresso.agrupamento.particoes=1",
+    "progresso.agrupamento.janela-ms=300"})
+@Import({AgrupamentoProgressoService.class, TarefaService.class, ProjetoEstatisticasService.class,
+         IndiceBuscaService.class, IndicePrazosService.class, AuditoriaStatusService.class, TarefaMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AgrupamentoProgressoServiceTest {
+    
+    @Autowired
+    private AgrupamentoProgressoService agrupamentoProgressoService;
+    
+    @SpyBean
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private SimpleMeterRegistry meterRegistry;
+    private Tarefa tarefa;
+    private Tarefa outra;
+    
+    @BeforeEach
+    void setUp() {
+        Projeto projeto = projetoRepository.save(Projeto.builder()
+            .nome("Projeto")
+            .responsavel("Responsável")
+            .build());
+        tarefa = tarefaRepository.save(Tarefa.builder().titulo("Tarefa").status(StatusTarefa.ABERTA).projeto(projeto).build());
+        outra = tarefaRepository.save(Tarefa.builder().titulo("Outra").status(StatusTarefa.ABERTA).projeto(projeto).build());
+        
+        meterRegistry = new SimpleMeterRegistry();
+        agrupamentoProgressoService.bindTo(meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (!agrupamentoProgressoService.isRunning()) {
+            agrupamentoProgressoService.start();
+        }
+        jdbcTemplate.update("DELETE FROM auditoria_status");
+        jdbcTemplate.update("DELETE FROM projeto_estatisticas");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM projeto");
+    }
+    
+    @Test
+    void atualizarPercentual_DeveGravarPedidosSimultaneosEmUmCommit_ValendoOUltimoDaMesmaTarefa() throws Exception {
+        double lotes = meterRegistry.get("progresso.agrupamento.lotes").functionTimer().count();
+        double coalescidas = meterRegistry.get("progresso.agrupamento.coalescidas").functionCounter().count();
+        
+        Future<TarefaResponseDTO> primeiro = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 30, "ana", null));
+        // Bem dentro da janela de 300 ms; a pausa só garante a ordem dos pedidos da mesma tarefa
+        Thread.sleep(50);
+        Future<TarefaResponseDTO> segundo = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 100, "bruno", null));
+        Future<TarefaResponseDTO> terceiro = enviar(() ->
+            agrupamentoProgressoService.alterarStatus(outra.getId(), StatusTarefa.EM_ANDAMENTO, "carla", null));
+        
+        // Mesma tarefa: os dois pedidos recebem o estado final, com status e data derivados do último
+        for (TarefaResponseDTO resposta : List.of(primeiro.get(5, TimeUnit.SECONDS), segundo.get(5, TimeUnit.SECONDS))) {
+            assertEquals(100, resposta.getPercentualConclusao());
+            assertEquals(StatusTarefa.CONCLUIDA, resposta.getStatus());
+            assertNotNull(resposta.getDataFimReal());
+        }
+        assertEquals(10, terceiro.get(5, TimeUnit.SECONDS).getPercentualConclusao());
+        
+        Tarefa gravada = tarefaRepository.findById(tarefa.getId()).orElseThrow();
+        assertEquals(StatusTarefa.CONCLUIDA, gravada.getStatus());
+        assertEquals("bruno", gravada.getUsuarioAtualizacao());
+        assertEquals(tarefa.getVersao() + 1, gravada.getVersao());
+        
+        assertEquals(lotes + 1, meterRegistry.get("progresso.agrupamento.lotes").functionTimer().count());
+        assertEquals(coalescidas + 1, meterRegistry.get("progresso.agrupamento.coalescidas").functionCounter().count());
+    }
+    
+    @Test
+    void atualizarPercentual_DeveFalharSomenteOPedidoComVersaoSuperadaNoMesmoLote() throws Exception {
+        Long versao = tarefa.getVersao();
+        
+        Future<TarefaResponseDTO> primeiro = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 40, "ana", versao));
+        Thread.sleep(50);
+        Future<TarefaResponseDTO> segundo = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 50, "bruno", versao));
+        Future<TarefaResponseDTO> inexistente = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(-1L, 50, "carla", null));
+        
+        assertEquals(40, primeiro.get(5, TimeUnit.SECONDS).getPercentualConclusao());
+        ConflitoVersaoException conflito = assertInstanceOf(ConflitoVersaoException.class, causa(segundo));
+        assertTrue(conflito.isPrecondicao());
+        assertInstanceOf(EntityNotFoundException.class, causa(inexistente));
+        assertEquals(40, tarefaRepository.findById(tarefa.getId()).orElseThrow().getPercentualConclusao());
+    }
+    
+    @Test
+    void atualizarPercentual_DeveRefazerSemVersao_EFalharComIfMatch_QuandoOUpdateDoLoteNaoAfetaALinha() throws Exception {
+        Long versao = tarefa.getVersao();
+        // Outra escrita muda a versão depois da leitura do lote (na mesma conexão, que já tem o bloqueio)
+        doAnswer(invocacao -> {
+            jdbcTemplate.update("UPDATE tarefa SET versao = versao + 1 WHERE id = ?", tarefa.getId());
+            return new int[]{0};
+        }).when(tarefaRepository).atualizarProgressoEmLote(any(), any());
+        
+        Future<TarefaResponseDTO> comVersao = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 50, "bruno", versao));
+        Thread.sleep(50);
+        Future<TarefaResponseDTO> semVersao = enviar(() ->
+            agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 30, "ana", null));
+        
+        ConflitoVersaoException conflito = assertInstanceOf(ConflitoVersaoException.class, causa(comVersao));
+        assertTrue(conflito.isPrecondicao());
+        TarefaResponseDTO resposta = semVersao.get(5, TimeUnit.SECONDS);
+        assertEquals(30, resposta.getPercentualConclusao());
+        assertEquals(versao + 2, resposta.getVersao());
+        
+        Tarefa gravada = tarefaRepository.findById(tarefa.getId()).orElseThrow();
+        assertEquals(30, gravada.getPercentualConclusao());
+        assertEquals("ana", gravada.getUsuarioAtualizacao());
+    }
+    
+    @Test
+    void atualizarPercentual_DeveGravarDiretamente_ForaDoCicloDeVida() {
+        agrupamentoProgressoService.stop();
+        double diretos = meterRegistry.get("progresso.agrupamento.pedidos").tag("caminho", "direto").functionCounter().count();
+        
+        TarefaResponseDTO resposta = agrupamentoProgressoService.atualizarPercentual(tarefa.getId(), 20, "ana", null);
+        
+        assertEquals(StatusTarefa.EM_ANDAMENTO, resposta.getStatus());
+        assertEquals(diretos + 1, meterRegistry.get("progresso.agrupamento.pedidos").tag("caminho", "direto").functionCounter().count());
+    }
+    
+    private Future<TarefaResponseDTO> enviar(Supplier<TarefaResponseDTO> pedido) {
+        return CompletableFuture.supplyAsync(pedido, executor);
+    }
+    
+    private static Throwable causa(Future<?> futuro) throws Exception {
+        try {
+            futuro.get(5, TimeUnit.SECONDS);
+            return fail("Era esperada uma falha");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.ProjetoEstatisticasResponseDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoEstatisticasRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.service.ArquivamentoService.ResultadoArquivamento;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do arquivamento de tarefas e projetos e das leituras com incluirArquivados
+ * Lotes de 2 para que a movimentação passe por mais de um lote
+ */
+@DataJpaTest(properties = {"arquivamento.tamanho-lote=2", "arquivamento.pausa-entre-lotes-ms=0"})
+@Import({ArquivamentoService.class, TarefaService.class, ProjetoService.class, ProjetoEstatisticasService.class,
+         IndiceBuscaService.class, IndicePrazosService.class, TarefaMapper.class, ProjetoMapper.class,
+         AuditoriaStatusService.class})
+class ArquivamentoServiceTest {
+    
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ProjetoService projetoService;
+    
+    @Autowired
+    private ProjetoEstatisticasService projetoEstatisticasService;
+    
+    @Autowired
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private TarefaArquivoRepository tarefaArquivoRepository;
+    
+    @Autowired
+    private ProjetoEstatisticasRepository estatisticasRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private LocalDateTime limite;
+    private Projeto projeto;
+    private Tarefa concluidaAntiga;
+    private Tarefa concluidaRecente;
+    private Tarefa abertaAntiga;
+    private Tarefa excluidaAntiga;
+    
+    @BeforeEach
+    void setUp() {
+        limite = LocalDateTime.now().minusDays(30);
+        
+        projeto = persistirProjeto(StatusProjeto.EM_ANDAMENTO);
+        concluidaAntiga = persistirTarefa(projeto, StatusTarefa.CONCLUIDA, true);
+        concluidaRecente = persistirTarefa(projeto, StatusTarefa.CONCLUIDA, true);
+        abertaAntiga = persistirTarefa(projeto, StatusTarefa.ABERTA, true);
+        excluidaAntiga = persistirTarefa(projeto, StatusTarefa.EM_ANDAMENTO, false);
+        entityManager.flush();
+        
+        envelhecer("tarefa", concluidaAntiga.getId(), abertaAntiga.getId(), excluidaAntiga.getId());
+        entityManager.clear();
+    }
+    
+    @Test
+    void arquivar_DeveMoverSomenteTarefasEncerradasOuExcluidas_SemAlteracaoDesdeOLimite() {
+        ResultadoArquivamento resultado = arquivamentoService.arquivar(limite);
+        
+        assertEquals(2, resultado.tarefas());
+        assertEquals(0, resultado.projetos());
+        assertEquals(Set.of(concluidaRecente.getId(), abertaAntiga.getId()),
+            tarefaRepository.findAll().stream().map(Tarefa::getId).collect(Collectors.toSet()));
+        assertTrue(tarefaArquivoRepository.existsById(concluidaAntiga.getId()));
+        assertTrue(tarefaArquivoRepository.existsById(excluidaAntiga.getId()));
+        
+        // Segunda execução não encontra mais nada a mover
+        assertEquals(new ResultadoArquivamento(0, 0), arquivamentoService.arquivar(limite));
+    }
+    
+    @Test
+    void buscarPorId_DeveEncontrarTarefaArquivada_SomenteComIncluirArquivados() {
+        arquivamentoService.arquivar(limite);
+        
+        assertThrows(EntityNotFoundException.class, () -> tarefaService.buscarPorId(concluidaAntiga.getId()));
+        
+        TarefaResponseDTO arquivada = tarefaService.buscarPorId(concluidaAntiga.getId(), true);
+        assertEquals(StatusTarefa.CONCLUIDA, arquivada.getStatus());
+        assertEquals(projeto.getNome(), arquivada.getNomeProjeto());
+        
+        // Tarefa excluída continua invisível mesmo no arquivo
+        assertThrows(EntityNotFoundException.class, () -> tarefaService.buscarPorId(excluidaAntiga.getId(), true));
+    }
+    
+    @Test
+    void listarTarefasPorProjeto_DeveUnirAtivasEArquivadas_ComIncluirArquivados() {
+        arquivamentoService.arquivar(limite);
+        
+        assertEquals(2, tarefaService.listarTarefasPorProjeto(projeto.getId()).size());
+        assertEquals(Set.of(concluidaAntiga.getId(), concluidaRecente.getId(), abertaAntiga.getId()),
+            tarefaService.listarTarefasPorProjeto(projeto.getId(), true).stream()
+                .map(TarefaResponseDTO::getId).collect(Collectors.toSet()));
+    }
+    
+    @Test
+    void arquivar_DeveMoverProjetoEncerrado_DepoisDeTodasAsSuasTarefas() {
+        Projeto encerrado = persistirProjeto(StatusProjeto.CONCLUIDO);
+        Tarefa tarefa = persistirTarefa(encerrado, StatusTarefa.CONCLUIDA, true);
+        entityManager.flush();
+        envelhecer("tarefa", tarefa.getId());
+        envelhecer("projeto", encerrado.getId());
+        entityManager.clear();
+        
+        ResultadoArquivamento resultado = arquivamentoService.arquivar(limite);
+        
+        assertEquals(3, resultado.tarefas());
+        assertEquals(1, resultado.projetos());
+        assertThrows(EntityNotFoundException.class, () -> projetoService.buscarPorId(encerrado.getId()));
+        
+        ProjetoResponseDTO arquivado = projetoService.buscarPorId(encerrado.getId(), true);
+        assertEquals(StatusProjeto.CONCLUIDO, arquivado.getStatus());
+        assertEquals(1, arquivado.getTotalTarefas());
+        assertEquals(1, arquivado.getTarefasConcluidas());
+        assertEquals(100.0, arquivado.getPercentualConclusao());
+    }
+    
+    @Test
+    void estatisticas_DevemContinuarContandoTarefasArquivadasQueEstavamAtivas() {
+        arquivamentoService.arquivar(limite);
+        
+        // Registro gravado pelo próprio arquivamento, sem depender do recálculo na leitura
+        ProjetoEstatisticas registro = estatisticasRepository.findById(projeto.getId()).orElseThrow();
+        assertEquals(3L, registro.getTotalTarefas());
+        assertEquals(1L, registro.getTarefasAbertas());
+        assertEquals(2L, registro.getTarefasConcluidas());
+        assertEquals(new BigDecimal("24.00"), registro.getTotalHorasEstimadas().setScale(2));
+        
+        ProjetoEstatisticasResponseDTO estatisticas = projetoEstatisticasService.buscarPorProjeto(projeto.getId());
+        
+        assertEquals(3L, estatisticas.getTotalTarefas());
+        assertEquals(2L, estatisticas.getTarefasConcluidas());
+        assertEquals(new BigDecimal("24.00"), estatisticas.getTotalHorasEstimadas().setScale(2));
+    }
+    
+    @Test
+    void bindTo_DeveExporLinhasMovidasETempoPorTabela() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        arquivamentoService.bindTo(meterRegistry);
+        double tarefas = meterRegistry.get("arquivamento.linhas").tag("tabela", "tarefa").functionCounter().count();
+        double projetos = meterRegistry.get("arquivamento.linhas").tag("tabela", "projeto").functionCounter().count();
+        double execucoes = meterRegistry.get("arquivamento.duracao").tag("tabela", "tarefa").functionTimer().count();
+        
+        arquivamentoService.arquivar(limite);
+        
+        // Contadores acumulam entre os testes do mesmo contexto
+        assertEquals(tarefas + 2, meterRegistry.get("arquivamento.linhas").tag("tabela", "tarefa").functionCounter().count());
+        assertEquals(projetos, meterRegistry.get("arquivamento.linhas").tag("tabela", "projeto").functionCounter().count());
+        assertEquals(execucoes + 1, meterRegistry.get("arquivamento.duracao").tag("tabela", "tarefa").functionTimer().count());
+    }
+    
+    private Projeto persistirProjeto(StatusProjeto status) {
+        Projeto novo = Projeto.builder()
+            .nome("Projeto " + status)
+            .responsavel("Responsável")
+            .status(status)
+            .build();
+        entityManager.persist(novo);
+        return novo;
+    }
+    
+    private Tarefa persistirTarefa(Projeto dono, StatusTarefa status, boolean ativo) {
+        Tarefa tarefa = Tarefa.builder()
+            .titulo("Tarefa " + status)
+            .status(status)
+            .estimativaHoras(new BigDecimal("8.00"))
+            .ativo(ativo)
+            .projeto(dono)
+            .build();
+        entityManager.persist(tarefa);
+        return tarefa;
+    }
+    
+    private void envelhecer(String tabela, Long... ids) {
+        for (Long id : ids) {
+            jdbcTemplate.update("UPDATE " + tabela + " SET data_atualizacao = ? WHERE id = ?",
+                limite.minusDays(30), id);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.request.AtualizacaoTarefasLoteRequestDTO;
+import com.projeto.management.dto.response.AtualizacaoTarefasLoteResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da atualização de tarefas em lote
+ */
+@DataJpaTest(properties = "atualizacao-lote.tamanho-bloco=7")
+@Import({AtualizacaoLoteTarefaService.class, ProjetoEstatisticasService.class, IndiceBuscaService.class,
+         IndicePrazosService.class, AuditoriaStatusService.class})
+class AtualizacaoLoteTarefaServiceTest {
+    
+    private static final List<Integer> PERCENTUAIS = List.of(0, 10, 50, 89, 90, 95, 100);
+    
+    @Autowired
+    private AtualizacaoLoteTarefaService atualizacaoLoteTarefaService;
+    
+    @Autowired
+    private ProjetoEstatisticasService projetoEstatisticasService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder().nome("Projeto Lote").responsavel("Responsável").build();
+        entityManager.persist(projeto);
+    }
+    
+    @Test
+    void atualizarStatus_DeveAplicarAsMesmasRegrasDaEntidade_ParaTodosOsEstados() {
+        for (StatusTarefa novoStatus : StatusTarefa.values()) {
+            List<Tarefa> tarefas = new ArrayList<>();
+            for (StatusTarefa statusInicial : StatusTarefa.values()) {
+                for (Integer percentual : PERCENTUAIS) {
+                    tarefas.add(persistir(statusInicial, percentual, "Ana"));
+                }
+            }
+            entityManager.flush();
+            
+            AtualizacaoTarefasLoteResponseDTO resultado = atualizacaoLoteTarefaService.atualizar(
+                AtualizacaoTarefasLoteRequestDTO.builder()
+                    .ids(tarefas.stream().map(Tarefa::getId).toList())
+                    .status(novoStatus)
+                    .build(), "lote");
+            
+            assertEquals(tarefas.size(), resultado.getAtualizadas());
+            assertEquals((tarefas.size() + 6) / 7, resultado.getLotes());
+            
+            entityManager.clear();
+            for (Tarefa original : tarefas) {
+                Tarefa esperado = Tarefa.builder()
+                    .status(original.getStatus())
+                    .percentualConclusao(original.getPercentualConclusao())
+                    .dataFimReal(original.getDataFimReal())
+                    .build();
+                esperado.alterarStatus(novoStatus);
+                
+                Tarefa gravada = entityManager.find(Tarefa.class, original.getId());
+                String caso = original.getStatus() + "/" + original.getPercentualConclusao() + " -> " + novoStatus;
+                assertEquals(esperado.getStatus(), gravada.getStatus(), caso);
+                assertEquals(esperado.getPercentualConclusao(), gravada.getPercentualConclusao(), caso);
+                assertEquals(esperado.getDataFimReal(), gravada.getDataFimReal(), caso);
+                assertEquals(original.getVersao() + 1, gravada.getVersao(), caso);
+                assertEquals("lote", gravada.getUsuarioAtualizacao(), caso);
+            }
+        }
+    }
+    
+    @Test
+    void atualizarPorFiltro_DeveReatribuirApenasAsTarefasSelecionadas_EManterEstatisticas() {
+        List<Tarefa> ativas = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ativas.add(persistir(i % 2 == 0 ? StatusTarefa.ABERTA : StatusTarefa.EM_ANDAMENTO, 0, i < 15 ? "Ana" : "Bruno"));
+        }
+        Tarefa inativa = persistir(StatusTarefa.ABERTA, 0, "Ana");
+        inativa.setAtivo(false);
+        entityManager.flush();
+        // Cria a linha de estatísticas do projeto, para que o lote aplique deltas sobre ela
+        projetoEstatisticasService.registrarInclusoes(List.of(ativas.get(0)));
+        
+        AtualizacaoTarefasLoteResponseDTO resultado = atualizacaoLoteTarefaService.atualizar(
+            AtualizacaoTarefasLoteRequestDTO.builder()
+                .filtro(AtualizacaoTarefasLoteRequestDTO.Filtro.builder()
+                    .projetoId(projeto.getId())
+                    .responsavel("Ana")
+                    .status(StatusTarefa.ABERTA)
+                    .build())
+                .status(StatusTarefa.CONCLUIDA)
+                .prioridade(Prioridade.ALTA)
+                .responsavel("Carla")
+                .build(), "lote");
+        
+        // Ana e ABERTA: índices pares abaixo de 15
+        assertEquals(8, resultado.getSelecionadas());
+        assertEquals(8, resultado.getAtualizadas());
+        
+        entityManager.clear();
+        Long reatribuidas = entityManager.createQuery(
+                "SELECT COUNT(t) FROM Tarefa t WHERE t.responsavel = 'Carla' AND t.status = :status " +
+                "AND t.prioridade = :prioridade AND t.percentualConclusao = 100", Long.class)
+            .setParameter("status", StatusTarefa.CONCLUIDA)
+            .setParameter("prioridade", Prioridade.ALTA)
+            .getSingleResult();
+        assertEquals(8L, reatribuidas);
+        assertEquals("Ana", entityManager.find(Tarefa.class, inativa.getId()).getResponsavel());
+        
+        ProjetoEstatisticas estatisticas = entityManager.find(ProjetoEstatisticas.class, projeto.getId());
+        assertEquals(20L, estatisticas.getTotalTarefas());
+        assertEquals(2L, estatisticas.getTarefasAbertas());
+        assertEquals(10L, estatisticas.getTarefasEmAndamento());
+        assertEquals(8L, estatisticas.getTarefasConcluidas());
+    }
+    
+    @Test
+    void atualizar_DeveRejeitarSelecaoAmbiguaOuSemAlteracao() {
+        assertThrows(BusinessException.class, () -> atualizacaoLoteTarefaService.atualizar(
+            AtualizacaoTarefasLoteRequestDTO.builder().status(StatusTarefa.CONCLUIDA).build(), "lote"));
+        assertThrows(BusinessException.class, () -> atualizacaoLoteTarefaService.atualizar(
+            AtualizacaoTarefasLoteRequestDTO.builder()
+                .ids(List.of(1L))
+                .filtro(AtualizacaoTarefasLoteRequestDTO.Filtro.builder().projetoId(1L).build())
+                .status(StatusTarefa.CONCLUIDA)
+                .build(), "lote"));
+        assertThrows(BusinessException.class, () -> atualizacaoLoteTarefaService.atualizar(
+            AtualizacaoTarefasLoteRequestDTO.builder()
+                .filtro(new AtualizacaoTarefasLoteRequestDTO.Filtro())
+                .status(StatusTarefa.CONCLUIDA)
+                .build(), "lote"));
+        assertThrows(BusinessException.class, () -> atualizacaoLoteTarefaService.atualizar(
+            AtualizacaoTarefasLoteRequestDTO.builder().ids(List.of(1L)).build(), "lote"));
+    }
+    
+    private Tarefa persistir(StatusTarefa status, Integer percentual, String responsavel) {
+        Tarefa tarefa = Tarefa.builder()
+            .titulo("Tarefa " + status + " " + percentual)
+            .status(status)
+            .percentualConclusao(percentual)
+            .responsavel(responsavel)
+            .dataFimReal(status == StatusTarefa.CONCLUIDA ? LocalDate.now().minusDays(3) : null)
+            .projeto(entityManager.getReference(Projeto.class, projeto.getId()))
+            .build();
+        entityManager.persist(tarefa);
+        return tarefa;
+    }
+}
@@ -0,0 +1,174 @@
+package com.projeto.management.service;
+
+import com.projeto.domain.tarefa.events.TarefaEvent;
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.AuditoriaStatusRepository;
+import com.projeto.management.repository.projection.EstadoTarefaView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da gravação assíncrona em lote da auditoria de status
+ * Sem transação de teste: os registros só entram na fila no commit de quem os registrou.
+ * O intervalo longo garante que só o tamanho do lote ou o stop() disparam a gravação.
+ */
+@DataJpaTest(properties = {"auditoria.lote.tamanho=3", "auditoria.lote.intervalo-ms=60000"})
+@Import(AuditoriaStatusService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditoriaStatusServiceTest {
+    
+    @Autowired
+    private AuditoriaStatusService auditoriaStatusService;
+    
+    @Autowired
+    private AuditoriaStatusRepository auditoriaStatusRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void tearDown() {
+        if (!auditoriaStatusService.isRunning()) {
+            auditoriaStatusService.start();
+        }
+        auditoriaStatusRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    void registrarTarefas_DeveGravarEmUmUnicoLote_QuandoOLoteEnche() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditoriaStatusService.bindTo(meterRegistry);
+        double gravacoes = meterRegistry.get("auditoria.gravacao").functionTimer().count();
+        double gravados = meterRegistry.get("auditoria.registros").tag("resultado", "gravado").functionCounter().count();
+        
+        auditoriaStatusService.registrarTarefas(List.of(
+            estado(1L, StatusTarefa.ABERTA),
+            estado(2L, StatusTarefa.EM_ANDAMENTO),
+            estado(3L, StatusTarefa.CONCLUIDA),
+            estado(4L, StatusTarefa.EM_REVISAO)), StatusTarefa.CONCLUIDA, "usuario-teste");
+        
+        aguardar(() -> auditoriaStatusRepository.count() == 3);
+        
+        List<AuditoriaStatus> registros = registros();
+        assertEquals(List.of(1L, 2L, 4L), registros.stream().map(AuditoriaStatus::getIdRegistro).toList());
+        assertEquals("ABERTA", registros.get(0).getStatusAnterior());
+        assertTrue(registros.stream().allMatch(r -> "CONCLUIDA".equals(r.getStatusNovo())
+            && "usuario-teste".equals(r.getUsuario()) && r.getTabela() == TabelaAuditoria.TAREFA));
+        // Contadores acumulam entre os testes do mesmo contexto
+        assertEquals(gravacoes + 1, meterRegistry.get("auditoria.gravacao").functionTimer().count());
+        assertEquals(gravados + 3, meterRegistry.get("auditoria.registros").tag("resultado", "gravado").functionCounter().count());
+    }
+    
+    @Test
+    void stop_DeveGravarRegistrosPendentes_SemEsperarOIntervalo() {
+        auditoriaStatusService.registrarProjeto(10L, StatusProjeto.PLANEJAMENTO, StatusProjeto.EM_ANDAMENTO, "usuario-teste");
+        
+        long inicio = System.nanoTime();
+        auditoriaStatusService.stop();
+        
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 5);
+        AuditoriaStatus registro = registros().get(0);
+        assertEquals(TabelaAuditoria.PROJETO, registro.getTabela());
+        assertEquals("PLANEJAMENTO", registro.getStatusAnterior());
+        assertEquals("EM_ANDAMENTO", registro.getStatusNovo());
+    }
+    
+    @Test
+    void registrar_DeveEnfileirarSomenteAposOCommit() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            auditoriaStatusService.registrarTarefa(20L, StatusTarefa.ABERTA, StatusTarefa.EM_ANDAMENTO, "usuario-teste");
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+            auditoriaStatusService.registrarTarefa(21L, StatusTarefa.ABERTA, StatusTarefa.EM_ANDAMENTO, "usuario-teste"));
+        
+        // Status igual não gera registro
+        auditoriaStatusService.registrarTarefa(22L, StatusTarefa.ABERTA, StatusTarefa.ABERTA, "usuario-teste");
+        auditoriaStatusService.stop();
+        
+        assertEquals(List.of(21L), registros().stream().map(AuditoriaStatus::getIdRegistro).toList());
+    }
+    
+    @Test
+    void aoEventoTarefa_DeveRegistrarBloqueioComMotivo() {
+        auditoriaStatusService.aoEventoTarefa(new TarefaEvent.TarefaBloqueada(30L, "Tarefa", "Aguardando fornecedor"));
+        auditoriaStatusService.aoEventoTarefa(new TarefaEvent.TarefaAtualizada(30L, "Tarefa"));
+        auditoriaStatusService.stop();
+        
+        List<AuditoriaStatus> registros = registros();
+        assertEquals(1, registros.size());
+        assertNull(registros.get(0).getStatusAnterior());
+        assertEquals("BLOQUEADA", registros.get(0).getStatusNovo());
+        assertEquals("Aguardando fornecedor", registros.get(0).getObservacao());
+    }
+    
+    @Test
+    void registrar_DeveGravarDeFormaSincrona_ForaDoCicloDeVida() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditoriaStatusService.bindTo(meterRegistry);
+        auditoriaStatusService.stop();
+        double transbordamentos = meterRegistry.get("auditoria.fila.transbordamentos").functionCounter().count();
+        
+        auditoriaStatusService.registrarTarefa(40L, StatusTarefa.EM_ANDAMENTO, StatusTarefa.CONCLUIDA, "usuario-teste");
+        
+        assertEquals(1, auditoriaStatusRepository.count());
+        assertEquals(transbordamentos + 1, meterRegistry.get("auditoria.fila.transbordamentos").functionCounter().count());
+    }
+    
+    @Test
+    void destroy_DeveGravarPendentesEPararAThreadDaemon() {
+        List<Thread> escritores = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> "auditoria-status".equals(thread.getName()))
+            .toList();
+        assertFalse(escritores.isEmpty());
+        assertTrue(escritores.stream().allMatch(Thread::isDaemon), "Thread de gravação não pode segurar a JVM");
+        
+        auditoriaStatusService.registrarTarefa(50L, StatusTarefa.ABERTA, StatusTarefa.EM_ANDAMENTO, "usuario-teste");
+        auditoriaStatusService.destroy();
+        
+        assertFalse(auditoriaStatusService.isRunning());
+        assertEquals(List.of(50L), registros().stream().map(AuditoriaStatus::getIdRegistro).toList());
+    }
+    
+    private List<AuditoriaStatus> registros() {
+        return auditoriaStatusRepository.findAll().stream()
+            .sorted(Comparator.comparing(AuditoriaStatus::getIdRegistro))
+            .toList();
+    }
+    
+    private static EstadoTarefaView estado(Long id, StatusTarefa status) {
+        return new EstadoTarefaView(id, 1L, status, null, null, null);
+    }
+    
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < limite, "Condição não atendida em 5 segundos");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrompido aguardando a gravação");
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de consistência da busca por texto: o índice em memória e a consulta ao banco
+ * (usada enquanto o índice não responde) devem encontrar as mesmas tarefas e projetos
+ * Com o índice desabilitado ele só é carregado quando o teste chama reconstruir
+ */
+@DataJpaTest(properties = "busca.indice.habilitado=false")
+@Import({TarefaService.class, ProjetoService.class, ProjetoEstatisticasService.class, IndiceBuscaService.class,
+         IndicePrazosService.class, TarefaMapper.class, ProjetoMapper.class, AuditoriaStatusService.class})
+class BuscaTextualTest {
+    
+    private static final List<String> TERMOS = List.of(
+        "relat", "  RELAT  ", "100%", "a_b", "revisão", "revisao", "%", "_");
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ProjetoService projetoService;
+    
+    @Autowired
+    private IndiceBuscaService indiceBuscaService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = persistirProjeto("Revisão 100% do relatório", "Ana_Beatriz");
+        persistirProjeto("Revisao geral", "Anaxbeatriz");
+        
+        persistirTarefa("Revisão 100% do relatório", "a_b");
+        persistirTarefa("Relatório 1000 itens", "axb");
+        persistirTarefa("Revisao geral", "Ana");
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void buscas_DevemRetornarOMesmoResultado_PeloBancoEPeloIndice() {
+        // Banco: o índice ainda não foi carregado
+        Map<String, Set<Long>> titulosBanco = buscar(tarefaService::buscarPorTitulo, TarefaResponseDTO::getId);
+        Map<String, Set<Long>> responsaveisBanco = buscar(tarefaService::buscarPorResponsavel, TarefaResponseDTO::getId);
+        Map<String, Set<Long>> nomesBanco = buscar(projetoService::buscarPorNome, ProjetoResponseDTO::getId);
+        Map<String, Set<Long>> responsaveisProjetoBanco = buscar(projetoService::buscarPorResponsavel, ProjetoResponseDTO::getId);
+        
+        indiceBuscaService.reconstruir();
+        
+        assertEquals(titulosBanco, buscar(tarefaService::buscarPorTitulo, TarefaResponseDTO::getId));
+        assertEquals(responsaveisBanco, buscar(tarefaService::buscarPorResponsavel, TarefaResponseDTO::getId));
+        assertEquals(nomesBanco, buscar(projetoService::buscarPorNome, ProjetoResponseDTO::getId));
+        assertEquals(responsaveisProjetoBanco, buscar(projetoService::buscarPorResponsavel, ProjetoResponseDTO::getId));
+        
+        // Curingas literais, espaços nas pontas ignorados e acentos distintos
+        assertEquals(2, titulosBanco.get("relat").size());
+        assertEquals(titulosBanco.get("relat"), titulosBanco.get("  RELAT  "));
+        assertEquals(1, titulosBanco.get("100%").size());
+        assertEquals(1, responsaveisBanco.get("a_b").size());
+        assertEquals(Set.of(projeto.getId()), nomesBanco.get("revisão"));
+        assertEquals(Set.of(projeto.getId()), responsaveisProjetoBanco.get("_"));
+    }
+    
+    private <T> Map<String, Set<Long>> buscar(Function<String, List<T>> busca, Function<T, Long> id) {
+        Map<String, Set<Long>> resultado = new LinkedHashMap<>();
+        for (String termo : TERMOS) {
+            resultado.put(termo, busca.apply(termo).stream().map(id).collect(Collectors.toSet()));
+        }
+        return resultado;
+    }
+    
+    private Projeto persistirProjeto(String nome, String responsavel) {
+        Projeto novo = Projeto.builder().nome(nome).responsavel(responsavel).build();
+        entityManager.persist(novo);
+        return novo;
+    }
+    
+    private void persistirTarefa(String titulo, String responsavel) {
+        Tarefa tarefa = Tarefa.builder().titulo(titulo).responsavel(responsavel).projeto(projeto).build();
+        entityManager.persist(tarefa);
+    }
+}
@@ -0,0 +1,96 @@
+package com.projeto.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.exportacao.FormatoExportacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ExportacaoService
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportacaoServiceTest {
+    
+    @Mock
+    private TarefaService tarefaService;
+    
+    @Mock
+    private ProjetoService projetoService;
+    
+    private ExportacaoService exportacaoService;
+    
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportacaoService = new ExportacaoService(tarefaService, projetoService, objectMapper);
+        
+        when(tarefaService.listarTarefasPorCursor(any(), any(), any(), any(), any(), any(), isNull(), anyInt()))
+            .thenReturn(lote("c1", tarefa(1L, "Primeira"), tarefa(2L, "Com vírgula, e \"aspas\"")));
+        when(tarefaService.listarTarefasPorCursor(any(), any(), any(), any(), any(), any(), eq("c1"), anyInt()))
+            .thenReturn(lote(null, tarefa(3L, "Última")));
+    }
+    
+    @Test
+    void exportarTarefas_DeveEscreverUmaLinhaPorTarefa_EmNdjson() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        long total = exportacaoService.exportarTarefas(null, null, null, null, null, FormatoExportacao.NDJSON, saida);
+        
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, total);
+        assertEquals(3, linhas.length);
+        assertTrue(linhas[0].startsWith("{") && linhas[0].contains("\"titulo\":\"Primeira\""));
+        assertTrue(linhas[2].contains("\"id\":3"));
+        verify(tarefaService, times(2)).listarTarefasPorCursor(any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+    
+    @Test
+    void exportarTarefas_DeveEscreverCabecalhoECamposCitados_EmCsv() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        exportacaoService.exportarTarefas(null, null, null, null, null, FormatoExportacao.CSV, saida);
+        
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, linhas.length);
+        assertTrue(linhas[0].startsWith("id,titulo,status,prioridade,"));
+        assertTrue(linhas[1].startsWith("1,Primeira,ABERTA,ALTA,"));
+        assertTrue(linhas[2].startsWith("2,\"Com vírgula, e \"\"aspas\"\"\",ABERTA,"));
+    }
+    
+    private CursorPageResponseDTO<TarefaResponseDTO> lote(String proximoCursor, TarefaResponseDTO... tarefas) {
+        return CursorPageResponseDTO.<TarefaResponseDTO>builder()
+            .content(List.of(tarefas))
+            .size(tarefas.length)
+            .hasNext(proximoCursor != null)
+            .nextCursor(proximoCursor)
+            .build();
+    }
+    
+    private TarefaResponseDTO tarefa(Long id, String titulo) {
+        return TarefaResponseDTO.builder()
+            .id(id)
+            .titulo(titulo)
+            .status(StatusTarefa.ABERTA)
+            .prioridade(Prioridade.ALTA)
+            .build();
+    }
+}
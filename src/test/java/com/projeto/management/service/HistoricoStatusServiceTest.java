@@ -0,0 +1,129 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.CursorPageResponseDTO;
+import com.projeto.management.dto.response.HistoricoStatusResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.entity.AuditoriaStatus;
+import com.projeto.management.model.enums.TabelaAuditoria;
+import com.projeto.management.repository.AuditoriaStatusRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do histórico de status paginado por cursor e da retenção de auditoria_status
+ * No H2 não há particionamento nativo: a retenção usa a exclusão em lotes (lotes de 2)
+ */
+@DataJpaTest(properties = {"auditoria.retencao-meses=12", "auditoria.retencao.tamanho-lote=2"})
+@Import({HistoricoStatusService.class, ParticionamentoAuditoriaService.class})
+class HistoricoStatusServiceTest {
+    
+    @Autowired
+    private HistoricoStatusService historicoStatusService;
+    
+    @Autowired
+    private ParticionamentoAuditoriaService particionamentoAuditoriaService;
+    
+    @Autowired
+    private AuditoriaStatusRepository auditoriaStatusRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private LocalDateTime agora;
+    
+    @BeforeEach
+    void setUp() {
+        agora = LocalDateTime.now().withNano(0);
+    }
+    
+    @Test
+    void listar_DevePercorrerDoMaisRecenteParaOMaisAntigo_DesempatandoPeloId() {
+        List<Long> esperados = new ArrayList<>();
+        for (int dias = 1; dias <= 4; dias++) {
+            esperados.add(persistir(TabelaAuditoria.TAREFA, 1L, agora.minusDays(dias)).getId());
+        }
+        // Mesmo instante do mais recente: id maior vem primeiro
+        esperados.add(0, persistir(TabelaAuditoria.TAREFA, 1L, agora.minusDays(1)).getId());
+        persistir(TabelaAuditoria.TAREFA, 2L, agora);
+        persistir(TabelaAuditoria.PROJETO, 1L, agora);
+        entityManager.flush();
+        
+        List<Long> lidos = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            CursorPageResponseDTO<HistoricoStatusResponseDTO> pagina =
+                historicoStatusService.listar(TabelaAuditoria.TAREFA, 1L, null, null, cursor, 2);
+            pagina.getContent().forEach(mudanca -> lidos.add(mudanca.getId()));
+            cursor = pagina.getNextCursor();
+            paginas++;
+        } while (cursor != null);
+        
+        assertEquals(esperados, lidos);
+        assertEquals(3, paginas);
+    }
+    
+    @Test
+    void listar_DeveRespeitarPeriodoERetencao() {
+        persistir(TabelaAuditoria.PROJETO, 5L, agora.minusMonths(14));
+        AuditoriaStatus dentro = persistir(TabelaAuditoria.PROJETO, 5L, agora.minusDays(10));
+        persistir(TabelaAuditoria.PROJETO, 5L, agora);
+        entityManager.flush();
+        
+        // Registro anterior à retenção não aparece, mesmo pedindo um período mais antigo
+        assertEquals(2, historicoStatusService.listar(TabelaAuditoria.PROJETO, 5L,
+            LocalDate.now().minusYears(5), null, null, 10).getSize());
+        
+        LocalDate dia = dentro.getDataMudanca().toLocalDate();
+        List<HistoricoStatusResponseDTO> periodo = historicoStatusService.listar(TabelaAuditoria.PROJETO, 5L,
+            dia, dia, null, 10).getContent();
+        assertEquals(List.of(dentro.getId()), periodo.stream().map(HistoricoStatusResponseDTO::getId).toList());
+    }
+    
+    @Test
+    void listar_DeveLancarBusinessException_QuandoPeriodoInvertido() {
+        LocalDate hoje = LocalDate.now();
+        
+        assertThrows(BusinessException.class, () -> historicoStatusService.listar(
+            TabelaAuditoria.TAREFA, 1L, hoje, hoje.minusDays(1), null, 10));
+    }
+    
+    @Test
+    void manter_DeveExcluirEmLotesRegistrosAnterioresARetencao_SemParticionamentoNativo() {
+        for (int i = 0; i < 3; i++) {
+            persistir(TabelaAuditoria.TAREFA, 1L, agora.minusMonths(13 + i));
+        }
+        AuditoriaStatus retido = persistir(TabelaAuditoria.TAREFA, 1L, agora.minusMonths(11));
+        entityManager.flush();
+        entityManager.clear();
+        
+        assertEquals(3, particionamentoAuditoriaService.manter(YearMonth.now()));
+        assertEquals(List.of(retido.getId()),
+            auditoriaStatusRepository.findAll().stream().map(AuditoriaStatus::getId).toList());
+    }
+    
+    private AuditoriaStatus persistir(TabelaAuditoria tabela, Long idRegistro, LocalDateTime dataMudanca) {
+        AuditoriaStatus registro = AuditoriaStatus.builder()
+            .tabela(tabela)
+            .idRegistro(idRegistro)
+            .statusAnterior("ABERTA")
+            .statusNovo("EM_ANDAMENTO")
+            .dataMudanca(dataMudanca)
+            .usuario("teste")
+            .build();
+        entityManager.persist(registro);
+        return registro;
+    }
+}
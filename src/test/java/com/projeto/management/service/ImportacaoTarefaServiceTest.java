@@ -0,0 +1,162 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ImportacaoTarefasResponseDTO;
+import com.projeto.management.dto.response.ImportacaoTarefasResponseDTO.ErroItem;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da importação de tarefas em lote
+ */
+@DataJpaTest(properties = "importacao.tamanho-lote=100")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({ImportacaoTarefaService.class, TarefaService.class, ProjetoEstatisticasService.class,
+         IndiceBuscaService.class, IndicePrazosService.class, AuditoriaStatusService.class, TarefaMapper.class})
+class ImportacaoTarefaServiceTest {
+    
+    @Autowired
+    private ImportacaoTarefaService importacaoTarefaService;
+    
+    @Autowired
+    private IndiceBuscaService indiceBuscaService;
+    
+    @Autowired
+    private IndicePrazosService indicePrazosService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    private Projeto projetoInativo;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder().nome("Projeto Importação").responsavel("Responsável").build();
+        projetoInativo = Projeto.builder().nome("Projeto Inativo").responsavel("Responsável").ativo(false).build();
+        entityManager.persist(projeto);
+        entityManager.persist(projetoInativo);
+        entityManager.flush();
+    }
+    
+    @Test
+    void importar_DeveGravarItensValidos_EReportarInvalidosPelaPosicao() {
+        List<TarefaRequestDTO> tarefas = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            tarefas.add(tarefa("Tarefa " + i, projeto.getId()));
+        }
+        tarefas.set(3, tarefa(" ", projeto.getId()));
+        tarefas.set(120, tarefa("Projeto inexistente", 999_999L));
+        tarefas.set(121, tarefa("Projeto inativo", projetoInativo.getId()));
+        TarefaRequestDTO datasInvertidas = tarefa("Datas invertidas", projeto.getId());
+        datasInvertidas.setDataInicio(LocalDate.of(2025, 5, 10));
+        datasInvertidas.setDataFimPrevista(LocalDate.of(2025, 5, 1));
+        tarefas.set(249, datasInvertidas);
+        
+        ImportacaoTarefasResponseDTO resultado = importacaoTarefaService.importar(tarefas, "importador");
+        
+        assertEquals(250, resultado.getRecebidas());
+        assertEquals(246, resultado.getImportadas());
+        assertEquals(4, resultado.getRejeitadas());
+        assertEquals(List.of(3, 120, 121, 249), resultado.getErros().stream().map(ErroItem::getIndice).toList());
+        assertTrue(resultado.getErros().get(0).getMensagem().startsWith("titulo:"));
+        assertEquals("Projeto não encontrado com ID: 999999", resultado.getErros().get(1).getMensagem());
+        
+        Long gravadas = entityManager.createQuery(
+                "SELECT COUNT(t) FROM Tarefa t WHERE t.projeto.id = :id AND t.usuarioCriacao = 'importador'", Long.class)
+            .setParameter("id", projeto.getId())
+            .getSingleResult();
+        assertEquals(246L, gravadas);
+    }
+    
+    @Test
+    void importar_DeveAplicarValoresPadrao_EAtualizarEstatisticas() {
+        TarefaRequestDTO concluida = tarefa("Concluída", projeto.getId());
+        concluida.setStatus(StatusTarefa.CONCLUIDA);
+        
+        importacaoTarefaService.importar(
+            List.of(tarefa("Aberta 1", projeto.getId()), tarefa("Aberta 2", projeto.getId()), concluida), "importador");
+        entityManager.clear();
+        
+        ProjetoEstatisticas estatisticas = entityManager.find(ProjetoEstatisticas.class, projeto.getId());
+        assertEquals(3L, estatisticas.getTotalTarefas());
+        assertEquals(2L, estatisticas.getTarefasAbertas());
+        assertEquals(1L, estatisticas.getTarefasConcluidas());
+    }
+    
+    @Test
+    void importarNdjson_DeveReportarLinhasInvalidas_SemInterromperACarga() {
+        String ndjson = """
+            {"titulo": "Primeira", "idProjeto": %1$d}
+            {"titulo": "Quebrada", "idProjeto":
+            
+            {"titulo": "Terceira", "idProjeto": %1$d, "prioridade": "ALTA"}
+            """.formatted(projeto.getId());
+        
+        ImportacaoTarefasResponseDTO resultado = importacaoTarefaService.importarNdjson(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), "importador");
+        
+        assertEquals(3, resultado.getRecebidas());
+        assertEquals(2, resultado.getImportadas());
+        assertEquals(1, resultado.getErros().get(0).getIndice());
+        assertTrue(resultado.getErros().get(0).getMensagem().startsWith("JSON inválido"));
+    }
+    
+    @Test
+    void importar_DeveRegistrarTarefasNosIndicesDeBuscaEPrazos_AposOCommit() {
+        indiceBuscaService.reconstruir();
+        indicePrazosService.reconstruir();
+        TarefaRequestDTO comPrazo = tarefa("Importada com prazo", projeto.getId());
+        comPrazo.setDataFimPrevista(LocalDate.now().plusDays(2));
+        
+        importacaoTarefaService.importar(List.of(comPrazo), "importador");
+        assertEquals(Optional.of(List.of()), indiceBuscaService.buscarTarefasPorTitulo("importada com prazo"));
+        
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            Long id = jdbcTemplate.queryForObject(
+                "SELECT id FROM tarefa WHERE titulo = 'Importada com prazo'", Long.class);
+            assertEquals(Optional.of(List.of(id)), indiceBuscaService.buscarTarefasPorTitulo("importada com prazo"));
+            assertTrue(indicePrazosService.buscarVencendoEntre(LocalDate.now(), LocalDate.now().plusDays(2))
+                .orElseThrow().contains(id));
+        } finally {
+            jdbcTemplate.update("DELETE FROM tarefa WHERE id_projeto = ?", projeto.getId());
+            jdbcTemplate.update("DELETE FROM projeto_estatisticas WHERE id_projeto IN (?, ?)",
+                projeto.getId(), projetoInativo.getId());
+            jdbcTemplate.update("DELETE FROM projeto WHERE id IN (?, ?)", projeto.getId(), projetoInativo.getId());
+        }
+    }
+    
+    private static TarefaRequestDTO tarefa(String titulo, Long idProjeto) {
+        return TarefaRequestDTO.builder()
+            .titulo(titulo)
+            .idProjeto(idProjeto)
+            .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.projeto.management.service;
+
+import com.projeto.domain.tarefa.events.TarefaEvent.TarefaAtrasada;
+import com.projeto.infrastructure.events.EventPublisher;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.ViradaPrazoRepository;
+import com.projeto.management.repository.projection.PrazoTarefaView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para IndicePrazosService
+ */
+@ExtendWith(MockitoExtension.class)
+class IndicePrazosServiceTest {
+    
+    @Mock
+    private TarefaRepository tarefaRepository;
+    
+    @Mock
+    private ViradaPrazoRepository viradaPrazoRepository;
+    
+    @Mock
+    private ObjectProvider<EventPublisher> eventPublisherProvider;
+    
+    @Mock
+    private EventPublisher eventPublisher;
+    
+    private IndicePrazosService service;
+    private LocalDate hoje;
+    
+    @BeforeEach
+    void setUp() {
+        hoje = LocalDate.now();
+        service = new IndicePrazosService(tarefaRepository, viradaPrazoRepository, eventPublisherProvider);
+    }
+    
+    @Test
+    void buscar_DeveRetornarVazio_EnquantoIndiceNaoCarregado() {
+        assertEquals(Optional.empty(), service.buscarAtrasadas(hoje));
+        assertEquals(Optional.empty(), service.buscarVencendoEntre(hoje, hoje.plusDays(3)));
+        assertEquals(0, service.virarDia(hoje.plusDays(1)));
+    }
+    
+    @Test
+    void buscar_DeveResponderPeloIndice_AposCarga() {
+        carregar();
+        
+        assertEquals(Optional.of(List.of(1L)), service.buscarAtrasadas(hoje));
+        assertEquals(Optional.of(List.of(2L, 3L)), service.buscarVencendoEntre(hoje, hoje.plusDays(2)));
+    }
+    
+    @Test
+    void sincronizar_DeveAplicarPrazosAlteradosForaDaInstancia() {
+        carregar();
+        when(tarefaRepository.findPrazosAlteradosApos(any(), eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new PrazoTarefaView(1L, null),
+            new PrazoTarefaView(4L, hoje.minusDays(2))));
+        
+        service.sincronizar();
+        
+        assertEquals(Optional.of(List.of(4L)), service.buscarAtrasadas(hoje));
+    }
+    
+    @Test
+    void virarDia_DevePublicarTarefaAtrasada_ParaPrazosQuePassaram() {
+        carregar();
+        when(viradaPrazoRepository.registrar(eq(hoje.plusDays(1)), any(), any())).thenReturn(1);
+        when(eventPublisherProvider.getIfAvailable()).thenReturn(eventPublisher);
+        
+        assertEquals(1, service.virarDia(hoje.plusDays(1)));
+        
+        ArgumentCaptor<Object> evento = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publish(evento.capture());
+        TarefaAtrasada atrasada = assertInstanceOf(TarefaAtrasada.class, evento.getValue());
+        assertEquals(2L, atrasada.tarefaId());
+        assertEquals(hoje, atrasada.dataFimPrevista());
+        
+        // A mesma virada não publica de novo
+        assertEquals(0, service.virarDia(hoje.plusDays(1)));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+    
+    @Test
+    void virarDia_NaoDevePublicar_QuandoOutraInstanciaJaRegistrouAVirada() {
+        carregar();
+        when(viradaPrazoRepository.registrar(eq(hoje.plusDays(1)), any(), any()))
+            .thenThrow(new DataIntegrityViolationException("virada_prazo duplicada"));
+        
+        assertEquals(0, service.virarDia(hoje.plusDays(1)));
+        
+        verifyNoInteractions(eventPublisherProvider);
+    }
+    
+    @Test
+    void virarDia_DeveCobrirDiasPerdidos_ENaoPublicarTarefasConcluidas() {
+        carregar();
+        when(viradaPrazoRepository.registrar(eq(hoje.plusDays(3)), any(), any())).thenReturn(1);
+        when(eventPublisherProvider.getIfAvailable()).thenReturn(eventPublisher);
+        service.registrarStatus(2L, StatusTarefa.CONCLUIDA, hoje);
+        
+        assertEquals(1, service.virarDia(hoje.plusDays(3)));
+        
+        ArgumentCaptor<Object> evento = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publish(evento.capture());
+        assertEquals(3L, ((TarefaAtrasada) evento.getValue()).tarefaId());
+        assertEquals(Optional.of(List.of(1L, 3L)), service.buscarAtrasadas(hoje.plusDays(3)));
+    }
+    
+    private void carregar() {
+        when(tarefaRepository.findPrazosAbertosApos(eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new PrazoTarefaView(1L, hoje.minusDays(1)),
+            new PrazoTarefaView(2L, hoje),
+            new PrazoTarefaView(3L, hoje.plusDays(2))));
+        service.reconstruir();
+    }
+}
@@ -0,0 +1,146 @@
+package com.projeto.management.service;
+
+import com.projeto.management.config.consultas.ContarConsultas;
+import com.projeto.management.config.consultas.MaximoConsultas;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.projeto.management.config.consultas.AssercoesConsultas.assertMaximoConsultas;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Orçamentos de comandos JDBC das leituras de listagem e detalhe de projetos e tarefas
+ * Os orçamentos não dependem da quantidade de linhas: um lazy load por item da página
+ * (como o de ProjetoMapper.paraResponseDTO nas listagens) estoura o orçamento e falha o build.
+ * Escritas pendentes no contexto de persistência só contam quando o teste faz flush.
+ */
+@DataJpaTest
+@ContarConsultas
+@Import({ProjetoService.class, TarefaService.class, ProjetoEstatisticasService.class, IndiceBuscaService.class,
+         IndicePrazosService.class, AuditoriaStatusService.class, ProjetoMapper.class, TarefaMapper.class})
+class OrcamentoConsultasTest {
+    
+    private static final int PROJETOS = 12;
+    private static final int TAREFAS_POR_PROJETO = 5;
+    
+    @Autowired
+    private ProjetoService projetoService;
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private final List<Projeto> projetos = new ArrayList<>();
+    private final List<Tarefa> tarefas = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PROJETOS; i++) {
+            Projeto projeto = Projeto.builder()
+                .nome("Projeto " + i)
+                .responsavel("Responsável " + i)
+                .build();
+            entityManager.persist(projeto);
+            projetos.add(projeto);
+            
+            for (int j = 0; j < TAREFAS_POR_PROJETO; j++) {
+                Tarefa tarefa = Tarefa.builder()
+                    .titulo("Tarefa " + i + "." + j)
+                    .status(j == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.EM_ANDAMENTO)
+                    .estimativaHoras(new BigDecimal("4.00"))
+                    .projeto(projeto)
+                    .build();
+                entityManager.persist(tarefa);
+                tarefas.add(tarefa);
+            }
+            
+            // Linha de estatísticas já existente, como em produção depois da primeira escrita do projeto
+            entityManager.persist(ProjetoEstatisticas.builder()
+                .projetoId(projeto.getId())
+                .totalTarefas((long) TAREFAS_POR_PROJETO)
+                .tarefasEmAndamento((long) TAREFAS_POR_PROJETO - 1)
+                .tarefasConcluidas(1L)
+                .totalHorasEstimadas(new BigDecimal("4.00").multiply(BigDecimal.valueOf(TAREFAS_POR_PROJETO)))
+                .dataAtualizacao(LocalDateTime.now())
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    @MaximoConsultas(2)
+    void buscarProjetoPorId_DeveCarregarProjetoETarefasEmDuasConsultas() {
+        ProjetoResponseDTO projeto = projetoService.buscarPorId(projetos.get(0).getId());
+        
+        assertEquals(TAREFAS_POR_PROJETO, projeto.getTotalTarefas());
+        assertEquals(TAREFAS_POR_PROJETO, projeto.getTarefas().size());
+    }
+    
+    @Test
+    @MaximoConsultas(2)
+    void buscarTarefaPorId_DeveCarregarTarefaEProjeto() {
+        TarefaResponseDTO tarefa = tarefaService.buscarPorId(tarefas.get(0).getId());
+        
+        assertEquals(projetos.get(0).getNome(), tarefa.getNomeProjeto());
+    }
+    
+    @Test
+    @MaximoConsultas(value = 3, select = 3)
+    void listarProjetos_NaoDeveConsultarTarefasPorProjeto() {
+        Page<ProjetoResponseDTO> pagina = projetoService.listarProjetos(null, null, null, PageRequest.of(0, 10));
+        
+        assertEquals(10, pagina.getNumberOfElements());
+        assertTrue(pagina.getContent().stream().allMatch(projeto -> projeto.getTotalTarefas() == TAREFAS_POR_PROJETO));
+    }
+    
+    @Test
+    @MaximoConsultas(value = 2, select = 2)
+    void listarTarefas_NaoDeveCarregarProjetoPorTarefa() {
+        Page<TarefaResponseDTO> pagina = tarefaService.listarTarefas(null, null, null, null, null, PageRequest.of(0, 50));
+        
+        assertEquals(50, pagina.getNumberOfElements());
+        assertTrue(pagina.getContent().stream().allMatch(tarefa -> tarefa.getNomeProjeto() != null));
+    }
+    
+    @Test
+    @MaximoConsultas(1)
+    void listarTarefasPorProjeto_DeveUsarUmaUnicaConsulta() {
+        assertEquals(TAREFAS_POR_PROJETO, tarefaService.listarTarefasPorProjeto(projetos.get(0).getId()).size());
+    }
+    
+    @Test
+    void alterarStatus_DeveLerUmaVezEAtualizarTarefaEEstatisticas() {
+        Long id = tarefas.get(1).getId();
+        
+        // SELECT da projeção + UPDATE da tarefa + UPDATE das estatísticas
+        TarefaResponseDTO tarefa = assertMaximoConsultas(3, () -> {
+            TarefaResponseDTO alterada = tarefaService.alterarStatus(id, StatusTarefa.CONCLUIDA, "usuario-teste");
+            entityManager.flush();
+            return alterada;
+        });
+        
+        assertEquals(StatusTarefa.CONCLUIDA, tarefa.getStatus());
+    }
+}
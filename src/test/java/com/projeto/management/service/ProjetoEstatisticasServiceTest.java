@@ -0,0 +1,150 @@
+package com.projeto.management.service;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoEstatisticas;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoEstatisticasRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.service.ProjetoEstatisticasService.ContribuicaoTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ProjetoEstatisticasService
+ */
+@ExtendWith(MockitoExtension.class)
+class ProjetoEstatisticasServiceTest {
+    
+    @Mock
+    private ProjetoEstatisticasRepository estatisticasRepository;
+    
+    @Mock
+    private ProjetoRepository projetoRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private ProjetoEstatisticasService service;
+    private Tarefa tarefa;
+    
+    @BeforeEach
+    void setUp() {
+        service = new ProjetoEstatisticasService(estatisticasRepository, projetoRepository, transactionManager);
+        
+        tarefa = Tarefa.builder()
+            .id(10L)
+            .titulo("Tarefa Teste")
+            .status(StatusTarefa.ABERTA)
+            .estimativaHoras(new BigDecimal("8.00"))
+            .horasTrabalhadas(BigDecimal.ZERO)
+            .projeto(Projeto.builder().id(1L).nome("Projeto Teste").build())
+            .build();
+    }
+    
+    @Test
+    void registrarAlteracao_DeveAplicarDeltaDeStatus_QuandoTarefaConcluida() {
+        // Given
+        ContribuicaoTarefa antes = ContribuicaoTarefa.de(tarefa);
+        tarefa.setStatus(StatusTarefa.CONCLUIDA);
+        tarefa.setHorasTrabalhadas(new BigDecimal("6.00"));
+        when(estatisticasRepository.aplicarDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+            anyLong(), anyLong(), any(), any(), any())).thenReturn(1);
+        
+        // When
+        service.registrarAlteracao(antes, tarefa);
+        
+        // Then
+        verify(estatisticasRepository).aplicarDelta(eq(1L), eq(0L), eq(-1L), eq(0L), eq(0L), eq(1L), eq(0L),
+            argThat(v -> v.signum() == 0), argThat(v -> v.compareTo(new BigDecimal("6.00")) == 0),
+            any(LocalDateTime.class));
+    }
+    
+    @Test
+    void registrarAlteracao_NaoDeveEscrever_QuandoNadaRelevanteMudou() {
+        // Given
+        ContribuicaoTarefa antes = ContribuicaoTarefa.de(tarefa);
+        tarefa.setTitulo("Outro título");
+        
+        // When
+        service.registrarAlteracao(antes, tarefa);
+        
+        // Then
+        verifyNoInteractions(estatisticasRepository);
+    }
+    
+    @Test
+    void registrarInclusao_DeveCriarRegistroRecalculado_QuandoProjetoSemEstatisticas() {
+        // Given
+        when(estatisticasRepository.aplicarDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+            anyLong(), anyLong(), any(), any(), any())).thenReturn(0);
+        when(estatisticasRepository.recalcularPorProjetos(List.of(1L))).thenReturn(List.<Object[]>of(
+            new Object[]{1L, StatusTarefa.ABERTA, 2L, new BigDecimal("16.00"), BigDecimal.ZERO}));
+        when(estatisticasRepository.inserirSeAusente(any())).thenReturn(true);
+        
+        // When
+        service.registrarInclusao(tarefa);
+        
+        // Then
+        ArgumentCaptor<ProjetoEstatisticas> captor = ArgumentCaptor.forClass(ProjetoEstatisticas.class);
+        verify(estatisticasRepository).inserirSeAusente(captor.capture());
+        assertEquals(2L, captor.getValue().getTotalTarefas());
+        assertEquals(2L, captor.getValue().getTarefasAbertas());
+        assertEquals(new BigDecimal("16.00"), captor.getValue().getTotalHorasEstimadas());
+        verify(estatisticasRepository, times(1)).aplicarDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+            anyLong(), anyLong(), any(), any(), any());
+    }
+    
+    @Test
+    void registrarInclusao_DeveReaplicarDelta_QuandoOutraTransacaoCriouORegistro() {
+        // Given
+        when(estatisticasRepository.aplicarDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+            anyLong(), anyLong(), any(), any(), any())).thenReturn(0, 1);
+        when(estatisticasRepository.inserirSeAusente(any())).thenReturn(false);
+        
+        // When
+        service.registrarInclusao(tarefa);
+        
+        // Then
+        verify(estatisticasRepository, times(2)).aplicarDelta(eq(1L), eq(1L), eq(1L), eq(0L), eq(0L), eq(0L),
+            eq(0L), argThat(v -> v.compareTo(new BigDecimal("8.00")) == 0), argThat(v -> v.signum() == 0),
+            any(LocalDateTime.class));
+        verify(estatisticasRepository, never()).save(any());
+    }
+    
+    @Test
+    void verificarEReparar_DeveCorrigirDivergencias() {
+        // Given
+        ProjetoEstatisticas divergente = ProjetoEstatisticas.builder().projetoId(1L).totalTarefas(5L).build();
+        when(estatisticasRepository.findIdsProjetosApos(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(estatisticasRepository.findIdsProjetosApos(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(estatisticasRepository.findParaAtualizacao(List.of(1L, 2L))).thenReturn(List.of(divergente));
+        when(estatisticasRepository.recalcularPorProjetos(List.of(1L, 2L))).thenReturn(List.<Object[]>of(
+            new Object[]{1L, StatusTarefa.CONCLUIDA, 3L, BigDecimal.ZERO, BigDecimal.ZERO}));
+        when(estatisticasRepository.inserirSeAusente(any())).thenReturn(true);
+        
+        // When
+        int corrigidos = service.verificarEReparar();
+        
+        // Then
+        assertEquals(2, corrigidos);
+        assertEquals(3L, divergente.getTotalTarefas());
+        assertEquals(3L, divergente.getTarefasConcluidas());
+        verify(estatisticasRepository).inserirSeAusente(
+            argThat(e -> e.getProjetoId().equals(2L) && e.getTotalTarefas() == 0L));
+    }
+}
@@ -4,17 +4,21 @@ import com.projeto.management.dto.request.ProjetoRequestDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
+import com.projeto.management.mapper.ProjetoMapper;
+import com.projeto.management.mapper.TarefaMapper;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.filtro.ProjetoFiltro;
+import com.projeto.management.repository.projection.ResumoTarefasView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -38,15 +42,20 @@ class ProjetoServiceTest {
     @Mock
     private ProjetoRepository projetoRepository;
     
+    @Spy
+    private ProjetoMapper projetoMapper = new ProjetoMapper(new TarefaMapper());
+    
+    @Mock
+    private IndiceBuscaService indiceBuscaService;
+    
     @Mock
-    private ModelMapper modelMapper;
+    private AuditoriaStatusService auditoriaStatusService;
     
     @InjectMocks
     private ProjetoService projetoService;
     
     private ProjetoRequestDTO projetoRequestDTO;
     private Projeto projeto;
-    private ProjetoResponseDTO projetoResponseDTO;
     
     @BeforeEach
     void setUp() {
@@ -72,24 +81,12 @@ class ProjetoServiceTest {
             .orcamento(new BigDecimal("10000.00"))
             .ativo(true)
             .build();
-        
-        projetoResponseDTO = ProjetoResponseDTO.builder()
-            .id(1L)
-            .nome("Projeto Teste")
-            .descricao("Descrição do projeto teste")
-            .status(StatusProjeto.PLANEJAMENTO)
-            .prioridade(Prioridade.ALTA)
-            .responsavel("Responsável Teste")
-            .ativo(true)
-            .build();
     }
     
     @Test
     void criarProjeto_DeveRetornarProjetoResponseDTO_QuandoDadosValidos() {
         // Given
-        when(modelMapper.map(projetoRequestDTO, Projeto.class)).thenReturn(projeto);
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
-        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
         
         // When
         ProjetoResponseDTO resultado = projetoService.criarProjeto(projetoRequestDTO, "usuario-teste");
@@ -100,8 +97,8 @@ class ProjetoServiceTest {
         assertEquals(StatusProjeto.PLANEJAMENTO, resultado.getStatus());
         
         verify(projetoRepository).save(any(Projeto.class));
-        verify(modelMapper).map(projetoRequestDTO, Projeto.class);
-        verify(modelMapper).map(projeto, ProjetoResponseDTO.class);
+        verify(projetoMapper).paraEntidade(projetoRequestDTO);
+        verify(projetoMapper).paraResponseDTO(projeto);
     }
     
     @Test
@@ -123,7 +120,6 @@ class ProjetoServiceTest {
     void buscarPorId_DeveRetornarProjetoResponseDTO_QuandoProjetoExiste() {
         // Given
         when(projetoRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
-        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
         
         // When
         ProjetoResponseDTO resultado = projetoService.buscarPorId(1L);
@@ -156,9 +152,11 @@ class ProjetoServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Projeto> projetos = new PageImpl<>(List.of(projeto));
         
-        when(projetoRepository.findProjetosComFiltros(any(), any(), any(), eq(pageable)))
+        when(projetoRepository.findProjetosComFiltros(any(ProjetoFiltro.class), eq(pageable)))
             .thenReturn(projetos);
-        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
+        when(projetoRepository.findResumoTarefasPorProjetos(List.of(1L)))
+            .thenReturn(List.of(new ResumoTarefasView(
+                1L, 4L, 1L, new BigDecimal("40.00"), new BigDecimal("12.50"))));
         
         // When
         Page<ProjetoResponseDTO> resultado = projetoService.listarProjetos(
@@ -168,15 +166,40 @@ class ProjetoServiceTest {
         assertNotNull(resultado);
         assertFalse(resultado.isEmpty());
         assertEquals(1, resultado.getTotalElements());
-        assertEquals("Projeto Teste", resultado.getContent().get(0).getNome());
+        
+        ProjetoResponseDTO dto = resultado.getContent().get(0);
+        assertEquals("Projeto Teste", dto.getNome());
+        assertEquals(4, dto.getTotalTarefas());
+        assertEquals(1, dto.getTarefasConcluidas());
+        assertEquals(25.0, dto.getPercentualConclusao());
+        assertEquals(new BigDecimal("40.00"), dto.getTotalHorasEstimadas());
+        assertEquals(new BigDecimal("12.50"), dto.getTotalHorasTrabalhadas());
+        verify(projetoMapper, never()).paraResponseDTO(any());
+    }
+    
+    @Test
+    void buscarProjetosAtrasados_DeveRetornarTotaisZerados_QuandoProjetoSemTarefas() {
+        // Given
+        projeto.setDataFimPrevista(LocalDate.now().minusDays(1));
+        when(projetoRepository.findProjetosAtrasados(any(LocalDate.class))).thenReturn(List.of(projeto));
+        when(projetoRepository.findResumoTarefasPorProjetos(List.of(1L))).thenReturn(List.of());
+        
+        // When
+        List<ProjetoResponseDTO> resultado = projetoService.buscarProjetosAtrasados();
+        
+        // Then
+        assertEquals(1, resultado.size());
+        assertTrue(resultado.get(0).getAtrasado());
+        assertEquals(0, resultado.get(0).getTotalTarefas());
+        assertEquals(0.0, resultado.get(0).getPercentualConclusao());
+        assertEquals(BigDecimal.ZERO, resultado.get(0).getTotalHorasEstimadas());
     }
     
     @Test
     void alterarStatus_DeveAlterarStatusComSucesso_QuandoTransicaoValida() {
         // Given
-        when(projetoRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
+        when(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
-        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
         
         // When
         ProjetoResponseDTO resultado = projetoService.alterarStatus(
@@ -186,13 +209,15 @@ class ProjetoServiceTest {
         assertNotNull(resultado);
         verify(projetoRepository).save(projeto);
         assertEquals(StatusProjeto.EM_ANDAMENTO, projeto.getStatus());
+        verify(auditoriaStatusService).registrarProjeto(
+            1L, StatusProjeto.PLANEJAMENTO, StatusProjeto.EM_ANDAMENTO, "usuario-teste");
     }
     
     @Test
     void alterarStatus_DeveLancarBusinessException_QuandoProjetoCancelado() {
         // Given
         projeto.setStatus(StatusProjeto.CANCELADO);
-        when(projetoRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
+        when(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
         
         // When & Then
         BusinessException exception = assertThrows(
@@ -203,10 +228,27 @@ class ProjetoServiceTest {
         assertEquals("Não é possível alterar status de um projeto cancelado", exception.getMessage());
     }
     
+    @Test
+    void alterarStatus_DeveAceitarSomenteOProprioStatus_QuandoProjetoConcluido() {
+        // Given
+        projeto.setStatus(StatusProjeto.CONCLUIDO);
+        when(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
+        
+        // When & Then
+        BusinessException exception = assertThrows(
+            BusinessException.class,
+            () -> projetoService.alterarStatus(1L, StatusProjeto.PAUSADO, "usuario-teste")
+        );
+        
+        assertEquals("Não é possível alterar status de um projeto concluído", exception.getMessage());
+        verify(projetoRepository, never()).save(any());
+        assertTrue(StatusProjeto.CONCLUIDO.podeSerAlteradoPara(StatusProjeto.CONCLUIDO));
+    }
+    
     @Test
     void excluirProjeto_DeveExcluirLogicamente_QuandoStatusPermite() {
         // Given
-        when(projetoRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
+        when(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
         when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
         
         // When
@@ -222,7 +264,7 @@ class ProjetoServiceTest {
     void excluirProjeto_DeveLancarBusinessException_QuandoProjetoEmAndamento() {
         // Given
         projeto.setStatus(StatusProjeto.EM_ANDAMENTO);
-        when(projetoRepository.findByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
+        when(projetoRepository.findParaAlteracaoByIdAndAtivoTrue(1L)).thenReturn(Optional.of(projeto));
         
         // When & Then
         BusinessException exception = assertThrows(
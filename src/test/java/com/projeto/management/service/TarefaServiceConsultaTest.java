@@ -0,0 +1,151 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de consulta para TarefaService
+ * Garante que a listagem não dispara um SELECT extra por tarefa
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TarefaService.class, ProjetoEstatisticasService.class, IndiceBuscaService.class,
+         IndicePrazosService.class, AuditoriaStatusService.class, TarefaMapper.class})
+class TarefaServiceConsultaTest {
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private IndiceBuscaService indiceBuscaService;
+    
+    @Autowired
+    private IndicePrazosService indicePrazosService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        // Cada tarefa em um projeto diferente: o pior caso para o lazy load
+        for (int i = 0; i < 30; i++) {
+            Projeto projeto = Projeto.builder()
+                .nome("Projeto " + i)
+                .responsavel("Responsável " + i)
+                .build();
+            entityManager.persist(projeto);
+            
+            Tarefa tarefa = Tarefa.builder()
+                .titulo("Tarefa " + i)
+                .responsavel("Responsável Teste")
+                .dataFimPrevista(LocalDate.now().minusDays(1))
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .projeto(projeto)
+                .build();
+            entityManager.persist(tarefa);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        // Os índices podem ter sido carregados por outro teste do mesmo contexto, antes destas tarefas
+        indiceBuscaService.reconstruir();
+        indicePrazosService.reconstruir();
+        
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+    
+    @Test
+    void listarTarefas_DeveExecutarMesmoNumeroDeStatements_IndependenteDoTamanhoDaPagina() {
+        // When
+        Page<TarefaResponseDTO> paginaPequena = tarefaService.listarTarefas(
+            null, null, null, null, null, PageRequest.of(0, 5));
+        long statementsPaginaPequena = statistics.getPrepareStatementCount();
+        
+        entityManager.clear();
+        statistics.clear();
+        
+        Page<TarefaResponseDTO> paginaGrande = tarefaService.listarTarefas(
+            null, null, null, null, null, PageRequest.of(0, 25));
+        long statementsPaginaGrande = statistics.getPrepareStatementCount();
+        
+        // Then
+        assertEquals(5, paginaPequena.getContent().size());
+        assertEquals(25, paginaGrande.getContent().size());
+        assertEquals(statementsPaginaPequena, statementsPaginaGrande);
+        assertTrue(statementsPaginaGrande <= 2, "Esperado SELECT da página + COUNT");
+        
+        TarefaResponseDTO primeira = paginaGrande.getContent().get(0);
+        assertNotNull(primeira.getIdProjeto());
+        assertNotNull(primeira.getNomeProjeto());
+        assertTrue(primeira.getAtrasada());
+        assertEquals(-1L, primeira.getDiasRestantes());
+    }
+    
+    @Test
+    void buscarTarefasAtrasadas_DeveExecutarUmUnicoStatement() {
+        // When
+        List<TarefaResponseDTO> atrasadas = tarefaService.buscarTarefasAtrasadas();
+        
+        // Then
+        assertEquals(30, atrasadas.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+    
+    @Test
+    void buscarPorResponsavel_DeveExecutarUmUnicoStatement() {
+        // When
+        List<TarefaResponseDTO> tarefas = tarefaService.buscarPorResponsavel("teste");
+        
+        // Then
+        assertEquals(30, tarefas.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        tarefas.forEach(t -> assertNotNull(t.getNomeProjeto()));
+    }
+    
+    @Test
+    void buscarPorResponsavel_DeveConfirmarCandidatosNoBanco_ESincronizarEscritasExternas() {
+        // Given: escritas fora desta instância (outra réplica ou SQL direto) após a carga do índice
+        Long alterada = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tarefa", Long.class);
+        jdbcTemplate.update("UPDATE tarefa SET responsavel = 'Outra Pessoa', data_atualizacao = ? WHERE id = ?",
+            LocalDateTime.now(), alterada);
+        
+        // Then: o candidato desatualizado do índice é descartado na releitura
+        assertEquals(29, tarefaService.buscarPorResponsavel("teste").size());
+        assertEquals(0, tarefaService.buscarPorResponsavel("outra pessoa").size());
+        
+        // E a sincronização incorpora a alteração sem esperar a reconstrução
+        indiceBuscaService.sincronizar();
+        assertEquals(29, tarefaService.buscarPorResponsavel("teste").size());
+        assertEquals(List.of(alterada), tarefaService.buscarPorResponsavel("outra pessoa").stream()
+            .map(TarefaResponseDTO::getId).toList());
+    }
+}
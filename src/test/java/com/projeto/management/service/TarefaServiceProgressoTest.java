@@ -0,0 +1,217 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.ConflitoVersaoException;
+import com.projeto.management.mapper.TarefaMapper;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.projection.TarefaView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Testes das alterações de status/percentual por UPDATE condicional
+ * Compara o resultado com as regras aplicadas diretamente na entidade
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TarefaService.class, ProjetoEstatisticasService.class, IndiceBuscaService.class,
+         IndicePrazosService.class, AuditoriaStatusService.class, TarefaMapper.class})
+class TarefaServiceProgressoTest {
+    
+    private static final List<Integer> PERCENTUAIS = List.of(0, 10, 50, 89, 90, 95, 100);
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @SpyBean
+    private TarefaRepository tarefaRepository;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = Projeto.builder()
+            .nome("Projeto Progresso")
+            .responsavel("Responsável")
+            .build();
+        entityManager.persist(projeto);
+    }
+    
+    @Test
+    void alterarStatus_DeveAplicarAsMesmasRegrasDaEntidade_ParaTodosOsEstados() {
+        for (StatusTarefa statusInicial : StatusTarefa.values()) {
+            for (Integer percentualInicial : PERCENTUAIS) {
+                for (StatusTarefa novoStatus : StatusTarefa.values()) {
+                    Tarefa tarefa = persistir(statusInicial, percentualInicial);
+                    Tarefa esperado = copiaTransitoria(tarefa);
+                    esperado.alterarStatus(novoStatus);
+                    
+                    TarefaResponseDTO resultado = tarefaService.alterarStatus(tarefa.getId(), novoStatus, "teste");
+                    
+                    String caso = statusInicial + "/" + percentualInicial + " -> " + novoStatus;
+                    assertProgresso(esperado, resultado, caso);
+                    assertLinhaIgualAoRetorno(resultado, caso);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void atualizarPercentual_DeveAplicarAsMesmasRegrasDaEntidade_ParaTodosOsEstados() {
+        for (StatusTarefa statusInicial : StatusTarefa.values()) {
+            for (Integer percentualInicial : PERCENTUAIS) {
+                for (Integer novoPercentual : PERCENTUAIS) {
+                    Tarefa tarefa = persistir(statusInicial, percentualInicial);
+                    Tarefa esperado = copiaTransitoria(tarefa);
+                    esperado.alterarPercentual(novoPercentual);
+                    
+                    TarefaResponseDTO resultado = tarefaService.atualizarPercentual(tarefa.getId(), novoPercentual, "teste");
+                    
+                    String caso = statusInicial + "/" + percentualInicial + " -> " + novoPercentual + "%";
+                    assertProgresso(esperado, resultado, caso);
+                    assertLinhaIgualAoRetorno(resultado, caso);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void alterarStatus_DeveExecutarUmSelectEUmUpdateNaTarefa() {
+        Tarefa tarefa = persistir(StatusTarefa.ABERTA, 0);
+        // Primeira escrita cria a linha de estatísticas do projeto
+        tarefaService.atualizarPercentual(tarefa.getId(), 20, "teste");
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        TarefaResponseDTO resultado = tarefaService.alterarStatus(tarefa.getId(), StatusTarefa.EM_REVISAO, "teste");
+        
+        assertEquals("Projeto Progresso", resultado.getNomeProjeto());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(3, statistics.getPrepareStatementCount(), "SELECT da projeção + UPDATE da tarefa + UPDATE das estatísticas");
+    }
+    
+    @Test
+    void alterarStatus_SemVersao_DeveReaplicarSobreAVersaoAtual_QuandoOutraEscritaAcontecerAntes() {
+        Tarefa tarefa = persistir(StatusTarefa.ABERTA, 0);
+        Long versaoInicial = tarefa.getVersao();
+        TarefaView lida = tarefaRepository.findViewById(tarefa.getId()).orElseThrow();
+        // Outra requisição grava entre a leitura da projeção e o UPDATE condicional
+        doAnswer(invocacao -> {
+            jdbcTemplate.update("UPDATE tarefa SET versao = versao + 1 WHERE id = ?", tarefa.getId());
+            return Optional.of(lida);
+        }).when(tarefaRepository).findViewById(tarefa.getId());
+        
+        TarefaResponseDTO resultado = tarefaService.alterarStatus(tarefa.getId(), StatusTarefa.EM_ANDAMENTO, "teste");
+        
+        assertEquals(StatusTarefa.EM_ANDAMENTO, resultado.getStatus());
+        assertEquals(versaoInicial + 2, resultado.getVersao());
+        assertLinhaIgualAoRetorno(resultado, "última escrita vence sem If-Match");
+    }
+    
+    @Test
+    void alterarStatus_DeveIncrementarVersao_ERejeitarVersaoDesatualizada() {
+        Tarefa tarefa = persistir(StatusTarefa.ABERTA, 0);
+        Long versaoInicial = tarefa.getVersao();
+        
+        TarefaResponseDTO primeira = tarefaService.alterarStatus(
+            tarefa.getId(), StatusTarefa.EM_ANDAMENTO, "teste", versaoInicial);
+        assertEquals(versaoInicial + 1, primeira.getVersao());
+        
+        ConflitoVersaoException conflito = assertThrows(ConflitoVersaoException.class,
+            () -> tarefaService.atualizarPercentual(tarefa.getId(), 50, "teste", versaoInicial));
+        assertTrue(conflito.isPrecondicao());
+        
+        entityManager.clear();
+        Tarefa atual = entityManager.find(Tarefa.class, tarefa.getId());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, atual.getStatus());
+        assertEquals(10, atual.getPercentualConclusao());
+        assertEquals(versaoInicial + 1, atual.getVersao());
+    }
+    
+    @Test
+    void alterarStatus_DeveManterEstatisticasDoProjeto() {
+        Tarefa tarefa = persistir(StatusTarefa.ABERTA, 0);
+        
+        tarefaService.alterarStatus(tarefa.getId(), StatusTarefa.EM_ANDAMENTO, "teste");
+        tarefaService.atualizarPercentual(tarefa.getId(), 100, "teste");
+        entityManager.clear();
+        
+        List<?> linhas = entityManager.createQuery(
+                "SELECT e.tarefasAbertas, e.tarefasEmAndamento, e.tarefasConcluidas FROM ProjetoEstatisticas e " +
+                "WHERE e.projetoId = :id")
+            .setParameter("id", projeto.getId())
+            .getResultList();
+        Object[] contadores = (Object[]) linhas.get(0);
+        assertEquals(0L, ((Number) contadores[0]).longValue());
+        assertEquals(0L, ((Number) contadores[1]).longValue());
+        assertEquals(1L, ((Number) contadores[2]).longValue());
+    }
+    
+    private Tarefa persistir(StatusTarefa status, Integer percentual) {
+        Tarefa tarefa = Tarefa.builder()
+            .titulo("Tarefa " + status + " " + percentual)
+            .status(status)
+            .percentualConclusao(percentual)
+            .dataFimReal(status == StatusTarefa.CONCLUIDA ? LocalDate.now().minusDays(3) : null)
+            .projeto(entityManager.getReference(Projeto.class, projeto.getId()))
+            .build();
+        entityManager.persist(tarefa);
+        entityManager.flush();
+        return tarefa;
+    }
+    
+    private static Tarefa copiaTransitoria(Tarefa tarefa) {
+        return Tarefa.builder()
+            .status(tarefa.getStatus())
+            .percentualConclusao(tarefa.getPercentualConclusao())
+            .dataFimReal(tarefa.getDataFimReal())
+            .build();
+    }
+    
+    private static void assertProgresso(Tarefa esperado, TarefaResponseDTO resultado, String caso) {
+        assertEquals(esperado.getStatus(), resultado.getStatus(), caso);
+        assertEquals(esperado.getPercentualConclusao(), resultado.getPercentualConclusao(), caso);
+        assertEquals(esperado.getDataFimReal(), resultado.getDataFimReal(), caso);
+    }
+    
+    private void assertLinhaIgualAoRetorno(TarefaResponseDTO resultado, String caso) {
+        entityManager.clear();
+        Tarefa gravada = entityManager.find(Tarefa.class, resultado.getId());
+        assertEquals(resultado.getStatus(), gravada.getStatus(), caso);
+        assertEquals(resultado.getPercentualConclusao(), gravada.getPercentualConclusao(), caso);
+        assertEquals(resultado.getDataFimReal(), gravada.getDataFimReal(), caso);
+        assertEquals(resultado.getVersao(), gravada.getVersao(), caso);
+        assertEquals("teste", gravada.getUsuarioAtualizacao(), caso);
+    }
+}
@@ -0,0 +1,86 @@
+package com.projeto.management.service.busca;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceTrigramas
+ */
+class IndiceTrigramasTest {
+    
+    private IndiceTrigramas indice;
+    
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceTrigramas("teste", 10);
+        indice.indexar(3L, "Revisão do relatório");
+        indice.indexar(1L, "Implementar autenticação");
+        indice.indexar(2L, "Relatório mensal");
+    }
+    
+    @Test
+    void buscar_DeveRetornarIdsQueContemOTermo_EmOrdemCrescente() {
+        assertEquals(Optional.of(List.of(2L, 3L)), indice.buscar("relat"));
+        assertEquals(Optional.of(List.of(1L)), indice.buscar("TICA"));
+    }
+    
+    @Test
+    void buscar_DeveIgnorarMaiusculas_ESeguirOsAcentosComoOBanco() {
+        assertEquals(Optional.of(List.of(1L)), indice.buscar("AUTENTICAÇÃO"));
+        assertEquals(Optional.of(List.of(3L)), indice.buscar("revisão"));
+        assertEquals(Optional.of(List.of()), indice.buscar("revisao"));
+    }
+    
+    @Test
+    void buscar_DeveConfirmarCandidatos_QuandoTrigramasAparecemForaDeOrdem() {
+        indice.indexar(4L, "abcxbcd");
+        
+        // "abcd" tem os trigramas "abc" e "bcd", presentes em 4 mas não contíguos
+        assertEquals(Optional.of(List.of()), indice.buscar("abcd"));
+    }
+    
+    @Test
+    void buscar_DeveAceitarTermosCurtos() {
+        assertEquals(Optional.of(List.of(1L, 2L, 3L)), indice.buscar("e"));
+        assertEquals(Optional.of(List.of()), indice.buscar("  "));
+    }
+    
+    @Test
+    void indexar_DeveSubstituirTextoAnterior() {
+        indice.indexar(2L, "Planejamento");
+        
+        assertEquals(Optional.of(List.of(3L)), indice.buscar("relat"));
+        assertEquals(Optional.of(List.of(2L)), indice.buscar("planej"));
+    }
+    
+    @Test
+    void remover_DeveRetirarDocumentoETrigramasOrfaos() {
+        int trigramasAntes = indice.getTrigramas();
+        
+        indice.remover(1L);
+        
+        assertEquals(Optional.of(List.of()), indice.buscar("autentic"));
+        assertEquals(2, indice.getDocumentos());
+        assertTrue(indice.getTrigramas() < trigramasAntes);
+    }
+    
+    @Test
+    void indexar_DeveSaturarIndice_QuandoCapacidadeExcedida() {
+        IndiceTrigramas pequeno = new IndiceTrigramas("pequeno", 2);
+        pequeno.indexar(1L, "um");
+        pequeno.indexar(2L, "dois");
+        pequeno.indexar(2L, "dois atualizado");
+        assertFalse(pequeno.isSaturado());
+        
+        pequeno.indexar(3L, "três");
+        
+        assertTrue(pequeno.isSaturado());
+        assertEquals(0, pequeno.getDocumentos());
+        assertEquals(Optional.empty(), pequeno.buscar("dois"));
+    }
+}
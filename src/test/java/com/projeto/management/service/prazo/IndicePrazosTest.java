@@ -0,0 +1,86 @@
+package com.projeto.management.service.prazo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndicePrazos
+ */
+class IndicePrazosTest {
+    
+    private static final LocalDate HOJE = LocalDate.of(2024, 3, 15);
+    
+    private IndicePrazos indice;
+    
+    @BeforeEach
+    void setUp() {
+        indice = new IndicePrazos(10);
+        indice.registrar(5L, HOJE.minusDays(3));
+        indice.registrar(2L, HOJE.minusDays(1));
+        indice.registrar(1L, HOJE.minusDays(1));
+        indice.registrar(3L, HOJE);
+        indice.registrar(4L, HOJE.plusDays(7));
+    }
+    
+    @Test
+    void vencidasAntesDe_DeveRetornarPrazosAnterioresAoDia_PorPrazoEId() {
+        assertEquals(Optional.of(List.of(5L, 1L, 2L)), indice.vencidasAntesDe(HOJE));
+        assertEquals(Optional.of(List.of()), indice.vencidasAntesDe(HOJE.minusDays(3)));
+    }
+    
+    @Test
+    void vencendoEntre_DeveIncluirOsDoisExtremos() {
+        assertEquals(Optional.of(List.of(3L, 4L)), indice.vencendoEntre(HOJE, HOJE.plusDays(7)));
+        assertEquals(Optional.of(List.of(3L)), indice.vencendoEntre(HOJE, HOJE.plusDays(6)));
+        assertEquals(Optional.of(List.of()), indice.vencendoEntre(HOJE, HOJE.minusDays(1)));
+    }
+    
+    @Test
+    void registrar_DeveMoverTarefaDeDia_QuandoPrazoMuda() {
+        indice.registrar(5L, HOJE.plusDays(1));
+        
+        assertEquals(Optional.of(List.of(1L, 2L)), indice.vencidasAntesDe(HOJE));
+        assertEquals(Optional.of(List.of(3L, 5L)), indice.vencendoEntre(HOJE, HOJE.plusDays(1)));
+        assertEquals(5, indice.getTarefas());
+        assertEquals(4, indice.getDias());
+    }
+    
+    @Test
+    void registrar_DeveRemoverTarefa_QuandoPrazoNulo() {
+        indice.registrar(3L, null);
+        indice.remover(4L);
+        
+        assertEquals(Optional.of(List.of()), indice.vencendoEntre(HOJE, HOJE.plusDays(30)));
+        assertEquals(3, indice.getTarefas());
+        assertEquals(2, indice.getDias());
+    }
+    
+    @Test
+    void agruparEntre_DeveSepararAsTarefasPorDia() {
+        assertEquals(Map.of(HOJE.minusDays(3), List.of(5L), HOJE.minusDays(1), List.of(1L, 2L)),
+            indice.agruparEntre(HOJE.minusDays(3), HOJE.minusDays(1)));
+    }
+    
+    @Test
+    void registrar_DeveSaturarIndice_QuandoCapacidadeExcedida() {
+        IndicePrazos pequeno = new IndicePrazos(2);
+        pequeno.registrar(1L, HOJE);
+        pequeno.registrar(2L, HOJE);
+        pequeno.registrar(2L, HOJE.plusDays(1));
+        assertFalse(pequeno.isSaturado());
+        
+        pequeno.registrar(3L, HOJE);
+        
+        assertTrue(pequeno.isSaturado());
+        assertEquals(0, pequeno.getTarefas());
+        assertEquals(Optional.empty(), pequeno.vencidasAntesDe(HOJE.plusDays(5)));
+        assertEquals(Optional.empty(), pequeno.vencendoEntre(HOJE, HOJE.plusDays(5)));
+    }
+}